@@ -0,0 +1,149 @@
+package com.yjlee.search.benchmark;
+
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.yjlee.search.index.model.Product;
+import com.yjlee.search.index.service.ProductDocumentFactory;
+import com.yjlee.search.search.service.category.CategoryRankingCacheService.CategoryWeight;
+import com.yjlee.search.test.util.TestDataLoader;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** 벤치마크 공용 픽스처. 상품은 테스트 데이터(test-data/products.json), 나머지는 test resources의 benchmark 디렉터리에서 읽는다. */
+final class BenchmarkFixtures {
+
+  static final ObjectMapper OBJECT_MAPPER =
+      new ObjectMapper().registerModule(new JavaTimeModule());
+
+  private BenchmarkFixtures() {}
+
+  /** 상품 목록. 같은 상품을 반복하되 ID와 상품명을 달리해 count개를 만든다. */
+  static List<Product> products(int count) {
+    List<Product> base = new TestDataLoader(OBJECT_MAPPER).loadProducts();
+    List<Product> products = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Product source = base.get(i % base.size());
+      Product product = new Product();
+      product.setId((long) i + 1);
+      int round = i / base.size();
+      product.setName(round == 0 ? source.getName() : source.getName() + " " + round);
+      product.setThumbnailUrl(source.getThumbnailUrl());
+      product.setPrice(source.getPrice());
+      product.setSpecs(source.getSpecs());
+      product.setRegMonth(source.getRegMonth());
+      product.setRating(source.getRating());
+      product.setReviewCount(source.getReviewCount());
+      product.setCategoryId(source.getCategoryId());
+      product.setCategoryName(source.getCategoryName());
+      products.add(product);
+    }
+    return products;
+  }
+
+  /** ES 상품 인덱스에 저장되는 형태의 _source 목록 */
+  static List<JsonNode> productSources(int count) {
+    ProductDocumentFactory factory = new ProductDocumentFactory();
+    List<JsonNode> sources = new ArrayList<>(count);
+    for (Product product : products(count)) {
+      ObjectNode source = OBJECT_MAPPER.valueToTree(factory.create(product));
+      // 벡터 필드는 검색 응답에서 제외하므로 픽스처에서도 뺀다
+      source.remove("name_vector");
+      source.remove("specs_vector");
+      sources.add(source);
+    }
+    return sources;
+  }
+
+  /**
+   * 검색 결과 Hit 목록
+   *
+   * @param offset 문서 ID 시작 위치 (BM25/벡터 결과가 일부만 겹치도록 조정)
+   */
+  static List<Hit<JsonNode>> hits(List<JsonNode> sources, int offset, int count) {
+    List<Hit<JsonNode>> hits = new ArrayList<>(count);
+    for (int rank = 0; rank < count; rank++) {
+      JsonNode source = sources.get((offset + rank) % sources.size());
+      double score = 30.0 - rank * 0.05;
+      hits.add(
+          Hit.<JsonNode>of(
+              h ->
+                  h.index("products-benchmark")
+                      .id(source.get("id").asText())
+                      .score(score)
+                      .source(source)));
+    }
+    return hits;
+  }
+
+  static List<String> queries() {
+    return readLines("benchmark/queries.txt");
+  }
+
+  static Map<String, String> typoCorrections() {
+    Map<String, String> corrections = new LinkedHashMap<>();
+    for (String line : readLines("benchmark/typo-corrections.tsv")) {
+      String[] columns = line.split("\t");
+      corrections.put(columns[0], columns[1]);
+    }
+    return corrections;
+  }
+
+  static Map<String, List<CategoryWeight>> categoryRankings() {
+    Map<String, List<CategoryWeight>> rankings = new LinkedHashMap<>();
+    for (String line : readLines("benchmark/category-rankings.tsv")) {
+      String[] columns = line.split("\t");
+      List<CategoryWeight> weights = new ArrayList<>();
+      for (String mapping : columns[1].split(",")) {
+        String[] categoryAndWeight = mapping.split(":");
+        weights.add(
+            new CategoryWeight(categoryAndWeight[0], Integer.valueOf(categoryAndWeight[1])));
+      }
+      rankings.put(columns[0], weights);
+    }
+    return rankings;
+  }
+
+  static String resource(String path) {
+    try (InputStream input = open(path)) {
+      return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  // 빈 줄과 #으로 시작하는 줄 제외
+  private static List<String> readLines(String path) {
+    List<String> lines = new ArrayList<>();
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(open(path), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (!line.isBlank() && !line.startsWith("#")) {
+          lines.add(line);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return lines;
+  }
+
+  private static InputStream open(String path) {
+    InputStream input = BenchmarkFixtures.class.getClassLoader().getResourceAsStream(path);
+    if (input == null) {
+      throw new IllegalStateException("벤치마크 픽스처 없음: " + path);
+    }
+    return input;
+  }
+}
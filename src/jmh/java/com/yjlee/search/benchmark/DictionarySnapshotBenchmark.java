@@ -0,0 +1,64 @@
+package com.yjlee.search.benchmark;
+
+import com.yjlee.search.search.service.snapshot.TypoDictionarySnapshot;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** 사전 스냅샷 조회와 같은 데이터를 담은 HashMap 조회 비교 */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DictionarySnapshotBenchmark {
+
+  @Param({"10000", "1000000"})
+  int entries;
+
+  private TypoDictionarySnapshot snapshot;
+  private Map<String, String> hashMap;
+  private String[] probes;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    // 한글 완성형 3~7자 키워드
+    Random random = new Random(42);
+    hashMap = new HashMap<>(entries * 2);
+    String[] keywords = new String[entries];
+    for (int i = 0; i < entries; i++) {
+      StringBuilder keyword = new StringBuilder();
+      int length = 3 + random.nextInt(5);
+      for (int j = 0; j < length; j++) {
+        keyword.append((char) (0xAC00 + random.nextInt(11172)));
+      }
+      keywords[i] = keyword.toString();
+      hashMap.put(keywords[i], keywords[i] + "교정");
+    }
+    snapshot = TypoDictionarySnapshot.of(hashMap);
+
+    // 절반은 사전에 있는 키워드, 절반은 없는 키워드
+    probes = new String[1 << 16];
+    for (int i = 0; i < probes.length; i++) {
+      probes[i] = i % 2 == 0 ? keywords[random.nextInt(entries)] : "없는" + i;
+    }
+  }
+
+  @Benchmark
+  public String snapshotLookup() {
+    return snapshot.get(probes[next++ & (probes.length - 1)]);
+  }
+
+  @Benchmark
+  public String hashMapLookup() {
+    return hashMap.get(probes[next++ & (probes.length - 1)]);
+  }
+}
@@ -0,0 +1,138 @@
+package com.yjlee.search.benchmark;
+
+import com.yjlee.search.evaluation.model.EvaluationQuery;
+import com.yjlee.search.evaluation.model.QueryProductMapping;
+import com.yjlee.search.evaluation.service.EvaluationBulkWriter;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * 후보군 100,000건 저장. rowByRow는 IDENTITY 키 엔티티의 saveAll처럼 한 트랜잭션에서 행마다 INSERT 후 생성 키를 읽고, bulkWriter는
+ * EvaluationBulkWriter로 1,000건 단위 배치 INSERT 후 커밋한다. 호출 한 번의 소요 시간(ms)을 잰다.
+ *
+ * <p>기본은 H2 메모리 DB(PostgreSQL 모드)라 어디서나 돌지만 네트워크 왕복이 없어 배치 효과가 작게 나온다. 실제 수치는 비어 있는
+ * Postgres 스키마를 BENCH_JDBC_URL, BENCH_JDBC_USER, BENCH_JDBC_PASSWORD 환경 변수로 지정해 잰다.
+ * query_product_mappings 테이블을 지우고 다시 만들므로 운영/개발 DB를 가리키면 안 된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EvaluationBulkWriteBenchmark {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO query_product_mappings (evaluation_query_id, product_id, product_name,"
+          + " product_specs, relevance_score, evaluation_reason, evaluation_source, confidence,"
+          + " product_category, search_source) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  @Param({"100000"})
+  int rows;
+
+  private DriverManagerDataSource dataSource;
+  private JdbcTemplate jdbcTemplate;
+  private EvaluationBulkWriter bulkWriter;
+  private List<QueryProductMapping> mappings;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    dataSource =
+        new DriverManagerDataSource(
+            env("BENCH_JDBC_URL", "jdbc:h2:mem:bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"),
+            env("BENCH_JDBC_USER", "sa"),
+            env("BENCH_JDBC_PASSWORD", ""));
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("DROP TABLE IF EXISTS query_product_mappings");
+    jdbcTemplate.execute(
+        "CREATE TABLE query_product_mappings (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY"
+            + " KEY, evaluation_query_id BIGINT NOT NULL, product_id VARCHAR(255) NOT NULL,"
+            + " product_name TEXT, product_specs TEXT, relevance_score INTEGER, evaluation_reason"
+            + " TEXT, evaluation_source VARCHAR(20), confidence DOUBLE PRECISION, product_category"
+            + " VARCHAR(255), search_source VARCHAR(255))");
+    bulkWriter =
+        new EvaluationBulkWriter(jdbcTemplate, new DataSourceTransactionManager(dataSource), 1000);
+
+    mappings = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      mappings.add(
+          QueryProductMapping.builder()
+              .evaluationQuery(EvaluationQuery.builder().id((long) (i / 300 + 1)).build())
+              .productId("P" + i)
+              .productName("상품 " + i + " 무선 블루투스 이어폰")
+              .productSpecs("블루투스 5.3, 노이즈 캔슬링, 배터리 " + (i % 40) + "시간")
+              .evaluationSource("SEARCH")
+              .productCategory("이어폰")
+              .searchSource("BM25")
+              .build());
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void truncate() {
+    jdbcTemplate.execute("TRUNCATE TABLE query_product_mappings");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    jdbcTemplate.execute("DROP TABLE IF EXISTS query_product_mappings");
+  }
+
+  @Benchmark
+  public long rowByRow() throws SQLException {
+    long lastId = 0;
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try (PreparedStatement statement =
+          connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+        for (QueryProductMapping m : mappings) {
+          statement.setLong(1, m.getEvaluationQuery().getId());
+          statement.setString(2, m.getProductId());
+          statement.setString(3, m.getProductName());
+          statement.setString(4, m.getProductSpecs());
+          statement.setNull(5, Types.INTEGER);
+          statement.setNull(6, Types.VARCHAR);
+          statement.setString(7, m.getEvaluationSource());
+          statement.setNull(8, Types.DOUBLE);
+          statement.setString(9, m.getProductCategory());
+          statement.setString(10, m.getSearchSource());
+          statement.executeUpdate();
+          try (ResultSet keys = statement.getGeneratedKeys()) {
+            if (keys.next()) {
+              lastId = keys.getLong(1);
+            }
+          }
+        }
+      }
+      connection.commit();
+    }
+    return lastId;
+  }
+
+  @Benchmark
+  public void bulkWriter() {
+    bulkWriter.insertMappings(mappings);
+  }
+
+  private static String env(String name, String defaultValue) {
+    String value = System.getenv(name);
+    return value != null && !value.isBlank() ? value : defaultValue;
+  }
+}
@@ -0,0 +1,36 @@
+package com.yjlee.search.benchmark;
+
+import com.yjlee.search.index.model.Product;
+import com.yjlee.search.index.service.ProductDocumentFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** 색인 배치 한 번(상품 1,000개)의 ProductDocument 생성 */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IndexingBenchmark {
+
+  private final ProductDocumentFactory factory = new ProductDocumentFactory();
+  private List<Product> products;
+
+  @Setup
+  public void setUp() {
+    products = BenchmarkFixtures.products(1000);
+  }
+
+  @Benchmark
+  public void createDocuments(Blackhole blackhole) {
+    for (Product product : products) {
+      blackhole.consume(factory.create(product));
+    }
+  }
+}
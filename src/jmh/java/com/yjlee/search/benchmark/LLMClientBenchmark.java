@@ -0,0 +1,116 @@
+package com.yjlee.search.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import com.yjlee.search.evaluation.service.LLMHttpClient;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * LLM 호출 HTTP 클라이언트. 지연을 흉내내는 로컬 OpenAI 호환 서버에 LLM 큐 워커 수(10)만큼 동시에 호출한다. perCallRestTemplate은 호출마다
+ * RestTemplate을 새로 만들던 이전 방식.
+ *
+ * <p>이전 방식도 HttpURLConnection의 JVM 전역 keep-alive 캐시로 소켓을 재사용하므로 핸드셰이크 비용 비교가 아니다. 지연이 짧으면 공용
+ * 클라이언트의 비동기 스레드 전환, 세마포어, 본문 기한 예약 비용이 처리량 차이로 보이고, 실제 LLM 지연(수백 ms)에서는 두 방식 모두 워커 수에 묶인다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(10)
+public class LLMClientBenchmark {
+
+  private static final String RESPONSE =
+      "{\"choices\":[{\"message\":{\"content\":\"{\\\"score\\\":1,\\\"reason\\\":\\\"ok\\\"}\"}}]}";
+
+  @Param({"20", "200"})
+  int latencyMs;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Map<String, Object> requestBody =
+      Map.of(
+          "model", "gpt-5-nano", "messages", List.of(Map.of("role", "user", "content", "상품 평가")));
+  private HttpServer server;
+  private ExecutorService serverExecutor;
+  private String url;
+  private LLMHttpClient pooledClient;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    System.setProperty("sun.net.httpserver.nodelay", "true");
+    byte[] body = RESPONSE.getBytes(StandardCharsets.UTF_8);
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 128);
+    server.createContext(
+        "/v1/chat/completions",
+        exchange -> {
+          exchange.getRequestBody().readAllBytes();
+          try {
+            Thread.sleep(latencyMs);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          exchange.getResponseHeaders().add("Content-Type", "application/json");
+          exchange.sendResponseHeaders(200, body.length);
+          exchange.getResponseBody().write(body);
+          exchange.close();
+        });
+    serverExecutor = Executors.newFixedThreadPool(32);
+    server.setExecutor(serverExecutor);
+    server.start();
+    url = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions";
+    pooledClient = new LLMHttpClient(objectMapper, 8000, 45000, 60000, 10);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    pooledClient.shutdown();
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Benchmark
+  public JsonNode pooledClient() throws Exception {
+    return pooledClient.postJson(url, "test-key", requestBody).getJson();
+  }
+
+  @Benchmark
+  public JsonNode perCallRestTemplate() throws Exception {
+    SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+    requestFactory.setConnectTimeout(8000);
+    requestFactory.setReadTimeout(45000);
+    RestTemplate restTemplate = new RestTemplate(requestFactory);
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_JSON);
+    headers.set("Authorization", "Bearer test-key");
+    ResponseEntity<String> response =
+        restTemplate.exchange(
+            url, HttpMethod.POST, new HttpEntity<>(requestBody, headers), String.class);
+    return objectMapper.readTree(response.getBody());
+  }
+}
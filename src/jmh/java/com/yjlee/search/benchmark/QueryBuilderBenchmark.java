@@ -0,0 +1,122 @@
+package com.yjlee.search.benchmark;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import com.yjlee.search.common.enums.EnvironmentType;
+import com.yjlee.search.deployment.model.IndexEnvironment;
+import com.yjlee.search.deployment.service.IndexEnvironmentService;
+import com.yjlee.search.index.model.Product;
+import com.yjlee.search.index.repository.ProductRepository;
+import com.yjlee.search.search.dto.PriceRangeDto;
+import com.yjlee.search.search.dto.ProductFiltersDto;
+import com.yjlee.search.search.dto.SearchExecuteRequest;
+import com.yjlee.search.search.service.builder.QueryBuilder;
+import com.yjlee.search.search.service.builder.query.BoostQueryBuilder;
+import com.yjlee.search.search.service.builder.query.FilterQueryBuilder;
+import com.yjlee.search.search.service.builder.query.MainQueryBuilder;
+import com.yjlee.search.search.service.builder.query.QueryProcessor;
+import com.yjlee.search.search.service.category.CategoryRankingCacheService;
+import com.yjlee.search.search.service.typo.TypoCorrectionCacheService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 검색어별 BoolQuery 조립. 오타교정 사전, SymSpell 어휘, 카테고리 랭킹 사전을 픽스처로 채운 캐시 서비스를 그대로 쓰며, 환경 조회만 DB 대신 고정 값을
+ * 돌려준다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class QueryBuilderBenchmark {
+
+  private static final String VERSION = "v-benchmark";
+
+  @Param({"false", "true"})
+  boolean withFilters;
+
+  private QueryBuilder queryBuilder;
+  private SearchExecuteRequest[] requests;
+
+  @Setup
+  public void setUp() {
+    IndexEnvironment environment =
+        IndexEnvironment.builder().environmentType(EnvironmentType.PROD).version(VERSION).build();
+    IndexEnvironmentService environmentService =
+        new IndexEnvironmentService(null) {
+          @Override
+          public IndexEnvironment getEnvironment(EnvironmentType type) {
+            return environment;
+          }
+        };
+
+    ProductRepository productRepository = mock(ProductRepository.class);
+    when(productRepository.findAllNames())
+        .thenReturn(BenchmarkFixtures.products(1000).stream().map(Product::getName).toList());
+
+    TypoCorrectionCacheService typoService =
+        new TypoCorrectionCacheService(environmentService, null, null, productRepository);
+    ReflectionTestUtils.setField(typoService, "symSpellEnabled", true);
+    ReflectionTestUtils.setField(typoService, "maxEditDistance", 2);
+    ReflectionTestUtils.setField(typoService, "prefixLength", 7);
+    ReflectionTestUtils.setField(typoService, "minJamoLength", 6);
+    ReflectionTestUtils.setField(typoService, "longWordJamoLength", 10);
+    ReflectionTestUtils.setField(typoService, "minTermFrequency", 1L);
+    ReflectionTestUtils.setField(typoService, "memoryBudgetBytes", 32L * 1024 * 1024);
+    typoService.addVersionCache(VERSION, BenchmarkFixtures.typoCorrections());
+
+    CategoryRankingCacheService categoryService =
+        new CategoryRankingCacheService(environmentService, null, null);
+    categoryService.addVersionCache(VERSION, BenchmarkFixtures.categoryRankings());
+
+    QueryProcessor queryProcessor = new QueryProcessor(typoService);
+    BoostQueryBuilder boostQueryBuilder = new BoostQueryBuilder(categoryService);
+    queryBuilder =
+        new QueryBuilder(
+            queryProcessor,
+            new MainQueryBuilder(queryProcessor, boostQueryBuilder),
+            new FilterQueryBuilder(),
+            boostQueryBuilder);
+
+    List<String> queries = BenchmarkFixtures.queries();
+    requests = new SearchExecuteRequest[queries.size()];
+    for (int i = 0; i < requests.length; i++) {
+      SearchExecuteRequest request = new SearchExecuteRequest();
+      request.setQuery(queries.get(i));
+      if (withFilters) {
+        request.setFilters(filters(i));
+      }
+      requests[i] = request;
+    }
+  }
+
+  @Benchmark
+  public void buildBoolQuery(Blackhole blackhole) {
+    for (SearchExecuteRequest request : requests) {
+      BoolQuery query = queryBuilder.buildBoolQuery(request);
+      blackhole.consume(query);
+    }
+  }
+
+  private static ProductFiltersDto filters(int seed) {
+    ProductFiltersDto filters = new ProductFiltersDto();
+    filters.setBrand(seed % 2 == 0 ? List.of("삼성", "LG") : List.of("애플"));
+    filters.setCategory(List.of("노트북"));
+    PriceRangeDto priceRange = new PriceRangeDto();
+    priceRange.setFrom(500_000L);
+    priceRange.setTo(3_000_000L);
+    filters.setPriceRange(priceRange);
+    return filters;
+  }
+}
@@ -0,0 +1,51 @@
+package com.yjlee.search.benchmark;
+
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.yjlee.search.search.dto.AggregationBucketDto;
+import com.yjlee.search.search.service.RRFScorer;
+import com.yjlee.search.search.utils.AggregationUtils;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** 하이브리드 검색의 RRF 병합과 병합 결과 기반 집계. BM25/벡터 결과는 절반 정도 겹치게 만든다. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RankingBenchmark {
+
+  @Param({"100", "300"})
+  int topK;
+
+  private final RRFScorer rrfScorer = new RRFScorer();
+  private List<Hit<JsonNode>> bm25Hits;
+  private List<Hit<JsonNode>> vectorHits;
+  private List<RRFScorer.RRFResult> merged;
+
+  @Setup
+  public void setUp() {
+    List<JsonNode> sources = BenchmarkFixtures.productSources(topK * 2);
+    bm25Hits = BenchmarkFixtures.hits(sources, 0, topK);
+    vectorHits = BenchmarkFixtures.hits(sources, topK / 2, topK);
+    merged = rrfScorer.mergeWithRRF(bm25Hits, vectorHits, 60, topK, 0.8);
+  }
+
+  @Benchmark
+  public List<RRFScorer.RRFResult> mergeWithRRF() {
+    return rrfScorer.mergeWithRRF(bm25Hits, vectorHits, 60, topK, 0.8);
+  }
+
+  @Benchmark
+  public Map<String, List<AggregationBucketDto>> aggregateRRFResults() {
+    return AggregationUtils.calculateFromRRFResults(merged);
+  }
+}
@@ -0,0 +1,103 @@
+package com.yjlee.search.benchmark;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.StringTermsBucket;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.TotalHitsRelation;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.yjlee.search.search.converter.ProductDtoConverter;
+import com.yjlee.search.search.dto.SearchExecuteRequest;
+import com.yjlee.search.search.dto.SearchExecuteResponse;
+import com.yjlee.search.search.service.builder.QueryResponseBuilder;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** ES 검색 응답의 Hit을 ProductDto로 바꾸는 경로. 페이지 크기별로 응답 전체 조립과 Hit 단위 변환을 잰다. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ResponseBenchmark {
+
+  @Param({"20", "100"})
+  int pageSize;
+
+  private QueryResponseBuilder queryResponseBuilder;
+  private ProductDtoConverter productDtoConverter;
+  private SearchExecuteRequest request;
+  private SearchResponse<JsonNode> response;
+  private List<Hit<JsonNode>> hits;
+
+  @Setup
+  public void setUp() {
+    queryResponseBuilder =
+        new QueryResponseBuilder(
+            BenchmarkFixtures.OBJECT_MAPPER,
+            new JacksonJsonpMapper(BenchmarkFixtures.OBJECT_MAPPER));
+    productDtoConverter = new ProductDtoConverter(BenchmarkFixtures.OBJECT_MAPPER);
+
+    request = new SearchExecuteRequest();
+    request.setQuery("삼성 노트북");
+    request.setPage(0);
+    request.setSize(pageSize);
+
+    hits = BenchmarkFixtures.hits(BenchmarkFixtures.productSources(pageSize), 0, pageSize);
+    Map<String, Aggregate> aggregations = new LinkedHashMap<>();
+    aggregations.put("brand_name", termsAggregate(hits, "brand_name"));
+    aggregations.put("category_name", termsAggregate(hits, "category_name"));
+    response =
+        SearchResponse.<JsonNode>of(
+            r ->
+                r.took(12L)
+                    .timedOut(false)
+                    .shards(s -> s.total(1).successful(1).failed(0))
+                    .hits(
+                        h ->
+                            h.total(t -> t.value(1234L).relation(TotalHitsRelation.Eq))
+                                .maxScore(30.0)
+                                .hits(hits))
+                    .aggregations(aggregations));
+  }
+
+  @Benchmark
+  public SearchExecuteResponse buildSearchResponse() {
+    return queryResponseBuilder.buildSearchResponse(request, response, 12L, false);
+  }
+
+  @Benchmark
+  public void convertHits(Blackhole blackhole) {
+    for (Hit<JsonNode> hit : hits) {
+      blackhole.consume(productDtoConverter.convert(hit));
+    }
+  }
+
+  // 픽스처 문서에서 필드 값별 건수로 terms 집계 결과 생성
+  private static Aggregate termsAggregate(List<Hit<JsonNode>> hits, String field) {
+    Map<String, Long> counts = new LinkedHashMap<>();
+    for (Hit<JsonNode> hit : hits) {
+      JsonNode value = hit.source().get(field);
+      if (value != null && !value.isNull()) {
+        counts.merge(value.asText(), 1L, Long::sum);
+      }
+    }
+    List<StringTermsBucket> buckets = new ArrayList<>();
+    counts.forEach(
+        (key, count) ->
+            buckets.add(StringTermsBucket.of(b -> b.key(FieldValue.of(key)).docCount(count))));
+    return Aggregate.of(a -> a.sterms(t -> t.buckets(b -> b.array(buckets))));
+  }
+}
@@ -0,0 +1,69 @@
+package com.yjlee.search.benchmark;
+
+import com.yjlee.search.common.util.KoreanTextUtils;
+import com.yjlee.search.common.util.TextPreprocessor;
+import com.yjlee.search.index.model.Product;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** 검색어와 상품 텍스트 전처리, 자모/초성 분해. 호출당 비용이 작아 픽스처 전체를 한 번 훑는 단위로 잰다. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TextBenchmark {
+
+  private String[] queries;
+  private String[] productNames;
+  private String[] productSpecs;
+
+  @Setup
+  public void setUp() {
+    queries = BenchmarkFixtures.queries().toArray(new String[0]);
+    List<Product> products = BenchmarkFixtures.products(55);
+    productNames = products.stream().map(Product::getName).toArray(String[]::new);
+    productSpecs = products.stream().map(Product::getSpecs).toArray(String[]::new);
+  }
+
+  @Benchmark
+  public void preprocessQueries(Blackhole blackhole) {
+    for (String query : queries) {
+      blackhole.consume(TextPreprocessor.preprocess(query));
+    }
+  }
+
+  @Benchmark
+  public void preprocessProductNames(Blackhole blackhole) {
+    for (String name : productNames) {
+      blackhole.consume(TextPreprocessor.preprocess(name));
+    }
+  }
+
+  @Benchmark
+  public void preprocessProductSpecs(Blackhole blackhole) {
+    for (String specs : productSpecs) {
+      blackhole.consume(TextPreprocessor.preprocess(specs));
+    }
+  }
+
+  @Benchmark
+  public void decomposeHangul(Blackhole blackhole) {
+    for (String query : queries) {
+      blackhole.consume(KoreanTextUtils.decomposeHangul(query));
+    }
+  }
+
+  @Benchmark
+  public void extractChosung(Blackhole blackhole) {
+    for (String query : queries) {
+      blackhole.consume(KoreanTextUtils.extractChosung(query));
+    }
+  }
+}
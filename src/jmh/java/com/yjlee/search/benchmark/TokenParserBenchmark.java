@@ -0,0 +1,38 @@
+package com.yjlee.search.benchmark;
+
+import com.yjlee.search.analysis.domain.TokenInfo;
+import com.yjlee.search.analysis.enums.AnalysisType;
+import com.yjlee.search.analysis.util.TokenParser;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** ES _analyze explain 응답(노리 + 동의어 필터) 파싱 */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TokenParserBenchmark {
+
+  private String analyzeResponse;
+
+  @Setup
+  public void setUp() {
+    analyzeResponse = BenchmarkFixtures.resource("benchmark/analyze-response.json");
+  }
+
+  @Benchmark
+  public List<TokenInfo> parseSearchTokens() {
+    return TokenParser.parse(analyzeResponse, AnalysisType.SEARCH.getTargetFilter());
+  }
+
+  @Benchmark
+  public List<TokenInfo> parseIndexTokens() {
+    return TokenParser.parse(analyzeResponse, AnalysisType.INDEX.getTargetFilter());
+  }
+}
@@ -9,7 +9,9 @@ public enum AsyncTaskType {
   CANDIDATE_GENERATION("후보군 생성"),
   LLM_EVALUATION("후보군 자동평가"),
   EVALUATION_EXECUTION("평가 실행"),
-  INDEXING("상품 색인");
+  INDEXING("상품 색인"),
+  SEARCH_LOG_REPLAY("검색 로그 리플레이"),
+  FUSION_SWEEP("하이브리드 파라미터 탐색");
 
   private final String displayName;
 }
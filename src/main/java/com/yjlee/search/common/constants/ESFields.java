@@ -5,6 +5,7 @@ import java.util.List;
 public class ESFields {
 
   // 기본 필드
+  public static final String ID = "id";
   public static final String NAME = "name";
   public static final String SPECS = "specs";
   public static final String BRAND_NAME = "brand_name";
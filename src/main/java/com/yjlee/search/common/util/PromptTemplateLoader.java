@@ -1,39 +1,113 @@
 package com.yjlee.search.common.util;
 
+import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StreamUtils;
 
+/**
+ * 프롬프트 템플릿 로더. 시작 시 prompts/ 아래 템플릿을 한 번 읽어 문자열 조각과 {VARIABLE} 자리로 나눠 두고, 이후에는 캐시한 템플릿에 변수만 채운다.
+ * 넘기지 않은 변수 자리는 그대로 남는다.
+ */
 @Slf4j
 @Component
 public class PromptTemplateLoader {
 
+  private static final String PROMPT_DIR = "prompts/";
+  private static final Pattern PLACEHOLDER = Pattern.compile("\\{([A-Z][A-Z0-9_]*)}");
+
+  private final Map<String, CompiledTemplate> templates = new ConcurrentHashMap<>();
+
+  @PostConstruct
+  public void preload() {
+    try {
+      Resource[] resources =
+          new PathMatchingResourcePatternResolver().getResources("classpath:" + PROMPT_DIR + "*");
+      for (Resource resource : resources) {
+        if (resource.getFilename() != null) {
+          loadCompiled(resource.getFilename());
+        }
+      }
+      log.info("프롬프트 템플릿 캐시 완료: {}개", templates.size());
+    } catch (IOException e) {
+      log.warn("프롬프트 템플릿 사전 로드 실패 - 첫 사용 시 로드", e);
+    }
+  }
+
   public String loadTemplate(String templatePath) {
+    CompiledTemplate template = loadCompiled(templatePath);
+    return template != null ? template.raw : "";
+  }
+
+  public String loadTemplate(String templatePath, Map<String, String> variables) {
+    CompiledTemplate template = loadCompiled(templatePath);
+    return template != null ? template.render(variables) : "";
+  }
+
+  private CompiledTemplate loadCompiled(String templatePath) {
+    CompiledTemplate cached = templates.get(templatePath);
+    if (cached != null) {
+      return cached;
+    }
     try {
-      ClassPathResource resource = new ClassPathResource("prompts/" + templatePath);
-      return StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8);
+      ClassPathResource resource = new ClassPathResource(PROMPT_DIR + templatePath);
+      String raw = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8);
+      CompiledTemplate compiled = CompiledTemplate.compile(raw);
+      templates.put(templatePath, compiled);
+      return compiled;
     } catch (IOException e) {
       log.error("프롬프트 템플릿 로드 실패: {}", templatePath, e);
-      return "";
+      return null;
     }
   }
 
-  public String loadTemplate(String templatePath, Map<String, String> variables) {
-    String template = loadTemplate(templatePath);
-    if (template.isEmpty()) {
-      return "";
+  /** 문자열 조각(짝수 번째)과 변수 이름(홀수 번째)이 번갈아 있는 템플릿 */
+  static final class CompiledTemplate {
+
+    private final String raw;
+    private final List<String> parts;
+
+    private CompiledTemplate(String raw, List<String> parts) {
+      this.raw = raw;
+      this.parts = parts;
     }
 
-    String result = template;
-    for (Map.Entry<String, String> entry : variables.entrySet()) {
-      String placeholder = "{" + entry.getKey() + "}";
-      result = result.replace(placeholder, entry.getValue());
+    static CompiledTemplate compile(String raw) {
+      List<String> parts = new ArrayList<>();
+      Matcher matcher = PLACEHOLDER.matcher(raw);
+      int last = 0;
+      while (matcher.find()) {
+        parts.add(raw.substring(last, matcher.start()));
+        parts.add(matcher.group(1));
+        last = matcher.end();
+      }
+      parts.add(raw.substring(last));
+      return new CompiledTemplate(raw, List.copyOf(parts));
     }
 
-    return result;
+    String render(Map<String, String> variables) {
+      StringBuilder sb = new StringBuilder(raw.length() + 1024);
+      for (int i = 0; i < parts.size(); i++) {
+        String part = parts.get(i);
+        if (i % 2 == 0) {
+          sb.append(part);
+        } else {
+          String value = variables.get(part);
+          sb.append(value != null ? value : "{" + part + "}");
+        }
+      }
+      return sb.toString();
+    }
   }
 }
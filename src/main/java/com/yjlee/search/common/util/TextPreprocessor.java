@@ -3,52 +3,162 @@ package com.yjlee.search.common.util;
 import static java.text.Normalizer.Form;
 
 import java.text.Normalizer;
-import java.util.regex.Pattern;
+import java.util.Locale;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+/**
+ * 검색어와 상품명 전처리. 천단위 구분자 제거, 특수문자 공백 치환, 공백 정리, 소문자 변환, NFC 정규화를 문자열 한 번 순회로 처리한다.
+ *
+ * <ul>
+ *   <li>보존 문자: 문자(\p{L}), 숫자(\p{N}), 의미있는 특수문자 . - / + &amp;
+ *   <li>그 외 문자와 공백은 공백 하나로 합치고 앞뒤 공백은 제거
+ *   <li>천단위 구분자: 숫자 뒤 쉼표 다음에 숫자가 정확히 3자리 오면 쉼표 제거
+ * </ul>
+ */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class TextPreprocessor {
 
-  // 의미있는 특수문자를 보존: /, -, +, &
-  private static final Pattern SPECIAL_CHARS_PATTERN =
-      Pattern.compile("[^\\p{L}\\p{N}\\s\\.\\-/+&]");
+  private static final int MAX_RETAINED_BUFFER = 4096;
 
-  // 천단위 구분자 패턴 - 숫자 3자리 단위로 구분
-  private static final Pattern THOUSAND_SEPARATOR_PATTERN =
-      Pattern.compile("(\\d),(?=\\d{3}(?:,|\\D|$))");
+  private static final int CASE_FALLBACK = 1;
+  private static final int NEEDS_NFC = 2;
+
+  private static final ThreadLocal<StringBuilder> BUFFER =
+      ThreadLocal.withInitial(() -> new StringBuilder(256));
 
   public static String preprocess(String text) {
-    if (text == null || text.isBlank()) {
+    if (text == null || text.isEmpty()) {
       return "";
     }
-    text = removeThousandSeparators(text);
-    return normalizeUnicode(toLowerCase(cleanSpecialChars(text)));
+
+    StringBuilder buffer = BUFFER.get();
+    if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+      buffer = new StringBuilder(256);
+      BUFFER.set(buffer);
+    }
+    buffer.setLength(0);
+
+    int flags = isLocaleSensitiveLowerCase() ? CASE_FALLBACK : clean(text, buffer, true);
+    if ((flags & CASE_FALLBACK) != 0) {
+      // 문맥에 따라 결과가 달라지는 소문자 변환(그리스어 시그마, 터키어 I 등)은 String.toLowerCase에 맡긴다
+      buffer.setLength(0);
+      clean(text, buffer, false);
+      return Normalizer.normalize(buffer.toString().toLowerCase(), Form.NFC);
+    }
+
+    String result = buffer.toString();
+    return (flags & NEEDS_NFC) != 0 ? Normalizer.normalize(result, Form.NFC) : result;
+  }
+
+  /**
+   * 천단위 구분자 제거와 특수문자/공백 정리를 한 번에 수행
+   *
+   * @param lowerCase 코드포인트 단위 소문자 변환 여부
+   * @return 문맥 의존 소문자 변환이 필요하면 CASE_FALLBACK, NFC 정규화가 필요할 수 있으면 NEEDS_NFC
+   */
+  private static int clean(String text, StringBuilder out, boolean lowerCase) {
+    int flags = 0;
+    int length = text.length();
+    boolean pendingSpace = false;
+    int i = 0;
+    while (i < length) {
+      char ch = text.charAt(i);
+
+      // ASCII 빠른 경로
+      if (ch < 0x80) {
+        i++;
+        if (ch == ',' && isThousandSeparator(text, i - 1)) {
+          continue;
+        }
+        boolean upper = ch >= 'A' && ch <= 'Z';
+        if (upper
+            || (ch >= 'a' && ch <= 'z')
+            || (ch >= '0' && ch <= '9')
+            || ch == '.'
+            || ch == '-'
+            || ch == '/'
+            || ch == '+'
+            || ch == '&') {
+          if (pendingSpace) {
+            out.append(' ');
+            pendingSpace = false;
+          }
+          out.append(upper && lowerCase ? (char) (ch + ('a' - 'A')) : ch);
+        } else {
+          pendingSpace = out.length() > 0;
+        }
+        continue;
+      }
+
+      int codePoint = text.codePointAt(i);
+      i += Character.charCount(codePoint);
+      if (!isLetterOrNumber(codePoint)) {
+        pendingSpace = out.length() > 0;
+        continue;
+      }
+      if (lowerCase) {
+        if (codePoint == '\u03A3' || codePoint == '\u0130') {
+          return CASE_FALLBACK;
+        }
+        codePoint = Character.toLowerCase(codePoint);
+      }
+      if (pendingSpace) {
+        out.append(' ');
+        pendingSpace = false;
+      }
+      out.appendCodePoint(codePoint);
+      if (!isAlwaysNfc(codePoint)) {
+        flags |= NEEDS_NFC;
+      }
+    }
+    return flags;
+  }
+
+  // 숫자 뒤 쉼표이고 뒤에 숫자가 정확히 3자리 오는 경우
+  private static boolean isThousandSeparator(String text, int comma) {
+    int length = text.length();
+    if (comma == 0 || comma + 3 >= length || !isAsciiDigit(text.charAt(comma - 1))) {
+      return false;
+    }
+    for (int j = comma + 1; j <= comma + 3; j++) {
+      if (!isAsciiDigit(text.charAt(j))) {
+        return false;
+      }
+    }
+    return comma + 4 == length || !isAsciiDigit(text.charAt(comma + 4));
   }
 
-  private static String cleanSpecialChars(String text) {
-    return SPECIAL_CHARS_PATTERN
-        .matcher(text.trim())
-        .replaceAll(" ")
-        .replaceAll("\\s+", " ")
-        .trim();
+  private static boolean isAsciiDigit(char ch) {
+    return ch >= '0' && ch <= '9';
   }
 
-  private static String toLowerCase(String text) {
-    return text.toLowerCase();
+  private static boolean isLetterOrNumber(int codePoint) {
+    switch (Character.getType(codePoint)) {
+      case Character.UPPERCASE_LETTER:
+      case Character.LOWERCASE_LETTER:
+      case Character.TITLECASE_LETTER:
+      case Character.MODIFIER_LETTER:
+      case Character.OTHER_LETTER:
+      case Character.DECIMAL_DIGIT_NUMBER:
+      case Character.LETTER_NUMBER:
+      case Character.OTHER_NUMBER:
+        return true;
+      default:
+        return false;
+    }
   }
 
-  private static String normalizeUnicode(String text) {
-    return Normalizer.normalize(text, Form.NFC);
+  // 결합 문자 앞 라틴 문자, 완성형 한글, 호환 자모는 NFC 결과가 항상 자기 자신
+  private static boolean isAlwaysNfc(int codePoint) {
+    return codePoint < 0x300
+        || (codePoint >= 0xAC00 && codePoint <= 0xD7A3)
+        || (codePoint >= 0x3131 && codePoint <= 0x318E);
   }
 
-  private static String removeThousandSeparators(String text) {
-    String result = text;
-    String prev;
-    do {
-      prev = result;
-      result = THOUSAND_SEPARATOR_PATTERN.matcher(result).replaceAll("$1");
-    } while (!result.equals(prev));
-    return result;
+  // 터키어, 아제르바이잔어, 리투아니아어 로케일은 소문자 변환 규칙이 다르다
+  private static boolean isLocaleSensitiveLowerCase() {
+    String language = Locale.getDefault().getLanguage();
+    return "tr".equals(language) || "az".equals(language) || "lt".equals(language);
   }
 }
@@ -0,0 +1,33 @@
+package com.yjlee.search.common.util;
+
+/**
+ * LLM 입력 토큰 수 근사. 토크나이저 없이 프롬프트 예산을 나누기 위한 보수적(실제보다 조금 크게) 추정이다.
+ *
+ * <p>영문/숫자는 연속된 4글자당 1토큰, 한글 음절과 그 외 문자·기호는 글자당 1토큰, 줄바꿈은 1토큰으로 세고 나머지 공백은 세지 않는다.
+ */
+public final class TokenEstimator {
+
+  private TokenEstimator() {}
+
+  public static int estimate(String text) {
+    if (text == null || text.isEmpty()) {
+      return 0;
+    }
+    int tokens = 0;
+    int asciiRun = 0;
+    for (int i = 0; i < text.length(); ) {
+      int cp = text.codePointAt(i);
+      i += Character.charCount(cp);
+      if (cp < 128 && Character.isLetterOrDigit(cp)) {
+        asciiRun++;
+        continue;
+      }
+      tokens += (asciiRun + 3) / 4;
+      asciiRun = 0;
+      if (cp == '\n' || !Character.isWhitespace(cp)) {
+        tokens++;
+      }
+    }
+    return tokens + (asciiRun + 3) / 4;
+  }
+}
@@ -2,6 +2,7 @@ package com.yjlee.search.config;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -32,6 +33,33 @@ public class AsyncConfig {
     return executor;
   }
 
+  // 평가 배치 검색 전용. 평가 중에도 공용 ForkJoinPool과 검색 요청 스레드에 영향을 주지 않는다
+  @Bean(name = "evaluationSearchExecutor")
+  public Executor evaluationSearchExecutor(
+      @Value("${evaluation.search.worker-threads:4}") int workerThreads) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(workerThreads);
+    executor.setMaxPoolSize(workerThreads);
+    executor.setThreadNamePrefix("evaluation-search-");
+    executor.initialize();
+    return executor;
+  }
+
+  @Bean(name = "shadowSearchExecutor")
+  public Executor shadowSearchExecutor(
+      @Value("${app.search.shadow.worker-threads:2}") int workerThreads,
+      @Value("${app.search.shadow.queue-capacity:100}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(workerThreads);
+    executor.setMaxPoolSize(workerThreads);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("shadow-search-");
+    // 섀도 트래픽은 라이브 요청에 영향을 주면 안 되므로 큐가 차면 버린다
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    executor.initialize();
+    return executor;
+  }
+
   @Bean(name = "asyncThreadPoolExecutor")
   public ThreadPoolTaskExecutor asyncThreadPoolExecutor() {
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
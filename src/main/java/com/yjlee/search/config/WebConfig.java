@@ -1,11 +1,19 @@
 package com.yjlee.search.config;
 
+import com.yjlee.search.common.enums.EnvironmentType;
+import com.yjlee.search.deployment.service.IndexVersionTracker;
+import com.yjlee.search.search.service.autocomplete.HotPrefixSuggestionService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.UUID;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -13,8 +21,15 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+  private final IndexVersionTracker indexVersionTracker;
+  private final HotPrefixSuggestionService hotPrefixSuggestionService;
+
+  @Value("${app.http-cache.enabled:true}")
+  private boolean httpCacheEnabled;
+
   @Override
   public void addCorsMappings(CorsRegistry registry) {
     registry
@@ -22,13 +37,169 @@ public class WebConfig implements WebMvcConfigurer {
         .allowedOrigins("*")
         .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
         .allowedHeaders("*")
-        .exposedHeaders("X-Trace-ID")
+        .exposedHeaders("X-Trace-ID", HttpHeaders.ETAG)
         .maxAge(3600);
   }
 
   @Override
   public void addInterceptors(InterceptorRegistry registry) {
     registry.addInterceptor(new RequestLoggingInterceptor());
+    if (httpCacheEnabled) {
+      registry
+          .addInterceptor(
+              new VersionETagInterceptor(indexVersionTracker, hotPrefixSuggestionService))
+          .addPathPatterns(
+              VersionETagInterceptor.SEARCH_PATH,
+              VersionETagInterceptor.AUTOCOMPLETE_PATH,
+              VersionETagInterceptor.DICTIONARY_PATH_PATTERN)
+          // 상품 인덱스 집계 기반이라 사전 리비전과 무관
+          .excludePathPatterns("/api/v1/dictionaries/*/categories");
+    }
+  }
+
+  /**
+   * 버전 기반 ETag 인터셉터. 운영 검색/자동완성은 PROD 인덱스 세대, 사전 목록은 환경별 사전 리비전으로 ETag를 만들고, If-None-Match가
+   * 일치하면 ES/DB 조회 없이 304를 반환한다. 사전 변경 요청이 성공하면 해당 환경의 리비전을 올린다. 자동완성 ETag에는 인기 접두어 테이블의 내용
+   * 지문도 넣어 테이블이 다시 만들어지면 이전 응답이 재사용되지 않게 한다.
+   *
+   * <p>ETag는 DB에 공유되는 인덱스 버전과 사전 리비전으로만 만들어 여러 인스턴스에서 같은 값이 나온다. 상품 검색은 304여도 검색 로그를 남겨야
+   * 하므로 여기서 끊지 않고 ETag만 요청 속성으로 넘긴다. 컨트롤러가 검색 실행 전에 비교해 일치하면 검색 없이 로그만 남기고 304를 반환한다.
+   */
+  @Slf4j
+  @RequiredArgsConstructor
+  public static class VersionETagInterceptor implements HandlerInterceptor {
+
+    public static final String SEARCH_ETAG_ATTRIBUTE = "searchETag";
+
+    static final String SEARCH_PATH = "/api/v1/search";
+    static final String AUTOCOMPLETE_PATH = "/api/v1/search/autocomplete";
+    static final String DICTIONARY_PATH_PATTERN = "/api/v1/dictionaries/**";
+
+    private static final String DICTIONARY_PATH_PREFIX = "/api/v1/dictionaries/";
+    private static final String ENVIRONMENT_PARAM = "environment";
+
+    private final IndexVersionTracker indexVersionTracker;
+    private final HotPrefixSuggestionService hotPrefixSuggestionService;
+
+    @Override
+    public boolean preHandle(
+        HttpServletRequest request, HttpServletResponse response, Object handler) {
+      if (!HttpMethod.GET.matches(request.getMethod())) {
+        return true;
+      }
+
+      String etag = resolveETag(request);
+      if (etag == null) {
+        return true;
+      }
+
+      response.setHeader(HttpHeaders.ETAG, etag);
+      response.setHeader(HttpHeaders.CACHE_CONTROL, resolveCacheControl(request));
+
+      if (SEARCH_PATH.equals(request.getRequestURI())) {
+        request.setAttribute(SEARCH_ETAG_ATTRIBUTE, etag);
+        return true;
+      }
+
+      if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+        response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        log.debug("ETag 일치로 304 반환 - URI: {}, ETag: {}", request.getRequestURI(), etag);
+        return false;
+      }
+      return true;
+    }
+
+    @Override
+    public void afterCompletion(
+        HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+      if (HttpMethod.GET.matches(request.getMethod())
+          || !isDictionaryRequest(request)
+          || ex != null
+          || response.getStatus() >= 400) {
+        return;
+      }
+      EnvironmentType environmentType = resolveEnvironment(request);
+      if (environmentType != null) {
+        indexVersionTracker.bumpDictionaryRevision(environmentType);
+      }
+    }
+
+    private String resolveETag(HttpServletRequest request) {
+      String uri = request.getRequestURI();
+      if (SEARCH_PATH.equals(uri)) {
+        String generation = indexVersionTracker.getGeneration(EnvironmentType.PROD);
+        return generation != null ? weakETag("s-" + generation) : null;
+      }
+      if (AUTOCOMPLETE_PATH.equals(uri)) {
+        String generation = indexVersionTracker.getGeneration(EnvironmentType.PROD);
+        return generation != null
+            ? weakETag("a-" + generation + "." + hotPrefixSuggestionService.getGeneration())
+            : null;
+      }
+
+      if (isDictionaryRequest(request)) {
+        EnvironmentType environmentType = resolveEnvironment(request);
+        if (environmentType == null) {
+          return null;
+        }
+        String version = indexVersionTracker.getVersion(environmentType);
+        return weakETag(
+            "d-"
+                + environmentType.name()
+                + "-"
+                + (version != null ? version : "none")
+                + "."
+                + indexVersionTracker.getDictionaryRevision(environmentType));
+      }
+      return null;
+    }
+
+    private String resolveCacheControl(HttpServletRequest request) {
+      // 항상 재검증하도록 하고, 관리자용 사전 목록은 공유 캐시에 저장되지 않게 한다
+      CacheControl cacheControl =
+          isDictionaryRequest(request)
+              ? CacheControl.noCache().cachePrivate()
+              : CacheControl.noCache().cachePublic();
+      return cacheControl.getHeaderValue();
+    }
+
+    private boolean isDictionaryRequest(HttpServletRequest request) {
+      return request.getRequestURI().startsWith(DICTIONARY_PATH_PREFIX);
+    }
+
+    private EnvironmentType resolveEnvironment(HttpServletRequest request) {
+      String environment = request.getParameter(ENVIRONMENT_PARAM);
+      if (environment == null || environment.isBlank()) {
+        return EnvironmentType.CURRENT;
+      }
+      try {
+        return EnvironmentType.valueOf(environment.trim().toUpperCase());
+      } catch (IllegalArgumentException e) {
+        return null;
+      }
+    }
+
+    private String weakETag(String value) {
+      return "W/\"" + value + "\"";
+    }
+
+    public static boolean matches(String ifNoneMatch, String etag) {
+      if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+        return false;
+      }
+      String opaque = stripWeak(etag);
+      for (String candidate : ifNoneMatch.split(",")) {
+        String trimmed = candidate.trim();
+        if ("*".equals(trimmed) || stripWeak(trimmed).equals(opaque)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private static String stripWeak(String etag) {
+      return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
   }
 
   @Slf4j
@@ -0,0 +1,30 @@
+package com.yjlee.search.deployment.model;
+
+import com.yjlee.search.common.enums.EnvironmentType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 환경별 사전 리비전. 실시간 사전 반영마다 1씩 올라가며 인스턴스 간 응답 캐시 세대와 ETag를 맞추는 데 쓴다. */
+@Entity
+@Table(name = "dictionary_revisions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class DictionaryRevision {
+
+  @Id
+  @Enumerated(EnumType.STRING)
+  @Column(name = "environment_type", length = 20)
+  private EnvironmentType environmentType;
+
+  @Column(nullable = false)
+  private long revision;
+}
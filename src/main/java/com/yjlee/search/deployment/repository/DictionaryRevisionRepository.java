@@ -0,0 +1,24 @@
+package com.yjlee.search.deployment.repository;
+
+import com.yjlee.search.common.enums.EnvironmentType;
+import com.yjlee.search.deployment.model.DictionaryRevision;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DictionaryRevisionRepository
+    extends JpaRepository<DictionaryRevision, EnvironmentType> {
+
+  @Modifying
+  @Query(
+      "UPDATE DictionaryRevision r SET r.revision = r.revision + 1"
+          + " WHERE r.environmentType = :environmentType")
+  int increment(@Param("environmentType") EnvironmentType environmentType);
+
+  @Query("SELECT r.revision FROM DictionaryRevision r WHERE r.environmentType = :environmentType")
+  Optional<Long> findRevision(@Param("environmentType") EnvironmentType environmentType);
+}
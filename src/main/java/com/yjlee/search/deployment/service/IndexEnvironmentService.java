@@ -3,9 +3,13 @@ package com.yjlee.search.deployment.service;
 import com.yjlee.search.common.enums.EnvironmentType;
 import com.yjlee.search.deployment.dto.EnvironmentInfoResponse;
 import com.yjlee.search.deployment.dto.EnvironmentListResponse;
+import com.yjlee.search.deployment.model.DictionaryRevision;
 import com.yjlee.search.deployment.model.IndexEnvironment;
+import com.yjlee.search.deployment.repository.DictionaryRevisionRepository;
 import com.yjlee.search.deployment.repository.IndexEnvironmentRepository;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class IndexEnvironmentService {
 
   private final IndexEnvironmentRepository repository;
+  private final DictionaryRevisionRepository dictionaryRevisionRepository;
 
   @Transactional(readOnly = true)
   public IndexEnvironment getEnvironment(EnvironmentType type) {
@@ -89,6 +94,24 @@ public class IndexEnvironmentService {
     repository.save(prodEnv);
   }
 
+  @Transactional(readOnly = true)
+  public Map<EnvironmentType, Long> getDictionaryRevisions() {
+    Map<EnvironmentType, Long> revisions = new EnumMap<>(EnvironmentType.class);
+    for (DictionaryRevision revision : dictionaryRevisionRepository.findAll()) {
+      revisions.put(revision.getEnvironmentType(), revision.getRevision());
+    }
+    return revisions;
+  }
+
+  /** 환경의 사전 리비전을 1 올리고 새 값을 반환. 행이 없으면 1로 만든다. */
+  public long incrementDictionaryRevision(EnvironmentType type) {
+    if (dictionaryRevisionRepository.increment(type) == 0) {
+      dictionaryRevisionRepository.saveAndFlush(new DictionaryRevision(type, 1L));
+      return 1L;
+    }
+    return dictionaryRevisionRepository.findRevision(type).orElse(0L);
+  }
+
   private IndexEnvironment findByTypeOrThrow(EnvironmentType type) {
     return repository
         .findByEnvironmentType(type)
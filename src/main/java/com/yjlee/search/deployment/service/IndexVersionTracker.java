@@ -0,0 +1,114 @@
+package com.yjlee.search.deployment.service;
+
+import com.yjlee.search.common.enums.EnvironmentType;
+import com.yjlee.search.deployment.model.IndexEnvironment;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 환경별 활성 인덱스 버전과 사전 리비전을 메모리에 보관한다. 검색 경로에서 매 요청마다 DB를 조회하지 않도록 주기적으로 갱신하며, 응답 캐시 키의 세대
+ * 값으로 사용된다.
+ *
+ * <p>사전 리비전은 DB(dictionary_revisions)에 두고 공유하므로 다른 인스턴스에서 올린 리비전도 갱신 주기 안에 반영되고, 재시작해도 이전 값으로
+ * 돌아가지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndexVersionTracker {
+
+  private static final String NO_VERSION = "";
+
+  private final IndexEnvironmentService environmentService;
+
+  private final Map<EnvironmentType, String> versions = new ConcurrentHashMap<>();
+  private final Map<EnvironmentType, Long> dictionaryRevisions = new ConcurrentHashMap<>();
+
+  public String getVersion(EnvironmentType environmentType) {
+    String version = versions.get(environmentType);
+    if (version == null) {
+      version = loadVersion(environmentType);
+      if (version == null) {
+        return null;
+      }
+      versions.putIfAbsent(environmentType, version);
+    }
+    return NO_VERSION.equals(version) ? null : version;
+  }
+
+  public long getDictionaryRevision(EnvironmentType environmentType) {
+    return dictionaryRevisions.computeIfAbsent(environmentType, this::loadDictionaryRevision);
+  }
+
+  public void bumpDictionaryRevision(EnvironmentType environmentType) {
+    long revision;
+    try {
+      revision = environmentService.incrementDictionaryRevision(environmentType);
+    } catch (Exception e) {
+      // 공유 리비전을 못 올려도 이 인스턴스의 캐시는 무효화한다
+      revision = getDictionaryRevision(environmentType) + 1;
+      log.warn("사전 리비전 저장 실패 - 환경: {}, 오류: {}", environmentType, e.getMessage());
+    }
+    dictionaryRevisions.merge(environmentType, revision, Math::max);
+    log.debug("사전 리비전 증가 - 환경: {}, 리비전: {}", environmentType, revision);
+  }
+
+  // 인덱스 버전과 사전 리비전을 합친 세대 값 (활성 인덱스가 없으면 null)
+  public String getGeneration(EnvironmentType environmentType) {
+    String version = getVersion(environmentType);
+    if (version == null) {
+      return null;
+    }
+    return version + "." + getDictionaryRevision(environmentType);
+  }
+
+  @Scheduled(fixedDelayString = "${app.search.version-refresh-interval-ms:5000}")
+  public void refresh() {
+    for (EnvironmentType type : EnvironmentType.values()) {
+      String previous = versions.get(type);
+      String current = loadVersion(type);
+      if (current == null) {
+        continue;
+      }
+      versions.put(type, current);
+      if (previous != null && !previous.equals(current)) {
+        log.info("활성 인덱스 버전 변경 감지 - 환경: {}, {} -> {}", type, previous, current);
+      }
+    }
+
+    try {
+      // 리비전은 되돌아가지 않게 큰 값만 반영 (되돌아가면 이전 ETag가 다시 유효해진다)
+      environmentService
+          .getDictionaryRevisions()
+          .forEach((type, revision) -> dictionaryRevisions.merge(type, revision, Math::max));
+    } catch (Exception e) {
+      log.warn("사전 리비전 조회 실패: {}", e.getMessage());
+    }
+  }
+
+  private long loadDictionaryRevision(EnvironmentType environmentType) {
+    try {
+      return environmentService.getDictionaryRevisions().getOrDefault(environmentType, 0L);
+    } catch (Exception e) {
+      log.warn("사전 리비전 조회 실패 - 환경: {}, 오류: {}", environmentType, e.getMessage());
+      return 0L;
+    }
+  }
+
+  private String loadVersion(EnvironmentType environmentType) {
+    try {
+      IndexEnvironment environment = environmentService.getEnvironmentOrNull(environmentType);
+      if (environment == null || environment.getVersion() == null) {
+        return NO_VERSION;
+      }
+      return environment.getVersion();
+    } catch (Exception e) {
+      log.warn("인덱스 버전 조회 실패 - 환경: {}, 오류: {}", environmentType, e.getMessage());
+      return null;
+    }
+  }
+}
@@ -6,6 +6,8 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,6 +20,13 @@ public interface CategoryRankingDictionaryRepository
   List<CategoryRankingDictionary> findByEnvironmentTypeOrderByKeywordAsc(
       EnvironmentType environmentType);
 
+  // 캐시 스냅샷용: 엔티티 대신 (키워드, 카테고리 매핑)만 한 번에 조회
+  @Query(
+      "SELECT c.keyword, c.categoryMappings FROM CategoryRankingDictionary c"
+          + " WHERE c.environmentType = :environmentType ORDER BY c.keyword")
+  List<Object[]> findKeywordAndMappingsByEnvironmentType(
+      @Param("environmentType") EnvironmentType environmentType);
+
   Page<CategoryRankingDictionary> findByEnvironmentTypeAndKeywordContainingIgnoreCase(
       EnvironmentType environmentType, String keyword, Pageable pageable);
 
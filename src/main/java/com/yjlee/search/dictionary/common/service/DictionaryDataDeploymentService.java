@@ -77,7 +77,8 @@ public class DictionaryDataDeploymentService {
 
     categoryRankingCacheService.syncWithPreloadedData(preloadedData.getCategoryRankings(), version);
     synonymService.sync(preloadedData.getSynonyms(), synonymSetName);
-    typoCorrectionCacheService.syncWithPreloadedData(preloadedData.getTypoCorrections(), version);
+    typoCorrectionCacheService.syncWithPreloadedData(
+        preloadedData.getTypoCorrections(), preloadedData.getUserWords(), version);
 
     log.info("사전 동기화 완료");
   }
@@ -7,6 +7,7 @@ import co.elastic.clients.elasticsearch.synonyms.SynonymRule;
 import com.yjlee.search.common.dto.PageResponse;
 import com.yjlee.search.common.enums.EnvironmentType;
 import com.yjlee.search.deployment.service.IndexEnvironmentService;
+import com.yjlee.search.deployment.service.IndexVersionTracker;
 import com.yjlee.search.dictionary.common.model.DictionaryData;
 import com.yjlee.search.dictionary.synonym.dto.SynonymDictionaryCreateRequest;
 import com.yjlee.search.dictionary.synonym.dto.SynonymDictionaryListResponse;
@@ -33,6 +34,7 @@ public class SynonymDictionaryService {
   private final SynonymDictionaryRepository repository;
   private final ElasticsearchClient elasticsearchClient;
   private final IndexEnvironmentService indexEnvironmentService;
+  private final IndexVersionTracker indexVersionTracker;
 
   @Transactional
   public SynonymDictionaryResponse create(
@@ -197,6 +199,8 @@ public class SynonymDictionaryService {
       String synonymSetName =
           indexEnvironmentService.getEnvironment(environmentType).getSynonymSetName();
       updateElasticsearchSynonymSet(synonymSetName, synonymRules);
+      // 동의어가 바뀌면 같은 요청도 결과가 달라지므로 응답 캐시/ETag 세대를 올린다
+      indexVersionTracker.bumpDictionaryRevision(environmentType);
       log.info("버전 동의어 세트 생성/업데이트 완료 - set: {}, 규칙 수: {}", synonymSetName, synonymRules.size());
     } catch (Exception e) {
       log.error("버전 동의어 세트 생성/업데이트 실패", e);
@@ -6,6 +6,8 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TypoCorrectionDictionaryRepository
     extends JpaRepository<TypoCorrectionDictionary, Long> {
@@ -16,6 +18,13 @@ public interface TypoCorrectionDictionaryRepository
   List<TypoCorrectionDictionary> findByEnvironmentTypeOrderByKeywordAsc(
       EnvironmentType environmentType);
 
+  // 캐시 스냅샷용: 엔티티 대신 (키워드, 교정어)만 한 번에 조회
+  @Query(
+      "SELECT t.keyword, t.correctedWord FROM TypoCorrectionDictionary t"
+          + " WHERE t.environmentType = :environmentType ORDER BY t.keyword")
+  List<Object[]> findKeywordAndCorrectedWordByEnvironmentType(
+      @Param("environmentType") EnvironmentType environmentType);
+
   Page<TypoCorrectionDictionary> findByEnvironmentTypeAndKeywordContainingIgnoreCase(
       EnvironmentType environmentType, String keyword, Pageable pageable);
 
@@ -24,6 +24,11 @@ public interface UserDictionaryRepository extends JpaRepository<UserDictionary,
   Page<UserDictionary> findWithOptionalKeyword(
       @Param("env") EnvironmentType env, @Param("keyword") String keyword, Pageable pageable);
 
+  // 오타교정 보호 단어용: 엔티티 대신 키워드만 조회
+  @Query("SELECT u.keyword FROM UserDictionary u WHERE u.environmentType = :environmentType")
+  List<String> findKeywordsByEnvironmentType(
+      @Param("environmentType") EnvironmentType environmentType);
+
   boolean existsByKeywordAndEnvironmentType(String keyword, EnvironmentType environmentType);
 
   void deleteByEnvironmentType(EnvironmentType environmentType);
@@ -26,6 +26,12 @@ public final class EvaluationConstants {
   public static final String EVALUATION_SOURCE_LLM = "LLM";
   public static final String EVALUATION_SOURCE_SEARCH = "SEARCH";
 
+  // 후보군 검색 소스
+  public static final String SEARCH_SOURCE_BM25 = "BM25";
+  public static final String SEARCH_SOURCE_BIGRAM = "BIGRAM";
+  public static final String SEARCH_SOURCE_VECTOR = "VECTOR";
+  public static final String SEARCH_SOURCE_MULTIPLE = "MULTIPLE";
+
   // 관련성 상태
   public static final String RELEVANCE_UNSPECIFIED = "UNSPECIFIED";
   public static final String RELEVANCE_RELEVANT = "RELEVANT";
@@ -3,16 +3,23 @@ package com.yjlee.search.evaluation.controller;
 import com.yjlee.search.async.dto.AsyncTaskStartResponse;
 import com.yjlee.search.evaluation.dto.EvaluationExecuteAsyncRequest;
 import com.yjlee.search.evaluation.dto.EvaluationReportDetailResponse;
+import com.yjlee.search.evaluation.dto.EvaluationReportQueryDocumentsResponse;
+import com.yjlee.search.evaluation.dto.EvaluationReportQueryPageResponse;
 import com.yjlee.search.evaluation.dto.EvaluationReportSummaryResponse;
+import com.yjlee.search.evaluation.dto.FusionSweepRequest;
 import com.yjlee.search.evaluation.service.AsyncEvaluationService;
+import com.yjlee.search.evaluation.service.EvaluationReportReadService;
 import com.yjlee.search.evaluation.service.EvaluationReportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/evaluation")
@@ -22,6 +29,7 @@ public class EvaluationExecutionController {
 
   private final EvaluationReportService evaluationReportService;
   private final AsyncEvaluationService asyncEvaluationService;
+  private final EvaluationReportReadService reportReadService;
 
   @PostMapping("/evaluate-async")
   @Operation(summary = "평가 실행 (비동기)")
@@ -30,6 +38,13 @@ public class EvaluationExecutionController {
     return ResponseEntity.ok(asyncEvaluationService.startEvaluationExecutionWithResponse(request));
   }
 
+  @PostMapping("/fusion-sweep-async")
+  @Operation(summary = "하이브리드 융합 파라미터 탐색 (비동기)")
+  public ResponseEntity<AsyncTaskStartResponse> executeFusionSweepAsync(
+      @Valid @RequestBody FusionSweepRequest request) {
+    return ResponseEntity.ok(asyncEvaluationService.startFusionSweepWithResponse(request));
+  }
+
   @GetMapping("/reports")
   @Operation(summary = "평가 리포트 리스트 조회")
   public ResponseEntity<List<EvaluationReportSummaryResponse>> getReports(
@@ -43,6 +58,35 @@ public class EvaluationExecutionController {
     return ResponseEntity.ok(evaluationReportService.getReportDetail(reportId));
   }
 
+  @GetMapping("/reports/{reportId}/queries")
+  @Operation(summary = "평가 리포트 쿼리별 요약 페이지 조회 (커서 기반)")
+  public ResponseEntity<EvaluationReportQueryPageResponse> getReportQueries(
+      @PathVariable Long reportId,
+      @RequestParam(required = false) Long cursor,
+      @RequestParam(required = false) Integer size) {
+    return ResponseEntity.ok(reportReadService.getQueryPage(reportId, cursor, size));
+  }
+
+  @GetMapping("/reports/{reportId}/queries/{detailId}/documents")
+  @Operation(summary = "평가 리포트 쿼리 하나의 누락/오답 문서 조회")
+  public ResponseEntity<EvaluationReportQueryDocumentsResponse> getReportQueryDocuments(
+      @PathVariable Long reportId, @PathVariable Long detailId) {
+    return ResponseEntity.ok(reportReadService.getQueryDocuments(reportId, detailId));
+  }
+
+  @GetMapping(value = "/reports/{reportId}/export", produces = "application/x-ndjson")
+  @Operation(summary = "평가 리포트 NDJSON 내보내기 (쿼리당 한 줄)")
+  public ResponseEntity<StreamingResponseBody> exportReport(@PathVariable Long reportId) {
+    reportReadService.requireReport(reportId);
+    StreamingResponseBody body = out -> reportReadService.exportNdjson(reportId, out);
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType("application/x-ndjson"))
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"evaluation-report-" + reportId + ".ndjson\"")
+        .body(body);
+  }
+
   @DeleteMapping("/reports/{reportId}")
   @Operation(summary = "평가 리포트 단건 삭제")
   public ResponseEntity<Void> deleteReport(@PathVariable Long reportId) {
@@ -15,6 +15,9 @@ public class EvaluationExecuteResponse {
   private String reportName;
   private Double recall300; // Recall@300
   private Double precision20; // Precision@20
+  private Double ndcg20; // NDCG@20
+  private Double mrr10; // MRR@10
+  private Double map300; // MAP@300
   private Integer totalQueries;
   private List<QueryEvaluationDetail> queryDetails;
   private LocalDateTime createdAt;
@@ -31,6 +34,9 @@ public class EvaluationExecuteResponse {
     private Integer correctCount;
     private Double precisionAt20;
     private Double recallAt300;
+    private Double ndcgAt20;
+    private Double mrrAt10;
+    private Double averagePrecision;
     private List<DocumentInfo> missingDocuments;
     private List<DocumentInfo> wrongDocuments;
   }
@@ -0,0 +1,21 @@
+package com.yjlee.search.evaluation.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EvaluationReportQueryDocumentsResponse {
+
+  private Long id;
+  private String query;
+  private List<EvaluationReportDetailResponse.DocumentInfo> missingDocuments;
+  private List<EvaluationReportDetailResponse.DocumentInfo> wrongDocuments;
+}
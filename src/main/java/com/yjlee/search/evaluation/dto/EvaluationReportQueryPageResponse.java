@@ -0,0 +1,41 @@
+package com.yjlee.search.evaluation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "평가 리포트 쿼리별 요약 페이지")
+public class EvaluationReportQueryPageResponse {
+
+  private Long reportId;
+  private List<QuerySummary> queries;
+
+  @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+  private Long nextCursor;
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class QuerySummary {
+    @Schema(description = "쿼리 상세 ID (문서 조회용)")
+    private Long id;
+
+    private String query;
+    private Integer relevantCount;
+    private Integer retrievedCount;
+    private Integer correctCount;
+    private Double precisionAt20;
+    private Double recallAt300;
+  }
+}
@@ -0,0 +1,52 @@
+package com.yjlee.search.evaluation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "하이브리드 융합 파라미터 탐색 요청. 각 목록의 모든 조합을 평가한다.")
+public class FusionSweepRequest {
+
+  @NotEmpty
+  @Schema(description = "RRF K 상수 후보", example = "[20, 60, 100]")
+  @Builder.Default
+  private List<Integer> rrfKs = List.of(20, 40, 60, 100);
+
+  @NotEmpty
+  @Schema(description = "BM25 가중치 후보 (벡터 가중치는 1-bm25Weight)", example = "[0.6, 0.8]")
+  @Builder.Default
+  private List<Double> bm25Weights = List.of(0.5, 0.6, 0.7, 0.8, 0.9);
+
+  @NotEmpty
+  @Schema(description = "검색기별 상위 K개 후보", example = "[100, 300]")
+  @Builder.Default
+  private List<Integer> hybridTopKs = List.of(100, 200, 300);
+
+  @NotEmpty
+  @Schema(description = "kNN numCandidates 후보 (값마다 벡터 검색을 한 번씩 조회)", example = "[300, 900]")
+  @Builder.Default
+  private List<Integer> numCandidates = List.of(900);
+
+  @NotEmpty
+  @Schema(description = "상품명 벡터 가중치 후보", example = "[0.7]")
+  @Builder.Default
+  private List<Float> nameVectorBoosts = List.of(0.7f);
+
+  @NotEmpty
+  @Schema(description = "스펙 벡터 가중치 후보", example = "[0.3]")
+  @Builder.Default
+  private List<Float> specsVectorBoosts = List.of(0.3f);
+
+  @Schema(description = "벡터 최소 점수 (미지정 시 기본값)", example = "0.6")
+  private Double vectorMinScore;
+}
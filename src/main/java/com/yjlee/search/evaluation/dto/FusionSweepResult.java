@@ -0,0 +1,61 @@
+package com.yjlee.search.evaluation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "하이브리드 융합 파라미터 탐색 결과. 조합은 NDCG@20 내림차순")
+public class FusionSweepResult {
+
+  @Schema(description = "평가 쿼리 수")
+  private int totalQueries;
+
+  @Schema(description = "평가한 조합 수")
+  private int gridPoints;
+
+  @Schema(description = "검색기별 순위 수집 시간(ms)")
+  private long captureMillis;
+
+  @Schema(description = "전체 조합 융합/평가 시간(ms)")
+  private long sweepMillis;
+
+  @Schema(description = "조합별 평가 결과")
+  private List<Point> points;
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Schema(description = "파라미터 조합 하나의 평가 결과")
+  public static class Point {
+
+    private int rrfK;
+    private double bm25Weight;
+    private int hybridTopK;
+    private int numCandidates;
+    private float nameVectorBoost;
+    private float specsVectorBoost;
+
+    @Schema(description = "Recall@300")
+    private double recall300;
+
+    @Schema(description = "Precision@20")
+    private double precision20;
+
+    @Schema(description = "NDCG@20")
+    private double ndcg20;
+
+    @Schema(description = "MRR@10")
+    private double mrr10;
+
+    @Schema(description = "MAP@300")
+    private double map300;
+  }
+}
@@ -0,0 +1,15 @@
+package com.yjlee.search.evaluation.exception;
+
+import lombok.Getter;
+
+/** LLM API 429 응답. 서버가 알려준 재시도 대기 시간(ms, 모르면 0)을 담는다. */
+@Getter
+public class LLMRateLimitException extends RuntimeException {
+
+  private final long retryAfterMs;
+
+  public LLMRateLimitException(String message, long retryAfterMs) {
+    super(message);
+    this.retryAfterMs = retryAfterMs;
+  }
+}
@@ -6,7 +6,10 @@ import lombok.*;
 @Entity
 @Table(
     name = "evaluation_report_documents",
-    indexes = {@Index(name = "idx_report_doc_report_id", columnList = "report_id")})
+    indexes = {
+      @Index(name = "idx_report_doc_report_id", columnList = "report_id"),
+      @Index(name = "idx_report_doc_report_query", columnList = "report_id, query")
+    })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -32,6 +35,7 @@ public class EvaluationReportDocument {
   @Column(name = "doc_type", nullable = false, length = 16)
   private ReportDocumentType docType; // MISSING, WRONG
 
+  // 이전 리포트 호환용. 신규 리포트는 저장하지 않고 조회 시 상품 색인에서 채운다.
   @Column(name = "product_name", columnDefinition = "TEXT")
   private String productName;
 
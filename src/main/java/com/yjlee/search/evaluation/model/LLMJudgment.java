@@ -0,0 +1,51 @@
+package com.yjlee.search.evaluation.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/** 프롬프트 지문별 LLM 관련도 판정 캐시. 같은 모델/템플릿/쿼리/상품 텍스트는 다시 묻지 않고 이 판정을 쓴다. */
+@Entity
+@Table(name = "llm_judgment_cache")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@EntityListeners(AuditingEntityListener.class)
+public class LLMJudgment {
+
+  @Id
+  @Column(length = 64)
+  String fingerprint;
+
+  @Column(nullable = false, length = 100)
+  String model;
+
+  @Column(name = "template_version", nullable = false, length = 64)
+  String templateVersion;
+
+  @Column(name = "relevance_score", nullable = false)
+  Integer relevanceScore;
+
+  @Column(columnDefinition = "TEXT")
+  String reason;
+
+  @Column(nullable = false)
+  Double confidence;
+
+  @CreatedDate
+  @Column(name = "created_at", nullable = false, updatable = false)
+  LocalDateTime createdAt;
+}
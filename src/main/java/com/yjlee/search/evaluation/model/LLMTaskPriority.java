@@ -0,0 +1,9 @@
+package com.yjlee.search.evaluation.model;
+
+/** LLM 작업 우선순위. 먼저 선언된 값이 먼저 처리된다. */
+public enum LLMTaskPriority {
+  /** 선택한 쿼리만 평가 (사용자가 결과를 기다림) */
+  INTERACTIVE,
+  /** 전체 쿼리 일괄 평가 */
+  BULK
+}
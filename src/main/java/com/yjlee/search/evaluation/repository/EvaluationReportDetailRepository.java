@@ -3,6 +3,7 @@ package com.yjlee.search.evaluation.repository;
 import com.yjlee.search.evaluation.model.EvaluationReport;
 import com.yjlee.search.evaluation.model.EvaluationReportDetail;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -14,6 +15,10 @@ public interface EvaluationReportDetailRepository
     extends JpaRepository<EvaluationReportDetail, Long> {
   List<EvaluationReportDetail> findByReport(EvaluationReport report);
 
+  // 키셋 페이징: 이전 페이지 마지막 ID 이후부터
+  List<EvaluationReportDetail> findByReportIdAndIdGreaterThanOrderByIdAsc(
+      Long reportId, Long afterId, Limit limit);
+
   void deleteByReport(EvaluationReport report);
 
   @Modifying
@@ -16,6 +16,8 @@ public interface EvaluationReportDocumentRepository
   List<EvaluationReportDocument> findByReportAndDocType(
       EvaluationReport report, ReportDocumentType docType);
 
+  List<EvaluationReportDocument> findByReportIdAndQueryOrderByIdAsc(Long reportId, String query);
+
   void deleteByReport(EvaluationReport report);
 
   @Modifying
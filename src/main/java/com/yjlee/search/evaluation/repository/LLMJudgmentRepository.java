@@ -0,0 +1,8 @@
+package com.yjlee.search.evaluation.repository;
+
+import com.yjlee.search.evaluation.model.LLMJudgment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LLMJudgmentRepository extends JpaRepository<LLMJudgment, String> {}
@@ -2,14 +2,19 @@ package com.yjlee.search.evaluation.repository;
 
 import com.yjlee.search.evaluation.model.EvaluationQuery;
 import com.yjlee.search.evaluation.model.QueryProductMapping;
+import com.yjlee.search.evaluation.repository.projection.QrelProjection;
 import com.yjlee.search.evaluation.repository.projection.QueryStatsProjection;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -43,6 +48,19 @@ public interface QueryProductMappingRepository extends JpaRepository<QueryProduc
       """)
   List<QueryStatsProjection> findQueryStats();
 
+  /** 평가용 정답 전체를 스트리밍 조회 (호출 측 트랜잭션 안에서 닫아야 한다) */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  @Query(
+      """
+      SELECT
+          m.evaluationQuery.id as queryId,
+          m.productId as productId,
+          m.relevanceScore as relevanceScore
+      FROM QueryProductMapping m
+      WHERE m.relevanceScore >= :minScore
+      """)
+  Stream<QrelProjection> streamJudgments(@Param("minScore") int minScore);
+
   @Modifying
   @Query("DELETE FROM QueryProductMapping m WHERE m.evaluationQuery.id IN :queryIds")
   void deleteByQueryIds(@Param("queryIds") List<Long> queryIds);
@@ -0,0 +1,9 @@
+package com.yjlee.search.evaluation.repository.projection;
+
+public interface QrelProjection {
+  Long getQueryId();
+
+  String getProductId();
+
+  Integer getRelevanceScore();
+}
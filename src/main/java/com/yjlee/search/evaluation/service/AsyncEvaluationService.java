@@ -6,9 +6,12 @@ import com.yjlee.search.async.model.AsyncTaskType;
 import com.yjlee.search.async.service.AsyncTaskService;
 import com.yjlee.search.evaluation.dto.EvaluationExecuteAsyncRequest;
 import com.yjlee.search.evaluation.dto.EvaluationExecuteResponse;
+import com.yjlee.search.evaluation.dto.FusionSweepRequest;
+import com.yjlee.search.evaluation.dto.FusionSweepResult;
 import com.yjlee.search.evaluation.dto.GenerateCandidatesRequest;
 import com.yjlee.search.evaluation.dto.LLMEvaluationRequest;
 import com.yjlee.search.evaluation.model.EvaluationQuery;
+import com.yjlee.search.evaluation.service.sweep.FusionSweepService;
 import com.yjlee.search.search.dto.SearchMode;
 import com.yjlee.search.search.service.VectorSearchService;
 import java.util.ArrayList;
@@ -27,6 +30,7 @@ public class AsyncEvaluationService {
   private final EvaluationReportService evaluationReportService;
   private final LLMCandidateEvaluationService llmCandidateEvaluationService;
   private final VectorSearchService vectorSearchService;
+  private final FusionSweepService fusionSweepService;
 
   public AsyncEvaluationService(
       AsyncTaskService asyncTaskService,
@@ -34,13 +38,15 @@ public class AsyncEvaluationService {
       EvaluationQueryService evaluationQueryService,
       EvaluationReportService evaluationReportService,
       LLMCandidateEvaluationService llmCandidateEvaluationService,
-      VectorSearchService vectorSearchService) {
+      VectorSearchService vectorSearchService,
+      FusionSweepService fusionSweepService) {
     this.asyncTaskService = asyncTaskService;
     this.groundTruthService = groundTruthService;
     this.evaluationQueryService = evaluationQueryService;
     this.evaluationReportService = evaluationReportService;
     this.llmCandidateEvaluationService = llmCandidateEvaluationService;
     this.vectorSearchService = vectorSearchService;
+    this.fusionSweepService = fusionSweepService;
   }
 
   public Long startCandidateGeneration(GenerateCandidatesRequest request) {
@@ -73,6 +79,20 @@ public class AsyncEvaluationService {
         .build();
   }
 
+  public Long startFusionSweep(FusionSweepRequest request) {
+    AsyncTask task =
+        asyncTaskService.createTask(AsyncTaskType.FUSION_SWEEP, "파라미터 탐색 준비 중...", request);
+    return task.getId();
+  }
+
+  public AsyncTaskStartResponse startFusionSweepWithResponse(FusionSweepRequest request) {
+    Long taskId = startFusionSweep(request);
+    return AsyncTaskStartResponse.builder()
+        .taskId(taskId)
+        .message("파라미터 탐색 작업이 시작되었습니다. 작업 ID: " + taskId)
+        .build();
+  }
+
   public Long startLLMCandidateEvaluation(LLMEvaluationRequest request) {
     AsyncTask task =
         asyncTaskService.createTask(AsyncTaskType.LLM_EVALUATION, "LLM 후보군 평가 준비 중...", request);
@@ -192,6 +212,31 @@ public class AsyncEvaluationService {
     }
   }
 
+  public void executeFusionSweepTask(Long taskId, FusionSweepRequest request) {
+    try {
+      log.info("비동기 파라미터 탐색 시작: taskId={}", taskId);
+
+      asyncTaskService.updateProgress(taskId, 10, "임베딩 사전 캐싱 시작...");
+      precacheEmbeddings(taskId);
+      asyncTaskService.updateProgress(taskId, 20, "임베딩 캐싱 완료, 검색 결과 수집 시작...");
+
+      // 탐색 진행률(10~95)을 20~95 구간으로 조정
+      ProgressCallback sweepCallback =
+          (progress, message) ->
+              asyncTaskService.updateProgress(
+                  taskId, 20 + (int) ((progress - 10) * 75 / 85.0), message);
+
+      FusionSweepResult result = fusionSweepService.sweep(request, sweepCallback);
+
+      asyncTaskService.completeTask(taskId, result);
+      log.info("비동기 파라미터 탐색 완료: taskId={}, 조합: {}개", taskId, result.getGridPoints());
+
+    } catch (Exception e) {
+      log.error("비동기 파라미터 탐색 실패: taskId={}", taskId, e);
+      asyncTaskService.failTask(taskId, "파라미터 탐색 실패: " + e.getMessage());
+    }
+  }
+
   public void executeLLMEvaluation(Long taskId, LLMEvaluationRequest request) {
     try {
       log.info("비동기 LLM 후보군 평가 시작: taskId={}", taskId);
@@ -204,23 +249,33 @@ public class AsyncEvaluationService {
             asyncTaskService.updateProgress(taskId, progress, message);
           };
 
+      LLMJudgmentCacheService.Stats cacheStats = new LLMJudgmentCacheService.Stats();
       if (Boolean.TRUE.equals(request.getEvaluateAllQueries())) {
         asyncTaskService.updateProgress(taskId, 30, "전체 쿼리 LLM 평가 진행 중...");
-        llmCandidateEvaluationService.evaluateAllCandidates(progressCallback);
+        cacheStats = llmCandidateEvaluationService.evaluateAllCandidates(progressCallback);
       } else if (request.getQueryIds() != null && !request.getQueryIds().isEmpty()) {
         int total = request.getQueryIds().size();
         asyncTaskService.updateProgress(
             taskId, 30, String.format("선택된 %d개 쿼리 LLM 평가 진행 중...", total));
-        llmCandidateEvaluationService.evaluateCandidatesForQueries(
-            request.getQueryIds(), progressCallback);
+        cacheStats =
+            llmCandidateEvaluationService.evaluateCandidatesForQueries(
+                request.getQueryIds(), progressCallback);
       }
 
-      asyncTaskService.updateProgress(taskId, 90, "LLM 평가 완료, 결과 정리 중...");
+      asyncTaskService.updateProgress(
+          taskId,
+          90,
+          String.format(
+              "LLM 평가 완료, 결과 정리 중... (판정 캐시 적중 %d/%d)",
+              cacheStats.getHits(), cacheStats.getHits() + cacheStats.getMisses()));
 
       LLMEvaluationResult result =
           LLMEvaluationResult.builder()
               .evaluateAllQueries(request.getEvaluateAllQueries())
               .queryIds(request.getQueryIds())
+              .cacheHits(cacheStats.getHits())
+              .cacheMisses(cacheStats.getMisses())
+              .cacheHitRate(cacheStats.hitRate())
               .build();
 
       asyncTaskService.completeTask(taskId, result);
@@ -309,5 +364,8 @@ public class AsyncEvaluationService {
   public static class LLMEvaluationResult {
     private Boolean evaluateAllQueries;
     private List<Long> queryIds;
+    private int cacheHits;
+    private int cacheMisses;
+    private double cacheHitRate;
   }
 }
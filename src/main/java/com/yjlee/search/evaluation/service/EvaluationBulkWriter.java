@@ -0,0 +1,139 @@
+package com.yjlee.search.evaluation.service;
+
+import com.yjlee.search.evaluation.dto.EvaluationExecuteResponse;
+import com.yjlee.search.evaluation.model.QueryProductMapping;
+import com.yjlee.search.evaluation.model.ReportDocumentType;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 평가 결과, 후보군 대량 저장. IDENTITY 키 엔티티는 Hibernate가 INSERT를 한 건씩 보내므로 JDBC 배치 INSERT로 직접 쓴다.
+ *
+ * <p>트랜잭션 밖에서 호출하면 chunk-size 건마다 커밋하고, 트랜잭션 안에서 호출하면 호출한 트랜잭션에 참여한다.
+ */
+@Slf4j
+@Component
+public class EvaluationBulkWriter {
+
+  private static final String INSERT_DETAIL_SQL =
+      "INSERT INTO evaluation_report_details (report_id, query, relevant_count, retrieved_count,"
+          + " correct_count, precision_at20, recall_at300) VALUES (?, ?, ?, ?, ?, ?, ?)";
+  private static final int[] DETAIL_TYPES = {
+    Types.BIGINT, Types.VARCHAR, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.DOUBLE,
+    Types.DOUBLE
+  };
+
+  private static final String INSERT_DOCUMENT_SQL =
+      "INSERT INTO evaluation_report_documents (report_id, query, product_id, doc_type)"
+          + " VALUES (?, ?, ?, ?)";
+  private static final int[] DOCUMENT_TYPES = {
+    Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR
+  };
+
+  private static final String INSERT_MAPPING_SQL =
+      "INSERT INTO query_product_mappings (evaluation_query_id, product_id, product_name,"
+          + " product_specs, relevance_score, evaluation_reason, evaluation_source, confidence,"
+          + " product_category, search_source) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final int[] MAPPING_TYPES = {
+    Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.INTEGER, Types.VARCHAR,
+    Types.VARCHAR, Types.DOUBLE, Types.VARCHAR, Types.VARCHAR
+  };
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+
+  public EvaluationBulkWriter(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${evaluation.persistence.chunk-size:1000}") int chunkSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = Math.max(1, chunkSize);
+  }
+
+  /** 쿼리별 평가 상세와 MISSING/WRONG 문서 저장. 문서의 상품명/스펙은 조회 시 상품 색인에서 채우므로 저장하지 않는다. */
+  public void insertReportDetails(
+      Long reportId, List<EvaluationExecuteResponse.QueryEvaluationDetail> details) {
+    List<Object[]> detailRows = new ArrayList<>(details.size());
+    List<Object[]> documentRows = new ArrayList<>();
+    for (EvaluationExecuteResponse.QueryEvaluationDetail d : details) {
+      detailRows.add(
+          new Object[] {
+            reportId,
+            d.getQuery(),
+            d.getRelevantCount(),
+            d.getRetrievedCount(),
+            d.getCorrectCount(),
+            d.getPrecisionAt20(),
+            d.getRecallAt300()
+          });
+      addDocumentRows(documentRows, reportId, d, ReportDocumentType.MISSING);
+      addDocumentRows(documentRows, reportId, d, ReportDocumentType.WRONG);
+    }
+
+    long startTime = System.currentTimeMillis();
+    write(INSERT_DETAIL_SQL, DETAIL_TYPES, detailRows);
+    write(INSERT_DOCUMENT_SQL, DOCUMENT_TYPES, documentRows);
+    log.debug(
+        "평가 상세 저장 - 리포트 ID: {}, 상세: {}개, 문서: {}개, 소요시간: {}ms",
+        reportId,
+        detailRows.size(),
+        documentRows.size(),
+        System.currentTimeMillis() - startTime);
+  }
+
+  /** 후보군 저장. 모든 매핑은 ID가 없는 새 행이어야 한다. */
+  public void insertMappings(List<QueryProductMapping> mappings) {
+    List<Object[]> rows = new ArrayList<>(mappings.size());
+    for (QueryProductMapping m : mappings) {
+      rows.add(
+          new Object[] {
+            m.getEvaluationQuery().getId(),
+            m.getProductId(),
+            m.getProductName(),
+            m.getProductSpecs(),
+            m.getRelevanceScore(),
+            m.getEvaluationReason(),
+            m.getEvaluationSource(),
+            m.getConfidence(),
+            m.getProductCategory(),
+            m.getSearchSource()
+          });
+    }
+    write(INSERT_MAPPING_SQL, MAPPING_TYPES, rows);
+  }
+
+  private void addDocumentRows(
+      List<Object[]> rows,
+      Long reportId,
+      EvaluationExecuteResponse.QueryEvaluationDetail detail,
+      ReportDocumentType docType) {
+    List<EvaluationExecuteResponse.DocumentInfo> documents =
+        docType == ReportDocumentType.MISSING
+            ? detail.getMissingDocuments()
+            : detail.getWrongDocuments();
+    if (documents == null) {
+      return;
+    }
+    for (EvaluationExecuteResponse.DocumentInfo doc : documents) {
+      rows.add(
+          new Object[] {reportId, detail.getQuery(), doc.getProductId(), docType.name()});
+    }
+  }
+
+  private void write(String sql, int[] argTypes, List<Object[]> rows) {
+    for (int from = 0; from < rows.size(); from += chunkSize) {
+      List<Object[]> chunk = rows.subList(from, Math.min(from + chunkSize, rows.size()));
+      transactionTemplate.executeWithoutResult(
+          status -> jdbcTemplate.batchUpdate(sql, chunk, argTypes));
+    }
+  }
+}
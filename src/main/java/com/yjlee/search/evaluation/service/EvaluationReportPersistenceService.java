@@ -2,19 +2,20 @@ package com.yjlee.search.evaluation.service;
 
 import com.yjlee.search.evaluation.dto.EvaluationExecuteResponse;
 import com.yjlee.search.evaluation.model.EvaluationReport;
-import com.yjlee.search.evaluation.model.EvaluationReportDetail;
-import com.yjlee.search.evaluation.model.EvaluationReportDocument;
-import com.yjlee.search.evaluation.model.ReportDocumentType;
 import com.yjlee.search.evaluation.repository.EvaluationReportDetailRepository;
 import com.yjlee.search.evaluation.repository.EvaluationReportDocumentRepository;
 import com.yjlee.search.evaluation.repository.EvaluationReportRepository;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 평가 리포트 저장. 평가 시작 시 리포트를 만들고, 쿼리 배치가 끝날 때마다 상세를 나눠 저장한 뒤, 마지막에 평균 지표를 채운다. 평가 중 전체 상세를 메모리에
+ * 모았다가 한 트랜잭션으로 저장하지 않는다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -23,86 +24,19 @@ public class EvaluationReportPersistenceService {
   private final EvaluationReportRepository evaluationReportRepository;
   private final EvaluationReportDetailRepository reportDetailRepository;
   private final EvaluationReportDocumentRepository reportDocumentRepository;
+  private final EvaluationBulkWriter bulkWriter;
 
+  /** 평가 시작 시 빈 리포트 생성. 평균 지표는 {@link #completeReport}에서 채운다. */
   @Transactional
-  public EvaluationReport saveEvaluationResults(
-      String reportName,
-      int totalQueries,
-      double avgRecall300,
-      double avgPrecision20,
-      List<EvaluationExecuteResponse.QueryEvaluationDetail> queryDetails) {
-
-    // 리포트 저장
-    EvaluationReport report =
-        saveEvaluationReport(reportName, totalQueries, avgRecall300, avgPrecision20);
-
-    // 세부 결과를 구조화 테이블에 저장
-    List<EvaluationReportDetail> detailRows = new ArrayList<>();
-    List<EvaluationReportDocument> docRows = new ArrayList<>();
-
-    for (EvaluationExecuteResponse.QueryEvaluationDetail d : queryDetails) {
-      detailRows.add(
-          EvaluationReportDetail.builder()
-              .report(report)
-              .query(d.getQuery())
-              .relevantCount(d.getRelevantCount())
-              .retrievedCount(d.getRetrievedCount())
-              .correctCount(d.getCorrectCount())
-              .precisionAt20(d.getPrecisionAt20())
-              .recallAt300(d.getRecallAt300())
-              .build());
-
-      // MISSING, WRONG 타입만 저장
-      if (d.getMissingDocuments() != null) {
-        for (EvaluationExecuteResponse.DocumentInfo m : d.getMissingDocuments()) {
-          docRows.add(
-              EvaluationReportDocument.builder()
-                  .report(report)
-                  .query(d.getQuery())
-                  .productId(m.getProductId())
-                  .docType(ReportDocumentType.MISSING)
-                  .productName(m.getProductName())
-                  .productSpecs(m.getProductSpecs())
-                  .build());
-        }
-      }
-      if (d.getWrongDocuments() != null) {
-        for (EvaluationExecuteResponse.DocumentInfo w : d.getWrongDocuments()) {
-          docRows.add(
-              EvaluationReportDocument.builder()
-                  .report(report)
-                  .query(d.getQuery())
-                  .productId(w.getProductId())
-                  .docType(ReportDocumentType.WRONG)
-                  .productName(w.getProductName())
-                  .productSpecs(w.getProductSpecs())
-                  .build());
-        }
-      }
-    }
-
-    if (!detailRows.isEmpty()) reportDetailRepository.saveAll(detailRows);
-    if (!docRows.isEmpty()) reportDocumentRepository.saveAll(docRows);
-
-    log.info(
-        "평가 결과 저장 완료: 리포트 ID {}, 상세 {}개, 문서 {}개",
-        report.getId(),
-        detailRows.size(),
-        docRows.size());
-
-    return report;
-  }
-
-  private EvaluationReport saveEvaluationReport(
-      String reportName, int totalQueries, double averageRecall300, double averagePrecision20) {
+  public EvaluationReport createReport(String reportName, int totalQueries) {
     try {
       // JSON은 더 이상 저장하지 않음 (대용량 방지)
       EvaluationReport report =
           EvaluationReport.builder()
               .reportName(reportName)
               .totalQueries(totalQueries)
-              .averageRecall300(averageRecall300)
-              .averagePrecision20(averagePrecision20)
+              .averageRecall300(0.0)
+              .averagePrecision20(0.0)
               .detailedResults(null)
               .build();
 
@@ -115,4 +49,35 @@ public class EvaluationReportPersistenceService {
       throw new RuntimeException("리포트 저장 중 오류가 발생했습니다", e);
     }
   }
+
+  /** 쿼리 배치 하나의 상세 저장. 평가 실행기 스레드에서 배치가 끝날 때마다 호출한다. */
+  public void appendDetails(
+      Long reportId, List<EvaluationExecuteResponse.QueryEvaluationDetail> queryDetails) {
+    if (queryDetails.isEmpty()) {
+      return;
+    }
+    bulkWriter.insertReportDetails(reportId, queryDetails);
+  }
+
+  @Transactional
+  public EvaluationReport completeReport(
+      Long reportId, double avgRecall300, double avgPrecision20) {
+    EvaluationReport report =
+        evaluationReportRepository
+            .findById(reportId)
+            .orElseThrow(() -> new NoSuchElementException("Report not found: " + reportId));
+    report.setAverageRecall300(avgRecall300);
+    report.setAveragePrecision20(avgPrecision20);
+    log.info("평가 결과 저장 완료: 리포트 ID {}", reportId);
+    return report;
+  }
+
+  /** 평가가 중간에 실패한 리포트와 이미 저장된 상세 삭제 */
+  @Transactional
+  public void discardReport(Long reportId) {
+    reportDetailRepository.deleteByReportIdBulk(reportId);
+    reportDocumentRepository.deleteByReportIdBulk(reportId);
+    evaluationReportRepository.deleteById(reportId);
+    log.warn("미완료 평가 리포트 삭제: ID {}", reportId);
+  }
 }
@@ -0,0 +1,274 @@
+package com.yjlee.search.evaluation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yjlee.search.evaluation.dto.EvaluationReportDetailResponse;
+import com.yjlee.search.evaluation.dto.EvaluationReportQueryDocumentsResponse;
+import com.yjlee.search.evaluation.dto.EvaluationReportQueryPageResponse;
+import com.yjlee.search.evaluation.model.EvaluationReportDetail;
+import com.yjlee.search.evaluation.model.EvaluationReportDocument;
+import com.yjlee.search.evaluation.model.ReportDocumentType;
+import com.yjlee.search.evaluation.repository.EvaluationReportDetailRepository;
+import com.yjlee.search.evaluation.repository.EvaluationReportDocumentRepository;
+import com.yjlee.search.evaluation.repository.EvaluationReportRepository;
+import com.yjlee.search.index.dto.ProductDocument;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 대용량 평가 리포트 조회. 쿼리별 요약은 키셋 페이징, 문서 목록은 쿼리 하나씩 필요할 때 조회하고 상품명/스펙은 저장된 행 대신 페이지 단위로 상품 색인에서 한 번에
+ * 채운다. 전체 내보내기는 JDBC 커서에서 바로 NDJSON으로 쓴다.
+ */
+@Slf4j
+@Service
+public class EvaluationReportReadService {
+
+  private static final int DEFAULT_PAGE_SIZE = 100;
+  private static final int MAX_PAGE_SIZE = 1000;
+  private static final int PRODUCT_LOOKUP_CHUNK = 500;
+  private static final int EXPORT_FETCH_SIZE = 1000;
+
+  // 쿼리 상세와 문서를 상세 ID 순으로 조인, 같은 상세의 행은 연속으로 나온다
+  private static final String EXPORT_SQL =
+      "SELECT d.id, d.query, d.relevant_count, d.retrieved_count, d.correct_count,"
+          + " d.precision_at20, d.recall_at300, doc.product_id, doc.doc_type"
+          + " FROM evaluation_report_details d"
+          + " LEFT JOIN evaluation_report_documents doc"
+          + " ON doc.report_id = d.report_id AND doc.query = d.query"
+          + " WHERE d.report_id = ?"
+          + " ORDER BY d.id, doc.id";
+
+  private final EvaluationReportRepository evaluationReportRepository;
+  private final EvaluationReportDetailRepository reportDetailRepository;
+  private final EvaluationReportDocumentRepository reportDocumentRepository;
+  private final ProductBulkFetchService productBulkFetchService;
+  private final ObjectMapper objectMapper;
+  private final JdbcTemplate exportJdbcTemplate;
+  private final TransactionTemplate exportTransactionTemplate;
+
+  public EvaluationReportReadService(
+      EvaluationReportRepository evaluationReportRepository,
+      EvaluationReportDetailRepository reportDetailRepository,
+      EvaluationReportDocumentRepository reportDocumentRepository,
+      ProductBulkFetchService productBulkFetchService,
+      ObjectMapper objectMapper,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager) {
+    this.evaluationReportRepository = evaluationReportRepository;
+    this.reportDetailRepository = reportDetailRepository;
+    this.reportDocumentRepository = reportDocumentRepository;
+    this.productBulkFetchService = productBulkFetchService;
+    this.objectMapper = objectMapper;
+    // PostgreSQL은 트랜잭션 안에서 fetchSize를 지정해야 커서로 나눠 읽는다
+    this.exportJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+    this.exportJdbcTemplate.setFetchSize(EXPORT_FETCH_SIZE);
+    this.exportTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.exportTransactionTemplate.setReadOnly(true);
+  }
+
+  @Transactional(readOnly = true)
+  public EvaluationReportQueryPageResponse getQueryPage(Long reportId, Long cursor, Integer size) {
+    requireReport(reportId);
+    int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    List<EvaluationReportDetail> rows =
+        reportDetailRepository.findByReportIdAndIdGreaterThanOrderByIdAsc(
+            reportId, cursor != null ? cursor : 0L, Limit.of(pageSize + 1));
+
+    boolean hasNext = rows.size() > pageSize;
+    List<EvaluationReportDetail> page = hasNext ? rows.subList(0, pageSize) : rows;
+    List<EvaluationReportQueryPageResponse.QuerySummary> queries = new ArrayList<>(page.size());
+    for (EvaluationReportDetail row : page) {
+      queries.add(
+          EvaluationReportQueryPageResponse.QuerySummary.builder()
+              .id(row.getId())
+              .query(row.getQuery())
+              .relevantCount(row.getRelevantCount())
+              .retrievedCount(row.getRetrievedCount())
+              .correctCount(row.getCorrectCount())
+              .precisionAt20(row.getPrecisionAt20())
+              .recallAt300(row.getRecallAt300())
+              .build());
+    }
+
+    return EvaluationReportQueryPageResponse.builder()
+        .reportId(reportId)
+        .queries(queries)
+        .nextCursor(hasNext ? page.get(page.size() - 1).getId() : null)
+        .build();
+  }
+
+  @Transactional(readOnly = true)
+  public EvaluationReportQueryDocumentsResponse getQueryDocuments(Long reportId, Long detailId) {
+    EvaluationReportDetail detail =
+        reportDetailRepository
+            .findById(detailId)
+            .filter(d -> d.getReport().getId().equals(reportId))
+            .orElseThrow(() -> new NoSuchElementException("Report detail not found: " + detailId));
+
+    List<EvaluationReportDocument> documents =
+        reportDocumentRepository.findByReportIdAndQueryOrderByIdAsc(reportId, detail.getQuery());
+    Map<String, ProductDocument> products = lookupMissingProducts(documents);
+
+    List<EvaluationReportDetailResponse.DocumentInfo> missing = new ArrayList<>();
+    List<EvaluationReportDetailResponse.DocumentInfo> wrong = new ArrayList<>();
+    for (EvaluationReportDocument document : documents) {
+      EvaluationReportDetailResponse.DocumentInfo info = toDocumentInfo(document, products);
+      if (document.getDocType() == ReportDocumentType.MISSING) {
+        missing.add(info);
+      } else {
+        wrong.add(info);
+      }
+    }
+
+    return EvaluationReportQueryDocumentsResponse.builder()
+        .id(detail.getId())
+        .query(detail.getQuery())
+        .missingDocuments(missing)
+        .wrongDocuments(wrong)
+        .build();
+  }
+
+  /** 상품명/스펙이 저장되지 않은 문서의 상품 정보를 한 번에 조회 */
+  public Map<String, ProductDocument> lookupMissingProducts(
+      Collection<EvaluationReportDocument> documents) {
+    Set<String> productIds = new LinkedHashSet<>();
+    for (EvaluationReportDocument document : documents) {
+      if (document.getProductName() == null) {
+        productIds.add(document.getProductId());
+      }
+    }
+    List<String> ids = new ArrayList<>(productIds);
+    Map<String, ProductDocument> products = new HashMap<>();
+    for (int from = 0; from < ids.size(); from += PRODUCT_LOOKUP_CHUNK) {
+      products.putAll(
+          productBulkFetchService.fetchBulk(
+              ids.subList(from, Math.min(from + PRODUCT_LOOKUP_CHUNK, ids.size()))));
+    }
+    return products;
+  }
+
+  public EvaluationReportDetailResponse.DocumentInfo toDocumentInfo(
+      EvaluationReportDocument document, Map<String, ProductDocument> products) {
+    String productName = document.getProductName();
+    String productSpecs = document.getProductSpecs();
+    if (productName == null) {
+      ProductDocument product = products.get(document.getProductId());
+      productName = product != null ? product.getNameRaw() : null;
+      productSpecs = product != null ? product.getSpecsRaw() : null;
+    }
+    return EvaluationReportDetailResponse.DocumentInfo.builder()
+        .productId(document.getProductId())
+        .productName(productName)
+        .productSpecs(productSpecs)
+        .build();
+  }
+
+  /** 리포트 존재 확인. 내보내기 응답을 시작하기 전에 호출해 404를 돌려준다. */
+  @Transactional(readOnly = true)
+  public void requireReport(Long reportId) {
+    if (!evaluationReportRepository.existsById(reportId)) {
+      throw new NoSuchElementException("Report not found: " + reportId);
+    }
+  }
+
+  /** 쿼리 하나당 한 줄 NDJSON. 문서는 상품 ID만 쓴다. */
+  public void exportNdjson(Long reportId, OutputStream outputStream) throws IOException {
+    long startTime = System.currentTimeMillis();
+    Writer writer =
+        new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    NdjsonRowHandler handler = new NdjsonRowHandler(writer);
+    try {
+      exportTransactionTemplate.executeWithoutResult(
+          status -> exportJdbcTemplate.query(EXPORT_SQL, handler, reportId));
+      handler.finish();
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    writer.flush();
+    log.info(
+        "평가 리포트 내보내기 완료 - 리포트 ID: {}, 쿼리: {}개, 소요시간: {}ms",
+        reportId,
+        handler.lineCount,
+        System.currentTimeMillis() - startTime);
+  }
+
+  // 연속된 같은 상세 ID 행을 모아 한 줄로 쓴다. 메모리에는 현재 쿼리 하나만 둔다.
+  private class NdjsonRowHandler implements RowCallbackHandler {
+
+    private final Writer writer;
+    private long currentId = -1;
+    private Map<String, Object> current;
+    private List<String> missing;
+    private List<String> wrong;
+    private int lineCount;
+
+    NdjsonRowHandler(Writer writer) {
+      this.writer = writer;
+    }
+
+    @Override
+    public void processRow(ResultSet rs) throws SQLException {
+      long id = rs.getLong("id");
+      if (id != currentId) {
+        finish();
+        currentId = id;
+        missing = new ArrayList<>();
+        wrong = new ArrayList<>();
+        current = new LinkedHashMap<>();
+        current.put("query", rs.getString("query"));
+        current.put("relevantCount", rs.getObject("relevant_count"));
+        current.put("retrievedCount", rs.getObject("retrieved_count"));
+        current.put("correctCount", rs.getObject("correct_count"));
+        current.put("precisionAt20", rs.getObject("precision_at20"));
+        current.put("recallAt300", rs.getObject("recall_at300"));
+        current.put("missingDocuments", missing);
+        current.put("wrongDocuments", wrong);
+      }
+      String productId = rs.getString("product_id");
+      if (productId != null) {
+        if (ReportDocumentType.MISSING.name().equals(rs.getString("doc_type"))) {
+          missing.add(productId);
+        } else {
+          wrong.add(productId);
+        }
+      }
+    }
+
+    void finish() {
+      if (current == null) {
+        return;
+      }
+      try {
+        writer.write(objectMapper.writeValueAsString(current));
+        writer.write('\n');
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      lineCount++;
+      current = null;
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.yjlee.search.evaluation.service;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import com.yjlee.search.common.enums.EnvironmentType;
+import com.yjlee.search.deployment.service.IndexEnvironmentService;
 import com.yjlee.search.evaluation.dto.EvaluationExecuteResponse;
 import com.yjlee.search.evaluation.dto.EvaluationReportDetailResponse;
 import com.yjlee.search.evaluation.dto.EvaluationReportSummaryResponse;
@@ -9,39 +10,31 @@ import com.yjlee.search.evaluation.model.EvaluationQuery;
 import com.yjlee.search.evaluation.model.EvaluationReport;
 import com.yjlee.search.evaluation.model.EvaluationReportDetail;
 import com.yjlee.search.evaluation.model.EvaluationReportDocument;
-import com.yjlee.search.evaluation.model.QueryProductMapping;
 import com.yjlee.search.evaluation.model.ReportDocumentType;
 import com.yjlee.search.evaluation.repository.EvaluationReportDetailRepository;
 import com.yjlee.search.evaluation.repository.EvaluationReportDocumentRepository;
 import com.yjlee.search.evaluation.repository.EvaluationReportRepository;
-import com.yjlee.search.evaluation.repository.QueryProductMappingRepository;
+import com.yjlee.search.evaluation.service.qrels.Qrels;
+import com.yjlee.search.evaluation.service.qrels.QrelsLoader;
+import com.yjlee.search.evaluation.util.RankingMetrics;
 import com.yjlee.search.index.dto.ProductDocument;
-import com.yjlee.search.search.dto.SearchExecuteResponse;
 import com.yjlee.search.search.dto.SearchMode;
-import com.yjlee.search.search.dto.SearchSimulationRequest;
-import com.yjlee.search.search.service.SearchService;
 import jakarta.annotation.PreDestroy;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -50,14 +43,18 @@ import org.springframework.transaction.annotation.Transactional;
 public class EvaluationReportService {
 
   private final EvaluationQueryService evaluationQueryService;
-  private final QueryProductMappingRepository queryProductMappingRepository;
   private final EvaluationReportRepository evaluationReportRepository;
   private final EvaluationReportDetailRepository reportDetailRepository;
   private final EvaluationReportDocumentRepository reportDocumentRepository;
-  private final SearchService searchService;
   private final ElasticsearchClient elasticsearchClient;
   private final EvaluationReportPersistenceService persistenceService;
   private final ProductBulkFetchService productBulkFetchService;
+  private final EvaluationRetrievalService evaluationRetrievalService;
+  private final EvaluationReportReadService reportReadService;
+  private final QrelsLoader qrelsLoader;
+  private final IndexEnvironmentService environmentService;
+  private final Executor evaluationSearchExecutor;
+  private final int searchBatchSize;
 
   @PreDestroy
   public void shutdown() {
@@ -66,23 +63,31 @@ public class EvaluationReportService {
 
   public EvaluationReportService(
       EvaluationQueryService evaluationQueryService,
-      QueryProductMappingRepository queryProductMappingRepository,
       EvaluationReportRepository evaluationReportRepository,
       EvaluationReportDetailRepository reportDetailRepository,
       EvaluationReportDocumentRepository reportDocumentRepository,
-      SearchService searchService,
       ElasticsearchClient elasticsearchClient,
       EvaluationReportPersistenceService persistenceService,
-      ProductBulkFetchService productBulkFetchService) {
+      ProductBulkFetchService productBulkFetchService,
+      EvaluationRetrievalService evaluationRetrievalService,
+      EvaluationReportReadService reportReadService,
+      QrelsLoader qrelsLoader,
+      IndexEnvironmentService environmentService,
+      @Qualifier("evaluationSearchExecutor") Executor evaluationSearchExecutor,
+      @Value("${evaluation.search.batch-size:20}") int searchBatchSize) {
     this.evaluationQueryService = evaluationQueryService;
-    this.queryProductMappingRepository = queryProductMappingRepository;
     this.evaluationReportRepository = evaluationReportRepository;
     this.reportDetailRepository = reportDetailRepository;
     this.reportDocumentRepository = reportDocumentRepository;
-    this.searchService = searchService;
     this.elasticsearchClient = elasticsearchClient;
     this.persistenceService = persistenceService;
     this.productBulkFetchService = productBulkFetchService;
+    this.evaluationRetrievalService = evaluationRetrievalService;
+    this.reportReadService = reportReadService;
+    this.qrelsLoader = qrelsLoader;
+    this.environmentService = environmentService;
+    this.evaluationSearchExecutor = evaluationSearchExecutor;
+    this.searchBatchSize = Math.max(1, searchBatchSize);
   }
 
   private static final int DEFAULT_RETRIEVAL_SIZE = 300;
@@ -102,355 +107,268 @@ public class EvaluationReportService {
         "평가 실행 시작: {}, 검색 결과 개수: {}, 검색모드: {}", reportName, DEFAULT_RETRIEVAL_SIZE, searchMode);
 
     List<EvaluationQuery> queries = evaluationQueryService.getAllQueries();
+    String indexName = environmentService.getEnvironment(EnvironmentType.DEV).getIndexName();
+    Qrels qrels = qrelsLoader.loadAll();
+    Long reportId = persistenceService.createReport(reportName, queries.size()).getId();
+    try {
+      return runEvaluation(
+          reportName,
+          reportId,
+          queries,
+          indexName,
+          qrels,
+          searchMode,
+          rrfK,
+          hybridTopK,
+          progressCallback);
+    } catch (RuntimeException e) {
+      persistenceService.discardReport(reportId);
+      throw e;
+    }
+  }
 
-    // 캐시 제거 - 직접 조회 방식 사용
-
-    List<EvaluationExecuteResponse.QueryEvaluationDetail> queryDetails = new ArrayList<>();
-
-    double totalRecall300 = 0.0; // Recall@300
-    double totalPrecision20 = 0.0; // Precision@20
-
-    // Thread-safe 리스트 사용으로 스레드 안전성 확보
-    List<EvaluationExecuteResponse.QueryEvaluationDetail> synchronizedQueryDetails =
-        new CopyOnWriteArrayList<>();
-
-    // 진행률 추적을 위한 AtomicInteger
+  private EvaluationExecuteResponse runEvaluation(
+      String reportName,
+      Long reportId,
+      List<EvaluationQuery> queries,
+      String indexName,
+      Qrels qrels,
+      SearchMode searchMode,
+      Integer rrfK,
+      Integer hybridTopK,
+      ProgressCallback progressCallback) {
+    // 쿼리를 msearch 배치로 나눠 평가 전용 실행기에서 처리, 배치가 끝날 때마다 상세 저장
     AtomicInteger completed = new AtomicInteger(0);
     int totalQueries = queries.size();
+    List<CompletableFuture<List<EvaluationExecuteResponse.QueryEvaluationDetail>>> futures =
+        new ArrayList<>();
+    for (int from = 0; from < totalQueries; from += searchBatchSize) {
+      List<EvaluationQuery> batch =
+          queries.subList(from, Math.min(from + searchBatchSize, totalQueries));
+      CompletableFuture<List<EvaluationExecuteResponse.QueryEvaluationDetail>> future =
+          CompletableFuture.supplyAsync(
+              () -> {
+                List<EvaluationExecuteResponse.QueryEvaluationDetail> details =
+                    evaluateBatch(indexName, qrels, batch, searchMode, rrfK, hybridTopK);
+                persistDetails(reportId, details);
+                return details;
+              },
+              evaluationSearchExecutor);
+      // 각 배치 완료시 진행률 업데이트
+      future.whenComplete(
+          (result, ex) -> {
+            int done = completed.addAndGet(batch.size());
+            if (progressCallback != null) {
+              int progress = 10 + (done * 80 / totalQueries);
+              progressCallback.updateProgress(
+                  progress, String.format("평가 진행 중: %d/%d 쿼리 완료", done, totalQueries));
+            }
+          });
+      futures.add(future);
+    }
 
-    // 병렬 처리로 성능 개선
-    List<CompletableFuture<EvaluationExecuteResponse.QueryEvaluationDetail>> futures =
-        queries.stream()
-            .map(
-                query -> {
-                  CompletableFuture<EvaluationExecuteResponse.QueryEvaluationDetail> future =
-                      CompletableFuture.supplyAsync(
-                          () -> evaluateQuery(query.getQuery(), searchMode, rrfK, hybridTopK));
-                  // 각 쿼리 완료시 진행률 업데이트
-                  future.whenComplete(
-                      (result, ex) -> {
-                        int done = completed.incrementAndGet();
-                        if (progressCallback != null) {
-                          int progress = 10 + (done * 80 / totalQueries);
-                          progressCallback.updateProgress(
-                              progress, String.format("평가 진행 중: %d/%d 쿼리 완료", done, totalQueries));
-                        }
-                      });
-                  return future;
-                })
-            .collect(Collectors.toList());
-
-    // 모든 작업 완료 대기 및 결과 수집
+    // 모든 배치 완료 대기
     try {
       CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
           .get(1800, TimeUnit.SECONDS); // 30분 타임아웃
-
-      for (CompletableFuture<EvaluationExecuteResponse.QueryEvaluationDetail> future : futures) {
-        try {
-          EvaluationExecuteResponse.QueryEvaluationDetail detail = future.get();
-          if (detail != null) {
-            synchronizedQueryDetails.add(detail);
-          }
-        } catch (Exception e) {
-          log.warn("쿼리 평가 결과 수집 실패", e);
-        }
-      }
     } catch (Exception e) {
-      log.error("병렬 처리 완료 대기 실패", e);
+      log.error("평가 배치 완료 대기 실패", e);
     }
 
-    // 결과 수집 (동기화된 리스트에서)
-    queryDetails.addAll(synchronizedQueryDetails);
+    // 결과 수집 (쿼리 순서 유지)
+    List<EvaluationExecuteResponse.QueryEvaluationDetail> queryDetails = new ArrayList<>();
+    for (CompletableFuture<List<EvaluationExecuteResponse.QueryEvaluationDetail>> future :
+        futures) {
+      try {
+        queryDetails.addAll(future.getNow(List.of()));
+      } catch (Exception e) {
+        log.warn("평가 배치 결과 수집 실패", e);
+      }
+    }
 
-    // 각 쿼리마다 메트릭 계산해서 합산 및 detail에 저장
+    double totalRecall300 = 0.0; // Recall@300
+    double totalPrecision20 = 0.0; // Precision@20
+    double totalNdcg20 = 0.0; // NDCG@20
+    double totalMrr10 = 0.0; // MRR@10
+    double totalAveragePrecision = 0.0; // AP@300
     for (EvaluationExecuteResponse.QueryEvaluationDetail detail : queryDetails) {
-      String query = detail.getQuery();
-      // 정답셋 직접 조회
-      Set<String> relevantDocs = getRelevantDocuments(query);
-      // Recall@300 계산을 위해 항상 300개 검색
-      int searchSize = 300;
-      List<String> retrievedDocs =
-          getRetrievedDocumentsOrdered(query, searchMode, rrfK, hybridTopK, searchSize);
-
-      // Recall@300
-      double recall300 = computeRecallAtK(retrievedDocs, relevantDocs, 300);
-      totalRecall300 += recall300;
-      detail.setRecallAt300(recall300);
-
-      // Precision@20
-      double precision20 = computePrecisionAtK(retrievedDocs, relevantDocs, 20);
-      totalPrecision20 += precision20;
-      detail.setPrecisionAt20(precision20);
+      totalRecall300 += detail.getRecallAt300();
+      totalPrecision20 += detail.getPrecisionAt20();
+      totalNdcg20 += detail.getNdcgAt20();
+      totalMrr10 += detail.getMrrAt10();
+      totalAveragePrecision += detail.getAveragePrecision();
     }
 
     double avgRecall300 = queries.isEmpty() ? 0.0 : totalRecall300 / queries.size();
     double avgPrecision20 = queries.isEmpty() ? 0.0 : totalPrecision20 / queries.size();
+    double avgNdcg20 = queries.isEmpty() ? 0.0 : totalNdcg20 / queries.size();
+    double avgMrr10 = queries.isEmpty() ? 0.0 : totalMrr10 / queries.size();
+    double map300 = queries.isEmpty() ? 0.0 : totalAveragePrecision / queries.size();
 
-    // 트랜잭션 내에서 DB 저장 처리 (외부 서비스 호출)
     EvaluationReport report =
-        persistenceService.saveEvaluationResults(
-            reportName, queries.size(), avgRecall300, avgPrecision20, queryDetails);
+        persistenceService.completeReport(reportId, avgRecall300, avgPrecision20);
 
     log.info(
-        "평가 실행 완료: Recall@300={}, Precision@20={}",
+        "평가 실행 완료: Recall@300={}, Precision@20={}, NDCG@20={}, MRR@10={}, MAP={}",
         String.format("%.3f", avgRecall300),
-        String.format("%.3f", avgPrecision20));
-
-    // 캐시 제거됨
+        String.format("%.3f", avgPrecision20),
+        String.format("%.3f", avgNdcg20),
+        String.format("%.3f", avgMrr10),
+        String.format("%.3f", map300));
 
     return EvaluationExecuteResponse.builder()
         .reportId(report.getId())
         .reportName(reportName)
         .recall300(avgRecall300)
         .precision20(avgPrecision20)
+        .ndcg20(avgNdcg20)
+        .mrr10(avgMrr10)
+        .map300(map300)
         .totalQueries(queries.size())
         .queryDetails(queryDetails)
         .createdAt(report.getCreatedAt())
         .build();
   }
 
+  private void persistDetails(
+      Long reportId, List<EvaluationExecuteResponse.QueryEvaluationDetail> details) {
+    try {
+      persistenceService.appendDetails(reportId, details);
+    } catch (Exception e) {
+      // 저장 실패는 해당 배치 상세만 누락, 평균 지표 계산은 계속
+      log.error("평가 상세 저장 실패 - 리포트 ID: {}, 쿼리 {}건", reportId, details.size(), e);
+    }
+  }
+
   public EvaluationExecuteResponse.QueryEvaluationDetail evaluateQuery(String query) {
     return evaluateQuery(query, SearchMode.KEYWORD_ONLY, 60, 100);
   }
 
   public EvaluationExecuteResponse.QueryEvaluationDetail evaluateQuery(
       String query, SearchMode searchMode, Integer rrfK, Integer hybridTopK) {
-    // 정답셋 직접 조회
-    Set<String> relevantDocs = getRelevantDocuments(query);
-    // Recall@300 계산을 위해 항상 300개 검색
-    int searchSize = 300;
+    String indexName = environmentService.getEnvironment(EnvironmentType.DEV).getIndexName();
     List<String> retrievedDocs =
-        getRetrievedDocumentsOrdered(query, searchMode, rrfK, hybridTopK, searchSize); // 순서 유지
-    Set<String> retrievedSet = new LinkedHashSet<>(retrievedDocs);
-    Set<String> correctDocs = getIntersection(relevantDocs, retrievedSet);
-
-    List<String> missingIds =
-        relevantDocs.stream()
-            .filter(doc -> !retrievedSet.contains(doc))
-            .collect(Collectors.toList());
-
-    List<String> wrongIds =
-        retrievedDocs.stream()
-            .filter(doc -> !relevantDocs.contains(doc))
-            .collect(Collectors.toList());
-
-    // MISSING과 WRONG 문서들의 정보만 구성 (캐시에서 가져오기)
-    Set<String> docIdsToFetch = new HashSet<>();
-    docIdsToFetch.addAll(missingIds);
-    docIdsToFetch.addAll(wrongIds);
-    Map<String, ProductDocument> productMap = getProductsBulk(new ArrayList<>(docIdsToFetch));
-
-    List<EvaluationExecuteResponse.DocumentInfo> missingDocs =
-        missingIds.stream()
-            .map(
-                id -> {
-                  ProductDocument p = productMap.get(id);
-                  return EvaluationExecuteResponse.DocumentInfo.builder()
-                      .productId(id)
-                      .productName(p != null ? p.getNameRaw() : null)
-                      .productSpecs(p != null ? p.getSpecsRaw() : null)
-                      .build();
-                })
-            .toList();
-
-    List<EvaluationExecuteResponse.DocumentInfo> wrongDocs =
-        wrongIds.stream()
-            .map(
-                id -> {
-                  ProductDocument p = productMap.get(id);
-                  return EvaluationExecuteResponse.DocumentInfo.builder()
-                      .productId(id)
-                      .productName(p != null ? p.getNameRaw() : null)
-                      .productSpecs(p != null ? p.getSpecsRaw() : null)
-                      .build();
-                })
-            .toList();
-
-    return EvaluationExecuteResponse.QueryEvaluationDetail.builder()
-        .query(query)
-        .relevantCount(relevantDocs.size())
-        .retrievedCount(retrievedDocs.size())
-        .correctCount(correctDocs.size())
-        .missingDocuments(missingDocs)
-        .wrongDocuments(wrongDocs)
-        .build();
-  }
+        retrieveRankedIds(indexName, List.of(query), searchMode, rrfK, hybridTopK).get(0);
 
-  private double computeMrrAtK(List<String> retrievedOrder, Set<String> relevantSet, int k) {
-    int limit = Math.min(k, retrievedOrder.size());
-    for (int i = 0; i < limit; i++) {
-      if (relevantSet.contains(retrievedOrder.get(i))) {
-        return 1.0 / (i + 1);
-      }
-    }
-    return 0.0;
-  }
-
-  private double computeRecallAtK(List<String> retrievedOrder, Set<String> relevantSet, int k) {
-    if (relevantSet == null || relevantSet.isEmpty()) return 0.0;
-    int limit = Math.min(k, retrievedOrder.size());
-    int hits = 0;
-    for (int i = 0; i < limit; i++) {
-      if (relevantSet.contains(retrievedOrder.get(i))) hits++;
+    Optional<EvaluationQuery> evaluationQuery = evaluationQueryService.findByQuery(query);
+    if (evaluationQuery.isEmpty()) {
+      log.warn("평가 쿼리를 찾을 수 없습니다: {}", query);
     }
-    return (double) hits / relevantSet.size();
+    Qrels qrels = evaluationQuery.map(qrelsLoader::load).orElseGet(() -> Qrels.builder().build());
+    Qrels.Judgments judgments =
+        qrels.judgments(evaluationQuery.map(EvaluationQuery::getId).orElse(null));
+    return buildDetails(qrels, List.of(query), List.of(judgments), List.of(retrievedDocs)).get(0);
   }
 
-  private double computePrecisionAtK(List<String> retrievedOrder, Set<String> relevantSet, int k) {
-    if (retrievedOrder == null || retrievedOrder.isEmpty()) return 0.0;
-    int limit = Math.min(k, retrievedOrder.size());
-    int hits = 0;
-    for (int i = 0; i < limit; i++) {
-      if (relevantSet.contains(retrievedOrder.get(i))) hits++;
-    }
-    // 분모를 항상 k로 고정하여 엄격한 평가
-    return (double) hits / k;
+  // 배치 하나 평가: 검색은 msearch 한 번, 지표는 모두 같은 순위 목록으로 계산
+  private List<EvaluationExecuteResponse.QueryEvaluationDetail> evaluateBatch(
+      String indexName,
+      Qrels qrels,
+      List<EvaluationQuery> batch,
+      SearchMode searchMode,
+      Integer rrfK,
+      Integer hybridTopK) {
+    List<String> queryTexts = batch.stream().map(EvaluationQuery::getQuery).toList();
+    List<List<String>> rankedIds =
+        retrieveRankedIds(indexName, queryTexts, searchMode, rrfK, hybridTopK);
+    List<Qrels.Judgments> judgments =
+        batch.stream().map(query -> qrels.judgments(query.getId())).toList();
+    return buildDetails(qrels, queryTexts, judgments, rankedIds);
   }
 
-  private double computeAveragePrecision(List<String> retrievedOrder, Set<String> relevantSet) {
-    if (relevantSet == null || relevantSet.isEmpty()) return 0.0;
-    int hits = 0;
-    double sumPrecision = 0.0;
-    for (int i = 0; i < retrievedOrder.size(); i++) {
-      if (relevantSet.contains(retrievedOrder.get(i))) {
-        hits++;
-        sumPrecision += (double) hits / (i + 1);
-      }
+  private List<List<String>> retrieveRankedIds(
+      String indexName,
+      List<String> queries,
+      SearchMode searchMode,
+      Integer rrfK,
+      Integer hybridTopK) {
+    try {
+      return evaluationRetrievalService.retrieveRankedIds(
+          indexName,
+          EnvironmentType.DEV,
+          queries,
+          searchMode,
+          rrfK,
+          hybridTopK,
+          DEFAULT_RETRIEVAL_SIZE);
+    } catch (Exception e) {
+      // 검색 실패 시 해당 배치는 빈 결과로 평가
+      log.error("평가 검색 실패 - 쿼리 {}건: {}", queries.size(), queries, e);
+      return queries.stream().map(query -> List.<String>of()).toList();
     }
-    return hits == 0 ? 0.0 : (sumPrecision / relevantSet.size());
   }
 
-  private double computeNdcg(List<String> retrievedOrder, Set<String> relevantSet) {
-    if (retrievedOrder == null || retrievedOrder.isEmpty()) return 0.0;
-    if (relevantSet == null || relevantSet.isEmpty()) return 0.0;
-
-    // DCG 계산: 정답셋에 있으면 1, 없으면 0
-    double dcg = 0.0;
-    for (int i = 0; i < retrievedOrder.size(); i++) {
-      String pid = retrievedOrder.get(i);
-      int rel = relevantSet.contains(pid) ? 1 : 0;
-      if (rel > 0) {
-        dcg += (Math.pow(2.0, rel) - 1.0) / (Math.log(i + 2) / Math.log(2));
+  private List<EvaluationExecuteResponse.QueryEvaluationDetail> buildDetails(
+      Qrels qrels,
+      List<String> queries,
+      List<Qrels.Judgments> judgments,
+      List<List<String>> rankedIds) {
+    List<int[]> gains = new ArrayList<>(queries.size());
+    List<List<String>> missingIds = new ArrayList<>(queries.size());
+    List<List<String>> wrongIds = new ArrayList<>(queries.size());
+    Set<String> docIdsToFetch = new HashSet<>();
+    for (int i = 0; i < queries.size(); i++) {
+      List<String> retrievedDocs = rankedIds.get(i);
+      int[] rankedOrdinals = qrels.toOrdinals(retrievedDocs);
+      int[] queryGains = judgments.get(i).gains(rankedOrdinals);
+
+      List<String> missing = new ArrayList<>();
+      for (int ordinal : judgments.get(i).missing(rankedOrdinals)) {
+        missing.add(qrels.productId(ordinal));
       }
-    }
-
-    // IDCG 계산: 이상적인 순서 (정답을 먼저 배치)
-    // 올바른 방법: min(검색결과크기, 관련문서크기)개의 1을 상위에 배치
-    int k = retrievedOrder.size();
-    int numRelevant = relevantSet.size();
-    int numIdealOnes = Math.min(k, numRelevant);
-
-    List<Integer> ideal = new ArrayList<>();
-    // 상위 numIdealOnes개는 1로 채움
-    for (int i = 0; i < numIdealOnes; i++) {
-      ideal.add(1);
-    }
-    // 나머지는 0으로 채움
-    for (int i = numIdealOnes; i < k; i++) {
-      ideal.add(0);
-    }
-
-    double idcg = 0.0;
-    for (int i = 0; i < ideal.size(); i++) {
-      int rel = ideal.get(i);
-      if (rel > 0) {
-        idcg += (Math.pow(2.0, rel) - 1.0) / (Math.log(i + 2) / Math.log(2));
+      List<String> wrong = new ArrayList<>();
+      for (int rank = 0; rank < queryGains.length; rank++) {
+        if (queryGains[rank] == 0) {
+          wrong.add(retrievedDocs.get(rank));
+        }
       }
+      gains.add(queryGains);
+      missingIds.add(missing);
+      wrongIds.add(wrong);
+      docIdsToFetch.addAll(missing);
+      docIdsToFetch.addAll(wrong);
     }
 
-    if (idcg == 0.0) return 0.0;
-    return dcg / idcg;
-  }
-
-  private Set<String> getRelevantDocuments(String query) {
-    Optional<EvaluationQuery> evaluationQueryOpt = evaluationQueryService.findByQuery(query);
-    if (evaluationQueryOpt.isEmpty()) {
-      log.warn("평가 쿼리를 찾을 수 없습니다: {}", query);
-      return Collections.emptySet();
-    }
-
-    List<QueryProductMapping> mappings =
-        queryProductMappingRepository.findByEvaluationQueryAndRelevanceScoreGreaterThanEqual(
-            evaluationQueryOpt.get(), 1);
-    return mappings.stream().map(QueryProductMapping::getProductId).collect(Collectors.toSet());
-  }
-
-  private Set<String> getRetrievedDocuments(String query) {
-    try {
-      log.info("DEV 환경 검색 API 호출: {}, 검색 결과 개수: {}", query, DEFAULT_RETRIEVAL_SIZE);
-
-      // DEV 환경 시뮬레이션 검색 요청 생성
-      SearchSimulationRequest searchRequest = new SearchSimulationRequest();
-      searchRequest.setEnvironmentType(EnvironmentType.DEV);
-      searchRequest.setQuery(query);
-      searchRequest.setPage(0);
-      searchRequest.setSize(DEFAULT_RETRIEVAL_SIZE); // 고정 300개 조회
-      searchRequest.setExplain(false);
-
-      // 시뮬레이션 검색 API 호출
-      SearchExecuteResponse searchResponse = searchService.searchProductsSimulation(searchRequest);
-
-      // 검색 결과에서 상품 ID 추출
-      Set<String> retrievedProductIds =
-          searchResponse.getHits().getData().stream()
-              .map(product -> product.getId())
-              .collect(Collectors.toCollection(LinkedHashSet::new));
-
-      log.info("검색 결과: {} 개 상품 조회", retrievedProductIds.size());
-      return retrievedProductIds;
-
-    } catch (Exception e) {
-      log.error("검색 API 호출 실패: {}", query, e);
-      // 검색 실패 시 빈 셋 반환
-      return new HashSet<>();
-    }
-  }
-
-  // 순서를 보존한 검색 결과 목록
-  private List<String> getRetrievedDocumentsOrdered(String query) {
-    return getRetrievedDocumentsOrdered(
-        query, SearchMode.KEYWORD_ONLY, 60, 100, DEFAULT_RETRIEVAL_SIZE);
-  }
-
-  private List<String> getRetrievedDocumentsOrdered(
-      String query, SearchMode searchMode, Integer rrfK, Integer hybridTopK) {
-    return getRetrievedDocumentsOrdered(
-        query, searchMode, rrfK, hybridTopK, DEFAULT_RETRIEVAL_SIZE);
-  }
-
-  private List<String> getRetrievedDocumentsOrdered(
-      String query, SearchMode searchMode, Integer rrfK, Integer hybridTopK, int size) {
-    try {
-      log.info("DEV 환경 검색 API 호출(ordered): {}, 검색 결과 개수: {}", query, size);
-
-      SearchSimulationRequest searchRequest = new SearchSimulationRequest();
-      searchRequest.setEnvironmentType(EnvironmentType.DEV);
-      searchRequest.setQuery(query);
-      searchRequest.setPage(0);
-      searchRequest.setSize(size);
-      searchRequest.setExplain(false);
-      searchRequest.setSearchMode(searchMode);
-      searchRequest.setRrfK(rrfK);
-      searchRequest.setHybridTopK(hybridTopK);
-
-      SearchExecuteResponse searchResponse = searchService.searchProductsSimulation(searchRequest);
-
-      List<String> retrievedProductIds =
-          searchResponse.getHits().getData().stream().map(product -> product.getId()).toList();
-
-      log.info("검색 결과(ordered): {} 개 상품 조회", retrievedProductIds.size());
-      return retrievedProductIds;
+    // MISSING과 WRONG 문서 정보는 배치 단위로 한 번에 조회
+    Map<String, ProductDocument> productMap = getProductsBulk(new ArrayList<>(docIdsToFetch));
 
-    } catch (Exception e) {
-      log.error("검색 API 호출 실패(ordered): {}", query, e);
-      return Collections.emptyList();
+    List<EvaluationExecuteResponse.QueryEvaluationDetail> details =
+        new ArrayList<>(queries.size());
+    for (int i = 0; i < queries.size(); i++) {
+      int[] queryGains = gains.get(i);
+      Qrels.Judgments queryJudgments = judgments.get(i);
+      int relevantCount = queryJudgments.size();
+      details.add(
+          EvaluationExecuteResponse.QueryEvaluationDetail.builder()
+              .query(queries.get(i))
+              .relevantCount(relevantCount)
+              .retrievedCount(queryGains.length)
+              .correctCount(queryGains.length - wrongIds.get(i).size())
+              .recallAt300(RankingMetrics.recallAtK(queryGains, relevantCount, 300))
+              .precisionAt20(RankingMetrics.precisionAtK(queryGains, 20))
+              .ndcgAt20(RankingMetrics.ndcgAtK(queryGains, queryJudgments.idealGains(), 20))
+              .mrrAt10(RankingMetrics.mrrAtK(queryGains, 10))
+              .averagePrecision(RankingMetrics.averagePrecision(queryGains, relevantCount))
+              .missingDocuments(toDocumentInfos(missingIds.get(i), productMap))
+              .wrongDocuments(toDocumentInfos(wrongIds.get(i), productMap))
+              .build());
     }
+    return details;
   }
 
-  private Set<String> getIntersection(Set<String> set1, Set<String> set2) {
-    Set<String> intersection = new HashSet<>(set1);
-    intersection.retainAll(set2);
-    return intersection;
+  private List<EvaluationExecuteResponse.DocumentInfo> toDocumentInfos(
+      List<String> productIds, Map<String, ProductDocument> productMap) {
+    return productIds.stream()
+        .map(
+            id -> {
+              ProductDocument p = productMap.get(id);
+              return EvaluationExecuteResponse.DocumentInfo.builder()
+                  .productId(id)
+                  .productName(p != null ? p.getNameRaw() : null)
+                  .productSpecs(p != null ? p.getSpecsRaw() : null)
+                  .build();
+            })
+        .toList();
   }
 
   @Transactional(readOnly = true)
@@ -503,27 +421,22 @@ public class EvaluationReportService {
     List<EvaluationReportDocument> wrong =
         reportDocumentRepository.findByReportAndDocType(report, ReportDocumentType.WRONG);
 
+    // 저장되지 않은 상품명/스펙은 상품 색인에서 한 번에 조회
+    List<EvaluationReportDocument> allDocuments = new ArrayList<>(miss);
+    allDocuments.addAll(wrong);
+    Map<String, ProductDocument> products = reportReadService.lookupMissingProducts(allDocuments);
+
     Map<String, List<EvaluationReportDetailResponse.DocumentInfo>> missingByQuery = new HashMap<>();
     for (EvaluationReportDocument d : miss) {
       missingByQuery
           .computeIfAbsent(d.getQuery(), k -> new ArrayList<>())
-          .add(
-              EvaluationReportDetailResponse.DocumentInfo.builder()
-                  .productId(d.getProductId())
-                  .productName(d.getProductName())
-                  .productSpecs(d.getProductSpecs())
-                  .build());
+          .add(reportReadService.toDocumentInfo(d, products));
     }
     Map<String, List<EvaluationReportDetailResponse.DocumentInfo>> wrongByQuery = new HashMap<>();
     for (EvaluationReportDocument d : wrong) {
       wrongByQuery
           .computeIfAbsent(d.getQuery(), k -> new ArrayList<>())
-          .add(
-              EvaluationReportDetailResponse.DocumentInfo.builder()
-                  .productId(d.getProductId())
-                  .productName(d.getProductName())
-                  .productSpecs(d.getProductSpecs())
-                  .build());
+          .add(reportReadService.toDocumentInfo(d, products));
     }
 
     List<EvaluationReportDetailResponse.QueryDetail> details = new ArrayList<>();
@@ -581,124 +494,10 @@ public class EvaluationReportService {
     }
   }
 
-  // 저장용 상세 생성: 상품명/스펙 포함
-  private List<PersistedQueryEvaluationDetail> buildPersistedDetails(
-      List<EvaluationQuery> queries, Integer retrievalSize) {
-    List<PersistedQueryEvaluationDetail> out = new ArrayList<>();
-    for (EvaluationQuery q : queries) {
-      try {
-        Set<String> relevant = getRelevantDocuments(q.getQuery());
-        Set<String> retrieved = getRetrievedDocuments(q.getQuery());
-        Set<String> correct = getIntersection(relevant, retrieved);
-        List<String> missingIds = relevant.stream().filter(id -> !retrieved.contains(id)).toList();
-        List<String> wrongIds = retrieved.stream().filter(id -> !relevant.contains(id)).toList();
-
-        Map<String, ProductDocument> productMap =
-            getProductsBulk(new ArrayList<>(union(missingIds, wrongIds)));
-
-        List<PersistedDocumentInfo> missingDocs =
-            missingIds.stream()
-                .map(
-                    id -> {
-                      ProductDocument p = productMap.get(id);
-                      return PersistedDocumentInfo.builder()
-                          .productId(id)
-                          .productName(p != null ? p.getNameRaw() : null)
-                          .productSpecs(p != null ? p.getSpecsRaw() : null)
-                          .build();
-                    })
-                .toList();
-
-        List<PersistedDocumentInfo> wrongDocs =
-            wrongIds.stream()
-                .map(
-                    id -> {
-                      ProductDocument p = productMap.get(id);
-                      return PersistedDocumentInfo.builder()
-                          .productId(id)
-                          .productName(p != null ? p.getNameRaw() : null)
-                          .productSpecs(p != null ? p.getSpecsRaw() : null)
-                          .build();
-                    })
-                .toList();
-
-        // 지표 계산
-        List<String> retrievedList = new ArrayList<>(retrieved);
-        double ndcg = computeNdcg(retrievedList, relevant);
-        double ndcgAt10 =
-            computeNdcg(retrievedList.subList(0, Math.min(10, retrievedList.size())), relevant);
-        double ndcgAt20 =
-            computeNdcg(retrievedList.subList(0, Math.min(20, retrievedList.size())), relevant);
-        double mrrAt10 = computeMrrAtK(retrievedList, relevant, 10);
-        double recallAt50 = computeRecallAtK(retrievedList, relevant, 50);
-        double averagePrecision = computeAveragePrecision(retrievedList, relevant);
-        double recallAt300 = computeRecallAtK(retrievedList, relevant, 300);
-
-        out.add(
-            PersistedQueryEvaluationDetail.builder()
-                .query(q.getQuery())
-                .ndcg(ndcg)
-                .relevantCount(relevant.size())
-                .retrievedCount(retrieved.size())
-                .correctCount(correct.size())
-                .missingDocuments(missingDocs)
-                .wrongDocuments(wrongDocs)
-                .ndcgAt10(ndcgAt10)
-                .ndcgAt20(ndcgAt20)
-                .mrrAt10(mrrAt10)
-                .recallAt50(recallAt50)
-                .averagePrecision(averagePrecision)
-                .recallAt300(recallAt300)
-                .build());
-      } catch (Exception e) {
-        log.warn("저장용 상세 생성 실패: {}", q.getQuery(), e);
-      }
-    }
-    return out;
-  }
-
-  private List<String> union(List<String> a, List<String> b) {
-    List<String> u = new ArrayList<>(a);
-    for (String x : b) if (!u.contains(x)) u.add(x);
-    return u;
-  }
-
   private Map<String, ProductDocument> getProductsBulk(List<String> productIds) {
     if (productIds == null || productIds.isEmpty()) {
       return new HashMap<>();
     }
     return productBulkFetchService.fetchBulk(productIds, EnvironmentType.DEV);
   }
-
-  @Getter
-  @Setter
-  @Builder
-  @NoArgsConstructor
-  @AllArgsConstructor
-  private static class PersistedDocumentInfo {
-    private String productId;
-    private String productName;
-    private String productSpecs;
-  }
-
-  @Getter
-  @Setter
-  @Builder
-  @NoArgsConstructor
-  @AllArgsConstructor
-  private static class PersistedQueryEvaluationDetail {
-    private String query;
-    private Double ndcg;
-    private Double ndcgAt10;
-    private Double ndcgAt20;
-    private Double mrrAt10;
-    private Double recallAt50;
-    private Double averagePrecision;
-    private Double recallAt300;
-    private Integer relevantCount;
-    private Integer retrievedCount;
-    private Integer correctCount;
-    private List<PersistedDocumentInfo> missingDocuments;
-    private List<PersistedDocumentInfo> wrongDocuments;
-  }
 }
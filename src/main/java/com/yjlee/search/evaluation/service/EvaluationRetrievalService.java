@@ -0,0 +1,366 @@
+package com.yjlee.search.evaluation.service;
+
+import static com.yjlee.search.evaluation.constants.EvaluationConstants.SEARCH_SOURCE_BIGRAM;
+import static com.yjlee.search.evaluation.constants.EvaluationConstants.SEARCH_SOURCE_BM25;
+import static com.yjlee.search.evaluation.constants.EvaluationConstants.SEARCH_SOURCE_VECTOR;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import co.elastic.clients.elasticsearch.core.MsearchRequest;
+import co.elastic.clients.elasticsearch.core.MsearchResponse;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResponseItem;
+import co.elastic.clients.elasticsearch.core.msearch.RequestItem;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.yjlee.search.common.constants.ESFields;
+import com.yjlee.search.common.enums.EnvironmentType;
+import com.yjlee.search.evaluation.service.sweep.RawRankings;
+import com.yjlee.search.evaluation.util.CandidatePool;
+import com.yjlee.search.search.constants.SearchBoostConstants;
+import com.yjlee.search.search.constants.SearchConstants;
+import com.yjlee.search.search.constants.VectorSearchConstants;
+import com.yjlee.search.search.dto.SearchExecuteRequest;
+import com.yjlee.search.search.dto.SearchMode;
+import com.yjlee.search.search.service.RRFScorer;
+import com.yjlee.search.search.service.VectorSearchService;
+import com.yjlee.search.search.service.builder.QueryBuilder;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 평가용 순위 조회. 평가에는 상품 ID 순서만 필요하므로 집계, 총 건수, _source 없이 여러 쿼리를 msearch 한 번으로 보낸다. 질의 구성과 RRF
+ * 병합은 검색 API와 같은 컴포넌트를 쓰므로 순위는 시뮬레이션 검색 결과와 같다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EvaluationRetrievalService {
+
+  // 파라미터 탐색 수집 순서 (상품명, 스펙)
+  private static final List<String> VECTOR_FIELDS =
+      List.of(VectorSearchConstants.NAME_VECTOR_FIELD, VectorSearchConstants.SPECS_VECTOR_FIELD);
+
+  private static final List<String> BIGRAM_FIELDS =
+      List.of("name.bigram", "specs.bigram", "category.bigram");
+
+  private final ElasticsearchClient elasticsearchClient;
+  private final QueryBuilder queryBuilder;
+  private final VectorSearchService vectorSearchService;
+  private final RRFScorer rrfScorer;
+
+  /**
+   * 쿼리 목록의 상품 ID 순위 조회
+   *
+   * <p>임베딩을 만들지 못한 쿼리는 벡터 검색 대신 BM25 검색만 보내고 BM25 순위를 그대로 쓴다.
+   *
+   * @param size 쿼리별 최대 결과 수
+   * @return 입력 쿼리 순서대로 상품 ID 목록. 검색에 실패한 쿼리는 빈 목록
+   */
+  public List<List<String>> retrieveRankedIds(
+      String indexName,
+      EnvironmentType environment,
+      List<String> queries,
+      SearchMode searchMode,
+      Integer rrfK,
+      Integer hybridTopK,
+      int size)
+      throws IOException {
+    if (queries.isEmpty()) {
+      return List.of();
+    }
+    SearchMode mode = searchMode != null ? searchMode : SearchMode.KEYWORD_ONLY;
+    int topK = hybridTopK != null ? hybridTopK : SearchConstants.DEFAULT_HYBRID_TOP_K;
+    boolean useBm25 = mode != SearchMode.VECTOR_MULTI_FIELD;
+    boolean useVector = mode != SearchMode.KEYWORD_ONLY;
+
+    List<RequestItem> searches = new ArrayList<>();
+    boolean[] hasBm25 = new boolean[queries.size()];
+    boolean[] hasVector = new boolean[queries.size()];
+    for (int i = 0; i < queries.size(); i++) {
+      String query = queries.get(i);
+      if (useBm25) {
+        int bm25Size = mode == SearchMode.HYBRID_RRF ? topK : size;
+        searches.add(bm25Item(indexName, query, environment, bm25Size));
+        hasBm25[i] = true;
+      }
+      if (useVector) {
+        try {
+          searches.add(vectorItem(indexName, query, topK));
+          hasVector[i] = true;
+        } catch (RuntimeException e) {
+          log.warn("평가 벡터 검색 제외, BM25로 대체 - 쿼리: {}, 원인: {}", query, e.getMessage());
+          if (!hasBm25[i]) {
+            searches.add(bm25Item(indexName, query, environment, size));
+            hasBm25[i] = true;
+          }
+        }
+      }
+    }
+
+    MsearchResponse<JsonNode> response =
+        elasticsearchClient.msearch(
+            MsearchRequest.of(m -> m.index(indexName).searches(searches)), JsonNode.class);
+    List<MultiSearchResponseItem<JsonNode>> items = response.responses();
+
+    List<List<String>> rankedIds = new ArrayList<>(queries.size());
+    int cursor = 0;
+    for (int i = 0; i < queries.size(); i++) {
+      String query = queries.get(i);
+      List<Hit<JsonNode>> bm25Hits = hasBm25[i] ? hits(items.get(cursor++), query) : List.of();
+      List<Hit<JsonNode>> vectorHits = hasVector[i] ? hits(items.get(cursor++), query) : List.of();
+      SearchMode queryMode = useVector && !hasVector[i] ? SearchMode.KEYWORD_ONLY : mode;
+      rankedIds.add(rank(queryMode, bm25Hits, vectorHits, rrfK, topK, size));
+    }
+    return rankedIds;
+  }
+
+  /**
+   * 하이브리드 파라미터 탐색용 검색기별 원본 순위 조회. BM25 결과와 필드별 kNN 결과를 가중치, 최소 점수 없이 depth개까지 가져온다.
+   *
+   * @param numCandidatesList kNN 후보 수마다 필드별 kNN을 따로 조회
+   * @return 입력 쿼리 순서대로 원본 순위. 검색에 실패하거나 임베딩을 만들지 못한 항목은 빈 목록
+   */
+  public List<RawRankings> captureRawRankings(
+      String indexName,
+      EnvironmentType environment,
+      List<String> queries,
+      int depth,
+      List<Integer> numCandidatesList)
+      throws IOException {
+    if (queries.isEmpty()) {
+      return List.of();
+    }
+    List<RequestItem> searches = new ArrayList<>();
+    boolean[] hasVector = new boolean[queries.size()];
+    for (int i = 0; i < queries.size(); i++) {
+      String query = queries.get(i);
+      searches.add(bm25Item(indexName, query, environment, depth));
+      List<Float> queryVector;
+      try {
+        queryVector = queryVector(query);
+        hasVector[i] = true;
+      } catch (RuntimeException e) {
+        log.warn("평가 벡터 검색 제외 - 쿼리: {}, 원인: {}", query, e.getMessage());
+        continue;
+      }
+      for (int numCandidates : numCandidatesList) {
+        int candidates = Math.max(numCandidates, depth);
+        for (String field : VECTOR_FIELDS) {
+          searches.add(knnItem(indexName, field, queryVector, depth, candidates));
+        }
+      }
+    }
+
+    MsearchResponse<JsonNode> response =
+        elasticsearchClient.msearch(
+            MsearchRequest.of(m -> m.index(indexName).searches(searches)), JsonNode.class);
+    List<MultiSearchResponseItem<JsonNode>> items = response.responses();
+
+    List<RawRankings> rankings = new ArrayList<>(queries.size());
+    int cursor = 0;
+    for (int i = 0; i < queries.size(); i++) {
+      String query = queries.get(i);
+      List<Hit<JsonNode>> bm25Hits = hits(items.get(cursor++), query);
+      Map<Integer, List<Hit<JsonNode>>> nameHits = new HashMap<>();
+      Map<Integer, List<Hit<JsonNode>>> specsHits = new HashMap<>();
+      for (int numCandidates : numCandidatesList) {
+        nameHits.put(numCandidates, hasVector[i] ? hits(items.get(cursor++), query) : List.of());
+        specsHits.put(numCandidates, hasVector[i] ? hits(items.get(cursor++), query) : List.of());
+      }
+      rankings.add(new RawRankings(bm25Hits, nameHits, specsHits));
+    }
+    return rankings;
+  }
+
+  /**
+   * 정답 후보군 조회. 쿼리마다 BM25, 바이그램 cross-field, 벡터 검색을 _source 없이 묶음 전체 한 번의 msearch로 보내고 쿼리별로 합친다.
+   * 임베딩을 만들지 못한 쿼리는 벡터 검색을 빼고 보낸다.
+   *
+   * @param queryEnvironment BM25 질의 구성에 쓸 사전 환경
+   * @param size 검색기별 최대 결과 수
+   * @return 입력 쿼리 순서대로 후보를 담은 묶음. 검색에 실패한 항목은 결과 없음
+   */
+  public CandidatePool retrieveCandidates(
+      String indexName, EnvironmentType queryEnvironment, List<String> queries, int size)
+      throws IOException {
+    CandidatePool pool = new CandidatePool(queries.size());
+    if (queries.isEmpty()) {
+      return pool;
+    }
+    List<RequestItem> searches = new ArrayList<>(queries.size() * 3);
+    boolean[] hasVector = new boolean[queries.size()];
+    for (int i = 0; i < queries.size(); i++) {
+      String query = queries.get(i);
+      searches.add(bm25Item(indexName, query, queryEnvironment, size));
+      searches.add(bigramItem(indexName, query, size));
+      try {
+        searches.add(vectorItem(indexName, query, size));
+        hasVector[i] = true;
+      } catch (RuntimeException e) {
+        log.warn("후보군 벡터 검색 제외 - 쿼리: {}, 원인: {}", query, e.getMessage());
+      }
+    }
+
+    MsearchResponse<JsonNode> response =
+        elasticsearchClient.msearch(
+            MsearchRequest.of(m -> m.index(indexName).searches(searches)), JsonNode.class);
+    List<MultiSearchResponseItem<JsonNode>> items = response.responses();
+
+    int cursor = 0;
+    for (int i = 0; i < queries.size(); i++) {
+      String query = queries.get(i);
+      pool.add(i, SEARCH_SOURCE_BM25, ids(hits(items.get(cursor++), query)));
+      pool.add(i, SEARCH_SOURCE_BIGRAM, ids(hits(items.get(cursor++), query)));
+      if (hasVector[i]) {
+        pool.add(i, SEARCH_SOURCE_VECTOR, ids(hits(items.get(cursor++), query)));
+      }
+    }
+    return pool;
+  }
+
+  private List<String> rank(
+      SearchMode mode,
+      List<Hit<JsonNode>> bm25Hits,
+      List<Hit<JsonNode>> vectorHits,
+      Integer rrfK,
+      int topK,
+      int size) {
+    if (mode == SearchMode.HYBRID_RRF) {
+      return rrfScorer
+          .mergeWithRRF(
+              bm25Hits,
+              vectorHits,
+              rrfK != null ? rrfK : SearchConstants.DEFAULT_RRF_K,
+              topK,
+              SearchConstants.DEFAULT_BM25_WEIGHT)
+          .stream()
+          .limit(size)
+          .map(RRFScorer.RRFResult::getId)
+          .toList();
+    }
+    List<Hit<JsonNode>> hits = mode == SearchMode.VECTOR_MULTI_FIELD ? vectorHits : bm25Hits;
+    return hits.stream().limit(size).map(Hit::id).toList();
+  }
+
+  private List<String> ids(List<Hit<JsonNode>> hits) {
+    return hits.stream().map(Hit::id).toList();
+  }
+
+  private List<Hit<JsonNode>> hits(MultiSearchResponseItem<JsonNode> item, String query) {
+    if (item.isResult()) {
+      return item.result().hits().hits();
+    }
+    log.warn("평가 검색 실패 - 쿼리: {}, 원인: {}", query, item.failure().error().reason());
+    return Collections.emptyList();
+  }
+
+  // 검색 API와 같은 BM25 질의, 정렬은 점수 내림차순 후 상품 ID
+  private RequestItem bm25Item(
+      String indexName, String query, EnvironmentType environment, int size) {
+    SearchExecuteRequest request = new SearchExecuteRequest();
+    request.setQuery(query);
+    BoolQuery boolQuery = queryBuilder.buildBoolQuery(request, environment);
+
+    return RequestItem.of(
+        s ->
+            s.header(h -> h.index(indexName))
+                .body(
+                    b ->
+                        b.query(q -> q.bool(boolQuery))
+                            .size(size)
+                            .source(src -> src.fetch(false))
+                            .trackTotalHits(t -> t.enabled(false))
+                            .sort(sort -> sort.score(sc -> sc.order(SortOrder.Desc)))
+                            .sort(
+                                sort ->
+                                    sort.field(
+                                        f -> f.field(ESFields.ID).order(SortOrder.Asc)))));
+  }
+
+  private RequestItem vectorItem(String indexName, String query, int topK) {
+    List<Float> queryVector = queryVector(query);
+    int numCandidates = Math.max(topK * 3, SearchConstants.DEFAULT_NUM_CANDIDATES);
+
+    return RequestItem.of(
+        s ->
+            s.header(h -> h.index(indexName))
+                .body(
+                    b ->
+                        b.size(topK)
+                            .minScore(vectorSearchService.getDefaultVectorMinScore())
+                            .knn(
+                                k ->
+                                    k.field(VectorSearchConstants.NAME_VECTOR_FIELD)
+                                        .queryVector(queryVector)
+                                        .k(topK)
+                                        .numCandidates(numCandidates)
+                                        .boost(SearchBoostConstants.DEFAULT_NAME_VECTOR_BOOST))
+                            .knn(
+                                k ->
+                                    k.field(VectorSearchConstants.SPECS_VECTOR_FIELD)
+                                        .queryVector(queryVector)
+                                        .k(topK)
+                                        .numCandidates(numCandidates)
+                                        .boost(SearchBoostConstants.DEFAULT_SPECS_VECTOR_BOOST))
+                            .source(src -> src.fetch(false))
+                            .trackTotalHits(t -> t.enabled(false))));
+  }
+
+  // 바이그램 필드 cross-field 질의 (정답 후보군 전용)
+  private RequestItem bigramItem(String indexName, String query, int size) {
+    return RequestItem.of(
+        s ->
+            s.header(h -> h.index(indexName))
+                .body(
+                    b ->
+                        b.query(
+                                q ->
+                                    q.multiMatch(
+                                        mm ->
+                                            mm.query(query)
+                                                .fields(BIGRAM_FIELDS)
+                                                .operator(Operator.Or)
+                                                .minimumShouldMatch("80%")
+                                                .type(TextQueryType.CrossFields)))
+                            .size(size)
+                            .source(src -> src.fetch(false))
+                            .trackTotalHits(t -> t.enabled(false))));
+  }
+
+  // 필드 하나의 kNN 원점수 (boost 1, 최소 점수 없음)
+  private RequestItem knnItem(
+      String indexName, String field, List<Float> queryVector, int topK, int numCandidates) {
+    return RequestItem.of(
+        s ->
+            s.header(h -> h.index(indexName))
+                .body(
+                    b ->
+                        b.size(topK)
+                            .knn(
+                                k ->
+                                    k.field(field)
+                                        .queryVector(queryVector)
+                                        .k(topK)
+                                        .numCandidates(numCandidates))
+                            .source(src -> src.fetch(false))
+                            .trackTotalHits(t -> t.enabled(false))));
+  }
+
+  private List<Float> queryVector(String query) {
+    List<Float> queryVector = new ArrayList<>();
+    for (float value : vectorSearchService.getQueryEmbedding(query)) {
+      queryVector.add(value);
+    }
+    return queryVector;
+  }
+}
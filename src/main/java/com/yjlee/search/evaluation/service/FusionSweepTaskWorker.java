@@ -0,0 +1,46 @@
+package com.yjlee.search.evaluation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yjlee.search.async.model.AsyncTask;
+import com.yjlee.search.async.model.AsyncTaskType;
+import com.yjlee.search.async.service.TaskWorker;
+import com.yjlee.search.evaluation.dto.FusionSweepRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FusionSweepTaskWorker implements TaskWorker {
+
+  private final AsyncEvaluationService asyncEvaluationService;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public AsyncTaskType getSupportedTaskType() {
+    return AsyncTaskType.FUSION_SWEEP;
+  }
+
+  @Override
+  public void execute(AsyncTask task) {
+    try {
+      log.info("파라미터 탐색 작업 시작: taskId={}", task.getId());
+
+      FusionSweepRequest request = null;
+      if (task.getParams() != null) {
+        request = objectMapper.readValue(task.getParams(), FusionSweepRequest.class);
+      }
+
+      if (request == null) {
+        request = new FusionSweepRequest();
+      }
+
+      asyncEvaluationService.executeFusionSweepTask(task.getId(), request);
+
+    } catch (Exception e) {
+      log.error("파라미터 탐색 작업 실행 중 오류: taskId={}", task.getId(), e);
+      throw new RuntimeException("파라미터 탐색 작업 실패", e);
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package com.yjlee.search.evaluation.service;
 
 import com.yjlee.search.evaluation.model.EvaluationQuery;
+import com.yjlee.search.evaluation.model.LLMTaskPriority;
 import com.yjlee.search.evaluation.model.QueryProductMapping;
 import com.yjlee.search.index.dto.ProductDocument;
 import java.util.List;
@@ -15,7 +16,6 @@ import org.springframework.stereotype.Service;
 public class LLMBatchProcessor {
 
   private final LLMQueryEvaluationWorker evaluationWorker;
-  private final LLMRateLimitManager rateLimitManager;
 
   @Async("evaluationTaskExecutor")
   public void processBatchAsync(
@@ -23,29 +23,20 @@ public class LLMBatchProcessor {
       List<ProductDocument> products,
       List<QueryProductMapping> mappings,
       EvaluationQuery evaluationQuery,
-      Runnable onSuccess,
-      Runnable onRateLimit) {
+      LLMTaskPriority priority,
+      Runnable onComplete) {
     try {
       log.info("배치 처리 시작: {} ({} 상품)", query, products.size());
 
-      // evaluationWorker의 평가 로직 호출
-      evaluationWorker.processSingleBatch(query, products, mappings, evaluationQuery);
-
-      // 성공 콜백
-      onSuccess.run();
+      // evaluationWorker의 평가 로직 호출 (429는 LLM 큐 안에서 대기 후 재시도)
+      evaluationWorker.processSingleBatch(query, products, mappings, evaluationQuery, priority);
       log.info("배치 처리 완료: {}", query);
 
     } catch (Exception e) {
-      if (e.getMessage() != null && e.getMessage().contains("429")) {
-        log.warn("Rate limit 감지 - 모든 작업 중단");
-        rateLimitManager.setRateLimitActive();
-        // Rate limit 콜백
-        onRateLimit.run();
-      } else {
-        log.error("배치 처리 실패", e);
-        // 실패해도 성공으로 처리 (카운트 증가)
-        onSuccess.run();
-      }
+      log.error("배치 처리 실패", e);
+    } finally {
+      // 실패해도 완료로 처리 (카운트 증가)
+      onComplete.run();
     }
   }
 }
@@ -1,6 +1,7 @@
 package com.yjlee.search.evaluation.service;
 
 import com.yjlee.search.evaluation.model.EvaluationQuery;
+import com.yjlee.search.evaluation.model.LLMTaskPriority;
 import com.yjlee.search.evaluation.repository.EvaluationQueryRepository;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -15,36 +16,45 @@ public class LLMCandidateEvaluationService {
   private final EvaluationQueryRepository evaluationQueryRepository;
   private final LLMQueuedEvaluationService queuedEvaluationService;
 
-  public void evaluateAllCandidates() {
-    evaluateAllCandidates(null);
+  public LLMJudgmentCacheService.Stats evaluateAllCandidates() {
+    return evaluateAllCandidates(null);
   }
 
-  public void evaluateAllCandidates(ProgressCallback progressCallback) {
+  public LLMJudgmentCacheService.Stats evaluateAllCandidates(ProgressCallback progressCallback) {
     log.info("전체 모든 쿼리의 후보군 LLM 평가 시작 (평가 안 된 항목만)");
 
     List<EvaluationQuery> queries = evaluationQueryRepository.findAll();
     if (queries.isEmpty()) {
       log.warn("평가할 쿼리가 없습니다. 먼저 쿼리를 생성해주세요.");
-      return;
+      return new LLMJudgmentCacheService.Stats();
     }
 
     log.info("평가 대상 쿼리: {}개", queries.size());
-    evaluateCandidatesForQueries(
-        queries.stream().map(EvaluationQuery::getId).toList(), progressCallback);
+    LLMJudgmentCacheService.Stats cacheStats =
+        queuedEvaluationService.evaluateCandidatesForQueries(
+            queries.stream().map(EvaluationQuery::getId).toList(),
+            LLMTaskPriority.BULK,
+            progressCallback);
 
     log.info("전체 모든 쿼리의 후보군 LLM 평가 완료 (평가 안 된 항목만)");
+    return cacheStats;
   }
 
-  public void evaluateCandidatesForQueries(List<Long> queryIds) {
-    evaluateCandidatesForQueries(queryIds, null);
+  public LLMJudgmentCacheService.Stats evaluateCandidatesForQueries(List<Long> queryIds) {
+    return evaluateCandidatesForQueries(queryIds, null);
   }
 
-  public void evaluateCandidatesForQueries(List<Long> queryIds, ProgressCallback progressCallback) {
+  /** 선택 쿼리 평가는 전체 평가보다 먼저 LLM 큐에서 처리된다 */
+  public LLMJudgmentCacheService.Stats evaluateCandidatesForQueries(
+      List<Long> queryIds, ProgressCallback progressCallback) {
     log.info("선택된 쿼리들의 후보군 LLM 평가 시작 (평가 안 된 항목만, 큐 기반): {}개 쿼리", queryIds.size());
 
     // 큐 기반 평가 서비스 호출
-    queuedEvaluationService.evaluateCandidatesForQueries(queryIds, progressCallback);
+    LLMJudgmentCacheService.Stats cacheStats =
+        queuedEvaluationService.evaluateCandidatesForQueries(
+            queryIds, LLMTaskPriority.INTERACTIVE, progressCallback);
 
     log.info("선택된 쿼리들의 후보군 LLM 평가 완료 (평가 안 된 항목만, 큐 기반)");
+    return cacheStats;
   }
 }
@@ -0,0 +1,205 @@
+package com.yjlee.search.evaluation.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * LLM API 공용 HTTP 클라이언트. 커넥션은 JDK HttpClient 풀에서 keep-alive로 재사용하고, 동시 요청 수는 LLM 워커 수에 맞춘 세마포어로
+ * 제한한다. 응답 본문은 문자열로 모으지 않고 스트림에서 바로 JSON으로 파싱한다.
+ *
+ * <p>https는 ALPN으로 HTTP/2를 협상하고, 평문 http는 h2c 업그레이드 없이 HTTP/1.1로 보낸다.
+ *
+ * <p>타임아웃: connect는 연결 수립, read는 응답 헤더 수신까지, total은 요청 시작부터 본문 파싱 완료까지.
+ */
+@Slf4j
+@Component
+public class LLMHttpClient {
+
+  private final ObjectMapper objectMapper;
+  private final ObjectReader responseReader;
+  private final HttpClient httpClient;
+  private final Semaphore permits;
+  private final Duration readTimeout;
+  private final long totalTimeoutMs;
+  private final ScheduledExecutorService deadlineScheduler;
+
+  public LLMHttpClient(
+      ObjectMapper objectMapper,
+      @Value("${openai.api.connect-timeout-ms:8000}") int connectTimeoutMs,
+      @Value("${openai.api.read-timeout-ms:45000}") int readTimeoutMs,
+      @Value("${openai.api.total-timeout-ms:60000}") int totalTimeoutMs,
+      @Value("${openai.api.max-concurrent-requests:${llm.queue.worker-threads:10}}")
+          int maxConcurrentRequests) {
+    this.objectMapper = objectMapper;
+    // 파싱 후 스트림을 EOF까지 비우고 직접 닫는다
+    this.responseReader = objectMapper.reader().without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    this.httpClient =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+            .build();
+    this.permits = new Semaphore(Math.max(1, maxConcurrentRequests));
+    this.readTimeout = Duration.ofMillis(readTimeoutMs);
+    this.totalTimeoutMs = Math.max(totalTimeoutMs, readTimeoutMs);
+    this.deadlineScheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              Thread thread = new Thread(r, "llm-http-deadline");
+              thread.setDaemon(true);
+              return thread;
+            });
+    log.info(
+        "LLM HTTP 클라이언트 초기화 - 동시 요청: {}, connect: {}ms, read: {}ms, total: {}ms",
+        maxConcurrentRequests,
+        connectTimeoutMs,
+        readTimeoutMs,
+        this.totalTimeoutMs);
+  }
+
+  /**
+   * JSON POST
+   *
+   * @return 2xx면 파싱한 본문, 아니면 본문 문자열을 담은 응답
+   */
+  public Response postJson(String url, String bearerToken, Object body)
+      throws IOException, InterruptedException {
+    URI uri = URI.create(url);
+    HttpRequest request =
+        HttpRequest.newBuilder(uri)
+            .version(
+                "https".equalsIgnoreCase(uri.getScheme())
+                    ? HttpClient.Version.HTTP_2
+                    : HttpClient.Version.HTTP_1_1)
+            .timeout(readTimeout)
+            .header("Content-Type", "application/json")
+            .header("Authorization", "Bearer " + bearerToken)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+            .build();
+
+    long deadline = System.currentTimeMillis() + totalTimeoutMs;
+    if (!permits.tryAcquire(totalTimeoutMs, TimeUnit.MILLISECONDS)) {
+      throw new HttpTimeoutException("LLM 동시 요청 대기 시간 초과");
+    }
+    try {
+      HttpResponse<InputStream> response = send(request, deadline);
+      return readBody(response, deadline);
+    } finally {
+      permits.release();
+    }
+  }
+
+  private HttpResponse<InputStream> send(HttpRequest request, long deadline)
+      throws IOException, InterruptedException {
+    CompletableFuture<HttpResponse<InputStream>> future =
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+    try {
+      return future.get(remaining(deadline), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      // 기다리지 않을 요청은 취소해 커넥션과 스트림을 정리한다
+      future.cancel(true);
+      throw new HttpTimeoutException("LLM 응답 시간 초과 (total " + totalTimeoutMs + "ms)");
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      throw e;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException ioException) {
+        throw ioException;
+      }
+      throw new IOException(e.getCause());
+    }
+  }
+
+  // 본문 읽기도 total 타임아웃 안에서 끝나야 한다. 기한이 지나면 스트림을 닫아 파싱을 중단시킨다.
+  private Response readBody(HttpResponse<InputStream> response, long deadline)
+      throws IOException {
+    try (InputStream in = response.body()) {
+      ScheduledFuture<?> guard =
+          deadlineScheduler.schedule(
+              () -> closeQuietly(in), remaining(deadline), TimeUnit.MILLISECONDS);
+      try {
+        int status = response.statusCode();
+        if (status / 100 != 2) {
+          return new Response(
+              status,
+              response.headers(),
+              null,
+              new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        JsonNode json = responseReader.readTree(in);
+        // EOF까지 읽어야 커넥션이 풀로 돌아간다. 읽다 만 스트림을 닫으면 커넥션이 끊긴다.
+        in.transferTo(OutputStream.nullOutputStream());
+        return new Response(status, response.headers(), json, null);
+      } catch (IOException e) {
+        if (System.currentTimeMillis() >= deadline) {
+          throw new HttpTimeoutException("LLM 응답 본문 읽기 시간 초과");
+        }
+        throw e;
+      } finally {
+        guard.cancel(false);
+      }
+    }
+  }
+
+  private long remaining(long deadline) {
+    return Math.max(1, deadline - System.currentTimeMillis());
+  }
+
+  private static void closeQuietly(InputStream in) {
+    try {
+      in.close();
+    } catch (IOException ignored) {
+      // 기한 초과로 닫는 중의 오류는 무시
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    deadlineScheduler.shutdownNow();
+  }
+
+  /** 상태 코드, 헤더와 본문. 2xx는 json, 그 외는 errorBody */
+  @Getter
+  @RequiredArgsConstructor
+  public static class Response {
+    private final int status;
+    private final HttpHeaders headers;
+    private final JsonNode json;
+    private final String errorBody;
+
+    public boolean isSuccessful() {
+      return status / 100 == 2;
+    }
+
+    public Optional<String> header(String name) {
+      return headers.firstValue(name);
+    }
+  }
+}
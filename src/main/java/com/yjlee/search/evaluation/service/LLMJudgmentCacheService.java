@@ -0,0 +1,164 @@
+package com.yjlee.search.evaluation.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yjlee.search.common.util.PromptTemplateLoader;
+import com.yjlee.search.evaluation.model.LLMJudgment;
+import com.yjlee.search.evaluation.model.QueryProductMapping;
+import com.yjlee.search.evaluation.repository.LLMJudgmentRepository;
+import com.yjlee.search.evaluation.util.JudgmentFingerprint;
+import com.yjlee.search.index.dto.ProductDocument;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * LLM 관련도 판정 캐시. 프롬프트 지문(모델, 템플릿 버전, 쿼리, 상품 텍스트)으로 Postgres에 판정을 저장하고 앞단에 메모리 캐시를 둔다. 템플릿 버전은
+ * 템플릿 파일 내용의 해시라서 프롬프트를 고치면 이전 판정은 자동으로 쓰이지 않는다.
+ *
+ * <p>캐시 저장/조회 실패는 평가를 막지 않고 LLM 호출로 넘어간다.
+ */
+@Slf4j
+@Service
+public class LLMJudgmentCacheService {
+
+  static final String PROMPT_TEMPLATE = "bulk-product-relevance-evaluation.txt";
+
+  private static final String INSERT_SQL =
+      "INSERT INTO llm_judgment_cache (fingerprint, model, template_version, relevance_score,"
+          + " reason, confidence, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)"
+          + " ON CONFLICT (fingerprint) DO NOTHING";
+  private static final int[] INSERT_TYPES = {
+    Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.INTEGER, Types.VARCHAR, Types.DOUBLE,
+    Types.TIMESTAMP
+  };
+
+  private final LLMJudgmentRepository judgmentRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final String model;
+  private final String templateVersion;
+  private final boolean enabled;
+  private final Cache<String, LLMJudgment> memory;
+
+  public LLMJudgmentCacheService(
+      LLMJudgmentRepository judgmentRepository,
+      JdbcTemplate jdbcTemplate,
+      PromptTemplateLoader promptTemplateLoader,
+      @Value("${openai.api.model:gpt-5-nano}") String model,
+      @Value("${evaluation.llm.judgment-cache.enabled:true}") boolean enabled,
+      @Value("${evaluation.llm.judgment-cache.memory-size:100000}") long memorySize) {
+    this.judgmentRepository = judgmentRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.model = model;
+    this.enabled = enabled;
+    this.templateVersion =
+        JudgmentFingerprint.sha256Hex(promptTemplateLoader.loadTemplate(PROMPT_TEMPLATE))
+            .substring(0, 16);
+    this.memory = Caffeine.newBuilder().maximumSize(memorySize).build();
+    log.info(
+        "LLM 판정 캐시 초기화 - 활성화: {}, 모델: {}, 템플릿 버전: {}", enabled, model, templateVersion);
+  }
+
+  /** 평가 프롬프트에 들어가는 상품 텍스트 기준 지문 */
+  public String fingerprint(String query, ProductDocument product, QueryProductMapping mapping) {
+    return JudgmentFingerprint.of(
+        model,
+        templateVersion,
+        query,
+        LLMQueryEvaluationWorker.promptName(product),
+        LLMQueryEvaluationWorker.promptCategory(product, mapping),
+        LLMQueryEvaluationWorker.promptSpecs(product));
+  }
+
+  public LLMJudgment newJudgment(
+      String fingerprint, int relevanceScore, String reason, double confidence) {
+    return LLMJudgment.builder()
+        .fingerprint(fingerprint)
+        .model(model)
+        .templateVersion(templateVersion)
+        .relevanceScore(relevanceScore)
+        .reason(reason)
+        .confidence(confidence)
+        .build();
+  }
+
+  /** 지문별 캐시된 판정. 메모리에 없는 지문만 DB에서 한 번에 조회한다. */
+  public Map<String, LLMJudgment> findAll(Collection<String> fingerprints) {
+    if (!enabled || fingerprints.isEmpty()) {
+      return Map.of();
+    }
+    Map<String, LLMJudgment> found = new HashMap<>(memory.getAllPresent(fingerprints));
+    List<String> missing = new ArrayList<>();
+    for (String fingerprint : fingerprints) {
+      if (!found.containsKey(fingerprint)) {
+        missing.add(fingerprint);
+      }
+    }
+    if (!missing.isEmpty()) {
+      try {
+        for (LLMJudgment judgment : judgmentRepository.findAllById(missing)) {
+          found.put(judgment.getFingerprint(), judgment);
+          memory.put(judgment.getFingerprint(), judgment);
+        }
+      } catch (DataAccessException e) {
+        log.warn("LLM 판정 캐시 조회 실패 - 캐시 없이 진행: {}", e.getMessage());
+      }
+    }
+    return found;
+  }
+
+  /** 새 판정 저장. 같은 지문이 이미 있으면 기존 판정을 유지한다. */
+  public void saveAll(Collection<LLMJudgment> judgments) {
+    if (!enabled || judgments.isEmpty()) {
+      return;
+    }
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Object[]> rows = new ArrayList<>(judgments.size());
+    for (LLMJudgment j : judgments) {
+      memory.put(j.getFingerprint(), j);
+      rows.add(
+          new Object[] {
+            j.getFingerprint(),
+            j.getModel(),
+            j.getTemplateVersion(),
+            j.getRelevanceScore(),
+            j.getReason(),
+            j.getConfidence(),
+            now
+          });
+    }
+    try {
+      jdbcTemplate.batchUpdate(INSERT_SQL, rows, INSERT_TYPES);
+    } catch (DataAccessException e) {
+      log.warn("LLM 판정 캐시 저장 실패 - {}건: {}", rows.size(), e.getMessage());
+    }
+  }
+
+  /** 작업 하나의 캐시 적중 통계 */
+  @Getter
+  public static class Stats {
+    private int hits;
+    private int misses;
+
+    public void add(int hits, int misses) {
+      this.hits += hits;
+      this.misses += misses;
+    }
+
+    public double hitRate() {
+      int total = hits + misses;
+      return total == 0 ? 0.0 : (double) hits / total;
+    }
+  }
+}
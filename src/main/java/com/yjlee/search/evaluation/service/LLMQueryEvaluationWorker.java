@@ -5,10 +5,14 @@ import static com.yjlee.search.evaluation.constants.EvaluationConstants.EVALUATI
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yjlee.search.common.util.PromptTemplateLoader;
+import com.yjlee.search.common.util.TokenEstimator;
 import com.yjlee.search.evaluation.model.EvaluationQuery;
+import com.yjlee.search.evaluation.model.LLMJudgment;
+import com.yjlee.search.evaluation.model.LLMTaskPriority;
 import com.yjlee.search.evaluation.model.QueryProductMapping;
 import com.yjlee.search.evaluation.repository.EvaluationQueryRepository;
 import com.yjlee.search.evaluation.repository.QueryProductMappingRepository;
+import com.yjlee.search.evaluation.util.PromptPacker;
 import com.yjlee.search.index.dto.ProductDocument;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -17,6 +21,7 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /** LLM 평가를 위한 별도 Worker 서비스 Spring AOP 문제 해결을 위해 분리된 서비스 (순환 의존성 방지) */
@@ -31,15 +36,54 @@ public class LLMQueryEvaluationWorker {
   private final QueryProductMappingRepository queryProductMappingRepository;
   private final ObjectMapper objectMapper;
   private final PromptTemplateLoader promptTemplateLoader;
+  private final LLMJudgmentCacheService judgmentCacheService;
+
+  // 프롬프트 하나의 입력 토큰 예산 (근사치)
+  @Value("${evaluation.llm.prompt.token-budget:6000}")
+  private int promptTokenBudget;
+
+  // 프롬프트 하나의 최대 상품 수 (응답 길이 제한)
+  @Value("${evaluation.llm.batch-size:10}")
+  private int maxProductsPerPrompt;
+
+  // 응답에서 판정이 빠진 상품을 나눠 다시 묻는 최대 깊이
+  @Value("${evaluation.llm.prompt.max-split-depth:3}")
+  private int maxSplitDepth;
 
   /** ES에서 여러 상품을 한 번에 조회 (벌크 조회) */
   public Map<String, ProductDocument> getProductsBulk(List<String> productIds) {
     return productBulkFetchService.fetchBulk(productIds);
   }
 
-  private List<QueryProductMapping> parseBulkEvaluationResponse(
-      String query, List<QueryProductMapping> mappings, String response) {
-    List<QueryProductMapping> updatedMappings = new ArrayList<>();
+  /** 판정을 매핑에 반영한 새 매핑 (LLM 응답, 캐시 적중 공통) */
+  public QueryProductMapping applyJudgment(QueryProductMapping mapping, LLMJudgment judgment) {
+    String evaluationReason =
+        String.format(
+            "%s (score: %d, confidence: %.2f)",
+            judgment.getReason(), judgment.getRelevanceScore(), judgment.getConfidence());
+
+    return QueryProductMapping.builder()
+        .id(mapping.getId())
+        .evaluationQuery(mapping.getEvaluationQuery())
+        .productId(mapping.getProductId())
+        .productName(mapping.getProductName())
+        .productSpecs(mapping.getProductSpecs())
+        .relevanceScore(judgment.getRelevanceScore())
+        .evaluationReason(evaluationReason)
+        .evaluationSource(EVALUATION_SOURCE_LLM)
+        .confidence(judgment.getConfidence())
+        .productCategory(mapping.getProductCategory())
+        .searchSource(mapping.getSearchSource())
+        .build();
+  }
+
+  /** LLM 응답을 productId별 판정으로 파싱. 응답에 없거나 파싱에 실패한 상품은 빠진다 (미평가 유지). */
+  private Map<String, LLMJudgment> parseBulkEvaluationResponse(
+      String query,
+      List<ProductDocument> products,
+      List<QueryProductMapping> mappings,
+      String response) {
+    Map<String, LLMJudgment> judgments = new HashMap<>();
 
     try {
       String cleanedResponse = cleanJsonResponse(response);
@@ -47,7 +91,7 @@ public class LLMQueryEvaluationWorker {
 
       if (!jsonArray.isArray()) {
         log.warn("LLM 응답이 배열 형식이 아닙니다: {}", response);
-        return new ArrayList<>();
+        return judgments;
       }
 
       // productId -> evaluation 매핑 생성 (순서에 의존하지 않도록)
@@ -60,7 +104,8 @@ public class LLMQueryEvaluationWorker {
       }
 
       // 매핑 리스트 순서를 기준으로 productId로 매칭
-      for (QueryProductMapping mapping : mappings) {
+      for (int i = 0; i < mappings.size(); i++) {
+        QueryProductMapping mapping = mappings.get(i);
         try {
           JsonNode evaluation = idToEval.get(mapping.getProductId());
           if (evaluation == null) {
@@ -80,25 +125,10 @@ public class LLMQueryEvaluationWorker {
           if (confidence < 0.0) confidence = 0.0;
           if (confidence > 1.0) confidence = 1.0;
 
-          String evaluationReason =
-              String.format("%s (score: %d, confidence: %.2f)", reason, score, confidence);
-
-          QueryProductMapping updatedMapping =
-              QueryProductMapping.builder()
-                  .id(mapping.getId())
-                  .evaluationQuery(mapping.getEvaluationQuery())
-                  .productId(mapping.getProductId())
-                  .productName(mapping.getProductName())
-                  .productSpecs(mapping.getProductSpecs())
-                  .relevanceScore(score)
-                  .evaluationReason(evaluationReason)
-                  .evaluationSource(EVALUATION_SOURCE_LLM)
-                  .confidence(confidence)
-                  .productCategory(mapping.getProductCategory())
-                  .searchSource(mapping.getSearchSource())
-                  .build();
-
-          updatedMappings.add(updatedMapping);
+          String fingerprint = judgmentCacheService.fingerprint(query, products.get(i), mapping);
+          judgments.put(
+              mapping.getProductId(),
+              judgmentCacheService.newJudgment(fingerprint, score, reason, confidence));
 
         } catch (Exception e) {
           log.warn("상품 {} 평가 결과 파싱 실패 - 미평가로 유지", mapping.getProductId(), e);
@@ -108,10 +138,10 @@ public class LLMQueryEvaluationWorker {
 
     } catch (Exception e) {
       log.warn("벌크 평가 응답 전체 파싱 실패 - 미평가로 유지: {}", response, e);
-      return new ArrayList<>();
+      return new HashMap<>();
     }
 
-    return updatedMappings;
+    return judgments;
   }
 
   private String cleanJsonResponse(String response) {
@@ -135,97 +165,177 @@ public class LLMQueryEvaluationWorker {
     return cleaned.trim();
   }
 
+  /**
+   * 쿼리 하나의 평가 대상을 프롬프트 단위로 나눈다. 상품 항목의 토큰 근사치를 순서대로 더해 템플릿을 뺀 예산과 최대 상품 수 안에서 묶는다.
+   *
+   * @return 묶음별 [시작, 끝) 인덱스
+   */
+  public List<int[]> planBatches(
+      String query, List<ProductDocument> products, List<QueryProductMapping> mappings) {
+    int baseTokens = TokenEstimator.estimate(renderPrompt(searchInfo(query), List.of()));
+    int[] costs = new int[products.size()];
+    for (int i = 0; i < costs.length; i++) {
+      // 항목 사이 ",\n" 포함
+      costs[i] = TokenEstimator.estimate(productEntry(products.get(i), mappings.get(i))) + 2;
+    }
+    return PromptPacker.pack(
+        costs, Math.max(1, promptTokenBudget - baseTokens), maxProductsPerPrompt);
+  }
+
   /** 단일 배치 처리 (큐 시스템에서 호출) */
   public void processSingleBatch(
       String query,
       List<ProductDocument> products,
       List<QueryProductMapping> mappings,
-      EvaluationQuery evaluationQuery) {
+      EvaluationQuery evaluationQuery,
+      LLMTaskPriority priority) {
     try {
       log.info("배치 처리 시작: 쿼리='{}', 상품 {}개", query, products.size());
 
-      // 프롬프트 생성
-      String prompt =
-          buildBulkEvaluationPromptWithMappings(query, products, mappings, evaluationQuery);
-
-      // LLM 호출 - LLMQueueManager 사용
-      CompletableFuture<String> future =
-          llmQueueManager.submitSimpleTask(
-              prompt, String.format("후보군 평가 (쿼리='%s', 상품 %d개)", query, products.size()));
-      String response = future.join();
+      Map<String, LLMJudgment> judgments = evaluateBatch(query, products, mappings, priority, 0);
 
-      if (response == null || response.trim().isEmpty()) {
-        log.warn("LLM API 응답이 비어있습니다");
-        return;
+      List<QueryProductMapping> updatedMappings = new ArrayList<>(judgments.size());
+      for (QueryProductMapping mapping : mappings) {
+        LLMJudgment judgment = judgments.get(mapping.getProductId());
+        if (judgment != null) {
+          updatedMappings.add(applyJudgment(mapping, judgment));
+        }
       }
 
-      // 응답 파싱
-      List<QueryProductMapping> updatedMappings =
-          parseBulkEvaluationResponse(query, mappings, response);
-
       // DB 저장
       if (!updatedMappings.isEmpty()) {
         queryProductMappingRepository.saveAll(updatedMappings);
+        judgmentCacheService.saveAll(judgments.values());
         log.info("배치 처리 완료: {}개 매핑 저장", updatedMappings.size());
       }
 
     } catch (Exception e) {
-      // 429 에러는 상위로 전파
-      if (e.getMessage() != null && e.getMessage().contains("429")) {
-        throw new RuntimeException("Rate limit exceeded", e);
-      }
+      // 429는 LLMQueueManager가 대기 후 재시도하므로 여기까지 오지 않는다
       log.error("배치 처리 실패", e);
       throw e; // 모든 예외를 상위로 전파
     }
   }
 
-  private String buildBulkEvaluationPromptWithMappings(
+  /**
+   * LLM 평가 후 응답에서 판정이 빠진 상품(응답 파싱 실패 포함)만 다시 묻는다. 여러 개가 빠졌으면 반으로 나눠 묻고, 최대 깊이까지 실패한 상품은 미평가로
+   * 남긴다.
+   */
+  private Map<String, LLMJudgment> evaluateBatch(
       String query,
       List<ProductDocument> products,
       List<QueryProductMapping> mappings,
-      EvaluationQuery evaluationQuery) {
-    // 검색 정보 JSON 생성 (쿼리만 포함)
-    StringBuilder searchInfoBuilder = new StringBuilder();
-    searchInfoBuilder.append("{\n");
-    searchInfoBuilder.append("  \"query\": \"").append(query).append("\"");
-    searchInfoBuilder.append("\n}");
-
-    // 상품 리스트 JSON 생성
-    StringBuilder productListBuilder = new StringBuilder();
-    productListBuilder.append("[\n");
+      LLMTaskPriority priority,
+      int depth) {
+    String prompt = buildBulkEvaluationPrompt(query, products, mappings);
+
+    // LLM 호출 - LLMQueueManager 사용
+    CompletableFuture<String> future =
+        llmQueueManager.submitSimpleTask(
+            prompt,
+            String.format("후보군 평가 (쿼리='%s', 상품 %d개)", query, products.size()),
+            priority);
+    String response = future.join();
+
+    Map<String, LLMJudgment> judgments;
+    if (response == null || response.trim().isEmpty()) {
+      log.warn("LLM API 응답이 비어있습니다");
+      judgments = new HashMap<>();
+    } else {
+      judgments = parseBulkEvaluationResponse(query, products, mappings, response);
+    }
+
+    List<Integer> missing = new ArrayList<>();
+    for (int i = 0; i < mappings.size(); i++) {
+      if (!judgments.containsKey(mappings.get(i).getProductId())) {
+        missing.add(i);
+      }
+    }
+    if (missing.isEmpty()) {
+      return judgments;
+    }
+    if (depth >= maxSplitDepth) {
+      log.warn("쿼리 '{}' - 상품 {}개 판정 실패, 미평가로 유지", query, missing.size());
+      return judgments;
+    }
+
+    log.info(
+        "쿼리 '{}' - 판정이 빠진 상품 {}/{}개 재요청 (깊이 {})",
+        query,
+        missing.size(),
+        mappings.size(),
+        depth + 1);
+    int half = missing.size() > 1 ? (missing.size() + 1) / 2 : missing.size();
+    for (List<Integer> part :
+        List.of(missing.subList(0, half), missing.subList(half, missing.size()))) {
+      if (part.isEmpty()) {
+        continue;
+      }
+      List<ProductDocument> subProducts = new ArrayList<>(part.size());
+      List<QueryProductMapping> subMappings = new ArrayList<>(part.size());
+      for (int index : part) {
+        subProducts.add(products.get(index));
+        subMappings.add(mappings.get(index));
+      }
+      judgments.putAll(evaluateBatch(query, subProducts, subMappings, priority, depth + 1));
+    }
+    return judgments;
+  }
+
+  private String buildBulkEvaluationPrompt(
+      String query, List<ProductDocument> products, List<QueryProductMapping> mappings) {
+    List<String> entries = new ArrayList<>(products.size());
     for (int i = 0; i < products.size(); i++) {
-      ProductDocument product = products.get(i);
-      QueryProductMapping mapping = i < mappings.size() ? mappings.get(i) : null;
-
-      if (i > 0) productListBuilder.append(",\n");
-      productListBuilder.append("  {\n");
-      productListBuilder.append("    \"productId\": \"").append(product.getId()).append("\",\n");
-      productListBuilder
-          .append("    \"name\": \"")
-          .append(escapeJson(product.getNameRaw() != null ? product.getNameRaw() : "N/A"))
-          .append("\",\n");
-      productListBuilder
-          .append("    \"category\": \"")
-          .append(
-              escapeJson(
-                  mapping != null && mapping.getProductCategory() != null
-                      ? mapping.getProductCategory()
-                      : product.getCategoryName() != null ? product.getCategoryName() : "N/A"))
-          .append("\",\n");
-      productListBuilder
-          .append("    \"specs\": \"")
-          .append(escapeJson(product.getSpecsRaw() != null ? product.getSpecsRaw() : "N/A"))
-          .append("\"\n");
-      productListBuilder.append("  }");
+      entries.add(productEntry(products.get(i), i < mappings.size() ? mappings.get(i) : null));
     }
-    productListBuilder.append("\n]");
+    return renderPrompt(searchInfo(query), entries);
+  }
 
+  // 검색 정보 JSON (쿼리만 포함)
+  private String searchInfo(String query) {
+    return "{\n  \"query\": \"" + query + "\"\n}";
+  }
+
+  // 상품 리스트 JSON의 항목 하나
+  private String productEntry(ProductDocument product, QueryProductMapping mapping) {
+    return "  {\n"
+        + "    \"productId\": \""
+        + product.getId()
+        + "\",\n"
+        + "    \"name\": \""
+        + escapeJson(promptName(product))
+        + "\",\n"
+        + "    \"category\": \""
+        + escapeJson(promptCategory(product, mapping))
+        + "\",\n"
+        + "    \"specs\": \""
+        + escapeJson(promptSpecs(product))
+        + "\"\n"
+        + "  }";
+  }
+
+  private String renderPrompt(String searchInfo, List<String> productEntries) {
     // 템플릿 변수 설정
     Map<String, String> variables = new HashMap<>();
-    variables.put("SEARCH_INFO", searchInfoBuilder.toString());
-    variables.put("PRODUCT_LIST", productListBuilder.toString());
+    variables.put("SEARCH_INFO", searchInfo);
+    variables.put("PRODUCT_LIST", "[\n" + String.join(",\n", productEntries) + "\n]");
+
+    return promptTemplateLoader.loadTemplate(LLMJudgmentCacheService.PROMPT_TEMPLATE, variables);
+  }
+
+  // 프롬프트 상품 필드 (판정 캐시 지문도 같은 값을 쓴다)
+  static String promptName(ProductDocument product) {
+    return product.getNameRaw() != null ? product.getNameRaw() : "N/A";
+  }
+
+  static String promptCategory(ProductDocument product, QueryProductMapping mapping) {
+    if (mapping != null && mapping.getProductCategory() != null) {
+      return mapping.getProductCategory();
+    }
+    return product.getCategoryName() != null ? product.getCategoryName() : "N/A";
+  }
 
-    return promptTemplateLoader.loadTemplate("bulk-product-relevance-evaluation.txt", variables);
+  static String promptSpecs(ProductDocument product) {
+    return product.getSpecsRaw() != null ? product.getSpecsRaw() : "N/A";
   }
 
   private String escapeJson(String str) {
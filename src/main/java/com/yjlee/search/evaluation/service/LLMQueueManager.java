@@ -1,21 +1,30 @@
 package com.yjlee.search.evaluation.service;
 
+import com.yjlee.search.evaluation.exception.LLMRateLimitException;
+import com.yjlee.search.evaluation.model.LLMTaskPriority;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import java.util.Comparator;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+/**
+ * LLM 호출 큐. 우선순위(같으면 제출 순서) 순으로 꺼내고, 워커 수는 동시 요청 최대치이며 실제 동시 요청 수와 시작 속도는 {@link
+ * LLMRateLimitManager}가 정한다. 429를 받은 작업은 원래 순서 그대로 큐에 다시 넣고, max-rate-limit-requeues번을 넘으면 실패로
+ * 끝낸다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -27,7 +36,15 @@ public class LLMQueueManager {
   @Value("${llm.queue.worker-threads:5}")
   private int workerThreads;
 
-  private final BlockingQueue<LLMTask<?>> taskQueue = new LinkedBlockingQueue<>();
+  @Value("${llm.queue.max-rate-limit-requeues:10}")
+  private int maxRateLimitRequeues;
+
+  private final BlockingQueue<LLMTask<?>> taskQueue =
+      new PriorityBlockingQueue<>(
+          64,
+          Comparator.<LLMTask<?>, LLMTaskPriority>comparing(task -> task.priority)
+              .thenComparingLong(task -> task.sequence));
+  private final AtomicLong sequence = new AtomicLong();
   private final AtomicBoolean running = new AtomicBoolean(true);
   private final AtomicInteger activeWorkers = new AtomicInteger(0);
   private ExecutorService executorService;
@@ -75,39 +92,24 @@ public class LLMQueueManager {
     log.debug("LLM Worker {} 시작", workerId);
     while (running.get()) {
       try {
-        boolean isLimited = rateLimitManager.isRateLimited();
-        if (isLimited) {
-          rateLimitManager.waitIfRateLimited();
-          continue;
-        }
-
         LLMTask<?> task = taskQueue.poll(1, TimeUnit.SECONDS);
         if (task == null) {
           continue;
         }
-
+        // 작업을 꺼내고 시작 토큰을 받은 뒤 호출하는 동안만 동시 요청 자리를 차지한다 (대기 중인 워커는 세지 않는다)
+        try {
+          rateLimitManager.acquireToken();
+          rateLimitManager.acquirePermit();
+        } catch (InterruptedException e) {
+          taskQueue.offer(task);
+          throw e;
+        }
         activeWorkers.incrementAndGet();
-        log.debug("Worker {} - LLM 작업 처리 시작: {}", workerId, task.description);
-
         try {
-          String response = llmService.callLLMAPI(task.prompt, task.temperature);
-
-          processTaskResult(task, response);
-          log.debug("Worker {} - LLM 작업 완료: {}", workerId, task.description);
-
-        } catch (Exception e) {
-          if (e.getMessage() != null && e.getMessage().contains("429")) {
-            log.warn("Rate limit 감지 - 모든 작업 중단");
-            rateLimitManager.setRateLimitActive();
-            try {
-              taskQueue.put(task);
-            } catch (InterruptedException ie) {
-              Thread.currentThread().interrupt();
-            }
-          } else {
-            log.error("LLM 작업 실패: {}", task.description, e);
-            task.future.completeExceptionally(e);
-          }
+          execute(workerId, task);
+        } finally {
+          activeWorkers.decrementAndGet();
+          rateLimitManager.releasePermit();
         }
 
       } catch (InterruptedException e) {
@@ -115,21 +117,51 @@ public class LLMQueueManager {
         break;
       } catch (Exception e) {
         log.error("Worker {} - 예상치 못한 오류", workerId, e);
-      } finally {
-        activeWorkers.decrementAndGet();
       }
     }
     log.debug("LLM Worker {} 종료", workerId);
   }
 
+  private void execute(int workerId, LLMTask<?> task) throws InterruptedException {
+    log.debug("Worker {} - LLM 작업 처리 시작: {}", workerId, task.description);
+
+    try {
+      // 성공 지연 시간은 LLMService가 마지막 시도만 재서 속도 제어에 반영한다
+      String response = llmService.callLLMAPI(task.prompt, task.temperature);
+      processTaskResult(task, response);
+      log.debug("Worker {} - LLM 작업 완료: {}", workerId, task.description);
+
+    } catch (LLMRateLimitException e) {
+      rateLimitManager.onRateLimited(e.getRetryAfterMs());
+      if (++task.rateLimitRequeues > maxRateLimitRequeues) {
+        log.error("LLM 작업 실패 - 429 재시도 {}회 초과: {}", maxRateLimitRequeues, task.description);
+        task.future.completeExceptionally(e);
+        return;
+      }
+      taskQueue.put(task);
+    } catch (Exception e) {
+      log.error("LLM 작업 실패: {}", task.description, e);
+      task.future.completeExceptionally(e);
+    }
+  }
+
   public <T> CompletableFuture<T> submitTask(
       String prompt,
       Double temperature,
       Function<String, T> responseProcessor,
-      String description) {
+      String description,
+      LLMTaskPriority priority) {
 
     CompletableFuture<T> future = new CompletableFuture<>();
-    LLMTask<T> task = new LLMTask<>(prompt, temperature, responseProcessor, future, description);
+    LLMTask<T> task =
+        new LLMTask<>(
+            prompt,
+            temperature,
+            responseProcessor,
+            future,
+            description,
+            priority,
+            sequence.incrementAndGet());
 
     try {
       taskQueue.put(task);
@@ -141,8 +173,9 @@ public class LLMQueueManager {
     return future;
   }
 
-  public CompletableFuture<String> submitSimpleTask(String prompt, String description) {
-    return submitTask(prompt, null, response -> response, description);
+  public CompletableFuture<String> submitSimpleTask(
+      String prompt, String description, LLMTaskPriority priority) {
+    return submitTask(prompt, null, response -> response, description, priority);
   }
 
   @SuppressWarnings("unchecked")
@@ -152,14 +185,6 @@ public class LLMQueueManager {
     typedTask.future.complete(result);
   }
 
-  public void startHealthCheck() {
-    rateLimitManager.startHealthCheck();
-  }
-
-  public void stopHealthCheck() {
-    rateLimitManager.stopHealthCheck();
-  }
-
   public int getQueueSize() {
     return taskQueue.size();
   }
@@ -175,5 +200,9 @@ public class LLMQueueManager {
     final Function<String, T> responseProcessor;
     final CompletableFuture<T> future;
     final String description;
+    final LLMTaskPriority priority;
+    final long sequence;
+    // 429로 큐에 다시 넣은 횟수 (작업을 꺼낸 워커만 변경)
+    int rateLimitRequeues;
   }
 }
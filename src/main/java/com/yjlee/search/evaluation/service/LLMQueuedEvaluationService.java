@@ -1,62 +1,60 @@
 package com.yjlee.search.evaluation.service;
 
 import com.yjlee.search.evaluation.model.EvaluationQuery;
+import com.yjlee.search.evaluation.model.LLMJudgment;
+import com.yjlee.search.evaluation.model.LLMTaskPriority;
 import com.yjlee.search.evaluation.model.QueryProductMapping;
 import com.yjlee.search.evaluation.repository.EvaluationQueryRepository;
 import com.yjlee.search.evaluation.repository.QueryProductMappingRepository;
 import com.yjlee.search.index.dto.ProductDocument;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * 후보군 평가 배치 큐. 배치는 우선순위(같으면 추가 순서) 순으로 꺼내므로 선택 쿼리 평가가 전체 평가 뒤에 밀리지 않는다. 진행률은 평가 요청별로 따로
+ * 센다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class LLMQueuedEvaluationService {
 
-  private final LLMRateLimitManager rateLimitManager;
   private final LLMQueryEvaluationWorker evaluationWorker;
   private final EvaluationQueryRepository evaluationQueryRepository;
   private final QueryProductMappingRepository queryProductMappingRepository;
   private final LLMBatchProcessor batchProcessor;
-
-  @Value("${evaluation.llm.batch-size:10}")
-  private int batchSize;
+  private final LLMJudgmentCacheService judgmentCacheService;
 
   @Value("${evaluation.llm.worker-threads:20}")
   private int workerThreads;
 
   // 평가 작업 큐
-  private final ConcurrentLinkedQueue<EvaluationBatch> evaluationQueue =
-      new ConcurrentLinkedQueue<>();
+  private final PriorityBlockingQueue<EvaluationBatch> evaluationQueue =
+      new PriorityBlockingQueue<>(
+          64,
+          Comparator.<EvaluationBatch, LLMTaskPriority>comparing(batch -> batch.priority)
+              .thenComparingLong(batch -> batch.sequence));
+  private final AtomicLong batchSequence = new AtomicLong();
   private final AtomicInteger activeWorkers = new AtomicInteger(0);
-  private final AtomicInteger totalBatchesAdded = new AtomicInteger(0);
-  private final AtomicInteger totalBatchesProcessed = new AtomicInteger(0);
 
-  // 큐 처리 스케줄러 (100ms마다 실행)
+  // 큐 처리 스케줄러 (100ms마다 실행, 빈 워커 수만큼 꺼낸다)
   @Scheduled(fixedDelay = 100)
   public void processQueueScheduler() {
-    // Rate limit 상태 체크
-    if (rateLimitManager.isRateLimited()) {
-      return;
-    }
-
-    // 동시 실행 워커 수 제한
-    if (activeWorkers.get() >= workerThreads) {
-      return;
-    }
-
-    // 큐에서 배치 가져오기
-    EvaluationBatch batch = evaluationQueue.poll();
-    if (batch != null) {
-      // activeWorkers 증가
+    while (activeWorkers.get() < workerThreads) {
+      EvaluationBatch batch = evaluationQueue.poll();
+      if (batch == null) {
+        return;
+      }
       activeWorkers.incrementAndGet();
 
       // 비동기로 배치 처리
@@ -65,96 +63,118 @@ public class LLMQueuedEvaluationService {
           batch.products,
           batch.mappings,
           batch.evaluationQuery,
+          batch.priority,
           () -> {
-            // 성공 콜백
-            totalBatchesProcessed.incrementAndGet();
-            activeWorkers.decrementAndGet();
-          },
-          () -> {
-            // Rate limit 콜백
-            evaluationQueue.offer(batch);
+            batch.job.processed.incrementAndGet();
             activeWorkers.decrementAndGet();
           });
     }
   }
 
-  public void evaluateCandidatesForQueries(List<Long> queryIds) {
-    evaluateCandidatesForQueries(queryIds, null);
+  public LLMJudgmentCacheService.Stats evaluateCandidatesForQueries(
+      List<Long> queryIds, LLMTaskPriority priority) {
+    return evaluateCandidatesForQueries(queryIds, priority, null);
   }
 
-  public void evaluateCandidatesForQueries(List<Long> queryIds, ProgressCallback progressCallback) {
-    log.info("큐 기반 LLM 평가 시작 (평가 안 된 항목만): {}개 쿼리", queryIds.size());
-
-    // 카운터 초기화
-    totalBatchesAdded.set(0);
-    totalBatchesProcessed.set(0);
-
-    // Health check 스레드 시작
-    rateLimitManager.startHealthCheck();
+  /** 판정 캐시에 있는 항목은 바로 반영하고 나머지만 큐에 넣는다. */
+  public LLMJudgmentCacheService.Stats evaluateCandidatesForQueries(
+      List<Long> queryIds, LLMTaskPriority priority, ProgressCallback progressCallback) {
+    log.info(
+        "큐 기반 LLM 평가 시작 (평가 안 된 항목만): {}개 쿼리, 우선순위: {}", queryIds.size(), priority);
+    LLMJudgmentCacheService.Stats cacheStats = new LLMJudgmentCacheService.Stats();
+    EvaluationJob job = new EvaluationJob();
+
+    List<EvaluationQuery> queries = evaluationQueryRepository.findAllById(queryIds);
+    if (queries.isEmpty()) {
+      log.warn("평가할 쿼리가 없습니다");
+      return cacheStats;
+    }
 
-    try {
-      List<EvaluationQuery> queries = evaluationQueryRepository.findAllById(queryIds);
-      if (queries.isEmpty()) {
-        log.warn("평가할 쿼리가 없습니다");
-        return;
+    int totalBatches = 0;
+    for (EvaluationQuery query : queries) {
+      // 평가 안 된 매핑만 조회
+      List<QueryProductMapping> mappings =
+          queryProductMappingRepository.findByEvaluationQueryAndRelevanceScoreIsNull(query);
+      if (mappings.isEmpty()) {
+        log.info("쿼리 '{}' - 평가할 항목이 없습니다 (모두 평가 완료)", query.getQuery());
+        continue;
       }
 
-      int totalBatches = 0;
-      for (EvaluationQuery query : queries) {
-        // 평가 안 된 매핑만 조회
-        List<QueryProductMapping> mappings =
-            queryProductMappingRepository.findByEvaluationQueryAndRelevanceScoreIsNull(query);
-        if (mappings.isEmpty()) {
-          log.info("쿼리 '{}' - 평가할 항목이 없습니다 (모두 평가 완료)", query.getQuery());
-          continue;
-        }
+      log.info("쿼리 '{}' - {}개 항목 평가 예정", query.getQuery(), mappings.size());
 
-        log.info("쿼리 '{}' - {}개 항목 평가 예정", query.getQuery(), mappings.size());
+      // 배치로 나누어 큐에 추가
+      Map<String, ProductDocument> productMap =
+          evaluationWorker.getProductsBulk(
+              mappings.stream().map(QueryProductMapping::getProductId).toList());
 
-        // 배치로 나누어 큐에 추가
-        Map<String, ProductDocument> productMap =
-            evaluationWorker.getProductsBulk(
-                mappings.stream().map(QueryProductMapping::getProductId).toList());
+      List<ProductDocument> validProducts = new ArrayList<>();
+      List<QueryProductMapping> validMappings = new ArrayList<>();
 
-        List<ProductDocument> validProducts = new ArrayList<>();
-        List<QueryProductMapping> validMappings = new ArrayList<>();
-
-        for (QueryProductMapping mapping : mappings) {
-          ProductDocument product = productMap.get(mapping.getProductId());
-          if (product != null) {
-            validProducts.add(product);
-            validMappings.add(mapping);
-          }
+      List<String> fingerprints = new ArrayList<>();
+      for (QueryProductMapping mapping : mappings) {
+        ProductDocument product = productMap.get(mapping.getProductId());
+        if (product != null) {
+          validProducts.add(product);
+          validMappings.add(mapping);
+          fingerprints.add(judgmentCacheService.fingerprint(query.getQuery(), product, mapping));
         }
+      }
 
-        // 배치 크기로 나누어 큐에 추가
-        for (int i = 0; i < validProducts.size(); i += batchSize) {
-          int endIdx = Math.min(i + batchSize, validProducts.size());
-          EvaluationBatch batch =
-              new EvaluationBatch(
-                  query.getQuery(),
-                  validProducts.subList(i, endIdx),
-                  validMappings.subList(i, endIdx),
-                  query);
-          evaluationQueue.offer(batch);
-          totalBatches++;
-          totalBatchesAdded.incrementAndGet();
+      // 캐시 적중 항목은 LLM 호출 없이 저장
+      Map<String, LLMJudgment> cached = judgmentCacheService.findAll(fingerprints);
+      if (!cached.isEmpty()) {
+        List<ProductDocument> missProducts = new ArrayList<>();
+        List<QueryProductMapping> missMappings = new ArrayList<>();
+        List<QueryProductMapping> hitMappings = new ArrayList<>();
+        for (int i = 0; i < validMappings.size(); i++) {
+          LLMJudgment judgment = cached.get(fingerprints.get(i));
+          if (judgment != null) {
+            hitMappings.add(evaluationWorker.applyJudgment(validMappings.get(i), judgment));
+          } else {
+            missProducts.add(validProducts.get(i));
+            missMappings.add(validMappings.get(i));
+          }
         }
+        queryProductMappingRepository.saveAll(hitMappings);
+        validProducts = missProducts;
+        validMappings = missMappings;
       }
+      cacheStats.add(fingerprints.size() - validMappings.size(), validMappings.size());
+
+      // 프롬프트 토큰 예산 단위로 나누어 큐에 추가
+      List<int[]> ranges =
+          evaluationWorker.planBatches(query.getQuery(), validProducts, validMappings);
+      for (int[] range : ranges) {
+        EvaluationBatch batch =
+            new EvaluationBatch(
+                query.getQuery(),
+                validProducts.subList(range[0], range[1]),
+                validMappings.subList(range[0], range[1]),
+                query,
+                priority,
+                batchSequence.incrementAndGet(),
+                job);
+        job.added.incrementAndGet();
+        evaluationQueue.offer(batch);
+        totalBatches++;
+      }
+    }
 
-      log.info("총 {}개 배치를 큐에 추가 완료 (평가 안 된 항목만 처리)", totalBatches);
-
-      // 모든 작업이 완료될 때까지 대기
-      waitForCompletion(totalBatches, progressCallback);
+    log.info(
+        "총 {}개 배치를 큐에 추가 완료 (평가 안 된 항목만 처리) - 판정 캐시 적중: {}/{} ({}%)",
+        totalBatches,
+        cacheStats.getHits(),
+        cacheStats.getHits() + cacheStats.getMisses(),
+        String.format("%.1f", cacheStats.hitRate() * 100));
 
-    } finally {
-      // Health check 스레드 종료
-      rateLimitManager.stopHealthCheck();
-      log.info("LLM 평가 완료 - Health check 스레드 종료");
+    // 모든 작업이 완료될 때까지 대기
+    if (totalBatches > 0) {
+      waitForCompletion(job, progressCallback);
     }
+    return cacheStats;
   }
 
-  private void waitForCompletion(int totalBatches, ProgressCallback progressCallback) {
+  private void waitForCompletion(EvaluationJob job, ProgressCallback progressCallback) {
     // 초기 대기: 워커들이 큐에서 작업을 가져갈 시간을 줌
     try {
       Thread.sleep(500);
@@ -167,8 +187,8 @@ public class LLMQueuedEvaluationService {
     while (true) {
       int queueSize = evaluationQueue.size();
       int activeCount = activeWorkers.get();
-      int addedCount = totalBatchesAdded.get();
-      int processedCount = totalBatchesProcessed.get();
+      int addedCount = job.added.get();
+      int processedCount = job.processed.get();
 
       log.info(
           "진행 상황: 큐 대기 {}개, 활성 Worker {}개, 처리 완료 {}/{}",
@@ -210,7 +230,13 @@ public class LLMQueuedEvaluationService {
         break;
       }
     }
-    log.info("모든 평가 작업 완료 - 총 {}개 배치 처리", totalBatchesProcessed.get());
+    log.info("모든 평가 작업 완료 - 총 {}개 배치 처리", job.processed.get());
+  }
+
+  // 평가 요청 하나의 배치 진행 카운터
+  private static class EvaluationJob {
+    final AtomicInteger added = new AtomicInteger(0);
+    final AtomicInteger processed = new AtomicInteger(0);
   }
 
   // 평가 배치 데이터 클래스
@@ -219,16 +245,25 @@ public class LLMQueuedEvaluationService {
     final List<ProductDocument> products;
     final List<QueryProductMapping> mappings;
     final EvaluationQuery evaluationQuery;
+    final LLMTaskPriority priority;
+    final long sequence;
+    final EvaluationJob job;
 
     EvaluationBatch(
         String query,
         List<ProductDocument> products,
         List<QueryProductMapping> mappings,
-        EvaluationQuery evaluationQuery) {
+        EvaluationQuery evaluationQuery,
+        LLMTaskPriority priority,
+        long sequence,
+        EvaluationJob job) {
       this.query = query;
       this.products = products;
       this.mappings = mappings;
       this.evaluationQuery = evaluationQuery;
+      this.priority = priority;
+      this.sequence = sequence;
+      this.job = job;
     }
   }
 }
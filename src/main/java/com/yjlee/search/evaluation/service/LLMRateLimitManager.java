@@ -1,112 +1,99 @@
 package com.yjlee.search.evaluation.service;
 
-import jakarta.annotation.PreDestroy;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import com.yjlee.search.evaluation.service.ratelimit.AimdConcurrencyLimiter;
+import com.yjlee.search.evaluation.service.ratelimit.RateLimitHeaders;
+import com.yjlee.search.evaluation.service.ratelimit.TokenBucket;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+/**
+ * LLM 호출 속도 제어. 요청 시작은 토큰 버킷(응답 헤더의 분당 한도/남은 요청 수로 보정)으로, 동시 요청 수는 AIMD 한도로 제한한다.
+ *
+ * <p>429를 받으면 전체를 멈추고 health check로 풀던 방식 대신, 서버가 알려준 시간만큼 버킷을 멈추고 동시 요청 한도를 절반으로 줄인다. 이후 성공할
+ * 때마다 한도를 다시 늘린다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class LLMRateLimitManager {
 
-  private final LLMService llmService;
-  private final AtomicBoolean isRateLimited = new AtomicBoolean(false);
-  private ScheduledExecutorService scheduler;
-  private final AtomicBoolean running = new AtomicBoolean(false);
-  private final Lock lock = new ReentrantLock();
+  private final TokenBucket tokenBucket;
+  private final AimdConcurrencyLimiter concurrencyLimiter;
+  private final long defaultPauseMs;
 
-  public void startHealthCheck() {
-    lock.lock();
-    try {
-      if (running.get()) {
-        log.debug("Health check 이미 실행 중");
-        return;
-      }
-
-      running.set(true);
-      scheduler = Executors.newScheduledThreadPool(1);
+  public LLMRateLimitManager(
+      @Value("${llm.queue.worker-threads:5}") int maxConcurrency,
+      @Value("${llm.queue.initial-concurrency:2}") int initialConcurrency,
+      @Value("${llm.queue.min-concurrency:1}") int minConcurrency,
+      @Value("${llm.queue.latency-tolerance:2.0}") double latencyTolerance,
+      @Value("${llm.queue.rate-limit-pause-ms:1000}") long defaultPauseMs,
+      @Value("${openai.api.requests-per-minute:0}") long requestsPerMinute) {
+    this.tokenBucket = new TokenBucket(requestsPerMinute, System::nanoTime);
+    this.concurrencyLimiter =
+        new AimdConcurrencyLimiter(
+            initialConcurrency, minConcurrency, maxConcurrency, latencyTolerance, System::nanoTime);
+    this.defaultPauseMs = defaultPauseMs;
+    log.info(
+        "LLM 속도 제어 초기화 - 동시 요청: {} (최소 {}, 최대 {}), 분당 요청: {}",
+        concurrencyLimiter.getLimit(),
+        minConcurrency,
+        maxConcurrency,
+        requestsPerMinute > 0 ? requestsPerMinute : "응답 헤더로 설정");
+  }
 
-      // 초기 지연 없이 5초마다 실행
-      scheduler.scheduleWithFixedDelay(this::performHealthCheck, 0, 5, TimeUnit.SECONDS);
-      log.info("LLM health check 스케줄러 시작");
-    } finally {
-      lock.unlock();
-    }
+  /** 동시 요청 자리 확보. 호출 후 반드시 {@link #releasePermit()} */
+  public void acquirePermit() throws InterruptedException {
+    concurrencyLimiter.acquire();
   }
 
-  public void stopHealthCheck() {
-    lock.lock();
-    try {
-      if (!running.get()) {
-        log.debug("Health check 이미 중지됨");
-        return;
-      }
+  public void releasePermit() {
+    concurrencyLimiter.release();
+  }
 
-      running.set(false);
-      if (scheduler != null) {
-        scheduler.shutdown();
-        try {
-          if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
-            scheduler.shutdownNow();
-          }
-        } catch (InterruptedException e) {
-          scheduler.shutdownNow();
-          Thread.currentThread().interrupt();
-        }
-        scheduler = null;
-      }
-      log.info("LLM health check 스케줄러 종료");
-    } finally {
-      lock.unlock();
-    }
+  /** 요청 시작 토큰 확보 (429 후 대기 중이면 대기 시간이 끝날 때까지) */
+  public void acquireToken() throws InterruptedException {
+    tokenBucket.acquire();
   }
 
-  private void performHealthCheck() {
-    try {
-      if (isRateLimited.get()) {
-        // Rate limit 상태일 때만 health check 수행
-        if (llmService.isHealthy()) {
-          clearRateLimit();
-          log.info("Health check 성공 - Rate limit 해제됨");
-        } else {
-          log.debug("Health check 실패 - Rate limit 여전히 활성");
-        }
-      }
-    } catch (Exception e) {
-      log.error("Health check 오류", e);
-    }
+  /**
+   * 성공 응답 반영
+   *
+   * @param latencyMs 재시도 대기를 뺀 마지막 시도의 지연 시간
+   * @param promptChars 프롬프트 길이 (길이 구간별 기준 지연과 비교)
+   */
+  public void onSuccess(long latencyMs, int promptChars) {
+    concurrencyLimiter.onSuccess(latencyMs, promptChars);
   }
 
-  public void setRateLimitActive() {
-    isRateLimited.getAndSet(true);
-    log.warn("Rate limit 활성화 - Health check로 해제 확인 예정");
+  public void onRateLimited(long retryAfterMs) {
+    long pauseMs = retryAfterMs > 0 ? retryAfterMs : defaultPauseMs;
+    tokenBucket.pause(TimeUnit.MILLISECONDS.toNanos(pauseMs));
+    concurrencyLimiter.onRateLimited();
+    log.warn(
+        "Rate limit 감지 - {}ms 대기, 동시 요청 한도 {}로 조정", pauseMs, concurrencyLimiter.getLimit());
   }
 
-  public void clearRateLimit() {
-    isRateLimited.getAndSet(false);
-    log.info("Rate limit 해제됨");
+  /** 응답 헤더의 rate limit 정보 반영 (성공/실패 응답 모두) */
+  public void updateFromHeaders(LLMHttpClient.Response response) {
+    long limit = RateLimitHeaders.limitRequests(response::header);
+    long remaining = RateLimitHeaders.remainingRequests(response::header);
+    if (limit < 0 && remaining < 0) {
+      return;
+    }
+    long resetMs = RateLimitHeaders.resetRequestsMs(response::header);
+    tokenBucket.update(limit, remaining, TimeUnit.MILLISECONDS.toNanos(Math.max(0, resetMs)));
   }
 
   public boolean isRateLimited() {
-    return isRateLimited.get();
+    return tokenBucket.isPaused();
   }
 
-  public void waitIfRateLimited() throws InterruptedException {
-    while (isRateLimited()) {
-      log.debug("Rate limit 대기 중... Health check가 해제 확인 중");
-      TimeUnit.SECONDS.sleep(1);
-    }
+  public int getConcurrencyLimit() {
+    return concurrencyLimiter.getLimit();
   }
 
-  @PreDestroy
-  public void shutdown() {
-    stopHealthCheck();
+  public int getInFlight() {
+    return concurrencyLimiter.getInFlight();
   }
 }
@@ -1,22 +1,21 @@
 package com.yjlee.search.evaluation.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yjlee.search.evaluation.exception.LLMRateLimitException;
+import com.yjlee.search.evaluation.service.ratelimit.RateLimitHeaders;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class LLMService {
 
-  private final ObjectMapper objectMapper;
+  private final LLMHttpClient llmHttpClient;
+  private final LLMRateLimitManager rateLimitManager;
 
   @Value("${openai.api.url}")
   private String openaiApiUrl;
@@ -27,12 +26,6 @@ public class LLMService {
   @Value("${openai.api.model:gpt-5-nano}")
   private String openaiModel;
 
-  @Value("${openai.api.connect-timeout-ms:8000}")
-  private int connectTimeoutMs;
-
-  @Value("${openai.api.read-timeout-ms:45000}")
-  private int readTimeoutMs;
-
   @Value("${openai.api.max-retries:3}")
   private int maxRetries;
 
@@ -43,6 +36,8 @@ public class LLMService {
     try {
       log.debug("LLM API 호출 시작");
       return performAPICall(prompt, null);
+    } catch (LLMRateLimitException e) {
+      throw e;
     } catch (Exception e) {
       log.error("LLM API 호출 실패: {}", e.getMessage(), e);
       throw new RuntimeException("LLM API 호출 실패: " + e.getMessage(), e);
@@ -54,6 +49,8 @@ public class LLMService {
       // temperature 파라미터는 더 이상 사용하지 않음 (모델 정책에 따라 미지원)
       log.debug("LLM API 호출 시작 (temperature 파라미터 무시)");
       return performAPICall(prompt, null);
+    } catch (LLMRateLimitException e) {
+      throw e;
     } catch (Exception e) {
       log.error("LLM API 호출 실패: {}", e.getMessage(), e);
       throw new RuntimeException("LLM API 호출 실패: " + e.getMessage(), e);
@@ -61,43 +58,44 @@ public class LLMService {
   }
 
   private String performAPICall(String prompt, Double temperature) throws Exception {
-    SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-    requestFactory.setConnectTimeout(connectTimeoutMs);
-    requestFactory.setReadTimeout(readTimeoutMs);
-    RestTemplate timedRestTemplate = new RestTemplate(requestFactory);
-
-    HttpHeaders headers = new HttpHeaders();
-    headers.setContentType(MediaType.APPLICATION_JSON);
-    headers.set("Authorization", "Bearer " + openaiApiKey);
-
     Map<String, Object> requestBody = new HashMap<>();
     requestBody.put("model", openaiModel);
     requestBody.put("messages", Arrays.asList(Map.of("role", "user", "content", prompt)));
 
-    HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
     int attempt = 0;
     RuntimeException lastEx = null;
     while (attempt < Math.max(1, maxRetries)) {
       attempt++;
       try {
-        ResponseEntity<String> response =
-            timedRestTemplate.exchange(openaiApiUrl, HttpMethod.POST, entity, String.class);
-        if (!response.getStatusCode().is2xxSuccessful()) {
-          int status = response.getStatusCode().value();
-          throw new RuntimeException("HTTP " + status + ": " + response.getBody());
+        long startNanos = System.nanoTime();
+        LLMHttpClient.Response response =
+            llmHttpClient.postJson(openaiApiUrl, openaiApiKey, requestBody);
+        long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        rateLimitManager.updateFromHeaders(response);
+        if (response.getStatus() == 429) {
+          // 재시도하지 않고 상위로 전파 (LLMQueueManager가 대기 후 다시 큐에 넣음)
+          throw new LLMRateLimitException(
+              "429 Rate limit exceeded: " + response.getErrorBody(),
+              RateLimitHeaders.retryAfterMs(response::header));
+        }
+        if (!response.isSuccessful()) {
+          throw new RuntimeException(
+              "HTTP " + response.getStatus() + ": " + response.getErrorBody());
         }
 
-        JsonNode jsonNode = objectMapper.readTree(response.getBody());
-        return jsonNode.path("choices").get(0).path("message").path("content").asText();
+        String content =
+            response.getJson().path("choices").get(0).path("message").path("content").asText();
+        // 재시도 대기를 뺀 마지막 시도의 지연 시간만 반영
+        rateLimitManager.onSuccess(latencyMs, prompt.length());
+        return content;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("LLM API 호출 중단", e);
+      } catch (LLMRateLimitException e) {
+        throw e;
       } catch (Exception e) {
         lastEx = new RuntimeException("LLM API 호출 실패: " + e.getMessage(), e);
 
-        // 429 에러는 즉시 상위로 전파 (LLMQueueManager가 처리)
-        if (e.getMessage() != null && e.getMessage().contains("429")) {
-          throw new RuntimeException("429 Rate limit exceeded", e);
-        }
-
         // 마지막 시도가 아니면 재시도
         if (attempt < Math.max(1, maxRetries)) {
           long backoff = (long) (initialBackoffMs * Math.pow(2, attempt - 1));
@@ -118,45 +116,4 @@ public class LLMService {
     }
     throw lastEx != null ? lastEx : new RuntimeException("LLM API 호출 실패");
   }
-
-  /** Rate limit 상태 확인을 위한 health check */
-  public boolean isHealthy() {
-    try {
-      log.debug("LLM API health check 시작");
-
-      SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-      requestFactory.setConnectTimeout(connectTimeoutMs);
-      requestFactory.setReadTimeout(readTimeoutMs);
-      RestTemplate timedRestTemplate = new RestTemplate(requestFactory);
-
-      // 최소한의 토큰으로 API 호출
-      HttpHeaders headers = new HttpHeaders();
-      headers.setContentType(MediaType.APPLICATION_JSON);
-      headers.set("Authorization", "Bearer " + openaiApiKey);
-
-      Map<String, Object> requestBody = new HashMap<>();
-      requestBody.put("model", openaiModel);
-      requestBody.put("messages", Arrays.asList(Map.of("role", "user", "content", "1")));
-      requestBody.put("max_completion_tokens", 1); // 최소 응답 토큰
-
-      HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-      ResponseEntity<String> response =
-          timedRestTemplate.exchange(openaiApiUrl, HttpMethod.POST, entity, String.class);
-
-      boolean healthy = response.getStatusCode().is2xxSuccessful();
-      if (healthy) {
-        log.debug("LLM API health check 성공");
-      }
-      return healthy;
-
-    } catch (Exception e) {
-      if (e.getMessage() != null && e.getMessage().contains("429")) {
-        log.debug("LLM API health check - Rate limit 여전히 활성");
-      } else {
-        log.debug("LLM API health check 실패: {}", e.getMessage());
-      }
-      return false;
-    }
-  }
 }
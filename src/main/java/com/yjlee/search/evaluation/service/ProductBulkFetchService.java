@@ -25,6 +25,8 @@ import org.springframework.util.ObjectUtils;
 @RequiredArgsConstructor
 public class ProductBulkFetchService {
 
+  private static final int MGET_CHUNK_SIZE = 1000;
+
   private final ElasticsearchClient elasticsearchClient;
   private final IndexEnvironmentService environmentService;
 
@@ -57,16 +59,7 @@ public class ProductBulkFetchService {
           elasticsearchClient.mget(request, ProductDocument.class);
 
       Map<String, ProductDocument> productMap = new HashMap<>();
-      for (MultiGetResponseItem<ProductDocument> item : response.docs()) {
-        if (item.result() != null && item.result().found()) {
-          String productId = item.result().id();
-          ProductDocument product = item.result().source();
-          if (product != null) {
-            productMap.put(productId, product);
-          }
-        }
-      }
-
+      collect(response, productMap);
       return productMap;
 
     } catch (Exception e) {
@@ -75,6 +68,45 @@ public class ProductBulkFetchService {
     }
   }
 
+  /**
+   * 지정한 _source 필드만 담아 상품 일괄 조회. {@value #MGET_CHUNK_SIZE}개씩 나눠 조회하고, 조회에 실패한 묶음의 상품은 결과에서 빠진다.
+   */
+  public Map<String, ProductDocument> fetchFields(
+      List<String> productIds, EnvironmentType environmentType, List<String> fields) {
+
+    Map<String, ProductDocument> productMap = new HashMap<>();
+    if (ObjectUtils.isEmpty(productIds)) {
+      return productMap;
+    }
+
+    String indexName = environmentService.getEnvironment(environmentType).getIndexName();
+    for (int from = 0; from < productIds.size(); from += MGET_CHUNK_SIZE) {
+      List<String> chunk =
+          productIds.subList(from, Math.min(from + MGET_CHUNK_SIZE, productIds.size()));
+      try {
+        MgetResponse<ProductDocument> response =
+            elasticsearchClient.mget(
+                m -> m.index(indexName).ids(chunk).sourceIncludes(fields), ProductDocument.class);
+        collect(response, productMap);
+      } catch (Exception e) {
+        log.warn("ES 상품 필드 일괄 조회 실패 - {}건", chunk.size(), e);
+      }
+    }
+    return productMap;
+  }
+
+  private void collect(
+      MgetResponse<ProductDocument> response, Map<String, ProductDocument> productMap) {
+    for (MultiGetResponseItem<ProductDocument> item : response.docs()) {
+      if (item.result() != null && item.result().found()) {
+        ProductDocument product = item.result().source();
+        if (product != null) {
+          productMap.put(item.result().id(), product);
+        }
+      }
+    }
+  }
+
   private Map<String, ProductDocument> fetchIndividually(
       List<String> productIds, EnvironmentType environmentType) {
 
@@ -2,57 +2,78 @@ package com.yjlee.search.evaluation.service;
 
 import static com.yjlee.search.evaluation.constants.EvaluationConstants.EVALUATION_SOURCE_SEARCH;
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
-import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
-import co.elastic.clients.elasticsearch.core.SearchRequest;
-import co.elastic.clients.elasticsearch.core.SearchResponse;
-import co.elastic.clients.elasticsearch.core.search.Hit;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.yjlee.search.common.constants.ESFields;
 import com.yjlee.search.common.enums.EnvironmentType;
-import com.yjlee.search.deployment.model.IndexEnvironment;
 import com.yjlee.search.deployment.service.IndexEnvironmentService;
 import com.yjlee.search.evaluation.model.EvaluationQuery;
 import com.yjlee.search.evaluation.model.QueryProductMapping;
 import com.yjlee.search.evaluation.repository.EvaluationQueryRepository;
 import com.yjlee.search.evaluation.repository.QueryProductMappingRepository;
+import com.yjlee.search.evaluation.util.CandidatePool;
 import com.yjlee.search.index.dto.ProductDocument;
-import com.yjlee.search.search.constants.VectorSearchConstants;
-import com.yjlee.search.search.dto.SearchExecuteRequest;
-import com.yjlee.search.search.service.VectorSearchService;
-import com.yjlee.search.search.service.builder.QueryBuilder;
 import jakarta.annotation.PreDestroy;
-import java.util.*;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 검색 기반 정답 후보군 생성. 쿼리를 batch-size개씩 묶어 묶음마다 모든 쿼리의 BM25, 바이그램, 벡터 검색을 _source 없이 msearch 한 번으로
+ * 보내고, 묶음 전체에서 중복을 뺀 상품의 이름/스펙/카테고리만 한 번 조회한다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class SearchBasedGroundTruthService {
 
-  private final ElasticsearchClient elasticsearchClient;
+  // 후보군 저장에 필요한 상품 필드
+  private static final List<String> PRODUCT_FIELDS =
+      List.of(ESFields.PRODUCT_NAME_RAW, ESFields.PRODUCT_SPECS_RAW, ESFields.CATEGORY_NAME);
+
   private final IndexEnvironmentService environmentService;
   private final EvaluationQueryRepository evaluationQueryRepository;
   private final QueryProductMappingRepository queryProductMappingRepository;
-  private final VectorSearchService vectorSearchService;
-  private final QueryBuilder queryBuilder;
+  private final EvaluationRetrievalService retrievalService;
   private final ProductBulkFetchService productBulkFetchService;
-
-  private static final int FIXED_PER_STRATEGY = 301;
-  private static final int MAX_PARALLEL_QUERIES = 5;
+  private final EvaluationBulkWriter bulkWriter;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final int perSourceSize;
 
   // 제한된 스레드 풀로 동시 실행 제어
-  private final ExecutorService queryExecutor = Executors.newFixedThreadPool(MAX_PARALLEL_QUERIES);
+  private final ExecutorService batchExecutor;
+
+  public SearchBasedGroundTruthService(
+      IndexEnvironmentService environmentService,
+      EvaluationQueryRepository evaluationQueryRepository,
+      QueryProductMappingRepository queryProductMappingRepository,
+      EvaluationRetrievalService retrievalService,
+      ProductBulkFetchService productBulkFetchService,
+      EvaluationBulkWriter bulkWriter,
+      PlatformTransactionManager transactionManager,
+      @Value("${evaluation.candidate.batch-size:20}") int batchSize,
+      @Value("${evaluation.candidate.worker-threads:5}") int workerThreads,
+      @Value("${evaluation.candidate.per-source-size:300}") int perSourceSize) {
+    this.environmentService = environmentService;
+    this.evaluationQueryRepository = evaluationQueryRepository;
+    this.queryProductMappingRepository = queryProductMappingRepository;
+    this.retrievalService = retrievalService;
+    this.productBulkFetchService = productBulkFetchService;
+    this.bulkWriter = bulkWriter;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = Math.max(1, batchSize);
+    this.perSourceSize = perSourceSize;
+    this.batchExecutor = Executors.newFixedThreadPool(Math.max(1, workerThreads));
+  }
 
   public void generateCandidatesFromSearch() {
     generateCandidatesFromSearch(null);
@@ -83,53 +104,32 @@ public class SearchBasedGroundTruthService {
       return;
     }
 
-    // 벌크 임베딩 생성 제거 - VectorSearchService가 캐싱 처리
-    // 첫 번째 몇 개 쿼리에 대해 미리 캐시 워밍 (선택적)
-    int warmupCount = Math.min(10, queries.size());
-    for (int i = 0; i < warmupCount; i++) {
-      vectorSearchService.getQueryEmbedding(queries.get(i).getQuery());
-    }
-    log.info("벡터 검색 캐시 워밍 완료: {}개", warmupCount);
-
-    // 진행률 추적을 위한 AtomicInteger
+    String indexName = environmentService.getEnvironment(EnvironmentType.DEV).getIndexName();
     AtomicInteger completedCount = new AtomicInteger(0);
     int totalQueries = queries.size();
 
-    // 제한된 스레드 풀로 병렬 처리 - 각 쿼리를 독립적인 트랜잭션에서 처리
-    List<CompletableFuture<Void>> futures =
-        queries.stream()
-            .map(
-                query ->
-                    CompletableFuture.runAsync(
-                        () -> {
-                          try {
-                            processSingleQuerySimple(query.getId());
-
-                            // 진행률 업데이트
-                            int completed = completedCount.incrementAndGet();
-                            if (progressListener != null) {
-                              try {
-                                progressListener.onProgress(completed, totalQueries);
-                              } catch (Exception ignored) {
-                              }
-                            }
-
-                            log.debug("쿼리 '{}' 처리 완료", query.getQuery());
-
-                          } catch (Exception e) {
-                            log.warn("쿼리 ID {} 처리 실패", query.getId(), e);
-                            // 실패해도 진행률은 업데이트
-                            int completed = completedCount.incrementAndGet();
-                            if (progressListener != null) {
-                              try {
-                                progressListener.onProgress(completed, totalQueries);
-                              } catch (Exception ignored) {
-                              }
-                            }
-                          }
-                        },
-                        queryExecutor))
-            .collect(Collectors.toList());
+    // 묶음 단위 병렬 처리 - 실패한 묶음도 진행률은 올린다
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (int from = 0; from < queries.size(); from += batchSize) {
+      List<EvaluationQuery> batch = queries.subList(from, Math.min(from + batchSize, totalQueries));
+      futures.add(
+          CompletableFuture.runAsync(
+              () -> {
+                try {
+                  processBatch(indexName, batch);
+                } catch (Exception e) {
+                  log.warn("후보군 생성 묶음 처리 실패 - 쿼리 {}개", batch.size(), e);
+                }
+                int completed = completedCount.addAndGet(batch.size());
+                if (progressListener != null) {
+                  try {
+                    progressListener.onProgress(completed, totalQueries);
+                  } catch (Exception ignored) {
+                  }
+                }
+              },
+              batchExecutor));
+    }
 
     // 모든 작업 완료 대기
     CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
@@ -137,190 +137,66 @@ public class SearchBasedGroundTruthService {
     log.info("{} 쿼리의 정답 후보군 생성 완료", processType);
   }
 
-  @Transactional(propagation = Propagation.REQUIRES_NEW)
-  public void processSingleQuerySimple(Long queryId) {
-    EvaluationQuery query =
-        evaluationQueryRepository
-            .findById(queryId)
-            .orElseThrow(() -> new RuntimeException("쿼리를 찾을 수 없습니다: " + queryId));
-
-    // 기존 매핑 모두 삭제
-    List<QueryProductMapping> existingMappings =
-        queryProductMappingRepository.findByEvaluationQuery(query);
-    queryProductMappingRepository.deleteAll(existingMappings);
-
-    // 단순하게 300개씩 가져와서 합치기
-    Map<String, String> allCandidates = new LinkedHashMap<>();
+  private void processBatch(String indexName, List<EvaluationQuery> batch) throws IOException {
+    long startTime = System.currentTimeMillis();
+    List<String> queryTexts = batch.stream().map(EvaluationQuery::getQuery).toList();
 
-    // BM25 검색 - 300개
-    searchByBM25(query.getQuery(), 300).forEach(id -> allCandidates.put(id, "BM25"));
+    // 기존과 같이 BM25 질의는 운영 사전 기준으로 구성하고 개발 색인에서 검색
+    CandidatePool pool =
+        retrievalService.retrieveCandidates(
+            indexName, EnvironmentType.PROD, queryTexts, perSourceSize);
 
-    // 바이그램 검색 - 300개
-    String[] bigramFields = {"name.bigram", "specs.bigram", "category.bigram"};
-    searchByCrossField(query.getQuery(), bigramFields, 300)
-        .forEach(
-            id -> {
-              if (!allCandidates.containsKey(id)) {
-                allCandidates.put(id, "BIGRAM");
-              } else {
-                allCandidates.put(id, "MULTIPLE");
-              }
-            });
-
-    // 벡터 검색 - 300개
-    searchByVector(query.getQuery(), 300)
-        .forEach(
-            id -> {
-              if (!allCandidates.containsKey(id)) {
-                allCandidates.put(id, "VECTOR");
-              } else {
-                allCandidates.put(id, "MULTIPLE");
-              }
-            });
-
-    // 상품 정보 일괄 조회
+    // 묶음 전체에서 중복을 뺀 상품만 필요한 필드로 한 번 조회
+    List<String> productIds = pool.productIds();
     Map<String, ProductDocument> productMap =
-        fetchProductsBulk(new HashSet<>(allCandidates.keySet()));
-
-    // 모든 후보군 저장
-    List<QueryProductMapping> mappingsToAdd = new ArrayList<>();
-    for (Map.Entry<String, String> entry : allCandidates.entrySet()) {
-      String productId = entry.getKey();
-      String searchSource = entry.getValue();
-      ProductDocument product = productMap.get(productId);
-
-      QueryProductMapping mapping =
-          QueryProductMapping.builder()
-              .evaluationQuery(query)
-              .productId(productId)
-              .productName(product != null ? product.getNameRaw() : null)
-              .productSpecs(product != null ? product.getSpecsRaw() : null)
-              .productCategory(product != null ? product.getCategoryName() : null)
-              .searchSource(searchSource)
-              .evaluationSource(EVALUATION_SOURCE_SEARCH)
-              .build();
-      mappingsToAdd.add(mapping);
-    }
-
-    if (!mappingsToAdd.isEmpty()) {
-      queryProductMappingRepository.saveAll(mappingsToAdd);
-      log.info("쿼리 '{}' 수동 생성 완료: {}개 후보군 저장", query.getQuery(), mappingsToAdd.size());
-    }
-  }
-
-  private List<String> searchByBM25(String query, int size) {
-    try {
-      IndexEnvironment indexEnvironment = environmentService.getEnvironment(EnvironmentType.DEV);
-      String indexName = indexEnvironment.getIndexName();
-
-      // SearchExecuteRequest 생성 (실제 검색과 동일한 쿼리 생성을 위해)
-      SearchExecuteRequest searchRequest = new SearchExecuteRequest();
-      searchRequest.setQuery(query);
-
-      // 실제 검색과 동일한 BoolQuery 생성
-      co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery boolQuery =
-          queryBuilder.buildBoolQuery(searchRequest);
-
-      SearchRequest request =
-          SearchRequest.of(
-              s ->
-                  s.index(indexName)
-                      .size(size)
-                      .source(
-                          src ->
-                              src.filter(
-                                  f ->
-                                      f.excludes(VectorSearchConstants.getVectorFieldsToExclude())))
-                      .query(q -> q.bool(boolQuery)));
-
-      SearchResponse<ProductDocument> response =
-          elasticsearchClient.search(request, ProductDocument.class);
-      return extractProductIds(response);
-    } catch (Exception e) {
-      log.warn("BM25 검색 실패: {}", query, e);
-      return new ArrayList<>();
-    }
-  }
-
-  private List<String> searchByVector(String query, int size) {
-    try {
-      IndexEnvironment indexEnvironment = environmentService.getEnvironment(EnvironmentType.DEV);
-      String indexName = indexEnvironment.getIndexName();
-
-      SearchResponse<JsonNode> response =
-          vectorSearchService.multiFieldVectorSearch(indexName, query, size);
-
-      // JsonNode 결과에서 상품 ID 추출
-      List<String> productIds = new ArrayList<>();
-      for (Hit<JsonNode> hit : response.hits().hits()) {
-        productIds.add(hit.id());
+        productBulkFetchService.fetchFields(productIds, EnvironmentType.DEV, PRODUCT_FIELDS);
+
+    List<QueryProductMapping> mappingsToAdd = new ArrayList<>(pool.candidateCount());
+    for (int i = 0; i < batch.size(); i++) {
+      EvaluationQuery query = batch.get(i);
+      for (Map.Entry<String, String> entry : pool.candidates(i).entrySet()) {
+        ProductDocument product = productMap.get(entry.getKey());
+        mappingsToAdd.add(
+            QueryProductMapping.builder()
+                .evaluationQuery(query)
+                .productId(entry.getKey())
+                .productName(product != null ? product.getNameRaw() : null)
+                .productSpecs(product != null ? product.getSpecsRaw() : null)
+                .productCategory(product != null ? product.getCategoryName() : null)
+                .searchSource(entry.getValue())
+                .evaluationSource(EVALUATION_SOURCE_SEARCH)
+                .build());
       }
-
-      return productIds.stream().limit(size).collect(Collectors.toList());
-    } catch (Exception e) {
-      log.warn("Vector 검색 실패: {}", query, e);
-      return new ArrayList<>();
     }
-  }
-
-  private List<String> searchByCrossField(String query, String[] fields, int size) {
-    try {
-      IndexEnvironment indexEnvironment = environmentService.getEnvironment(EnvironmentType.DEV);
-      String indexName = indexEnvironment.getIndexName();
-      SearchRequest request =
-          SearchRequest.of(
-              s ->
-                  s.index(indexName)
-                      .size(size)
-                      .source(
-                          src ->
-                              src.filter(
-                                  f ->
-                                      f.excludes(VectorSearchConstants.getVectorFieldsToExclude())))
-                      .query(
-                          q ->
-                              q.multiMatch(
-                                  mm ->
-                                      mm.query(query) // Bigram 검색을 위해 쿼리 그대로 사용
-                                          .fields(List.of(fields))
-                                          .operator(Operator.Or)
-                                          .minimumShouldMatch("80%")
-                                          .type(TextQueryType.CrossFields))));
-
-      SearchResponse<ProductDocument> response =
-          elasticsearchClient.search(request, ProductDocument.class);
-      return extractProductIds(response);
-    } catch (Exception e) {
-      log.warn("Cross field 검색 실패: {}", String.join(", ", fields), e);
-      return new ArrayList<>();
-    }
-  }
 
-  private List<String> extractProductIds(SearchResponse<ProductDocument> response) {
-    List<String> ids = new ArrayList<>();
-    for (Hit<ProductDocument> hit : response.hits().hits()) {
-      ids.add(hit.id());
-    }
-    return ids;
-  }
-
-  private Map<String, ProductDocument> fetchProductsBulk(Set<String> productIds) {
-    if (productIds == null || productIds.isEmpty()) {
-      return new HashMap<>();
-    }
-    return productBulkFetchService.fetchBulk(new ArrayList<>(productIds), EnvironmentType.DEV);
+    // 기존 매핑 삭제와 새 후보군 저장을 묶음 단위 한 트랜잭션으로
+    List<Long> queryIds = batch.stream().map(EvaluationQuery::getId).toList();
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          queryProductMappingRepository.deleteByQueryIds(queryIds);
+          if (!mappingsToAdd.isEmpty()) {
+            bulkWriter.insertMappings(mappingsToAdd);
+          }
+        });
+
+    log.info(
+        "후보군 묶음 생성 완료 - 쿼리: {}개, 후보군: {}개, 고유 상품: {}개, 소요시간: {}ms",
+        batch.size(),
+        mappingsToAdd.size(),
+        productIds.size(),
+        System.currentTimeMillis() - startTime);
   }
 
   @PreDestroy
   public void shutdown() {
     log.info("SearchBasedGroundTruthService 스레드 풀 종료 중...");
-    queryExecutor.shutdown();
+    batchExecutor.shutdown();
     try {
-      if (!queryExecutor.awaitTermination(60, TimeUnit.SECONDS)) {
-        queryExecutor.shutdownNow();
+      if (!batchExecutor.awaitTermination(60, TimeUnit.SECONDS)) {
+        batchExecutor.shutdownNow();
       }
     } catch (InterruptedException e) {
-      queryExecutor.shutdownNow();
+      batchExecutor.shutdownNow();
       Thread.currentThread().interrupt();
     }
   }
@@ -0,0 +1,175 @@
+package com.yjlee.search.evaluation.service.qrels;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 평가셋 정답(qrels) 스냅샷. 상품 ID를 정수 순번으로 바꿔 쿼리별 정답을 정렬된 순번 배열과 관련도 배열로 보관한다. 평가 지표는 검색 결과를 순번
+ * 배열로 한 번 바꾼 뒤 배열 연산으로 계산한다. 생성 후 변경하지 않는다.
+ */
+public final class Qrels {
+
+  /** 정답셋에 없는 상품의 순번 */
+  public static final int UNKNOWN = -1;
+
+  private static final Judgments EMPTY = new Judgments(new int[0], new byte[0]);
+
+  private final Map<String, Integer> ordinals;
+  private final String[] productIds;
+  private final Map<Long, Judgments> judgmentsByQuery;
+
+  private Qrels(
+      Map<String, Integer> ordinals, String[] productIds, Map<Long, Judgments> judgmentsByQuery) {
+    this.ordinals = ordinals;
+    this.productIds = productIds;
+    this.judgmentsByQuery = judgmentsByQuery;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** 쿼리의 정답, 없으면 빈 정답 */
+  public Judgments judgments(Long queryId) {
+    return queryId != null ? judgmentsByQuery.getOrDefault(queryId, EMPTY) : EMPTY;
+  }
+
+  /** 검색 결과 상품 ID 목록을 순번 배열로 변환. 정답셋에 없는 상품은 {@link #UNKNOWN} */
+  public int[] toOrdinals(List<String> rankedProductIds) {
+    int[] result = new int[rankedProductIds.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = ordinals.getOrDefault(rankedProductIds.get(i), UNKNOWN);
+    }
+    return result;
+  }
+
+  public String productId(int ordinal) {
+    return productIds[ordinal];
+  }
+
+  public int queryCount() {
+    return judgmentsByQuery.size();
+  }
+
+  public int productCount() {
+    return productIds.length;
+  }
+
+  /** 쿼리 하나의 정답. 순번 오름차순 배열과 같은 위치의 관련도(1 이상) */
+  public static final class Judgments {
+
+    private final int[] ordinals;
+    private final byte[] grades;
+
+    private Judgments(int[] ordinals, byte[] grades) {
+      this.ordinals = ordinals;
+      this.grades = grades;
+    }
+
+    public int size() {
+      return ordinals.length;
+    }
+
+    /** 상품 관련도, 정답이 아니면 0 */
+    public int grade(int ordinal) {
+      if (ordinal == UNKNOWN) {
+        return 0;
+      }
+      int index = Arrays.binarySearch(ordinals, ordinal);
+      return index >= 0 ? grades[index] : 0;
+    }
+
+    /** 검색 결과 순위별 관련도 */
+    public int[] gains(int[] rankedOrdinals) {
+      int[] gains = new int[rankedOrdinals.length];
+      for (int i = 0; i < rankedOrdinals.length; i++) {
+        gains[i] = grade(rankedOrdinals[i]);
+      }
+      return gains;
+    }
+
+    /** 이상적인 순위의 관련도 (내림차순) */
+    public int[] idealGains() {
+      int[] ideal = new int[grades.length];
+      for (int i = 0; i < grades.length; i++) {
+        ideal[i] = grades[i];
+      }
+      Arrays.sort(ideal);
+      for (int i = 0, j = ideal.length - 1; i < j; i++, j--) {
+        int tmp = ideal[i];
+        ideal[i] = ideal[j];
+        ideal[j] = tmp;
+      }
+      return ideal;
+    }
+
+    /**
+     * 검색 결과에 없는 정답 순번. 정렬된 두 배열을 병합하며 찾는다.
+     *
+     * @param rankedOrdinals 검색 결과 순번 (정렬 불필요)
+     */
+    public int[] missing(int[] rankedOrdinals) {
+      int[] retrieved = rankedOrdinals.clone();
+      Arrays.sort(retrieved);
+      int[] missing = new int[ordinals.length];
+      int count = 0;
+      int j = 0;
+      for (int ordinal : ordinals) {
+        while (j < retrieved.length && retrieved[j] < ordinal) {
+          j++;
+        }
+        if (j == retrieved.length || retrieved[j] != ordinal) {
+          missing[count++] = ordinal;
+        }
+      }
+      return Arrays.copyOf(missing, count);
+    }
+  }
+
+  /** 정답 적재용. 같은 쿼리/상품이 여러 번 들어오면 높은 관련도를 쓴다. */
+  public static final class Builder {
+
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<String> productIds = new ArrayList<>();
+    private final Map<Long, Map<Integer, Integer>> grades = new HashMap<>();
+
+    private Builder() {}
+
+    public Builder add(Long queryId, String productId, int grade) {
+      if (queryId == null || productId == null || grade <= 0) {
+        return this;
+      }
+      int ordinal =
+          ordinals.computeIfAbsent(
+              productId,
+              id -> {
+                productIds.add(id);
+                return productIds.size() - 1;
+              });
+      grades
+          .computeIfAbsent(queryId, id -> new HashMap<>())
+          .merge(ordinal, Math.min(grade, Byte.MAX_VALUE), Math::max);
+      return this;
+    }
+
+    public Qrels build() {
+      Map<Long, Judgments> judgmentsByQuery = new HashMap<>(grades.size() * 2);
+      grades.forEach(
+          (queryId, byOrdinal) -> {
+            int[] sortedOrdinals =
+                byOrdinal.keySet().stream().mapToInt(Integer::intValue).toArray();
+            Arrays.sort(sortedOrdinals);
+            byte[] sortedGrades = new byte[sortedOrdinals.length];
+            for (int i = 0; i < sortedOrdinals.length; i++) {
+              sortedGrades[i] = byOrdinal.get(sortedOrdinals[i]).byteValue();
+            }
+            judgmentsByQuery.put(queryId, new Judgments(sortedOrdinals, sortedGrades));
+          });
+      return new Qrels(
+          Map.copyOf(ordinals), productIds.toArray(new String[0]), Map.copyOf(judgmentsByQuery));
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.yjlee.search.evaluation.service.qrels;
+
+import com.yjlee.search.evaluation.model.EvaluationQuery;
+import com.yjlee.search.evaluation.model.QueryProductMapping;
+import com.yjlee.search.evaluation.repository.QueryProductMappingRepository;
+import com.yjlee.search.evaluation.repository.projection.QrelProjection;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** 평가 정답 적재. 평가 실행마다 스트리밍 조회 한 번으로 전체 정답을 메모리에 올린다. */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QrelsLoader {
+
+  // relevance_score 1 이상만 정답 (null: 미평가, 0: 비연관)
+  private static final int MIN_RELEVANCE_SCORE = 1;
+
+  private final QueryProductMappingRepository queryProductMappingRepository;
+
+  @Transactional(readOnly = true)
+  public Qrels loadAll() {
+    long startTime = System.currentTimeMillis();
+    Qrels.Builder builder = Qrels.builder();
+    try (Stream<QrelProjection> rows =
+        queryProductMappingRepository.streamJudgments(MIN_RELEVANCE_SCORE)) {
+      rows.forEach(
+          row -> builder.add(row.getQueryId(), row.getProductId(), row.getRelevanceScore()));
+    }
+    Qrels qrels = builder.build();
+    log.info(
+        "평가 정답 적재 완료 - 쿼리: {}개, 상품: {}개, 소요시간: {}ms",
+        qrels.queryCount(),
+        qrels.productCount(),
+        System.currentTimeMillis() - startTime);
+    return qrels;
+  }
+
+  /** 쿼리 하나의 정답만 적재 (단건 평가용) */
+  @Transactional(readOnly = true)
+  public Qrels load(EvaluationQuery evaluationQuery) {
+    Qrels.Builder builder = Qrels.builder();
+    for (QueryProductMapping mapping :
+        queryProductMappingRepository.findByEvaluationQueryAndRelevanceScoreGreaterThanEqual(
+            evaluationQuery, MIN_RELEVANCE_SCORE)) {
+      builder.add(evaluationQuery.getId(), mapping.getProductId(), mapping.getRelevanceScore());
+    }
+    return builder.build();
+  }
+}
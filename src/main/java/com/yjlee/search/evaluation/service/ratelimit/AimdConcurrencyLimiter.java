@@ -0,0 +1,140 @@
+package com.yjlee.search.evaluation.service.ratelimit;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * LLM 동시 요청 수 한도 (AIMD). 한도까지 요청이 차 있는 상태에서 성공하면 한도를 한 창에 1씩 늘리고, 429를 받으면 절반으로, 지연 시간이 기준의
+ * latencyTolerance배를 넘으면 10% 줄인다. 같은 원인으로 동시에 실패한 요청들이 한도를 연달아 깎지 않도록 감소는 기준 지연 시간(최소 1초)에 한
+ * 번만 한다.
+ *
+ * <p>기준 지연 시간은 관측한 최소 지연이며, 모델 응답 속도 변화를 따라가도록 성공할 때마다 조금씩 올라간다. 긴 프롬프트는 원래 느리므로 기준은
+ * 프롬프트 길이 구간(1K자 미만, 이후 2배씩)마다 따로 둔다.
+ */
+public final class AimdConcurrencyLimiter {
+
+  private static final double RATE_LIMIT_BACKOFF = 0.5;
+  private static final double LATENCY_BACKOFF = 0.9;
+  private static final double BASELINE_DRIFT = 0.01;
+  private static final long MIN_COOLDOWN_NANOS = TimeUnit.SECONDS.toNanos(1);
+  private static final int SIZE_CLASSES = 8;
+  private static final int SIZE_CLASS_UNIT_SHIFT = 10;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double latencyTolerance;
+  private final LongSupplier nanoClock;
+
+  private double limit;
+  private int inFlight;
+  private final double[] baselineLatencyMs = new double[SIZE_CLASSES];
+  private long lastDecreaseNanos;
+
+  public AimdConcurrencyLimiter(
+      int initialLimit,
+      int minLimit,
+      int maxLimit,
+      double latencyTolerance,
+      LongSupplier nanoClock) {
+    this.minLimit = Math.max(1, minLimit);
+    this.maxLimit = Math.max(this.minLimit, maxLimit);
+    this.latencyTolerance = latencyTolerance;
+    this.nanoClock = nanoClock;
+    this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+    this.lastDecreaseNanos = nanoClock.getAsLong() - MIN_COOLDOWN_NANOS;
+    Arrays.fill(baselineLatencyMs, Double.NaN);
+  }
+
+  public synchronized boolean tryAcquire() {
+    if (inFlight >= (int) limit) {
+      return false;
+    }
+    inFlight++;
+    return true;
+  }
+
+  /** 한도 안에서 자리가 날 때까지 대기 */
+  public synchronized void acquire() throws InterruptedException {
+    while (inFlight >= (int) limit) {
+      wait();
+    }
+    inFlight++;
+  }
+
+  public synchronized void release() {
+    inFlight = Math.max(0, inFlight - 1);
+    notifyAll();
+  }
+
+  /** 프롬프트 길이를 모를 때의 성공 응답 반영 (가장 짧은 구간 기준) */
+  public synchronized void onSuccess(long latencyMs) {
+    onSuccess(latencyMs, 0);
+  }
+
+  /**
+   * 성공 응답 반영. release 전에 호출한다.
+   *
+   * @param promptChars 프롬프트 길이. 같은 길이 구간의 기준 지연과 비교한다
+   */
+  public synchronized void onSuccess(long latencyMs, int promptChars) {
+    int sizeClass = sizeClass(promptChars);
+    double baseline = baselineLatencyMs[sizeClass];
+    if (Double.isNaN(baseline) || latencyMs < baseline) {
+      baseline = latencyMs;
+    } else {
+      baseline += (latencyMs - baseline) * BASELINE_DRIFT;
+    }
+    baselineLatencyMs[sizeClass] = baseline;
+
+    if (latencyMs > baseline * latencyTolerance) {
+      decrease(LATENCY_BACKOFF, baseline);
+    } else if (inFlight >= (int) limit) {
+      limit = Math.min(maxLimit, limit + 1.0 / limit);
+      notifyAll();
+    }
+  }
+
+  /** 429 응답 반영 */
+  public synchronized void onRateLimited() {
+    decrease(RATE_LIMIT_BACKOFF, shortestBaseline());
+  }
+
+  public synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  public synchronized int getInFlight() {
+    return inFlight;
+  }
+
+  private void decrease(double ratio, double baseline) {
+    long now = nanoClock.getAsLong();
+    long cooldown =
+        Double.isNaN(baseline)
+            ? MIN_COOLDOWN_NANOS
+            : Math.max(MIN_COOLDOWN_NANOS, TimeUnit.MILLISECONDS.toNanos((long) baseline));
+    if (now - lastDecreaseNanos < cooldown) {
+      return;
+    }
+    lastDecreaseNanos = now;
+    limit = Math.max(minLimit, limit * ratio);
+  }
+
+  // 관측한 구간 중 가장 짧은 기준 지연 (없으면 NaN)
+  private double shortestBaseline() {
+    double shortest = Double.NaN;
+    for (double baseline : baselineLatencyMs) {
+      if (!Double.isNaN(baseline) && (Double.isNaN(shortest) || baseline < shortest)) {
+        shortest = baseline;
+      }
+    }
+    return shortest;
+  }
+
+  // 1K자 미만은 0, 이후 2배마다 한 구간
+  static int sizeClass(int promptChars) {
+    int units = Math.max(0, promptChars) >> SIZE_CLASS_UNIT_SHIFT;
+    return Math.min(SIZE_CLASSES - 1, 32 - Integer.numberOfLeadingZeros(units));
+  }
+}
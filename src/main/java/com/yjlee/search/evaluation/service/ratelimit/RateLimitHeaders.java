@@ -0,0 +1,97 @@
+package com.yjlee.search.evaluation.service.ratelimit;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * OpenAI 호환 rate limit 응답 헤더 해석. 요청 수 한도만 쓴다 (x-ratelimit-limit-requests는 분당 요청 한도).
+ *
+ * <p>reset 값은 "1s", "6m0s", "120ms" 같은 Go duration 형식이다.
+ */
+public final class RateLimitHeaders {
+
+  public static final String LIMIT_REQUESTS = "x-ratelimit-limit-requests";
+  public static final String REMAINING_REQUESTS = "x-ratelimit-remaining-requests";
+  public static final String RESET_REQUESTS = "x-ratelimit-reset-requests";
+  public static final String RETRY_AFTER = "retry-after";
+  public static final String RETRY_AFTER_MS = "retry-after-ms";
+
+  private static final Pattern DURATION_PART = Pattern.compile("(\\d+(?:\\.\\d+)?)(ms|h|m|s)");
+
+  private RateLimitHeaders() {}
+
+  // 아래 조회 함수는 헤더 이름으로 값을 찾는 함수를 받고, 없거나 해석할 수 없으면 -1을 반환한다
+
+  /** 분당 요청 한도 */
+  public static long limitRequests(Function<String, Optional<String>> header) {
+    return header.apply(LIMIT_REQUESTS).map(RateLimitHeaders::parseLong).orElse(-1L);
+  }
+
+  /** 현재 창에서 남은 요청 수 */
+  public static long remainingRequests(Function<String, Optional<String>> header) {
+    return header.apply(REMAINING_REQUESTS).map(RateLimitHeaders::parseLong).orElse(-1L);
+  }
+
+  /** 남은 요청 수가 한도로 돌아올 때까지 ms */
+  public static long resetRequestsMs(Function<String, Optional<String>> header) {
+    return header.apply(RESET_REQUESTS).map(RateLimitHeaders::parseDurationMs).orElse(-1L);
+  }
+
+  /** 429 응답의 재시도 대기 시간(ms). retry-after-ms, retry-after(초), reset 순으로 보고 없으면 0 */
+  public static long retryAfterMs(Function<String, Optional<String>> header) {
+    long retryAfterMs = header.apply(RETRY_AFTER_MS).map(RateLimitHeaders::parseLong).orElse(-1L);
+    if (retryAfterMs >= 0) {
+      return retryAfterMs;
+    }
+    long retryAfterSeconds =
+        header.apply(RETRY_AFTER).map(RateLimitHeaders::parseSecondsMs).orElse(-1L);
+    if (retryAfterSeconds >= 0) {
+      return retryAfterSeconds;
+    }
+    return Math.max(0, resetRequestsMs(header));
+  }
+
+  /** Go duration 문자열을 ms로. 해석할 수 없으면 -1 */
+  public static long parseDurationMs(String value) {
+    if (value == null || value.isBlank()) {
+      return -1;
+    }
+    Matcher matcher = DURATION_PART.matcher(value.trim());
+    double totalMs = 0;
+    int end = 0;
+    while (matcher.find()) {
+      if (matcher.start() != end) {
+        return -1;
+      }
+      double amount = Double.parseDouble(matcher.group(1));
+      totalMs +=
+          switch (matcher.group(2)) {
+            case "h" -> amount * 3_600_000;
+            case "m" -> amount * 60_000;
+            case "s" -> amount * 1_000;
+            default -> amount;
+          };
+      end = matcher.end();
+    }
+    return end == value.trim().length() && end > 0 ? (long) Math.ceil(totalMs) : -1;
+  }
+
+  private static long parseSecondsMs(String value) {
+    try {
+      return (long) Math.ceil(Double.parseDouble(value.trim()) * 1000);
+    } catch (NumberFormatException e) {
+      // HTTP-date 형식은 지원하지 않음
+      return -1;
+    }
+  }
+
+  private static long parseLong(String value) {
+    try {
+      return Long.parseLong(value.trim());
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+}
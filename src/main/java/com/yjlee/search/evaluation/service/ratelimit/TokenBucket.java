@@ -0,0 +1,114 @@
+package com.yjlee.search.evaluation.service.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 요청 수 토큰 버킷. 분당 한도만큼 일정하게 채워지고 응답 헤더의 남은 요청 수로 보정한다. 한도를 모르는 동안(분당 한도 0)은 제한하지 않는다.
+ *
+ * <p>429를 받으면 {@link #pause(long)}로 서버가 알려준 시간 동안 토큰을 내주지 않는다.
+ */
+public final class TokenBucket {
+
+  private static final double NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+  private final LongSupplier nanoClock;
+  private double capacity;
+  private double refillPerNano;
+  private double tokens;
+  private long lastRefillNanos;
+  private long pausedUntilNanos;
+
+  public TokenBucket(long requestsPerMinute, LongSupplier nanoClock) {
+    this.nanoClock = nanoClock;
+    this.lastRefillNanos = nanoClock.getAsLong();
+    this.pausedUntilNanos = lastRefillNanos;
+    setLimit(requestsPerMinute);
+    this.tokens = capacity;
+  }
+
+  /**
+   * 토큰 하나를 가져간다.
+   *
+   * @return 가져갔으면 0, 아니면 다음 토큰까지 남은 나노초 (토큰은 가져가지 않음)
+   */
+  public synchronized long tryAcquire() {
+    long now = nanoClock.getAsLong();
+    if (now < pausedUntilNanos) {
+      return pausedUntilNanos - now;
+    }
+    if (refillPerNano <= 0) {
+      return 0;
+    }
+    refill(now);
+    if (tokens >= 1.0) {
+      tokens -= 1.0;
+      return 0;
+    }
+    return Math.max(1, (long) Math.ceil((1.0 - tokens) / refillPerNano));
+  }
+
+  public void acquire() throws InterruptedException {
+    long waitNanos;
+    while ((waitNanos = tryAcquire()) > 0) {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+  }
+
+  /**
+   * 응답 헤더로 한도 갱신
+   *
+   * @param requestsPerMinute 분당 요청 한도
+   * @param remaining 현재 창에서 남은 요청 수
+   * @param resetNanos 남은 요청 수가 한도로 돌아올 때까지 남은 나노초 (모르면 0)
+   */
+  public synchronized void update(long requestsPerMinute, long remaining, long resetNanos) {
+    long now = nanoClock.getAsLong();
+    if (requestsPerMinute > 0) {
+      refill(now);
+      setLimit(requestsPerMinute);
+    }
+    if (remaining >= 0 && refillPerNano > 0) {
+      tokens = Math.min(tokens, remaining);
+      if (remaining == 0 && resetNanos > 0) {
+        pauseUntil(now + resetNanos);
+      }
+    }
+  }
+
+  /** 지정한 시간 동안 토큰을 내주지 않고 쌓인 토큰도 비운다 */
+  public synchronized void pause(long nanos) {
+    long now = nanoClock.getAsLong();
+    refill(now);
+    tokens = 0;
+    pauseUntil(now + Math.max(0, nanos));
+  }
+
+  public synchronized boolean isPaused() {
+    return nanoClock.getAsLong() < pausedUntilNanos;
+  }
+
+  public synchronized long getRequestsPerMinute() {
+    return Math.round(refillPerNano * NANOS_PER_MINUTE);
+  }
+
+  private void setLimit(long requestsPerMinute) {
+    // 순간 몰림을 막기 위해 버스트는 1초 분량(최소 1개)으로 제한
+    this.refillPerNano = requestsPerMinute > 0 ? requestsPerMinute / NANOS_PER_MINUTE : 0;
+    this.capacity = Math.max(1.0, requestsPerMinute / 60.0);
+    this.tokens = Math.min(tokens, capacity);
+  }
+
+  // 멈춘 동안에는 토큰이 쌓이지 않는다
+  private void pauseUntil(long untilNanos) {
+    pausedUntilNanos = Math.max(pausedUntilNanos, untilNanos);
+    lastRefillNanos = Math.max(lastRefillNanos, pausedUntilNanos);
+  }
+
+  private void refill(long now) {
+    if (now > lastRefillNanos) {
+      tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+      lastRefillNanos = now;
+    }
+  }
+}
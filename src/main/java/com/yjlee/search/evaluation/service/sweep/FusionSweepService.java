@@ -0,0 +1,303 @@
+package com.yjlee.search.evaluation.service.sweep;
+
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.yjlee.search.common.enums.EnvironmentType;
+import com.yjlee.search.deployment.service.IndexEnvironmentService;
+import com.yjlee.search.evaluation.dto.FusionSweepRequest;
+import com.yjlee.search.evaluation.dto.FusionSweepResult;
+import com.yjlee.search.evaluation.model.EvaluationQuery;
+import com.yjlee.search.evaluation.service.EvaluationQueryService;
+import com.yjlee.search.evaluation.service.EvaluationRetrievalService;
+import com.yjlee.search.evaluation.service.ProgressCallback;
+import com.yjlee.search.evaluation.service.qrels.Qrels;
+import com.yjlee.search.evaluation.service.qrels.QrelsLoader;
+import com.yjlee.search.evaluation.util.RankingMetrics;
+import com.yjlee.search.search.service.RRFScorer;
+import com.yjlee.search.search.service.VectorSearchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 하이브리드 융합 파라미터 탐색. 검색기별 원본 순위를 한 번만 수집해 두고 RRF K, BM25 가중치, topK, 벡터 필드 가중치 조합은 메모리에서 다시
+ * 융합해 평가한다. numCandidates는 검색 결과 자체가 달라지므로 값마다 kNN을 따로 수집한다.
+ */
+@Slf4j
+@Service
+public class FusionSweepService {
+
+  private static final int RETRIEVAL_SIZE = 300;
+  private static final int MAX_GRID_POINTS = 5000;
+
+  private final EvaluationQueryService evaluationQueryService;
+  private final IndexEnvironmentService environmentService;
+  private final EvaluationRetrievalService evaluationRetrievalService;
+  private final QrelsLoader qrelsLoader;
+  private final RRFScorer rrfScorer;
+  private final VectorSearchService vectorSearchService;
+  private final Executor evaluationSearchExecutor;
+  private final int searchBatchSize;
+
+  public FusionSweepService(
+      EvaluationQueryService evaluationQueryService,
+      IndexEnvironmentService environmentService,
+      EvaluationRetrievalService evaluationRetrievalService,
+      QrelsLoader qrelsLoader,
+      RRFScorer rrfScorer,
+      VectorSearchService vectorSearchService,
+      @Qualifier("evaluationSearchExecutor") Executor evaluationSearchExecutor,
+      @Value("${evaluation.search.batch-size:20}") int searchBatchSize) {
+    this.evaluationQueryService = evaluationQueryService;
+    this.environmentService = environmentService;
+    this.evaluationRetrievalService = evaluationRetrievalService;
+    this.qrelsLoader = qrelsLoader;
+    this.rrfScorer = rrfScorer;
+    this.vectorSearchService = vectorSearchService;
+    this.evaluationSearchExecutor = evaluationSearchExecutor;
+    this.searchBatchSize = Math.max(1, searchBatchSize);
+  }
+
+  public FusionSweepResult sweep(FusionSweepRequest request, ProgressCallback progressCallback) {
+    List<FusionSweepResult.Point> points = grid(request);
+    if (points.size() > MAX_GRID_POINTS) {
+      throw new IllegalArgumentException(
+          String.format("파라미터 조합이 너무 많습니다: %d개 (최대 %d개)", points.size(), MAX_GRID_POINTS));
+    }
+    double minScore =
+        request.getVectorMinScore() != null
+            ? request.getVectorMinScore()
+            : vectorSearchService.getDefaultVectorMinScore();
+
+    List<EvaluationQuery> queries = evaluationQueryService.getAllQueries();
+    String indexName = environmentService.getEnvironment(EnvironmentType.DEV).getIndexName();
+    Qrels qrels = qrelsLoader.loadAll();
+    List<Qrels.Judgments> judgments = new ArrayList<>(queries.size());
+    for (EvaluationQuery query : queries) {
+      judgments.add(qrels.judgments(query.getId()));
+    }
+    log.info("파라미터 탐색 시작 - 쿼리: {}개, 조합: {}개", queries.size(), points.size());
+
+    long captureStart = System.currentTimeMillis();
+    int depth = Collections.max(request.getHybridTopKs());
+    List<RawRankings> rankings =
+        capture(indexName, queries, depth, request.getNumCandidates(), progressCallback);
+    long captureMillis = System.currentTimeMillis() - captureStart;
+
+    long sweepStart = System.currentTimeMillis();
+    AtomicInteger completed = new AtomicInteger(0);
+    List<CompletableFuture<Void>> futures = new ArrayList<>(points.size());
+    for (FusionSweepResult.Point point : points) {
+      futures.add(
+          CompletableFuture.runAsync(
+                  () -> evaluatePoint(point, rankings, qrels, judgments, minScore),
+                  evaluationSearchExecutor)
+              .whenComplete(
+                  (result, ex) -> {
+                    int done = completed.incrementAndGet();
+                    if (progressCallback != null) {
+                      progressCallback.updateProgress(
+                          50 + done * 45 / points.size(),
+                          String.format("조합 평가 중: %d/%d", done, points.size()));
+                    }
+                  }));
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    long sweepMillis = System.currentTimeMillis() - sweepStart;
+
+    List<FusionSweepResult.Point> sorted = new ArrayList<>(points);
+    sorted.sort(Comparator.comparingDouble(FusionSweepResult.Point::getNdcg20).reversed());
+    log.info(
+        "파라미터 탐색 완료 - 수집: {}ms, 평가: {}ms, 최고 NDCG@20: {}",
+        captureMillis,
+        sweepMillis,
+        sorted.isEmpty() ? 0.0 : String.format("%.3f", sorted.get(0).getNdcg20()));
+
+    return FusionSweepResult.builder()
+        .totalQueries(queries.size())
+        .gridPoints(points.size())
+        .captureMillis(captureMillis)
+        .sweepMillis(sweepMillis)
+        .points(sorted)
+        .build();
+  }
+
+  /**
+   * 필드별 kNN 결과를 가중합한 벡터 순위. ES가 여러 kNN 절의 점수를 더하는 방식을 근사한다.
+   *
+   * @param topK 필드별로 상위 topK개만 합산하고 결과도 topK개로 자른다
+   */
+  static List<Hit<JsonNode>> combineVectorHits(
+      List<Hit<JsonNode>> nameHits,
+      List<Hit<JsonNode>> specsHits,
+      int topK,
+      float nameBoost,
+      float specsBoost,
+      double minScore) {
+    Map<String, Double> scores = new LinkedHashMap<>();
+    Map<String, String> indices = new LinkedHashMap<>();
+    accumulate(nameHits, topK, nameBoost, scores, indices);
+    accumulate(specsHits, topK, specsBoost, scores, indices);
+
+    List<Hit<JsonNode>> combined = new ArrayList<>(scores.size());
+    scores.forEach(
+        (id, score) -> {
+          if (score >= minScore) {
+            combined.add(Hit.of(h -> h.index(indices.get(id)).id(id).score(score)));
+          }
+        });
+    combined.sort(Comparator.comparingDouble((Hit<JsonNode> hit) -> hit.score()).reversed());
+    return combined.size() > topK ? combined.subList(0, topK) : combined;
+  }
+
+  private static void accumulate(
+      List<Hit<JsonNode>> hits,
+      int topK,
+      float boost,
+      Map<String, Double> scores,
+      Map<String, String> indices) {
+    int limit = Math.min(topK, hits.size());
+    for (int i = 0; i < limit; i++) {
+      Hit<JsonNode> hit = hits.get(i);
+      double score = hit.score() != null ? hit.score() : 0.0;
+      scores.merge(hit.id(), boost * score, Double::sum);
+      indices.putIfAbsent(hit.id(), hit.index());
+    }
+  }
+
+  private List<RawRankings> capture(
+      String indexName,
+      List<EvaluationQuery> queries,
+      int depth,
+      List<Integer> numCandidates,
+      ProgressCallback progressCallback) {
+    int totalQueries = queries.size();
+    AtomicInteger completed = new AtomicInteger(0);
+    List<CompletableFuture<List<RawRankings>>> futures = new ArrayList<>();
+    for (int from = 0; from < totalQueries; from += searchBatchSize) {
+      List<String> batch =
+          queries.subList(from, Math.min(from + searchBatchSize, totalQueries)).stream()
+              .map(EvaluationQuery::getQuery)
+              .toList();
+      futures.add(
+          CompletableFuture.supplyAsync(
+                  () -> captureBatch(indexName, batch, depth, numCandidates),
+                  evaluationSearchExecutor)
+              .whenComplete(
+                  (result, ex) -> {
+                    int done = completed.addAndGet(batch.size());
+                    if (progressCallback != null) {
+                      progressCallback.updateProgress(
+                          10 + done * 40 / totalQueries,
+                          String.format("검색 결과 수집 중: %d/%d 쿼리", done, totalQueries));
+                    }
+                  }));
+    }
+
+    List<RawRankings> rankings = new ArrayList<>(totalQueries);
+    for (CompletableFuture<List<RawRankings>> future : futures) {
+      rankings.addAll(future.join());
+    }
+    return rankings;
+  }
+
+  private List<RawRankings> captureBatch(
+      String indexName, List<String> queries, int depth, List<Integer> numCandidates) {
+    try {
+      return evaluationRetrievalService.captureRawRankings(
+          indexName, EnvironmentType.DEV, queries, depth, numCandidates);
+    } catch (Exception e) {
+      log.warn("파라미터 탐색 검색 결과 수집 실패 - 쿼리: {}개", queries.size(), e);
+      List<RawRankings> empty = new ArrayList<>(queries.size());
+      for (int i = 0; i < queries.size(); i++) {
+        empty.add(new RawRankings(List.of(), Map.of(), Map.of()));
+      }
+      return empty;
+    }
+  }
+
+  private void evaluatePoint(
+      FusionSweepResult.Point point,
+      List<RawRankings> rankings,
+      Qrels qrels,
+      List<Qrels.Judgments> judgments,
+      double minScore) {
+    int topK = point.getHybridTopK();
+    double recall300 = 0.0;
+    double precision20 = 0.0;
+    double ndcg20 = 0.0;
+    double mrr10 = 0.0;
+    double averagePrecision = 0.0;
+
+    for (int i = 0; i < rankings.size(); i++) {
+      RawRankings raw = rankings.get(i);
+      List<Hit<JsonNode>> bm25 = raw.getBm25().subList(0, Math.min(topK, raw.getBm25().size()));
+      List<Hit<JsonNode>> vector =
+          combineVectorHits(
+              raw.getNameVector().getOrDefault(point.getNumCandidates(), List.of()),
+              raw.getSpecsVector().getOrDefault(point.getNumCandidates(), List.of()),
+              topK,
+              point.getNameVectorBoost(),
+              point.getSpecsVectorBoost(),
+              minScore);
+      List<String> rankedIds =
+          rrfScorer
+              .mergeWithRRF(bm25, vector, point.getRrfK(), topK, point.getBm25Weight())
+              .stream()
+              .limit(RETRIEVAL_SIZE)
+              .map(RRFScorer.RRFResult::getId)
+              .toList();
+
+      Qrels.Judgments judgment = judgments.get(i);
+      int[] gains = judgment.gains(qrels.toOrdinals(rankedIds));
+      recall300 += RankingMetrics.recallAtK(gains, judgment.size(), RETRIEVAL_SIZE);
+      precision20 += RankingMetrics.precisionAtK(gains, 20);
+      ndcg20 += RankingMetrics.ndcgAtK(gains, judgment.idealGains(), 20);
+      mrr10 += RankingMetrics.mrrAtK(gains, 10);
+      averagePrecision += RankingMetrics.averagePrecision(gains, judgment.size());
+    }
+
+    int count = Math.max(1, rankings.size());
+    point.setRecall300(recall300 / count);
+    point.setPrecision20(precision20 / count);
+    point.setNdcg20(ndcg20 / count);
+    point.setMrr10(mrr10 / count);
+    point.setMap300(averagePrecision / count);
+  }
+
+  private List<FusionSweepResult.Point> grid(FusionSweepRequest request) {
+    List<FusionSweepResult.Point> points = new ArrayList<>();
+    for (int numCandidates : request.getNumCandidates()) {
+      for (int hybridTopK : request.getHybridTopKs()) {
+        for (float nameBoost : request.getNameVectorBoosts()) {
+          for (float specsBoost : request.getSpecsVectorBoosts()) {
+            for (int rrfK : request.getRrfKs()) {
+              for (double bm25Weight : request.getBm25Weights()) {
+                points.add(
+                    FusionSweepResult.Point.builder()
+                        .rrfK(rrfK)
+                        .bm25Weight(bm25Weight)
+                        .hybridTopK(hybridTopK)
+                        .numCandidates(numCandidates)
+                        .nameVectorBoost(nameBoost)
+                        .specsVectorBoost(specsBoost)
+                        .build());
+              }
+            }
+          }
+        }
+      }
+    }
+    return points;
+  }
+}
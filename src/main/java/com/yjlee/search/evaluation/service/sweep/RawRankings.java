@@ -0,0 +1,18 @@
+package com.yjlee.search.evaluation.service.sweep;
+
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 쿼리 하나의 검색기별 원본 순위. kNN 결과는 numCandidates 값별로 보관한다. */
+@Getter
+@RequiredArgsConstructor
+public class RawRankings {
+
+  private final List<Hit<JsonNode>> bm25;
+  private final Map<Integer, List<Hit<JsonNode>>> nameVector;
+  private final Map<Integer, List<Hit<JsonNode>>> specsVector;
+}
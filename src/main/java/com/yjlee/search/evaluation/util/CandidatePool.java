@@ -0,0 +1,58 @@
+package com.yjlee.search.evaluation.util;
+
+import static com.yjlee.search.evaluation.constants.EvaluationConstants.SEARCH_SOURCE_MULTIPLE;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 쿼리 묶음의 정답 후보군. 쿼리별로 검색기 결과를 처음 나온 순서대로 합치고 둘 이상의 검색기에서 나온 상품은 MULTIPLE로 표시한다. 묶음 전체의 상품
+ * ID는 한 번씩만 모아 상품 정보를 한 번에 조회할 수 있게 한다.
+ */
+public final class CandidatePool {
+
+  private final List<Map<String, String>> candidates;
+  private final Set<String> productIds = new LinkedHashSet<>();
+
+  public CandidatePool(int queryCount) {
+    this.candidates = new ArrayList<>(queryCount);
+    for (int i = 0; i < queryCount; i++) {
+      candidates.add(new LinkedHashMap<>());
+    }
+  }
+
+  public void add(int queryIndex, String source, List<String> ids) {
+    Map<String, String> queryCandidates = candidates.get(queryIndex);
+    for (String id : ids) {
+      queryCandidates.merge(
+          id,
+          source,
+          (previous, current) -> previous.equals(current) ? previous : SEARCH_SOURCE_MULTIPLE);
+      productIds.add(id);
+    }
+  }
+
+  /** 쿼리의 상품 ID별 검색 소스 (처음 나온 순서) */
+  public Map<String, String> candidates(int queryIndex) {
+    return Collections.unmodifiableMap(candidates.get(queryIndex));
+  }
+
+  /** 묶음 전체에서 중복을 뺀 상품 ID */
+  public List<String> productIds() {
+    return new ArrayList<>(productIds);
+  }
+
+  /** 쿼리별 후보 수의 합 */
+  public int candidateCount() {
+    int count = 0;
+    for (Map<String, String> queryCandidates : candidates) {
+      count += queryCandidates.size();
+    }
+    return count;
+  }
+}
@@ -0,0 +1,46 @@
+package com.yjlee.search.evaluation.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * LLM 관련도 판정 캐시 키. 모델, 프롬프트 템플릿 버전, 쿼리, 프롬프트에 들어가는 상품 텍스트가 같으면 같은 지문이 나온다. 각 필드는 구분자 충돌이 없도록
+ * 길이를 앞에 붙여 이어 붙인 뒤 SHA-256으로 해시한다.
+ */
+public final class JudgmentFingerprint {
+
+  private JudgmentFingerprint() {}
+
+  public static String of(
+      String model,
+      String templateVersion,
+      String query,
+      String productName,
+      String productCategory,
+      String productSpecs) {
+    StringBuilder sb = new StringBuilder(256);
+    append(sb, model);
+    append(sb, templateVersion);
+    append(sb, query);
+    append(sb, productName);
+    append(sb, productCategory);
+    append(sb, productSpecs);
+    return sha256Hex(sb.toString());
+  }
+
+  public static String sha256Hex(String text) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 찾을 수 없습니다", e);
+    }
+  }
+
+  private static void append(StringBuilder sb, String value) {
+    String v = value != null ? value : "";
+    sb.append(v.length()).append(':').append(v).append('|');
+  }
+}
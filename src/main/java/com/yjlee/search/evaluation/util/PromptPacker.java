@@ -0,0 +1,36 @@
+package com.yjlee.search.evaluation.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** 프롬프트 항목을 순서대로 묶어 각 묶음의 토큰 합이 예산을, 항목 수가 최대 개수를 넘지 않게 나눈다. */
+public final class PromptPacker {
+
+  private PromptPacker() {}
+
+  /**
+   * @param costs 항목별 토큰 수
+   * @param budget 묶음 하나의 토큰 예산. 예산보다 큰 항목은 혼자 한 묶음이 된다.
+   * @param maxItems 묶음 하나의 최대 항목 수
+   * @return 묶음별 [시작, 끝) 인덱스
+   */
+  public static List<int[]> pack(int[] costs, int budget, int maxItems) {
+    List<int[]> ranges = new ArrayList<>();
+    int limit = Math.max(1, maxItems);
+    int from = 0;
+    int used = 0;
+    for (int i = 0; i < costs.length; i++) {
+      boolean full = i - from >= limit || used + costs[i] > budget;
+      if (i > from && full) {
+        ranges.add(new int[] {from, i});
+        from = i;
+        used = 0;
+      }
+      used += costs[i];
+    }
+    if (from < costs.length) {
+      ranges.add(new int[] {from, costs.length});
+    }
+    return ranges;
+  }
+}
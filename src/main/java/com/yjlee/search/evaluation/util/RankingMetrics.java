@@ -0,0 +1,150 @@
+package com.yjlee.search.evaluation.util;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 순위 평가 지표. 모든 지표는 같은 검색 결과 순위 목록과 정답으로 계산한다.
+ *
+ * <p>int[] 버전은 순위별 관련도 배열(gains[i]는 i+1위 상품의 관련도, 정답이 아니면 0)을 받는다. 평가 실행은 정답 순번 배열로 관련도 배열을 한
+ * 번 만들고 모든 지표를 그 배열로 계산한다.
+ */
+public final class RankingMetrics {
+
+  private RankingMetrics() {}
+
+  public static double recallAtK(List<String> retrievedOrder, Set<String> relevantSet, int k) {
+    if (relevantSet == null || relevantSet.isEmpty()) return 0.0;
+    return (double) hitsAtK(retrievedOrder, relevantSet, k) / relevantSet.size();
+  }
+
+  /** 분모를 항상 k로 고정하여 엄격하게 평가 */
+  public static double precisionAtK(List<String> retrievedOrder, Set<String> relevantSet, int k) {
+    if (retrievedOrder == null || retrievedOrder.isEmpty()) return 0.0;
+    return (double) hitsAtK(retrievedOrder, relevantSet, k) / k;
+  }
+
+  public static double mrrAtK(List<String> retrievedOrder, Set<String> relevantSet, int k) {
+    int limit = Math.min(k, retrievedOrder.size());
+    for (int i = 0; i < limit; i++) {
+      if (relevantSet.contains(retrievedOrder.get(i))) {
+        return 1.0 / (i + 1);
+      }
+    }
+    return 0.0;
+  }
+
+  public static double averagePrecision(List<String> retrievedOrder, Set<String> relevantSet) {
+    if (relevantSet == null || relevantSet.isEmpty()) return 0.0;
+    int hits = 0;
+    double sumPrecision = 0.0;
+    for (int i = 0; i < retrievedOrder.size(); i++) {
+      if (relevantSet.contains(retrievedOrder.get(i))) {
+        hits++;
+        sumPrecision += (double) hits / (i + 1);
+      }
+    }
+    return hits == 0 ? 0.0 : (sumPrecision / relevantSet.size());
+  }
+
+  /** 이진 관련도 NDCG. 이상적인 순서는 min(검색결과크기, 관련문서크기)개의 정답을 상위에 배치한 것 */
+  public static double ndcg(List<String> retrievedOrder, Set<String> relevantSet) {
+    if (retrievedOrder == null || retrievedOrder.isEmpty()) return 0.0;
+    if (relevantSet == null || relevantSet.isEmpty()) return 0.0;
+
+    double dcg = 0.0;
+    for (int i = 0; i < retrievedOrder.size(); i++) {
+      if (relevantSet.contains(retrievedOrder.get(i))) {
+        dcg += discount(i);
+      }
+    }
+
+    int numIdealOnes = Math.min(retrievedOrder.size(), relevantSet.size());
+    double idcg = 0.0;
+    for (int i = 0; i < numIdealOnes; i++) {
+      idcg += discount(i);
+    }
+    return idcg == 0.0 ? 0.0 : dcg / idcg;
+  }
+
+  public static double ndcgAtK(List<String> retrievedOrder, Set<String> relevantSet, int k) {
+    return ndcg(retrievedOrder.subList(0, Math.min(k, retrievedOrder.size())), relevantSet);
+  }
+
+  public static double recallAtK(int[] gains, int relevantCount, int k) {
+    if (relevantCount == 0) return 0.0;
+    return (double) hitsAtK(gains, k) / relevantCount;
+  }
+
+  public static double precisionAtK(int[] gains, int k) {
+    if (gains.length == 0) return 0.0;
+    return (double) hitsAtK(gains, k) / k;
+  }
+
+  public static double mrrAtK(int[] gains, int k) {
+    int limit = Math.min(k, gains.length);
+    for (int i = 0; i < limit; i++) {
+      if (gains[i] > 0) {
+        return 1.0 / (i + 1);
+      }
+    }
+    return 0.0;
+  }
+
+  public static double averagePrecision(int[] gains, int relevantCount) {
+    if (relevantCount == 0) return 0.0;
+    int hits = 0;
+    double sumPrecision = 0.0;
+    for (int i = 0; i < gains.length; i++) {
+      if (gains[i] > 0) {
+        hits++;
+        sumPrecision += (double) hits / (i + 1);
+      }
+    }
+    return sumPrecision / relevantCount;
+  }
+
+  /**
+   * 등급 관련도 NDCG@K. 이득은 2^관련도 - 1
+   *
+   * @param idealGains 정답 관련도 내림차순
+   */
+  public static double ndcgAtK(int[] gains, int[] idealGains, int k) {
+    int limit = Math.min(k, gains.length);
+    if (limit == 0) return 0.0;
+    double dcg = 0.0;
+    for (int i = 0; i < limit; i++) {
+      if (gains[i] > 0) {
+        dcg += (Math.pow(2.0, gains[i]) - 1.0) * discount(i);
+      }
+    }
+    double idcg = 0.0;
+    for (int i = 0; i < Math.min(limit, idealGains.length); i++) {
+      idcg += (Math.pow(2.0, idealGains[i]) - 1.0) * discount(i);
+    }
+    return idcg == 0.0 ? 0.0 : dcg / idcg;
+  }
+
+  private static int hitsAtK(int[] gains, int k) {
+    int limit = Math.min(k, gains.length);
+    int hits = 0;
+    for (int i = 0; i < limit; i++) {
+      if (gains[i] > 0) hits++;
+    }
+    return hits;
+  }
+
+  private static int hitsAtK(List<String> retrievedOrder, Set<String> relevantSet, int k) {
+    int limit = Math.min(k, retrievedOrder.size());
+    int hits = 0;
+    for (int i = 0; i < limit; i++) {
+      if (relevantSet.contains(retrievedOrder.get(i))) hits++;
+    }
+    return hits;
+  }
+
+  // 관련도 1의 이득 (2^1 - 1) / log2(순위 + 1)
+  private static double discount(int index) {
+    return 1.0 / (Math.log(index + 2) / Math.log(2));
+  }
+}
@@ -12,4 +12,7 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
   @Query(
       "SELECT DISTINCT p.categoryName FROM Product p WHERE p.categoryName IS NOT NULL ORDER BY p.categoryName")
   List<String> findDistinctCategoryNames();
+
+  @Query("SELECT p.name FROM Product p")
+  List<String> findAllNames();
 }
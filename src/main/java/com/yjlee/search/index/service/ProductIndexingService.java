@@ -7,6 +7,7 @@ import com.yjlee.search.index.model.Product;
 import com.yjlee.search.index.provider.IndexNameProvider;
 import com.yjlee.search.index.repository.ProductRepository;
 import com.yjlee.search.index.service.monitor.IndexProgressMonitor;
+import com.yjlee.search.search.service.autocomplete.AutocompleteEngine;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import java.io.IOException;
@@ -43,6 +44,7 @@ public class ProductIndexingService {
   private final IndexProgressMonitor progressMonitor;
   private final ElasticsearchClient elasticsearchClient;
   private final IndexNameProvider indexNameProvider;
+  private final AutocompleteEngine autocompleteEngine;
 
   private IndexingProgressCallback progressCallback;
   private Semaphore batchSemaphore;
@@ -72,11 +74,18 @@ public class ProductIndexingService {
     log.info("총 {}개 상품을 {}개 배치로 처리", totalProducts, totalBatches);
 
     List<CompletableFuture<Integer>> futures = new ArrayList<>();
+    AutocompleteEngine.SuggestionCollector suggestionCollector =
+        autocompleteEngine.newCollector(version);
 
     for (int batchNumber = 0; batchNumber < totalBatches; batchNumber++) {
       final int currentBatch = batchNumber;
       CompletableFuture<Integer> future =
-          processBatchAsync(currentBatch, productIndexName, autocompleteIndexName, batchSize);
+          processBatchAsync(
+              currentBatch,
+              productIndexName,
+              autocompleteIndexName,
+              batchSize,
+              suggestionCollector);
       futures.add(future);
     }
 
@@ -86,13 +95,18 @@ public class ProductIndexingService {
 
     progressMonitor.complete();
     refreshIndexes(productIndexName, autocompleteIndexName);
+    autocompleteEngine.publish(suggestionCollector);
 
     log.info("상품 색인 완료: {}개", totalIndexed);
     return totalIndexed;
   }
 
   private CompletableFuture<Integer> processBatchAsync(
-      int batchNumber, String productIndexName, String autocompleteIndexName, int batchSize) {
+      int batchNumber,
+      String productIndexName,
+      String autocompleteIndexName,
+      int batchSize,
+      AutocompleteEngine.SuggestionCollector suggestionCollector) {
     return CompletableFuture.supplyAsync(
         () -> {
           try {
@@ -108,7 +122,13 @@ public class ProductIndexingService {
 
             List<Product> products = productPage.getContent();
 
-            int indexedCount = indexDocuments(products, productIndexName, autocompleteIndexName);
+            int indexedCount =
+                indexDocuments(
+                    batchNumber,
+                    products,
+                    productIndexName,
+                    autocompleteIndexName,
+                    suggestionCollector);
 
             progressMonitor.updateProgress(indexedCount);
             log.debug("배치 {} 처리 완료: {}개 색인", batchNumber, indexedCount);
@@ -135,7 +155,11 @@ public class ProductIndexingService {
   }
 
   private int indexDocuments(
-      List<Product> products, String productIndex, String autocompleteIndex) {
+      int batchNumber,
+      List<Product> products,
+      String productIndex,
+      String autocompleteIndex,
+      AutocompleteEngine.SuggestionCollector suggestionCollector) {
     try {
 
       List<ProductDocument> documents = enrichAndConvertProducts(products);
@@ -143,6 +167,9 @@ public class ProductIndexingService {
           documents.stream().map(autocompleteFactory::createFromProductDocument).toList();
 
       bulkIndexer.indexAutocomplete(autocompleteDocuments, autocompleteIndex);
+      if (suggestionCollector != null) {
+        suggestionCollector.addAll(batchNumber, autocompleteDocuments);
+      }
       return bulkIndexer.indexProducts(documents, productIndex);
     } catch (IOException e) {
       log.error("색인 중 오류 발생", e);
@@ -1,8 +1,12 @@
 package com.yjlee.search.loggen.controller;
 
+import com.yjlee.search.loggen.dto.LoadTestReportResponse;
+import com.yjlee.search.loggen.dto.LoadTestRequest;
 import com.yjlee.search.loggen.service.AutoLogGeneratorService;
+import com.yjlee.search.loggen.service.LoadGeneratorService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 public class LogGenerationController {
 
   private final AutoLogGeneratorService autoLogGeneratorService;
+  private final LoadGeneratorService loadGeneratorService;
 
   @Operation(summary = "자동 로그 생성 시작", description = "자동으로 검색 및 클릭 로그를 생성합니다.")
   @PostMapping("/generate/start")
@@ -37,4 +42,27 @@ public class LogGenerationController {
     return ResponseEntity.ok(
         Map.of("isRunning", isRunning, "status", isRunning ? "running" : "stopped"));
   }
+
+  @Operation(
+      summary = "부하 테스트 시작",
+      description = "검색어 풀로 검색/자동완성/클릭 요청을 설정 비율대로 보내고 엔드포인트별 지연시간을 기록합니다.")
+  @PostMapping("/load-test/start")
+  public ResponseEntity<LoadTestReportResponse> startLoadTest(
+      @Valid @RequestBody LoadTestRequest request) {
+    return ResponseEntity.ok(loadGeneratorService.start(request));
+  }
+
+  @Operation(summary = "부하 테스트 중지", description = "실행 중인 부하 테스트를 중지합니다.")
+  @PostMapping("/load-test/stop")
+  public ResponseEntity<LoadTestReportResponse> stopLoadTest() {
+    return ResponseEntity.ok(loadGeneratorService.stop());
+  }
+
+  @Operation(
+      summary = "부하 테스트 리포트 조회",
+      description = "엔드포인트별 처리량, 에러율, 지연시간 백분위(p50/p90/p99/p99.9)를 조회합니다.")
+  @GetMapping("/load-test/report")
+  public ResponseEntity<LoadTestReportResponse> getLoadTestReport() {
+    return ResponseEntity.ok(loadGeneratorService.report());
+  }
 }
@@ -0,0 +1,37 @@
+package com.yjlee.search.loggen.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "엔드포인트별 지연시간 통계 (ms)")
+public class EndpointLatencyResponse {
+
+  @Schema(description = "엔드포인트", example = "search.KEYWORD_ONLY")
+  private String endpoint;
+
+  @Schema(description = "요청 수")
+  private long count;
+
+  @Schema(description = "에러 수")
+  private long errors;
+
+  @Schema(description = "에러율")
+  private double errorRate;
+
+  @Schema(description = "초당 처리량")
+  private double throughput;
+
+  private double mean;
+  private double p50;
+  private double p90;
+  private double p99;
+  private double p999;
+  private double max;
+}
@@ -0,0 +1,41 @@
+package com.yjlee.search.loggen.dto;
+
+import com.yjlee.search.loggen.enums.LoadTestMode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "부하 테스트 리포트")
+public class LoadTestReportResponse {
+
+  @Schema(description = "실행 중 여부")
+  private boolean running;
+
+  @Schema(description = "실행 모드")
+  private LoadTestMode mode;
+
+  @Schema(description = "목표 초당 요청 수 (OPEN_LOOP)")
+  private Integer targetRps;
+
+  @Schema(description = "동시 요청 워커 수")
+  private Integer concurrency;
+
+  @Schema(description = "검색어 풀 크기")
+  private int queryPoolSize;
+
+  @Schema(description = "시작 시각")
+  private LocalDateTime startedAt;
+
+  @Schema(description = "경과 시간 (초)")
+  private double elapsedSeconds;
+
+  @Schema(description = "마감까지 보내지 못한 요청 수 (OPEN_LOOP, dropped 구간에 함께 기록)")
+  private long dropped;
+
+  @Schema(description = "엔드포인트별 통계")
+  private List<EndpointLatencyResponse> endpoints;
+}
@@ -0,0 +1,87 @@
+package com.yjlee.search.loggen.dto;
+
+import com.yjlee.search.loggen.enums.LoadTestMode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "부하 테스트 실행 요청")
+public class LoadTestRequest {
+
+  @Schema(
+      description = "OPEN_LOOP: 목표 RPS로 일정 간격 전송, CLOSED_LOOP: 워커별 응답 후 다음 요청",
+      example = "OPEN_LOOP",
+      defaultValue = "OPEN_LOOP")
+  @Builder.Default
+  private LoadTestMode mode = LoadTestMode.OPEN_LOOP;
+
+  @Schema(description = "목표 초당 요청 수 (OPEN_LOOP)", example = "50", defaultValue = "50")
+  @Min(1)
+  @Builder.Default
+  private Integer targetRps = 50;
+
+  @Schema(description = "동시 요청 워커 수", example = "16", defaultValue = "16")
+  @Min(1)
+  @Max(512)
+  @Builder.Default
+  private Integer concurrency = 16;
+
+  @Schema(description = "실행 시간 (초)", example = "60", defaultValue = "60")
+  @Min(1)
+  @Max(86400)
+  @Builder.Default
+  private Integer durationSeconds = 60;
+
+  @Schema(description = "CLOSED_LOOP 요청 사이 대기 시간 (ms)", example = "0", defaultValue = "0")
+  @Min(0)
+  @Builder.Default
+  private Integer thinkTimeMs = 0;
+
+  @Schema(description = "검색어 선택 Zipf 지수 (0이면 균등)", example = "1.0", defaultValue = "1.0")
+  @DecimalMin("0.0")
+  @DecimalMax("3.0")
+  @Builder.Default
+  private Double zipfExponent = 1.0;
+
+  @Schema(description = "키워드 검색 비중", example = "70", defaultValue = "70")
+  @Min(0)
+  @Builder.Default
+  private Integer keywordWeight = 70;
+
+  @Schema(description = "벡터 검색 비중", example = "5", defaultValue = "5")
+  @Min(0)
+  @Builder.Default
+  private Integer vectorWeight = 5;
+
+  @Schema(description = "하이브리드 검색 비중", example = "5", defaultValue = "5")
+  @Min(0)
+  @Builder.Default
+  private Integer hybridWeight = 5;
+
+  @Schema(description = "자동완성 비중", example = "20", defaultValue = "20")
+  @Min(0)
+  @Builder.Default
+  private Integer autocompleteWeight = 20;
+
+  @Schema(description = "검색 결과가 있을 때 클릭 로그를 보낼 확률", example = "0.3", defaultValue = "0.3")
+  @DecimalMin("0.0")
+  @DecimalMax("1.0")
+  @Builder.Default
+  private Double clickRate = 0.3;
+
+  @Schema(description = "검색어 순위 결정 시드", example = "42", defaultValue = "42")
+  @Builder.Default
+  private Long seed = 42L;
+}
@@ -0,0 +1,8 @@
+package com.yjlee.search.loggen.enums;
+
+public enum LoadTestMode {
+  // 목표 도착률에 맞춰 요청을 보낸다. 응답이 늦어도 다음 요청을 미루지 않는다.
+  OPEN_LOOP,
+  // 워커마다 응답을 받은 뒤 다음 요청을 보낸다.
+  CLOSED_LOOP
+}
@@ -1,7 +1,7 @@
 package com.yjlee.search.loggen.repository;
 
 import com.yjlee.search.loggen.model.SearchQueryPool;
-import java.util.Optional;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -11,6 +11,6 @@ public interface SearchQueryPoolRepository extends JpaRepository<SearchQueryPool
 
   boolean existsByQuery(String query);
 
-  @Query(value = "SELECT * FROM search_query_pool ORDER BY RANDOM() LIMIT 1", nativeQuery = true)
-  Optional<SearchQueryPool> findRandomQuery();
+  @Query("SELECT p.query FROM SearchQueryPool p")
+  List<String> findAllQueries();
 }
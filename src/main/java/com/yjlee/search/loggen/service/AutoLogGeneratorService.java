@@ -1,13 +1,11 @@
 package com.yjlee.search.loggen.service;
 
-import com.yjlee.search.clicklog.dto.ClickLogRequest;
-import com.yjlee.search.loggen.model.SearchQueryPool;
 import com.yjlee.search.loggen.repository.SearchQueryPoolRepository;
 import com.yjlee.search.search.dto.ProductDto;
 import com.yjlee.search.search.dto.SearchExecuteResponse;
+import com.yjlee.search.search.dto.SearchMode;
 import jakarta.annotation.PreDestroy;
 import java.util.List;
-import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.Executors;
@@ -16,14 +14,8 @@ import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
 @Slf4j
 @Service
@@ -31,7 +23,7 @@ import org.springframework.web.util.UriComponentsBuilder;
 public class AutoLogGeneratorService {
 
   private final SearchQueryPoolRepository queryPoolRepository;
-  private final RestTemplate restTemplate = new RestTemplate();
+  private final LoopbackTrafficClient trafficClient;
 
   @Value("${app.log-generator.enabled:false}")
   private boolean enabledByConfig;
@@ -39,11 +31,9 @@ public class AutoLogGeneratorService {
   @Value("${app.log-generator.parallel-llm-count:3}")
   private int parallelLlmCount = 3;
 
-  @Value("${server.port:8080}")
-  private int serverPort;
-
   private final Random random = new Random();
   private ScheduledExecutorService scheduledExecutor;
+  private volatile ZipfQuerySampler querySampler;
   private volatile boolean running = false;
   private volatile boolean manualOverride = false;
 
@@ -73,6 +63,7 @@ public class AutoLogGeneratorService {
       // 시작
       running = true;
       log.info("LLM 로그 생성 워커 {}EA 시작", parallelLlmCount);
+      loadQueryPool();
 
       // ScheduledExecutorService 생성
       scheduledExecutor = Executors.newScheduledThreadPool(parallelLlmCount);
@@ -108,32 +99,20 @@ public class AutoLogGeneratorService {
 
   private void generateLLMBasedLog() {
     try {
-      // 1. DB에서 랜덤 검색어 가져오기
-      Optional<SearchQueryPool> poolQuery = queryPoolRepository.findRandomQuery();
-      if (poolQuery.isEmpty()) {
+      // 1. 메모리에 올린 검색어 풀에서 랜덤 검색어 선택
+      ZipfQuerySampler sampler = querySampler;
+      if (sampler == null) {
         log.warn("검색어 풀이 비어있음");
         return;
       }
 
-      String searchQuery = poolQuery.get().getQuery();
+      String searchQuery = sampler.next(random);
       log.debug("검색어 풀에서 선택: {}", searchQuery);
 
       // 2. 실제 검색 수행 (HTTP 요청으로)
       String sessionId = UUID.randomUUID().toString();
-      String baseUrl = "http://localhost:" + serverPort;
-
-      // URL 인코딩을 위해 UriComponentsBuilder 사용
-      String searchUrl =
-          UriComponentsBuilder.fromHttpUrl(baseUrl + "/api/v1/search")
-              .queryParam("query", searchQuery)
-              .queryParam("size", 20)
-              .queryParam("searchSessionId", sessionId)
-              .build()
-              .toUriString();
-
-      ResponseEntity<SearchExecuteResponse> responseEntity =
-          restTemplate.getForEntity(searchUrl, SearchExecuteResponse.class);
-      SearchExecuteResponse searchResponse = responseEntity.getBody();
+      SearchExecuteResponse searchResponse =
+          trafficClient.search(searchQuery, SearchMode.KEYWORD_ONLY, sessionId);
 
       if (searchResponse == null
           || searchResponse.getHits() == null
@@ -146,7 +125,7 @@ public class AutoLogGeneratorService {
       // 3. 확률적 클릭 결정 (70% 확률로 클릭)
       if (shouldClick()) {
         List<ProductDto> products = searchResponse.getHits().getData();
-        int position = selectPositionByProbability(products.size());
+        int position = LoopbackTrafficClient.selectClickPosition(random, products.size());
         ProductDto clickedProduct = products.get(position);
 
         generateClickLog(searchQuery, clickedProduct, sessionId);
@@ -169,42 +148,21 @@ public class AutoLogGeneratorService {
     return random.nextDouble() < 0.7;
   }
 
-  private int selectPositionByProbability(int resultSize) {
-    double rand = random.nextDouble();
-    // 1위: 40%, 2위: 25%, 3위: 15%, 4위: 10%, 5위 이하: 10%
-    if (rand < 0.4) return 0;
-    if (rand < 0.65 && resultSize > 1) return 1;
-    if (rand < 0.8 && resultSize > 2) return 2;
-    if (rand < 0.9 && resultSize > 3) return 3;
-    // 5위 이하 랜덤
-    return Math.min(4 + random.nextInt(Math.min(5, resultSize - 4)), resultSize - 1);
-  }
-
   private void generateClickLog(String searchKeyword, ProductDto clickedProduct, String sessionId) {
     try {
-      ClickLogRequest clickRequest =
-          ClickLogRequest.builder()
-              .searchKeyword(searchKeyword)
-              .clickedProductId(clickedProduct.getId())
-              .indexName("products-search")
-              .sessionId(sessionId)
-              .build();
-
-      // HTTP 요청으로 클릭 로그 전송
-      String baseUrl = "http://localhost:" + serverPort;
-      String clickUrl = baseUrl + "/api/v1/click-logs";
-
-      HttpHeaders headers = new HttpHeaders();
-      headers.setContentType(MediaType.APPLICATION_JSON);
-      HttpEntity<ClickLogRequest> entity = new HttpEntity<>(clickRequest, headers);
-
-      restTemplate.postForEntity(clickUrl, entity, Object.class);
-
+      trafficClient.click(searchKeyword, clickedProduct, sessionId);
     } catch (Exception e) {
       log.error("클릭 로그 생성 실패: {}", searchKeyword, e);
     }
   }
 
+  // 워커 시작 시 검색어 풀을 한 번 읽어 요청마다 DB를 조회하지 않는다 (지수 0: 균등 선택)
+  private void loadQueryPool() {
+    List<String> queries = queryPoolRepository.findAllQueries();
+    querySampler = queries.isEmpty() ? null : new ZipfQuerySampler(queries, 0, random.nextLong());
+    log.info("검색어 풀 로드: {}개", queries.size());
+  }
+
   @PreDestroy
   public void shutdown() {
     log.info("AutoLogGeneratorService 종료 시작");
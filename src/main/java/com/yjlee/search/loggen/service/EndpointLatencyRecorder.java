@@ -0,0 +1,84 @@
+package com.yjlee.search.loggen.service;
+
+import com.yjlee.search.loggen.dto.EndpointLatencyResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * 엔드포인트별 지연시간 HdrHistogram. 요청 스레드는 Recorder에 잠금 없이 기록하고, 리포트 시점에 구간 히스토그램을 누적 히스토그램에 합친다. 값은
+ * 마이크로초 단위로 기록한다.
+ */
+public final class EndpointLatencyRecorder {
+
+  private static final int SIGNIFICANT_DIGITS = 3;
+
+  private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+  /**
+   * 요청 한 건 기록
+   *
+   * @param latencyNanos 의도한 시작 시각부터 응답까지 걸린 시간
+   */
+  public void record(String endpoint, long latencyNanos, boolean error) {
+    EndpointStats endpointStats = stats.computeIfAbsent(endpoint, key -> new EndpointStats());
+    endpointStats.recorder.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+    if (error) {
+      endpointStats.errors.increment();
+    }
+  }
+
+  /**
+   * 엔드포인트별 통계
+   *
+   * @param elapsedSeconds 처리량 계산에 쓸 경과 시간
+   */
+  public synchronized List<EndpointLatencyResponse> summarize(double elapsedSeconds) {
+    List<EndpointLatencyResponse> responses = new ArrayList<>();
+    for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(stats).entrySet()) {
+      EndpointStats endpointStats = entry.getValue();
+      Histogram total = endpointStats.accumulate();
+      long count = total.getTotalCount();
+      long errors = endpointStats.errors.sum();
+      responses.add(
+          EndpointLatencyResponse.builder()
+              .endpoint(entry.getKey())
+              .count(count)
+              .errors(errors)
+              .errorRate(count > 0 ? (double) errors / count : 0)
+              .throughput(elapsedSeconds > 0 ? count / elapsedSeconds : 0)
+              .mean(toMillis(total.getMean()))
+              .p50(toMillis(total.getValueAtPercentile(50)))
+              .p90(toMillis(total.getValueAtPercentile(90)))
+              .p99(toMillis(total.getValueAtPercentile(99)))
+              .p999(toMillis(total.getValueAtPercentile(99.9)))
+              .max(toMillis(total.getMaxValue()))
+              .build());
+    }
+    return responses;
+  }
+
+  private static double toMillis(double micros) {
+    return Math.round(micros) / 1000.0;
+  }
+
+  private static final class EndpointStats {
+    private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+    private final LongAdder errors = new LongAdder();
+    private Histogram interval;
+
+    // 리포트 사이에 기록된 값을 누적 히스토그램에 합친다 (summarize에서만 호출)
+    private Histogram accumulate() {
+      interval = recorder.getIntervalHistogram(interval);
+      total.add(interval);
+      return total;
+    }
+  }
+}
@@ -0,0 +1,335 @@
+package com.yjlee.search.loggen.service;
+
+import com.yjlee.search.loggen.dto.LoadTestReportResponse;
+import com.yjlee.search.loggen.dto.LoadTestRequest;
+import com.yjlee.search.loggen.enums.LoadTestMode;
+import com.yjlee.search.loggen.repository.SearchQueryPoolRepository;
+import com.yjlee.search.search.dto.ProductDto;
+import com.yjlee.search.search.dto.SearchExecuteResponse;
+import com.yjlee.search.search.dto.SearchMode;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 검색 API 부하 생성기. 검색어 풀을 메모리에 올려 Zipf 분포로 뽑고, 검색 모드/자동완성/클릭을 설정 비율대로 섞어 보낸다.
+ *
+ * <ul>
+ *   <li>OPEN_LOOP: 목표 RPS에 맞춘 예정 시각마다 요청을 보내고, 지연시간을 예정 시각부터 잰다. 서버가 느려져 요청이 밀려도 대기 시간이 지연시간에
+ *       포함되므로 coordinated omission이 생기지 않는다. 워커 대기열이 넘친 요청도 예정 시각을 유지한 채 다시 보내므로 같은
+ *       히스토그램에 들어간다.
+ *   <li>CLOSED_LOOP: 워커마다 응답을 받은 뒤 다음 요청을 보낸다. 최대 처리량 측정용.
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoadGeneratorService {
+
+  private static final String THREAD_PREFIX = "load-test-";
+  // 마감까지 보내지 못한 요청의 지연시간 구간
+  private static final String DROPPED_ENDPOINT = "dropped";
+  // 워커 대기열이 찼을 때 다시 보내기까지 기다리는 시간
+  private static final long RESUBMIT_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final SearchQueryPoolRepository queryPoolRepository;
+  private final LoopbackTrafficClient trafficClient;
+
+  private volatile LoadTestRun currentRun;
+
+  public synchronized LoadTestReportResponse start(LoadTestRequest request) {
+    if (isRunning()) {
+      throw new IllegalStateException("이미 부하 테스트가 실행 중입니다");
+    }
+    List<String> queries = queryPoolRepository.findAllQueries();
+    if (queries.isEmpty()) {
+      throw new IllegalStateException("검색어 풀이 비어있습니다");
+    }
+    if (request.getKeywordWeight()
+            + request.getVectorWeight()
+            + request.getHybridWeight()
+            + request.getAutocompleteWeight()
+        <= 0) {
+      throw new IllegalArgumentException("요청 비중의 합은 0보다 커야 합니다");
+    }
+
+    ZipfQuerySampler sampler =
+        new ZipfQuerySampler(queries, request.getZipfExponent(), request.getSeed());
+    LoadTestRun run = new LoadTestRun(request, sampler);
+    currentRun = run;
+    run.start();
+    log.info(
+        "부하 테스트 시작 - 모드: {}, 목표 RPS: {}, 동시성: {}, 시간: {}초, 검색어 풀: {}개",
+        request.getMode(),
+        request.getTargetRps(),
+        request.getConcurrency(),
+        request.getDurationSeconds(),
+        sampler.size());
+    return run.report();
+  }
+
+  public synchronized LoadTestReportResponse stop() {
+    LoadTestRun run = currentRun;
+    if (run == null) {
+      return LoadTestReportResponse.builder().running(false).build();
+    }
+    run.stop();
+    log.info("부하 테스트 중지 요청");
+    return run.report();
+  }
+
+  public LoadTestReportResponse report() {
+    LoadTestRun run = currentRun;
+    return run != null ? run.report() : LoadTestReportResponse.builder().running(false).build();
+  }
+
+  public boolean isRunning() {
+    LoadTestRun run = currentRun;
+    return run != null && run.isRunning();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    LoadTestRun run = currentRun;
+    if (run != null) {
+      run.stop();
+    }
+  }
+
+  private class LoadTestRun {
+
+    private final LoadTestRequest request;
+    private final ZipfQuerySampler sampler;
+    private final EndpointLatencyRecorder recorder = new EndpointLatencyRecorder();
+    private final LongAdder dropped = new LongAdder();
+    private final ThreadPoolExecutor executor;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final long startNanos = System.nanoTime();
+    private final long deadlineNanos;
+    private volatile boolean running = true;
+    private volatile long finishedNanos;
+
+    LoadTestRun(LoadTestRequest request, ZipfQuerySampler sampler) {
+      this.request = request;
+      this.sampler = sampler;
+      this.deadlineNanos = startNanos + TimeUnit.SECONDS.toNanos(request.getDurationSeconds());
+      int concurrency = request.getConcurrency();
+      AtomicInteger threadCount = new AtomicInteger();
+      // OPEN_LOOP는 1초 분량까지만 대기열에 쌓고 넘친 요청은 조정 스레드가 들고 있다가 다시 보낸다
+      int queueCapacity = Math.max(concurrency, request.getTargetRps());
+      this.executor =
+          new ThreadPoolExecutor(
+              concurrency,
+              concurrency,
+              0L,
+              TimeUnit.MILLISECONDS,
+              new ArrayBlockingQueue<>(queueCapacity),
+              task -> {
+                Thread thread = new Thread(task, THREAD_PREFIX + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+
+    void start() {
+      if (request.getMode() == LoadTestMode.OPEN_LOOP) {
+        Thread coordinator = new Thread(this::runOpenLoop, THREAD_PREFIX + "coordinator");
+        coordinator.setDaemon(true);
+        coordinator.start();
+      } else {
+        for (int i = 0; i < request.getConcurrency(); i++) {
+          executor.execute(this::runClosedLoopWorker);
+        }
+        executor.shutdown();
+        Thread coordinator = new Thread(this::awaitWorkers, THREAD_PREFIX + "coordinator");
+        coordinator.setDaemon(true);
+        coordinator.start();
+      }
+    }
+
+    // 예정 시각 = 시작 시각 + i * 간격. 앞 요청이 늦어지거나 대기열이 차도 예정 시각은 밀리지 않는다
+    private void runOpenLoop() {
+      long intervalNanos = TimeUnit.SECONDS.toNanos(1) / request.getTargetRps();
+      ArrayDeque<Long> pending = new ArrayDeque<>();
+      long sequence = 0;
+      while (running) {
+        long now = System.nanoTime();
+        if (now >= deadlineNanos) {
+          break;
+        }
+        // 예정 시각이 지난 요청을 순서대로 모은다
+        long intendedNanos = startNanos + sequence * intervalNanos;
+        while (intendedNanos <= now && intendedNanos < deadlineNanos) {
+          pending.addLast(intendedNanos);
+          sequence++;
+          intendedNanos = startNanos + sequence * intervalNanos;
+        }
+        while (!pending.isEmpty() && submit(pending.peekFirst())) {
+          pending.pollFirst();
+        }
+        if (pending.isEmpty() && intendedNanos >= deadlineNanos) {
+          break;
+        }
+        long waitNanos = intendedNanos - System.nanoTime();
+        if (!pending.isEmpty()) {
+          waitNanos = Math.min(waitNanos, RESUBMIT_WAIT_NANOS);
+        }
+        if (waitNanos > 0) {
+          LockSupport.parkNanos(waitNanos);
+        }
+      }
+      // 마감까지 보내지 못한 요청은 예정 시각부터 마감까지를 하한값으로 보고 실패로 기록한다
+      long endNanos = System.nanoTime();
+      for (long intendedNanos : pending) {
+        recorder.record(DROPPED_ENDPOINT, endNanos - intendedNanos, true);
+        dropped.increment();
+      }
+      awaitWorkers();
+    }
+
+    private boolean submit(long intendedNanos) {
+      try {
+        executor.execute(() -> execute(intendedNanos));
+        return true;
+      } catch (RejectedExecutionException e) {
+        return false;
+      }
+    }
+
+    private void runClosedLoopWorker() {
+      long thinkTimeNanos = TimeUnit.MILLISECONDS.toNanos(request.getThinkTimeMs());
+      while (running && System.nanoTime() < deadlineNanos) {
+        execute(System.nanoTime());
+        if (thinkTimeNanos > 0) {
+          LockSupport.parkNanos(thinkTimeNanos);
+        }
+      }
+    }
+
+    private void awaitWorkers() {
+      executor.shutdown();
+      try {
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        if (!executor.awaitTermination(
+            Math.max(0, remainingNanos) + TimeUnit.SECONDS.toNanos(30), TimeUnit.NANOSECONDS)) {
+          executor.shutdownNow();
+        }
+      } catch (InterruptedException e) {
+        executor.shutdownNow();
+        Thread.currentThread().interrupt();
+      }
+      finish();
+    }
+
+    private void execute(long intendedNanos) {
+      Random random = ThreadLocalRandom.current();
+      String query = sampler.next(random);
+      int pick =
+          random.nextInt(
+              request.getKeywordWeight()
+                  + request.getVectorWeight()
+                  + request.getHybridWeight()
+                  + request.getAutocompleteWeight());
+
+      if (pick < request.getAutocompleteWeight()) {
+        String prefix = query.substring(0, 1 + random.nextInt(Math.max(1, query.length())));
+        call("autocomplete", intendedNanos, () -> trafficClient.autocomplete(prefix));
+        return;
+      }
+      pick -= request.getAutocompleteWeight();
+      SearchMode searchMode =
+          pick < request.getKeywordWeight()
+              ? SearchMode.KEYWORD_ONLY
+              : pick < request.getKeywordWeight() + request.getVectorWeight()
+                  ? SearchMode.VECTOR_MULTI_FIELD
+                  : SearchMode.HYBRID_RRF;
+
+      String sessionId = UUID.randomUUID().toString();
+      SearchExecuteResponse response =
+          call(
+              "search." + searchMode.name(),
+              intendedNanos,
+              () -> trafficClient.search(query, searchMode, sessionId));
+      if (response == null
+          || response.getHits() == null
+          || response.getHits().getData() == null
+          || response.getHits().getData().isEmpty()
+          || random.nextDouble() >= request.getClickRate()) {
+        return;
+      }
+
+      List<ProductDto> products = response.getHits().getData();
+      ProductDto clicked =
+          products.get(LoopbackTrafficClient.selectClickPosition(random, products.size()));
+      call(
+          "click",
+          System.nanoTime(),
+          () -> {
+            trafficClient.click(query, clicked, sessionId);
+            return null;
+          });
+    }
+
+    private <T> T call(String endpoint, long intendedNanos, TrafficCall<T> trafficCall) {
+      try {
+        T result = trafficCall.call();
+        recorder.record(endpoint, System.nanoTime() - intendedNanos, false);
+        return result;
+      } catch (Exception e) {
+        recorder.record(endpoint, System.nanoTime() - intendedNanos, true);
+        log.debug("부하 테스트 요청 실패 - {}: {}", endpoint, e.getMessage());
+        return null;
+      }
+    }
+
+    // 조정 스레드는 최대 요청 간격만큼만 대기하므로 플래그만 내리면 곧 종료된다
+    void stop() {
+      running = false;
+    }
+
+    private void finish() {
+      running = false;
+      finishedNanos = System.nanoTime();
+      log.info("부하 테스트 종료 - 버린 요청: {}건", dropped.sum());
+    }
+
+    boolean isRunning() {
+      return running || finishedNanos == 0;
+    }
+
+    LoadTestReportResponse report() {
+      long endNanos = finishedNanos != 0 ? finishedNanos : System.nanoTime();
+      double elapsedSeconds = (endNanos - startNanos) / 1_000_000_000.0;
+      return LoadTestReportResponse.builder()
+          .running(isRunning())
+          .mode(request.getMode())
+          .targetRps(request.getMode() == LoadTestMode.OPEN_LOOP ? request.getTargetRps() : null)
+          .concurrency(request.getConcurrency())
+          .queryPoolSize(sampler.size())
+          .startedAt(startedAt)
+          .elapsedSeconds(Math.round(elapsedSeconds * 10) / 10.0)
+          .dropped(dropped.sum())
+          .endpoints(recorder.summarize(elapsedSeconds))
+          .build();
+    }
+  }
+
+  @FunctionalInterface
+  private interface TrafficCall<T> {
+    T call() throws Exception;
+  }
+}
@@ -0,0 +1,77 @@
+package com.yjlee.search.loggen.service;
+
+import com.yjlee.search.clicklog.dto.ClickLogRequest;
+import com.yjlee.search.search.dto.AutocompleteResponse;
+import com.yjlee.search.search.dto.ProductDto;
+import com.yjlee.search.search.dto.SearchExecuteResponse;
+import com.yjlee.search.search.dto.SearchMode;
+import java.util.Random;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/** 로그 생성기와 부하 생성기가 자기 서버의 검색/자동완성/클릭 API를 HTTP로 호출한다. */
+@Component
+public class LoopbackTrafficClient {
+
+  private final RestTemplate restTemplate = new RestTemplate();
+
+  @Value("${server.port:8080}")
+  private int serverPort;
+
+  // RestTemplate이 문자열 URL을 인코딩하므로 여기서는 인코딩하지 않는다
+  public SearchExecuteResponse search(String query, SearchMode searchMode, String sessionId) {
+    String searchUrl =
+        UriComponentsBuilder.fromHttpUrl(baseUrl() + "/api/v1/search")
+            .queryParam("query", query)
+            .queryParam("size", 20)
+            .queryParam("searchMode", searchMode)
+            .queryParam("searchSessionId", sessionId)
+            .build()
+            .toUriString();
+    return restTemplate.getForObject(searchUrl, SearchExecuteResponse.class);
+  }
+
+  public AutocompleteResponse autocomplete(String keyword) {
+    String autocompleteUrl =
+        UriComponentsBuilder.fromHttpUrl(baseUrl() + "/api/v1/search/autocomplete")
+            .queryParam("keyword", keyword)
+            .build()
+            .toUriString();
+    return restTemplate.getForObject(autocompleteUrl, AutocompleteResponse.class);
+  }
+
+  public void click(String searchKeyword, ProductDto clickedProduct, String sessionId) {
+    ClickLogRequest clickRequest =
+        ClickLogRequest.builder()
+            .searchKeyword(searchKeyword)
+            .clickedProductId(clickedProduct.getId())
+            .indexName("products-search")
+            .sessionId(sessionId)
+            .build();
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_JSON);
+    restTemplate.postForEntity(
+        baseUrl() + "/api/v1/click-logs", new HttpEntity<>(clickRequest, headers), Object.class);
+  }
+
+  /** 검색 결과에서 클릭할 순위 선택. 1위 40%, 2위 25%, 3위 15%, 4위 10%, 5위 이하 10% */
+  static int selectClickPosition(Random random, int resultSize) {
+    double rand = random.nextDouble();
+    if (rand < 0.4) return 0;
+    if (rand < 0.65 && resultSize > 1) return 1;
+    if (rand < 0.8 && resultSize > 2) return 2;
+    if (rand < 0.9 && resultSize > 3) return 3;
+    // 5위 이하 랜덤
+    return Math.min(4 + random.nextInt(Math.max(1, Math.min(5, resultSize - 4))), resultSize - 1);
+  }
+
+  private String baseUrl() {
+    return "http://localhost:" + serverPort;
+  }
+}
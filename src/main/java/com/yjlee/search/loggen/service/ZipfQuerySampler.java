@@ -0,0 +1,73 @@
+package com.yjlee.search.loggen.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 검색어 풀에서 Zipf 분포로 검색어를 뽑는다. 풀을 시드로 섞어 순위를 정하고, 순위 k의 선택 확률은 1/k^exponent에 비례한다. 실제 검색 로그처럼 소수의
+ * 인기 검색어에 요청이 몰리는 부하를 만든다.
+ */
+public final class ZipfQuerySampler {
+
+  private final String[] queries;
+  private final double[] cumulative;
+
+  /**
+   * @param queries 검색어 풀 (빈 검색어는 뺀다)
+   * @param exponent Zipf 지수 (0이면 균등 분포)
+   * @param seed 순위 결정용 시드
+   */
+  public ZipfQuerySampler(List<String> queries, double exponent, long seed) {
+    List<String> ranked = new ArrayList<>(queries.size());
+    for (String query : queries) {
+      if (query != null && !query.isBlank()) {
+        ranked.add(query);
+      }
+    }
+    if (ranked.isEmpty()) {
+      throw new IllegalArgumentException("검색어 풀이 비어있습니다");
+    }
+    Collections.shuffle(ranked, new Random(seed));
+    this.queries = ranked.toArray(new String[0]);
+
+    cumulative = new double[this.queries.length];
+    double sum = 0;
+    for (int rank = 0; rank < cumulative.length; rank++) {
+      sum += 1.0 / Math.pow(rank + 1, exponent);
+      cumulative[rank] = sum;
+    }
+    for (int rank = 0; rank < cumulative.length; rank++) {
+      cumulative[rank] /= sum;
+    }
+  }
+
+  public String next(Random random) {
+    return queries[rankOf(random.nextDouble())];
+  }
+
+  public int size() {
+    return queries.length;
+  }
+
+  /** 순위별 검색어 (0이 가장 인기) */
+  public String queryAt(int rank) {
+    return queries[rank];
+  }
+
+  // 누적 확률이 u를 넘는 첫 순위
+  int rankOf(double u) {
+    int lo = 0;
+    int hi = cumulative.length - 1;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (cumulative[mid] <= u) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo;
+  }
+}
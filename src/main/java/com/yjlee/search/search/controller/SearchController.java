@@ -2,6 +2,7 @@ package com.yjlee.search.search.controller;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.yjlee.search.common.enums.EnvironmentType;
+import com.yjlee.search.config.WebConfig;
 import com.yjlee.search.search.dto.AutocompleteResponse;
 import com.yjlee.search.search.dto.SearchExecuteResponse;
 import com.yjlee.search.search.dto.SearchParams;
@@ -15,6 +16,8 @@ import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -31,7 +34,19 @@ public class SearchController {
   @GetMapping
   public ResponseEntity<SearchExecuteResponse> search(
       @ParameterObject SearchParams params, HttpServletRequest httpRequest) {
-    return ResponseEntity.ok(searchService.executeSearch(params, httpRequest));
+    Object etag = httpRequest.getAttribute(WebConfig.VersionETagInterceptor.SEARCH_ETAG_ATTRIBUTE);
+    if (etag == null) {
+      return ResponseEntity.ok(searchService.executeSearch(params, httpRequest));
+    }
+    // 검색 전에 비교해 If-None-Match가 일치하면 검색 로그만 남기고 본문 없이 304로 응답한다
+    if (WebConfig.VersionETagInterceptor.matches(
+        httpRequest.getHeader(HttpHeaders.IF_NONE_MATCH), (String) etag)) {
+      searchService.logNotModifiedSearch(params, httpRequest);
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag((String) etag).build();
+    }
+    return ResponseEntity.ok()
+        .eTag((String) etag)
+        .body(searchService.executeSearch(params, httpRequest));
   }
 
   @Operation(summary = "자동완성 검색")
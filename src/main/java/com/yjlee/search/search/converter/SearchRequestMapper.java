@@ -1,5 +1,6 @@
 package com.yjlee.search.search.converter;
 
+import com.yjlee.search.common.enums.EnvironmentType;
 import com.yjlee.search.search.constants.SearchConstants;
 import com.yjlee.search.search.dto.PriceRangeDto;
 import com.yjlee.search.search.dto.ProductFiltersDto;
@@ -72,12 +73,36 @@ public class SearchRequestMapper {
     return request;
   }
 
+  public SearchSimulationRequest toSimulationRequest(
+      SearchExecuteRequest source, EnvironmentType environmentType) {
+    SearchSimulationRequest request = new SearchSimulationRequest();
+    request.setQuery(source.getQuery());
+    request.setPage(source.getPage());
+    request.setSize(source.getSize());
+    request.setSort(source.getSort());
+    request.setFilters(source.getFilters());
+    request.setApplyTypoCorrection(source.getApplyTypoCorrection());
+    request.setSearchSessionId(source.getSearchSessionId());
+    request.setCursor(source.getCursor());
+    request.setSearchMode(source.getSearchMode());
+    request.setRrfK(source.getRrfK());
+    request.setHybridTopK(source.getHybridTopK());
+    request.setBm25Weight(source.getBm25Weight());
+    request.setVectorMinScore(source.getVectorMinScore());
+    request.setNameVectorBoost(source.getNameVectorBoost());
+    request.setSpecsVectorBoost(source.getSpecsVectorBoost());
+    request.setEnvironmentType(environmentType);
+    request.setExplain(false);
+    return request;
+  }
+
   private void copyCommonFields(SearchParams params, SearchExecuteRequest request) {
     // 기본 검색 파라미터
     request.setQuery(params.getQuery());
     request.setPage(Optional.ofNullable(params.getPage()).orElse(SearchConstants.DEFAULT_PAGE));
     request.setSize(Optional.ofNullable(params.getSize()).orElse(20));
     request.setSearchSessionId(params.getSearchSessionId());
+    request.setCursor(params.getCursor());
 
     // 검색 모드 관련
     request.setSearchMode(
@@ -3,9 +3,11 @@ package com.yjlee.search.search.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 @Schema(description = "집계 버킷")
 public class AggregationBucketDto {
 
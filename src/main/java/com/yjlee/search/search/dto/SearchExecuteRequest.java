@@ -37,6 +37,11 @@ public class SearchExecuteRequest {
   @Schema(description = "검색 세션 ID (FE에서 생성하여 전달)", example = "session-123456")
   private String searchSessionId;
 
+  @Schema(
+      description = "결과 커서 토큰 (이전 응답 meta.cursor, VECTOR_MULTI_FIELD/HYBRID_RRF 페이징용)",
+      required = false)
+  private String cursor;
+
   @Schema(description = "검색 모드", example = "KEYWORD_ONLY", defaultValue = "KEYWORD_ONLY")
   private SearchMode searchMode = SearchMode.KEYWORD_ONLY;
 
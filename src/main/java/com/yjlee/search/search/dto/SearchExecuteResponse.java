@@ -5,9 +5,11 @@ import java.util.List;
 import java.util.Map;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@Jacksonized
 @Schema(description = "상품 검색 응답")
 public class SearchExecuteResponse {
 
@@ -4,15 +4,22 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 @Schema(description = "검색 결과")
 public class SearchHitsDto {
 
   @Schema(description = "총 결과 수", example = "156")
   private Long total;
 
+  @Schema(
+      description = "총 결과 수가 추적 상한에서 잘렸는지 여부 (true이면 실제 결과는 total 이상)",
+      example = "false")
+  private Boolean totalCapped;
+
   @Schema(description = "상품 목록")
   private List<ProductDto> data;
 }
@@ -1,11 +1,14 @@
 package com.yjlee.search.search.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@Jacksonized
 @Schema(description = "검색 메타 정보")
 public class SearchMetaDto {
 
@@ -23,4 +26,10 @@ public class SearchMetaDto {
 
   @Schema(description = "검색 세션 ID", example = "session-123456")
   private String searchSessionId;
+
+  @Schema(description = "결과 커서 토큰 (다음 페이지 요청 시 전달)", example = "c2f1e0d4")
+  private String cursor;
+
+  @Schema(description = "단계별 소요 시간(ms), explain 요청 시에만 포함")
+  private Map<String, Double> timings;
 }
@@ -44,6 +44,11 @@ public class SearchParams {
   @Schema(description = "검색 세션 ID (FE에서 생성하여 전달)", example = "session-123456")
   private String searchSessionId;
 
+  @Schema(
+      description = "결과 커서 토큰 (이전 응답 meta.cursor, VECTOR_MULTI_FIELD/HYBRID_RRF 페이징용)",
+      required = false)
+  private String cursor;
+
   @Schema(
       description =
           "검색 모드 (KEYWORD_ONLY: BM25 키워드 검색, VECTOR_ONLY: 벡터 검색, HYBRID_RRF: BM25+벡터 RRF 융합)",
@@ -4,8 +4,13 @@ import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.yjlee.search.search.dto.AutocompleteResponse;
+import com.yjlee.search.search.service.autocomplete.AutocompleteEngine;
+import com.yjlee.search.search.service.autocomplete.HotPrefixSuggestionService;
 import com.yjlee.search.search.service.builder.QueryResponseBuilder;
 import com.yjlee.search.search.service.builder.SearchRequestBuilder;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,17 +23,69 @@ public class AutocompleteSearchService {
   private final SearchRequestBuilder searchRequestBuilder;
   private final QueryResponseBuilder responseBuilder;
   private final SearchQueryExecutor queryExecutor;
+  private final AutocompleteEngine autocompleteEngine;
+  private final HotPrefixSuggestionService hotPrefixSuggestionService;
 
   public AutocompleteResponse search(String indexName, String keyword) {
-    log.info("Autocomplete search - index: {}, keyword: {}", indexName, keyword);
+    return search(indexName, keyword, null);
+  }
 
+  /**
+   * 자동완성 검색. 짧은 접두어는 인기 검색어 테이블, 그 다음은 인메모리 접두어 인덱스 순으로 채우고, 결과가 부족할 때만 단어 중간 일치까지 찾는 ES
+   * 결과를 뒤에 덧붙인다.
+   *
+   * @param version 인덱스 버전 (null이면 인메모리 접두어 인덱스 미사용)
+   */
+  public AutocompleteResponse search(String indexName, String keyword, String version) {
     long startTime = System.currentTimeMillis();
+    int limit = autocompleteEngine.getTopK();
+    Set<String> suggestions = new LinkedHashSet<>();
+
+    addUpTo(suggestions, hotPrefixSuggestionService.lookup(keyword), limit);
+    if (suggestions.size() < limit) {
+      addUpTo(suggestions, autocompleteEngine.suggest(version, keyword, limit), limit);
+    }
+    if (suggestions.size() >= limit) {
+      log.debug(
+          "인메모리 자동완성 - 키워드: {}, 소요시간: {}ms",
+          keyword,
+          System.currentTimeMillis() - startTime);
+      return toResponse(List.copyOf(suggestions));
+    }
+
+    log.info("Autocomplete search - index: {}, keyword: {}", indexName, keyword);
 
     SearchRequest searchRequest =
         searchRequestBuilder.buildAutocompleteSearchRequest(indexName, keyword);
     SearchResponse<JsonNode> response = queryExecutor.execute(searchRequest);
     long took = System.currentTimeMillis() - startTime;
 
-    return responseBuilder.buildAutocompleteResponse(response, took, keyword);
+    AutocompleteResponse esResponse =
+        responseBuilder.buildAutocompleteResponse(response, took, keyword);
+    if (suggestions.isEmpty()) {
+      return esResponse;
+    }
+
+    addUpTo(suggestions, esResponse.getSuggestions(), limit);
+    return toResponse(List.copyOf(suggestions));
+  }
+
+  private void addUpTo(Set<String> suggestions, List<String> candidates, int limit) {
+    if (candidates == null) {
+      return;
+    }
+    for (String candidate : candidates) {
+      if (suggestions.size() >= limit) {
+        return;
+      }
+      suggestions.add(candidate);
+    }
+  }
+
+  private AutocompleteResponse toResponse(List<String> suggestions) {
+    return AutocompleteResponse.builder()
+        .suggestions(suggestions)
+        .count(suggestions.size())
+        .build();
   }
 }
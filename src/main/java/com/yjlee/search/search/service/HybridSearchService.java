@@ -35,6 +35,8 @@ import com.yjlee.search.search.service.builder.QueryBuilder;
 import com.yjlee.search.search.service.builder.QueryResponseBuilder;
 import com.yjlee.search.search.service.builder.SearchRequestBuilder;
 import com.yjlee.search.search.service.builder.query.FilterQueryBuilder;
+import com.yjlee.search.search.service.timing.SearchStage;
+import com.yjlee.search.search.service.timing.SearchStageTimings;
 import com.yjlee.search.search.utils.AggregationUtils;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -62,6 +64,7 @@ public class HybridSearchService {
   private final ObjectMapper objectMapper;
   private final ProductDtoConverter productDtoConverter;
   private final FilterQueryBuilder filterQueryBuilder;
+  private final ResultSetCursorService resultSetCursorService;
 
   /** 하이브리드 검색 실행 (BM25 + Vector with RRF) */
   public SearchExecuteResponse hybridSearch(
@@ -82,6 +85,15 @@ public class HybridSearchService {
       log.debug("Hybrid simulation search - using environment: {}", environment);
     }
 
+    // 커서가 유효하면 저장된 순위에서 페이지만 조회
+    if (!withExplain) {
+      Optional<SearchExecuteResponse> cursorPage =
+          resultSetCursorService.fetchPage(indexName, request);
+      if (cursorPage.isPresent()) {
+        return cursorPage.get();
+      }
+    }
+
     long startTime = System.currentTimeMillis();
 
     try {
@@ -116,6 +128,7 @@ public class HybridSearchService {
           vectorResults.size());
 
       // 2. RRF 병합 - 전체 TopK 결과를 병합
+      long fusionStartNanos = System.nanoTime();
       List<RRFScorer.RRFResult> allMergedResults =
           rrfScorer.mergeWithRRF(
               bm25Results,
@@ -123,17 +136,21 @@ public class HybridSearchService {
               request.getRrfK(),
               request.getHybridTopK(),
               request.getBm25Weight());
+      SearchStageTimings.recordSince(SearchStage.RRF_FUSION, fusionStartNanos);
 
       // 3. 응답 생성
       long took = System.currentTimeMillis() - startTime;
+      long responseStartNanos = System.nanoTime();
       SearchExecuteResponse response =
           buildHybridResponse(
+              indexName,
               request,
               allMergedResults,
               bm25Results.size(),
               vectorResults.size(),
               took,
               withExplain);
+      SearchStageTimings.recordSince(SearchStage.RESPONSE, responseStartNanos);
 
       log.info(
           "Hybrid search completed in {}ms - final results: {}", took, allMergedResults.size());
@@ -183,7 +200,12 @@ public class HybridSearchService {
         MsearchRequest.of(m -> m.index(indexName).searches(List.of(bm25Request, vectorRequest)));
 
     log.debug("Executing multi search with BM25 and Vector queries for index: {}", indexName);
-    return elasticsearchClient.msearch(msearchRequest, JsonNode.class);
+    long startNanos = System.nanoTime();
+    MsearchResponse<JsonNode> response =
+        elasticsearchClient.msearch(msearchRequest, JsonNode.class);
+    SearchStageTimings.recordSince(SearchStage.ES_REQUEST, startNanos);
+    SearchStageTimings.recordTook(response.took());
+    return response;
   }
 
   /** 키워드 검색만 실행 (폴백용) */
@@ -270,6 +292,7 @@ public class HybridSearchService {
 
   /** 하이브리드 검색 응답 생성 */
   private SearchExecuteResponse buildHybridResponse(
+      String indexName,
       SearchExecuteRequest request,
       List<RRFScorer.RRFResult> mergedResults,
       int bm25Count,
@@ -299,6 +322,18 @@ public class HybridSearchService {
     Map<String, List<AggregationBucketDto>> aggregations =
         AggregationUtils.calculateFromRRFResults(filteredResults);
 
+    // 커서 저장 (explain 모드는 점수 설명이 필요하므로 제외)
+    String cursor = null;
+    if (!withExplain) {
+      cursor =
+          resultSetCursorService.save(
+              indexName,
+              request,
+              filteredResults.stream().map(result -> result.getDocument().id()).toList(),
+              filteredResults.stream().map(RRFScorer.RRFResult::getTotalRrfScore).toList(),
+              aggregations);
+    }
+
     // 4. 페이징 처리
     int page = request.getPage();
     int size = request.getSize();
@@ -341,6 +376,7 @@ public class HybridSearchService {
             .totalPages(totalPages)
             .processingTime(took)
             .searchSessionId(request.getSearchSessionId())
+            .cursor(cursor)
             .build();
 
     // queryDsl 생성 (withExplain일 때만)
@@ -0,0 +1,186 @@
+package com.yjlee.search.search.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yjlee.search.search.converter.ProductDtoConverter;
+import com.yjlee.search.search.dto.AggregationBucketDto;
+import com.yjlee.search.search.dto.ProductDto;
+import com.yjlee.search.search.dto.SearchExecuteRequest;
+import com.yjlee.search.search.dto.SearchExecuteResponse;
+import com.yjlee.search.search.dto.SearchHitsDto;
+import com.yjlee.search.search.dto.SearchMetaDto;
+import com.yjlee.search.search.utils.SearchFingerprintUtils;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 벡터/하이브리드 검색의 최종 순위(문서 ID, 점수)를 커서 토큰으로 보관하는 서비스. 다음 페이지 요청은 커서 조회와 해당 페이지 문서 조회만으로 처리하고,
+ * 커서가 만료되었거나 요청이 달라지면 호출 측에서 다시 검색한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResultSetCursorService {
+
+  private final SearchQueryExecutor queryExecutor;
+  private final ProductDtoConverter productDtoConverter;
+
+  @Value("${app.search.cursor.enabled:true}")
+  private boolean enabled;
+
+  @Value("${app.search.cursor.ttl-seconds:300}")
+  private long ttlSeconds;
+
+  @Value("${app.search.cursor.max-weight-bytes:33554432}")
+  private long maxWeightBytes;
+
+  private Cache<String, ResultSetSnapshot> store;
+
+  @PostConstruct
+  public void init() {
+    store =
+        Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+            .maximumWeight(maxWeightBytes)
+            .weigher((String token, ResultSetSnapshot snapshot) -> snapshot.estimatedBytes())
+            .build();
+    log.info(
+        "검색 결과 커서 저장소 초기화 - 활성화: {}, TTL: {}s, 최대 크기: {} bytes",
+        enabled,
+        ttlSeconds,
+        maxWeightBytes);
+  }
+
+  /**
+   * 최종 순위를 저장하고 커서 토큰 반환
+   *
+   * @return 커서 토큰 (비활성화 시 null)
+   */
+  public String save(
+      String indexName,
+      SearchExecuteRequest request,
+      List<String> documentIds,
+      List<Double> scores,
+      Map<String, List<AggregationBucketDto>> aggregations) {
+    if (!enabled) {
+      return null;
+    }
+
+    int size = documentIds.size();
+    String[] ids = documentIds.toArray(new String[0]);
+    double[] scoreArray = new double[size];
+    for (int i = 0; i < size; i++) {
+      Double score = scores.get(i);
+      scoreArray[i] = score != null ? score : 0.0;
+    }
+
+    String token = UUID.randomUUID().toString().replace("-", "");
+    store.put(
+        token,
+        new ResultSetSnapshot(
+            indexName,
+            SearchFingerprintUtils.fingerprint(request, false),
+            ids,
+            scoreArray,
+            aggregations));
+    return token;
+  }
+
+  /**
+   * 커서로 요청 페이지 조회
+   *
+   * @return 커서가 유효하면 페이지 응답, 만료/불일치면 empty
+   */
+  public Optional<SearchExecuteResponse> fetchPage(String indexName, SearchExecuteRequest request) {
+    if (!enabled || request.getCursor() == null || request.getCursor().isBlank()) {
+      return Optional.empty();
+    }
+
+    ResultSetSnapshot snapshot = store.getIfPresent(request.getCursor());
+    if (snapshot == null) {
+      log.debug("커서 만료 또는 없음 - 재검색: {}", request.getCursor());
+      return Optional.empty();
+    }
+    if (!snapshot.indexName.equals(indexName)
+        || !snapshot.fingerprint.equals(SearchFingerprintUtils.fingerprint(request, false))) {
+      log.debug("커서와 요청 조건 불일치 - 재검색: {}", request.getCursor());
+      return Optional.empty();
+    }
+
+    long startTime = System.currentTimeMillis();
+    int total = snapshot.ids.length;
+    int from = Math.min(request.getPage() * request.getSize(), total);
+    int to = Math.min(from + request.getSize(), total);
+
+    List<String> pageIds = Arrays.asList(snapshot.ids).subList(from, to);
+    Map<String, JsonNode> sources = queryExecutor.multiGet(indexName, pageIds);
+
+    List<ProductDto> products = new ArrayList<>(pageIds.size());
+    for (int i = from; i < to; i++) {
+      JsonNode source = sources.get(snapshot.ids[i]);
+      if (source != null) {
+        products.add(productDtoConverter.convert(snapshot.ids[i], snapshot.scores[i], source));
+      }
+    }
+
+    int totalPages = (int) Math.ceil((double) total / request.getSize());
+    SearchMetaDto meta =
+        SearchMetaDto.builder()
+            .page(request.getPage())
+            .size(request.getSize())
+            .totalPages(totalPages)
+            .processingTime(System.currentTimeMillis() - startTime)
+            .searchSessionId(request.getSearchSessionId())
+            .cursor(request.getCursor())
+            .build();
+
+    return Optional.of(
+        SearchExecuteResponse.builder()
+            .hits(SearchHitsDto.builder().total((long) total).data(products).build())
+            .aggregations(snapshot.aggregations)
+            .meta(meta)
+            .build());
+  }
+
+  private static final class ResultSetSnapshot {
+    private final String indexName;
+    private final String fingerprint;
+    private final String[] ids;
+    private final double[] scores;
+    private final Map<String, List<AggregationBucketDto>> aggregations;
+
+    private ResultSetSnapshot(
+        String indexName,
+        String fingerprint,
+        String[] ids,
+        double[] scores,
+        Map<String, List<AggregationBucketDto>> aggregations) {
+      this.indexName = indexName;
+      this.fingerprint = fingerprint;
+      this.ids = ids;
+      this.scores = scores;
+      this.aggregations = aggregations;
+    }
+
+    // ID 문자열(헤더 + char 2바이트)과 점수 배열 기준 대략적인 크기
+    private int estimatedBytes() {
+      long bytes = 64L + fingerprint.length() * 2L + scores.length * 8L;
+      for (String id : ids) {
+        bytes += 40L + id.length() * 2L;
+      }
+      bytes += (aggregations != null ? aggregations.size() : 0) * 1024L;
+      return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+  }
+}
@@ -0,0 +1,295 @@
+package com.yjlee.search.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.yjlee.search.search.dto.SearchExecuteRequest;
+import com.yjlee.search.search.utils.SearchFingerprintUtils;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Service;
+
+/**
+ * 키워드 검색의 point-in-time + search_after 페이지네이션. 첫 페이지는 추가 비용 없이 마지막 정렬값만 커서로 돌려주고, 다음 페이지 요청부터 PIT를
+ * 열어 인덱스 refresh와 무관하게 안정적인 순서로 이어서 조회한다. 총 건수는 첫 페이지에서만 계산해 커서에 실어 보낸다.
+ *
+ * <p>PIT는 마지막 페이지에 도달하거나 PIT 조회가 실패하면 바로 닫는다. 중간에 이탈한 세션의 PIT는 페이지마다 갱신되는 keep-alive가 지나면
+ * Elasticsearch가 만료시킨다. 이탈한 세션이 몰려도 PIT가 쌓이지 않도록 열린 PIT를 만료 시각과 함께 세고, max-open-pits개가 열려 있으면 새
+ * PIT를 열지 않고 search_after만으로 이어간다 (그 사이 refresh가 있으면 순서가 조금 바뀔 수 있다).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchAfterPaginationService {
+
+  private final ElasticsearchClient elasticsearchClient;
+  private final ObjectMapper objectMapper;
+
+  @Value("${app.search.pagination.search-after-enabled:true}")
+  private boolean enabled;
+
+  @Value("${app.search.pagination.pit-keep-alive:1m}")
+  private String pitKeepAlive;
+
+  @Value("${app.search.pagination.track-total-hits-up-to:-1}")
+  private int trackTotalHitsUpTo;
+
+  @Value("${app.search.pagination.max-open-pits:500}")
+  private int maxOpenPits;
+
+  // 열린 PIT ID -> keep-alive 만료 시각 (nanoTime)
+  private final Map<String, Long> openPits = new ConcurrentHashMap<>();
+  private long keepAliveNanos;
+
+  @PostConstruct
+  public void init() {
+    try {
+      keepAliveNanos = DurationStyle.detectAndParse(pitKeepAlive).toNanos();
+    } catch (IllegalArgumentException e) {
+      log.warn("PIT keep-alive 해석 실패 - 1분으로 추적: {}", pitKeepAlive);
+      keepAliveNanos = TimeUnit.MINUTES.toNanos(1);
+    }
+  }
+
+  public String getPitKeepAlive() {
+    return pitKeepAlive;
+  }
+
+  // 총 건수 추적 상한 (-1이면 정확한 건수)
+  public int getTrackTotalHitsUpTo() {
+    return trackTotalHitsUpTo;
+  }
+
+  // 만료되지 않은 열린 PIT 수
+  public int getOpenPitCount() {
+    purgeExpiredPits(System.nanoTime());
+    return openPits.size();
+  }
+
+  /**
+   * 요청 커서 해석. 요청 페이지가 커서의 다음 페이지이고 인덱스/조건이 같을 때만 유효하며, PIT가 없으면 이때 연다. 열린 PIT가 상한에 닿았으면
+   * PIT 없는 커서를 그대로 돌려준다.
+   *
+   * @return search_after로 이어갈 커서, 적용할 수 없으면 null
+   */
+  public PageCursor resolve(String indexName, SearchExecuteRequest request) {
+    if (!enabled || request.getCursor() == null || request.getCursor().isBlank()) {
+      return null;
+    }
+
+    PageCursor cursor = decode(request.getCursor());
+    if (cursor == null
+        || cursor.nextPage != request.getPage()
+        || !indexName.equals(cursor.indexName)
+        || cursor.fingerprintHash != fingerprintHash(request)) {
+      return null;
+    }
+
+    if (cursor.pitId == null) {
+      long now = System.nanoTime();
+      purgeExpiredPits(now);
+      if (openPits.size() >= maxOpenPits) {
+        log.debug("열린 PIT {}개로 상한 도달 - PIT 없이 search_after만 사용", openPits.size());
+        return cursor;
+      }
+      try {
+        String pitId =
+            elasticsearchClient
+                .openPointInTime(p -> p.index(indexName).keepAlive(k -> k.time(pitKeepAlive)))
+                .id();
+        openPits.put(pitId, now + keepAliveNanos);
+        cursor = cursor.withPitId(pitId);
+      } catch (Exception e) {
+        log.warn("PIT 생성 실패 - search_after만 사용: {}", e.getMessage());
+      }
+    }
+    return cursor;
+  }
+
+  /**
+   * 현재 응답의 마지막 정렬값으로 다음 페이지 커서 생성. 더 이어갈 페이지가 없으면 사용하던 PIT를 닫는다.
+   *
+   * @return 인코딩된 커서, 마지막 페이지이면 null
+   */
+  public String nextCursor(
+      String indexName,
+      SearchExecuteRequest request,
+      SearchResponse<JsonNode> response,
+      PageCursor current,
+      long total,
+      boolean totalCapped) {
+    if (!enabled) {
+      return null;
+    }
+
+    String pitId = response.pitId();
+    if (pitId == null && current != null) {
+      pitId = current.pitId;
+    }
+    if (pitId != null) {
+      // 페이지를 조회할 때마다 keep-alive가 갱신된다. 응답의 PIT ID가 바뀌었으면 새 ID로 추적
+      if (current != null && current.pitId != null && !pitId.equals(current.pitId)) {
+        openPits.remove(current.pitId);
+      }
+      openPits.put(pitId, System.nanoTime() + keepAliveNanos);
+    }
+
+    List<Hit<JsonNode>> hits = response.hits().hits();
+    List<FieldValue> sortValues = hits.isEmpty() ? null : hits.get(hits.size() - 1).sort();
+    if (hits.size() < request.getSize() || sortValues == null || sortValues.isEmpty()) {
+      closePit(pitId);
+      return null;
+    }
+
+    return encode(
+        new PageCursor(
+            indexName,
+            pitId,
+            sortValues,
+            request.getPage() + 1,
+            total,
+            totalCapped,
+            fingerprintHash(request)));
+  }
+
+  /** PIT 해제. 이미 만료된 PIT일 수 있으므로 실패는 무시한다 */
+  public void closePit(String pitId) {
+    if (pitId == null) {
+      return;
+    }
+    openPits.remove(pitId);
+    try {
+      elasticsearchClient.closePointInTime(c -> c.id(pitId));
+    } catch (Exception e) {
+      log.debug("PIT 해제 실패 - keep-alive 만료에 맡김: {}", e.getMessage());
+    }
+  }
+
+  // keep-alive가 지난 PIT는 Elasticsearch가 이미 해제했으므로 추적에서만 뺀다
+  private void purgeExpiredPits(long now) {
+    openPits.values().removeIf(expiresAt -> expiresAt - now <= 0);
+  }
+
+  private int fingerprintHash(SearchExecuteRequest request) {
+    return SearchFingerprintUtils.fingerprint(request, false).hashCode() * 31 + request.getSize();
+  }
+
+  private String encode(PageCursor cursor) {
+    try {
+      ObjectNode node = objectMapper.createObjectNode();
+      node.put("i", cursor.indexName);
+      node.put("p", cursor.pitId);
+      node.put("n", cursor.nextPage);
+      node.put("t", cursor.total);
+      node.put("c", cursor.totalCapped);
+      node.put("f", cursor.fingerprintHash);
+      ArrayNode sort = node.putArray("s");
+      for (FieldValue value : cursor.sortValues) {
+        if (value.isLong()) {
+          sort.add(value.longValue());
+        } else if (value.isDouble()) {
+          sort.add(value.doubleValue());
+        } else if (value.isBoolean()) {
+          sort.add(value.booleanValue());
+        } else if (value.isString()) {
+          sort.add(value.stringValue());
+        } else {
+          sort.addNull();
+        }
+      }
+      return Base64.getUrlEncoder()
+          .withoutPadding()
+          .encodeToString(objectMapper.writeValueAsBytes(node));
+    } catch (Exception e) {
+      log.warn("커서 인코딩 실패: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  private PageCursor decode(String token) {
+    try {
+      JsonNode node =
+          objectMapper.readTree(
+              new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8));
+      List<FieldValue> sortValues = new ArrayList<>();
+      for (JsonNode value : node.path("s")) {
+        if (value.isIntegralNumber()) {
+          sortValues.add(FieldValue.of(value.longValue()));
+        } else if (value.isNumber()) {
+          sortValues.add(FieldValue.of(value.doubleValue()));
+        } else if (value.isBoolean()) {
+          sortValues.add(FieldValue.of(value.booleanValue()));
+        } else if (value.isTextual()) {
+          sortValues.add(FieldValue.of(value.textValue()));
+        } else {
+          sortValues.add(FieldValue.NULL);
+        }
+      }
+      return new PageCursor(
+          node.path("i").asText(null),
+          node.path("p").isNull() ? null : node.path("p").asText(null),
+          sortValues,
+          node.path("n").asInt(),
+          node.path("t").asLong(),
+          node.path("c").asBoolean(),
+          node.path("f").asInt());
+    } catch (Exception e) {
+      log.debug("커서 해석 실패 - from/size로 조회: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  @Getter
+  public static final class PageCursor {
+    private final String indexName;
+    private final String pitId;
+    private final List<FieldValue> sortValues;
+    private final int nextPage;
+    private final long total;
+    private final boolean totalCapped;
+    private final int fingerprintHash;
+
+    private PageCursor(
+        String indexName,
+        String pitId,
+        List<FieldValue> sortValues,
+        int nextPage,
+        long total,
+        boolean totalCapped,
+        int fingerprintHash) {
+      this.indexName = indexName;
+      this.pitId = pitId;
+      this.sortValues = sortValues;
+      this.nextPage = nextPage;
+      this.total = total;
+      this.totalCapped = totalCapped;
+      this.fingerprintHash = fingerprintHash;
+    }
+
+    public PageCursor withoutPit() {
+      return new PageCursor(
+          indexName, null, sortValues, nextPage, total, totalCapped, fingerprintHash);
+    }
+
+    private PageCursor withPitId(String pitId) {
+      return new PageCursor(
+          indexName, pitId, sortValues, nextPage, total, totalCapped, fingerprintHash);
+    }
+  }
+}
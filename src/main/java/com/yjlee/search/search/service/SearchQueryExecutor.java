@@ -3,9 +3,16 @@ package com.yjlee.search.search.service;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch.core.GetRequest;
 import co.elastic.clients.elasticsearch.core.GetResponse;
+import co.elastic.clients.elasticsearch.core.MgetResponse;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.yjlee.search.search.constants.VectorSearchConstants;
+import com.yjlee.search.search.service.timing.SearchStage;
+import com.yjlee.search.search.service.timing.SearchStageTimings;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -20,7 +27,11 @@ public class SearchQueryExecutor {
   public SearchResponse<JsonNode> execute(SearchRequest request) {
     try {
       log.debug("Executing search request: {}", request);
-      return esClient.search(request, JsonNode.class);
+      long startNanos = System.nanoTime();
+      SearchResponse<JsonNode> response = esClient.search(request, JsonNode.class);
+      SearchStageTimings.recordSince(SearchStage.ES_REQUEST, startNanos);
+      SearchStageTimings.recordTook(response.took());
+      return response;
     } catch (Exception e) {
       log.error("Search execution failed", e);
       throw new RuntimeException("Search execution failed: " + e.getMessage(), e);
@@ -38,4 +49,32 @@ public class SearchQueryExecutor {
       throw new RuntimeException("Document retrieval failed: " + e.getMessage(), e);
     }
   }
+
+  // 문서 ID 목록 일괄 조회 (벡터 필드 제외, 없는 문서는 결과에서 빠짐)
+  public Map<String, JsonNode> multiGet(String indexName, List<String> documentIds) {
+    Map<String, JsonNode> sources = new HashMap<>();
+    if (documentIds == null || documentIds.isEmpty()) {
+      return sources;
+    }
+
+    try {
+      long startNanos = System.nanoTime();
+      MgetResponse<JsonNode> response =
+          esClient.mget(
+              m ->
+                  m.index(indexName)
+                      .ids(documentIds)
+                      .sourceExcludes(VectorSearchConstants.getVectorFieldsToExclude()),
+              JsonNode.class);
+      SearchStageTimings.recordSince(SearchStage.ES_REQUEST, startNanos);
+
+      response.docs().stream()
+          .filter(doc -> doc.isResult() && doc.result().found() && doc.result().source() != null)
+          .forEach(doc -> sources.put(doc.result().id(), doc.result().source()));
+      return sources;
+    } catch (Exception e) {
+      log.error("Multi get failed for index: {}, ids: {}", indexName, documentIds.size(), e);
+      throw new RuntimeException("Multi get failed: " + e.getMessage(), e);
+    }
+  }
 }
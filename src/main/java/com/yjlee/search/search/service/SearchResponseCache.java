@@ -0,0 +1,194 @@
+package com.yjlee.search.search.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yjlee.search.common.enums.EnvironmentType;
+import com.yjlee.search.deployment.service.IndexVersionTracker;
+import com.yjlee.search.search.dto.AutocompleteResponse;
+import com.yjlee.search.search.dto.SearchExecuteRequest;
+import com.yjlee.search.search.dto.SearchExecuteResponse;
+import com.yjlee.search.search.dto.SearchMetaDto;
+import com.yjlee.search.search.service.autocomplete.HotPrefixSuggestionService;
+import com.yjlee.search.search.utils.SearchFingerprintUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 운영(PROD) 상품 검색/자동완성 응답 캐시. 정규화된 요청 지문과 활성 인덱스 세대를 키로 응답 객체를 보관하며, 세대가 바뀌면 전체를 무효화한다.
+ * 응답 DTO는 setter가 없어 그대로 공유하고, 적중 시에는 세션 ID와 처리시간을 채운 메타만 새로 만든다. 직렬화는 저장할 때 크기를 잴 때만 한 번 한다.
+ *
+ * <p>커서(search_after) 요청은 사용자별 PIT를 물고 있으므로 캐시하지 않는다. 커서 없는 요청의 응답 커서에는 PIT가 없어 공유해도 된다.
+ *
+ * <p>자동완성 키에는 인기 접두어 테이블 세대도 넣어, 테이블이 다시 만들어지면 이전 응답 대신 새 테이블 결과를 돌려준다. 이전 세대 항목은 크기 제한에
+ * 따라 밀려난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchResponseCache {
+
+  private static final String SEARCH_PREFIX = "S|";
+  private static final String AUTOCOMPLETE_PREFIX = "A|";
+
+  private final IndexVersionTracker indexVersionTracker;
+  private final HotPrefixSuggestionService hotPrefixSuggestionService;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${app.search.response-cache.enabled:true}")
+  private boolean enabled;
+
+  @Value("${app.search.response-cache.max-weight-bytes:67108864}")
+  private long maxWeightBytes;
+
+  private Cache<String, Entry> cache;
+  private volatile String activeGeneration;
+
+  @PostConstruct
+  public void init() {
+    cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maxWeightBytes)
+            .weigher((String key, Entry entry) -> key.length() * 2 + entry.weight)
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "searchResponse");
+    log.info("검색 응답 캐시 초기화 - 활성화: {}, 최대 크기: {} bytes", enabled, maxWeightBytes);
+  }
+
+  public SearchExecuteResponse getOrSearch(
+      SearchExecuteRequest request, Supplier<SearchExecuteResponse> loader) {
+    String key = searchKey(request);
+    if (key == null) {
+      return loader.get();
+    }
+
+    long startTime = System.currentTimeMillis();
+    SearchExecuteResponse cached = read(key, SearchExecuteResponse.class);
+    if (cached != null) {
+      return withRequestMeta(cached, request, System.currentTimeMillis() - startTime);
+    }
+
+    SearchExecuteResponse response = loader.get();
+    write(key, response);
+    return response;
+  }
+
+  /** 캐시된 검색 응답만 조회. 없으면 검색하지 않고 null */
+  public SearchExecuteResponse peek(SearchExecuteRequest request) {
+    String key = searchKey(request);
+    if (key == null) {
+      return null;
+    }
+    long startTime = System.currentTimeMillis();
+    SearchExecuteResponse cached = read(key, SearchExecuteResponse.class);
+    return cached != null
+        ? withRequestMeta(cached, request, System.currentTimeMillis() - startTime)
+        : null;
+  }
+
+  public AutocompleteResponse getOrAutocomplete(
+      String keyword, Supplier<AutocompleteResponse> loader) {
+    String generation = currentGeneration();
+    if (generation == null) {
+      return loader.get();
+    }
+
+    String key =
+        generation
+            + "|"
+            + AUTOCOMPLETE_PREFIX
+            + hotPrefixSuggestionService.getGeneration()
+            + "|"
+            + SearchFingerprintUtils.normalizeWhitespace(keyword);
+    AutocompleteResponse cached = read(key, AutocompleteResponse.class);
+    if (cached != null) {
+      return cached;
+    }
+
+    AutocompleteResponse response = loader.get();
+    write(key, response);
+    return response;
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  // 캐시하지 않는 요청(캐시 꺼짐, 세대 없음, 커서 요청)이면 null
+  private String searchKey(SearchExecuteRequest request) {
+    String generation = currentGeneration();
+    if (generation == null || (request.getCursor() != null && !request.getCursor().isBlank())) {
+      return null;
+    }
+    return generation + "|" + SEARCH_PREFIX + SearchFingerprintUtils.fingerprint(request, true);
+  }
+
+  private String currentGeneration() {
+    if (!enabled) {
+      return null;
+    }
+    String generation = indexVersionTracker.getGeneration(EnvironmentType.PROD);
+    if (generation == null) {
+      return null;
+    }
+    if (!generation.equals(activeGeneration)) {
+      synchronized (this) {
+        if (!generation.equals(activeGeneration)) {
+          cache.invalidateAll();
+          log.info("검색 응답 캐시 전체 무효화 - 세대: {} -> {}", activeGeneration, generation);
+          activeGeneration = generation;
+        }
+      }
+    }
+    return generation;
+  }
+
+  private SearchExecuteResponse withRequestMeta(
+      SearchExecuteResponse response, SearchExecuteRequest request, long took) {
+    SearchMetaDto meta = response.getMeta();
+    SearchMetaDto.SearchMetaDtoBuilder metaBuilder =
+        meta != null ? meta.toBuilder() : SearchMetaDto.builder();
+    return response.toBuilder()
+        .meta(
+            metaBuilder
+                .searchSessionId(request.getSearchSessionId())
+                .processingTime(took)
+                .build())
+        .build();
+  }
+
+  private void write(String key, Object response) {
+    if (response == null) {
+      return;
+    }
+    try {
+      cache.put(key, new Entry(response, objectMapper.writeValueAsBytes(response).length));
+    } catch (Exception e) {
+      log.warn("검색 응답 캐시 저장 실패: {}", e.getMessage());
+    }
+  }
+
+  private <T> T read(String key, Class<T> type) {
+    Entry entry = cache.getIfPresent(key);
+    return entry != null && type.isInstance(entry.response) ? type.cast(entry.response) : null;
+  }
+
+  // 캐시 항목: 응답 객체와 직렬화 크기(무게)
+  private static final class Entry {
+    private final Object response;
+    private final int weight;
+
+    private Entry(Object response, int weight) {
+      this.response = response;
+      this.weight = weight;
+    }
+  }
+}
@@ -7,16 +7,22 @@ import com.yjlee.search.common.enums.EnvironmentType;
 import com.yjlee.search.common.util.HttpRequestUtils;
 import com.yjlee.search.deployment.model.IndexEnvironment;
 import com.yjlee.search.deployment.service.IndexEnvironmentService;
+import com.yjlee.search.deployment.service.IndexVersionTracker;
 import com.yjlee.search.index.provider.IndexNameProvider;
 import com.yjlee.search.search.converter.SearchRequestMapper;
 import com.yjlee.search.search.dto.*;
+import com.yjlee.search.search.service.timing.SearchStage;
+import com.yjlee.search.search.service.timing.SearchStageMetrics;
+import com.yjlee.search.search.service.timing.SearchStageTimings;
 import com.yjlee.search.search.service.typo.TypoCorrectionCacheService;
 import com.yjlee.search.searchlog.service.SearchLogService;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -34,24 +40,46 @@ public class SearchService {
   private final SearchLogService searchLogService;
   private final SearchRequestMapper searchRequestMapper;
   private final SearchQueryExecutor searchQueryExecutor;
+  private final ShadowSearchService shadowSearchService;
+  private final SearchResponseCache searchResponseCache;
+  private final IndexVersionTracker indexVersionTracker;
+  private final SearchStageMetrics searchStageMetrics;
 
   public AutocompleteResponse getAutocompleteSuggestions(String keyword) {
     String indexName = indexNameProvider.getAutocompleteSearchAlias();
-    return autocompleteSearchService.search(indexName, keyword);
+    String version = indexVersionTracker.getVersion(EnvironmentType.PROD);
+    return searchResponseCache.getOrAutocomplete(
+        keyword, () -> autocompleteSearchService.search(indexName, keyword, version));
   }
 
   public SearchExecuteResponse searchProducts(SearchExecuteRequest request) {
     String indexName = indexNameProvider.getProductsSearchAlias();
 
-    // 검색 실행
-    long startTime = System.currentTimeMillis();
-    SearchExecuteResponse response = productSearchService.search(indexName, request, false);
-    long responseTime = System.currentTimeMillis() - startTime;
-
-    // 로깅
-    logSearch(request, response, responseTime);
-
-    return response;
+    try (SearchStageTimings timings = SearchStageTimings.start()) {
+      // 검색 실행
+      long startTime = System.currentTimeMillis();
+      AtomicBoolean cacheMiss = new AtomicBoolean();
+      SearchExecuteResponse response =
+          searchResponseCache.getOrSearch(
+              request,
+              () -> {
+                cacheMiss.set(true);
+                return productSearchService.search(indexName, request, false);
+              });
+      long responseTime = System.currentTimeMillis() - startTime;
+      timings.add(SearchStage.TOTAL, timings.elapsedNanos());
+
+      // 로깅
+      long logStartNanos = System.nanoTime();
+      logSearch(request, response, responseTime, timings.toMillis());
+      timings.add(SearchStage.LOG_WRITE, System.nanoTime() - logStartNanos);
+      searchStageMetrics.publish(timings, request);
+
+      // 섀도 트래픽 (샘플링된 요청만 DEV 환경에 비동기 재실행)
+      shadowSearchService.mirror(request, response, responseTime, !cacheMiss.get());
+
+      return response;
+    }
   }
 
   public SearchExecuteResponse searchProductsSimulation(SearchSimulationRequest request) {
@@ -63,8 +91,20 @@ public class SearchService {
     IndexEnvironment environment = environmentService.getEnvironment(request.getEnvironmentType());
     String indexName = environment.getIndexName();
 
-    return productSearchService.search(
-        indexName, (SearchExecuteRequest) request, request.isExplain());
+    try (SearchStageTimings timings = SearchStageTimings.start()) {
+      SearchExecuteResponse response =
+          productSearchService.search(
+              indexName, (SearchExecuteRequest) request, request.isExplain());
+      timings.add(SearchStage.TOTAL, timings.elapsedNanos());
+      searchStageMetrics.publish(timings, request);
+
+      if (!request.isExplain() || response.getMeta() == null) {
+        return response;
+      }
+      return response.toBuilder()
+          .meta(response.getMeta().toBuilder().timings(timings.toMillis()).build())
+          .build();
+    }
   }
 
   public AutocompleteResponse getAutocompleteSuggestionsSimulation(
@@ -73,7 +113,7 @@ public class SearchService {
     log.info("자동완성 시뮬레이션 요청 - 환경: {}, 키워드: {}", environmentType.getDescription(), keyword);
     IndexEnvironment environment = environmentService.getEnvironment(environmentType);
     String indexName = environment.getAutocompleteIndexName();
-    return autocompleteSearchService.search(indexName, keyword);
+    return autocompleteSearchService.search(indexName, keyword, environment.getVersion());
   }
 
   public void updateTypoCorrectionCacheRealtime(EnvironmentType environmentType) {
@@ -81,19 +121,54 @@ public class SearchService {
   }
 
   public SearchExecuteResponse executeSearch(SearchParams params, HttpServletRequest httpRequest) {
+    return executeSearch(searchRequestMapper.toSearchExecuteRequest(params), httpRequest);
+  }
+
+  /**
+   * If-None-Match가 현재 ETag와 일치해 본문 없이 304로 응답할 상품 검색. 검색 로그의 결과 수는 응답 캐시에서 가져오고, 캐시에 없을 때(커서 요청,
+   * 밀려난 항목)만 검색을 실행한다.
+   */
+  public void logNotModifiedSearch(SearchParams params, HttpServletRequest httpRequest) {
     SearchExecuteRequest request = searchRequestMapper.toSearchExecuteRequest(params);
+    long startTime = System.currentTimeMillis();
+    SearchExecuteResponse cached = searchResponseCache.peek(request);
+    if (cached == null) {
+      executeSearch(request, httpRequest);
+      return;
+    }
+    logSearchWithHttpContext(
+        request, cached, System.currentTimeMillis() - startTime, httpRequest, null);
+  }
 
+  private SearchExecuteResponse executeSearch(
+      SearchExecuteRequest request, HttpServletRequest httpRequest) {
     // HTTP 요청 정보와 함께 검색 실행
     String indexName = indexNameProvider.getProductsSearchAlias();
 
-    long startTime = System.currentTimeMillis();
-    SearchExecuteResponse response = productSearchService.search(indexName, request, false);
-    long responseTime = System.currentTimeMillis() - startTime;
-
-    // HTTP 컨텍스트 정보로 로깅
-    logSearchWithHttpContext(request, response, responseTime, httpRequest);
-
-    return response;
+    try (SearchStageTimings timings = SearchStageTimings.start()) {
+      long startTime = System.currentTimeMillis();
+      AtomicBoolean cacheMiss = new AtomicBoolean();
+      SearchExecuteResponse response =
+          searchResponseCache.getOrSearch(
+              request,
+              () -> {
+                cacheMiss.set(true);
+                return productSearchService.search(indexName, request, false);
+              });
+      long responseTime = System.currentTimeMillis() - startTime;
+      timings.add(SearchStage.TOTAL, timings.elapsedNanos());
+
+      // HTTP 컨텍스트 정보로 로깅
+      long logStartNanos = System.nanoTime();
+      logSearchWithHttpContext(request, response, responseTime, httpRequest, timings.toMillis());
+      timings.add(SearchStage.LOG_WRITE, System.nanoTime() - logStartNanos);
+      searchStageMetrics.publish(timings, request);
+
+      // 섀도 트래픽 (샘플링된 요청만 DEV 환경에 비동기 재실행)
+      shadowSearchService.mirror(request, response, responseTime, !cacheMiss.get());
+
+      return response;
+    }
   }
 
   public SearchExecuteResponse executeSearchSimulation(
@@ -123,7 +198,10 @@ public class SearchService {
 
   // 일반 검색 로깅 (프로그램 내부용)
   private void logSearch(
-      SearchExecuteRequest request, SearchExecuteResponse response, long responseTime) {
+      SearchExecuteRequest request,
+      SearchExecuteResponse response,
+      long responseTime,
+      Map<String, Double> stageTimings) {
     if (request.getQuery() == null || request.getQuery().trim().isEmpty()) {
       return;
     }
@@ -143,7 +221,8 @@ public class SearchService {
           response,
           false,
           null,
-          sessionId);
+          sessionId,
+          stageTimings);
     } catch (Exception e) {
       log.warn("Failed to collect search log: {}", e.getMessage());
     }
@@ -154,7 +233,8 @@ public class SearchService {
       SearchExecuteRequest request,
       SearchExecuteResponse response,
       long responseTime,
-      HttpServletRequest httpRequest) {
+      HttpServletRequest httpRequest,
+      Map<String, Double> stageTimings) {
 
     if (request.getQuery() == null || request.getQuery().trim().isEmpty()) {
       return;
@@ -182,7 +262,8 @@ public class SearchService {
           response,
           false,
           null,
-          sessionId);
+          sessionId,
+          stageTimings);
     } catch (Exception e) {
       log.warn("Failed to collect search log: {}", e.getMessage());
     }
@@ -0,0 +1,171 @@
+package com.yjlee.search.search.service;
+
+import com.yjlee.search.common.enums.EnvironmentType;
+import com.yjlee.search.deployment.enums.IndexStatus;
+import com.yjlee.search.deployment.model.IndexEnvironment;
+import com.yjlee.search.deployment.service.IndexEnvironmentService;
+import com.yjlee.search.search.converter.SearchRequestMapper;
+import com.yjlee.search.search.dto.ProductDto;
+import com.yjlee.search.search.dto.SearchExecuteRequest;
+import com.yjlee.search.search.dto.SearchExecuteResponse;
+import com.yjlee.search.search.dto.SearchSimulationRequest;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 운영 검색 요청 일부를 DEV 환경에 비동기로 재실행하는 섀도 트래픽 서비스. 라이브 응답에는 관여하지 않고 환경별 지연시간과 결과 겹침 비율만
+ * Micrometer로 기록한다.
+ */
+@Slf4j
+@Service
+public class ShadowSearchService {
+
+  private static final String METRIC_LATENCY = "search.shadow.latency";
+  private static final String METRIC_OVERLAP = "search.shadow.overlap";
+  private static final String METRIC_REQUESTS = "search.shadow.requests";
+
+  private final IndexEnvironmentService environmentService;
+  private final ProductSearchService productSearchService;
+  private final SearchRequestMapper searchRequestMapper;
+  private final MeterRegistry meterRegistry;
+  private final Executor shadowSearchExecutor;
+
+  @Value("${app.search.shadow.enabled:false}")
+  private boolean enabled;
+
+  @Value("${app.search.shadow.sample-rate:0.0}")
+  private double sampleRate;
+
+  @Value("${app.search.shadow.overlap-top-n:10}")
+  private int overlapTopN;
+
+  public ShadowSearchService(
+      IndexEnvironmentService environmentService,
+      ProductSearchService productSearchService,
+      SearchRequestMapper searchRequestMapper,
+      MeterRegistry meterRegistry,
+      @Qualifier("shadowSearchExecutor") Executor shadowSearchExecutor) {
+    this.environmentService = environmentService;
+    this.productSearchService = productSearchService;
+    this.searchRequestMapper = searchRequestMapper;
+    this.meterRegistry = meterRegistry;
+    this.shadowSearchExecutor = shadowSearchExecutor;
+  }
+
+  /**
+   * @param liveFromCache 운영 응답이 응답 캐시에서 나왔는지. 캐시 적중 응답의 처리시간은 ES 지연이 아니므로 DEV 재실행과 비교하지 않고
+   *     cache_hit으로만 센다.
+   */
+  public void mirror(
+      SearchExecuteRequest request,
+      SearchExecuteResponse liveResponse,
+      long liveResponseTimeMs,
+      boolean liveFromCache) {
+    if (!enabled || sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+      return;
+    }
+
+    String mode = request.getSearchMode() != null ? request.getSearchMode().name() : "UNKNOWN";
+    if (liveFromCache) {
+      countRequest(mode, "cache_hit");
+      return;
+    }
+    SearchSimulationRequest shadowRequest =
+        searchRequestMapper.toSimulationRequest(request, EnvironmentType.DEV);
+    List<String> liveIds = topIds(liveResponse);
+
+    try {
+      shadowSearchExecutor.execute(
+          () -> executeShadow(shadowRequest, mode, liveIds, liveResponseTimeMs));
+    } catch (RejectedExecutionException e) {
+      countRequest(mode, "dropped");
+      log.debug("섀도 검색 큐 포화로 요청 폐기 - 검색어: {}", request.getQuery());
+    }
+  }
+
+  private void executeShadow(
+      SearchSimulationRequest shadowRequest,
+      String mode,
+      List<String> liveIds,
+      long liveResponseTimeMs) {
+    IndexEnvironment devEnvironment = environmentService.getEnvironmentOrNull(EnvironmentType.DEV);
+    if (devEnvironment == null
+        || devEnvironment.getIndexStatus() != IndexStatus.ACTIVE
+        || devEnvironment.getIndexName() == null) {
+      countRequest(mode, "skipped");
+      return;
+    }
+
+    timer(EnvironmentType.PROD, mode).record(liveResponseTimeMs, TimeUnit.MILLISECONDS);
+
+    long startTime = System.nanoTime();
+    try {
+      SearchExecuteResponse shadowResponse =
+          productSearchService.search(devEnvironment.getIndexName(), shadowRequest, false);
+      timer(EnvironmentType.DEV, mode)
+          .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+
+      overlap(mode).record(calculateOverlap(liveIds, topIds(shadowResponse)));
+      countRequest(mode, "success");
+    } catch (Exception e) {
+      countRequest(mode, "error");
+      log.warn("섀도 검색 실패 - 검색어: {}, 오류: {}", shadowRequest.getQuery(), e.getMessage());
+    }
+  }
+
+  private List<String> topIds(SearchExecuteResponse response) {
+    if (response == null || response.getHits() == null || response.getHits().getData() == null) {
+      return Collections.emptyList();
+    }
+    return response.getHits().getData().stream()
+        .limit(overlapTopN)
+        .map(ProductDto::getId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
+  // 운영 상위 N개 중 DEV 상위 N개에도 포함된 비율 (둘 다 비어있으면 1.0)
+  static double calculateOverlap(List<String> liveIds, List<String> shadowIds) {
+    if (liveIds.isEmpty()) {
+      return shadowIds.isEmpty() ? 1.0 : 0.0;
+    }
+    Set<String> shadowSet = Set.copyOf(shadowIds);
+    long matched = liveIds.stream().filter(shadowSet::contains).count();
+    return (double) matched / liveIds.size();
+  }
+
+  private Timer timer(EnvironmentType environmentType, String mode) {
+    return Timer.builder(METRIC_LATENCY)
+        .description("섀도 비교 대상 검색 지연시간")
+        .tag("env", environmentType.name())
+        .tag("mode", mode)
+        .publishPercentiles(0.5, 0.95, 0.99)
+        .register(meterRegistry);
+  }
+
+  private DistributionSummary overlap(String mode) {
+    return DistributionSummary.builder(METRIC_OVERLAP)
+        .description("운영 대비 DEV 상위 결과 겹침 비율")
+        .tag("env", EnvironmentType.DEV.name())
+        .tag("mode", mode)
+        .register(meterRegistry);
+  }
+
+  private void countRequest(String mode, String result) {
+    meterRegistry.counter(METRIC_REQUESTS, "mode", mode, "result", result).increment();
+  }
+}
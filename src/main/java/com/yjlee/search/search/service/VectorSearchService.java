@@ -11,6 +11,8 @@ import com.yjlee.search.search.constants.SearchConstants;
 import com.yjlee.search.search.constants.VectorSearchConstants;
 import com.yjlee.search.search.dto.VectorSearchConfig;
 import com.yjlee.search.search.dto.VectorSearchResult;
+import com.yjlee.search.search.service.timing.SearchStage;
+import com.yjlee.search.search.service.timing.SearchStageTimings;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -52,7 +54,9 @@ public class VectorSearchService {
 
     // 캐시에 없으면 생성
     log.debug("Generating embedding for query: {}", query);
+    long startNanos = System.nanoTime();
     float[] embedding = embeddingService.getEmbedding(query, EmbeddingType.QUERY);
+    SearchStageTimings.recordSince(SearchStage.EMBEDDING, startNanos);
 
     // Write lock으로 캐시에 저장
     cacheLock.writeLock().lock();
@@ -142,7 +146,10 @@ public class VectorSearchService {
           topK,
           minScore);
 
+      long startNanos = System.nanoTime();
       SearchResponse<JsonNode> response = elasticsearchClient.search(searchRequest, JsonNode.class);
+      SearchStageTimings.recordSince(SearchStage.ES_REQUEST, startNanos);
+      SearchStageTimings.recordTook(response.took());
 
       return VectorSearchResult.builder().response(response).request(searchRequest).build();
 
@@ -217,7 +224,11 @@ public class VectorSearchService {
           topK,
           minScore);
 
-      return elasticsearchClient.search(searchRequest, JsonNode.class);
+      long startNanos = System.nanoTime();
+      SearchResponse<JsonNode> response = elasticsearchClient.search(searchRequest, JsonNode.class);
+      SearchStageTimings.recordSince(SearchStage.ES_REQUEST, startNanos);
+      SearchStageTimings.recordTook(response.took());
+      return response;
 
     } catch (IOException e) {
       log.error("Multi-field vector search failed", e);
@@ -0,0 +1,227 @@
+package com.yjlee.search.search.service.autocomplete;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.yjlee.search.common.constants.ESFields;
+import com.yjlee.search.index.dto.AutocompleteDocument;
+import com.yjlee.search.index.provider.IndexNameProvider;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인덱스 버전별 인메모리 자동완성 엔진. 색인 시 생성한 자동완성 문서로 접두어 인덱스를 만들어 버전 단위로 통째로 교체하며, 재시작 등으로 인덱스가 없는
+ * 버전은 해당 버전의 자동완성 색인을 문서 순서대로 읽어 백그라운드로 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutocompleteEngine {
+
+  private static final int LOAD_PAGE_SIZE = 5000;
+  private static final String LOAD_KEEP_ALIVE = "1m";
+
+  private final ElasticsearchClient elasticsearchClient;
+  private final IndexNameProvider indexNameProvider;
+
+  @Value("${app.search.autocomplete.in-memory.enabled:true}")
+  private boolean enabled;
+
+  @Value("${app.search.autocomplete.in-memory.top-k:10}")
+  private int topK;
+
+  @Value("${app.search.autocomplete.in-memory.max-versions:3}")
+  private int maxVersions;
+
+  private volatile Map<String, AutocompletePrefixIndex> indexes = Map.of();
+  private final Set<String> loadingVersions = ConcurrentHashMap.newKeySet();
+  private ExecutorService loadExecutor;
+
+  @PostConstruct
+  public void init() {
+    this.loadExecutor = Executors.newSingleThreadExecutor();
+    log.info("인메모리 자동완성 초기화 - 활성화: {}, topK: {}, 최대 버전 수: {}", enabled, topK, maxVersions);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    loadExecutor.shutdownNow();
+  }
+
+  public int getTopK() {
+    return topK;
+  }
+
+  /** 색인 중 자동완성 문서를 모으는 수집기 생성 (비활성화 시 null) */
+  public SuggestionCollector newCollector(String version) {
+    return enabled ? new SuggestionCollector(version) : null;
+  }
+
+  /** 수집이 끝난 버전의 접두어 인덱스를 만들어 교체 */
+  public void publish(SuggestionCollector collector) {
+    if (collector == null) {
+      return;
+    }
+    register(collector.version, collector.names());
+  }
+
+  /**
+   * 버전의 접두어 인덱스로 자동완성 후보 조회
+   *
+   * @return 후보 목록, 해당 버전 인덱스가 아직 없으면 null
+   */
+  public List<String> suggest(String version, String keyword, int limit) {
+    if (!enabled || version == null) {
+      return null;
+    }
+    AutocompletePrefixIndex index = indexes.get(version);
+    if (index == null) {
+      loadInBackground(version);
+      return null;
+    }
+    return index.suggest(keyword, limit);
+  }
+
+  private void loadInBackground(String version) {
+    if (!loadingVersions.add(version)) {
+      return;
+    }
+    try {
+      loadExecutor.execute(
+          () -> {
+            try {
+              register(version, loadNames(indexNameProvider.getAutocompleteIndexName(version)));
+            } catch (Exception e) {
+              log.warn("인메모리 자동완성 로드 실패 - 버전: {}, 오류: {}", version, e.getMessage());
+            } finally {
+              loadingVersions.remove(version);
+            }
+          });
+    } catch (Exception e) {
+      loadingVersions.remove(version);
+      log.warn("인메모리 자동완성 로드 작업 등록 실패 - 버전: {}", version);
+    }
+  }
+
+  // 자동완성 색인의 후보 이름을 ES 문서 순서(_shard_doc)로 읽는다. 점수가 같을 때 ES가 돌려주는 순서와 같다
+  private List<String> loadNames(String indexName) throws IOException {
+    String pitId =
+        elasticsearchClient
+            .openPointInTime(p -> p.index(indexName).keepAlive(k -> k.time(LOAD_KEEP_ALIVE)))
+            .id();
+    try {
+      List<String> names = new ArrayList<>();
+      List<FieldValue> searchAfter = null;
+      while (true) {
+        String currentPit = pitId;
+        List<FieldValue> currentAfter = searchAfter;
+        SearchResponse<JsonNode> response =
+            elasticsearchClient.search(
+                s -> {
+                  s.pit(p -> p.id(currentPit).keepAlive(k -> k.time(LOAD_KEEP_ALIVE)))
+                      .size(LOAD_PAGE_SIZE)
+                      .source(src -> src.filter(f -> f.includes(ESFields.NAME)))
+                      .sort(so -> so.field(f -> f.field("_shard_doc").order(SortOrder.Asc)))
+                      .trackTotalHits(t -> t.enabled(false));
+                  if (currentAfter != null) {
+                    s.searchAfter(currentAfter);
+                  }
+                  return s;
+                },
+                JsonNode.class);
+        if (response.pitId() != null) {
+          pitId = response.pitId();
+        }
+
+        List<Hit<JsonNode>> hits = response.hits().hits();
+        for (Hit<JsonNode> hit : hits) {
+          if (hit.source() != null && hit.source().has(ESFields.NAME)) {
+            names.add(hit.source().get(ESFields.NAME).asText());
+          }
+        }
+        if (hits.size() < LOAD_PAGE_SIZE) {
+          return names;
+        }
+        searchAfter = hits.get(hits.size() - 1).sort();
+      }
+    } finally {
+      String closingPit = pitId;
+      try {
+        elasticsearchClient.closePointInTime(c -> c.id(closingPit));
+      } catch (Exception e) {
+        log.debug("자동완성 로드 PIT 해제 실패: {}", e.getMessage());
+      }
+    }
+  }
+
+  private void register(String version, Collection<String> names) {
+    long startTime = System.currentTimeMillis();
+    AutocompletePrefixIndex index = AutocompletePrefixIndex.build(names, topK);
+
+    synchronized (this) {
+      Map<String, AutocompletePrefixIndex> next = new LinkedHashMap<>(indexes);
+      next.remove(version);
+      next.put(version, index);
+      while (next.size() > maxVersions) {
+        next.remove(next.keySet().iterator().next());
+      }
+      indexes = Collections.unmodifiableMap(next);
+    }
+
+    log.info(
+        "인메모리 자동완성 교체 - 버전: {}, 후보 수: {}, 예상 크기: {} bytes, 소요시간: {}ms",
+        version,
+        index.size(),
+        index.estimatedBytes(),
+        System.currentTimeMillis() - startTime);
+  }
+
+  /**
+   * 색인 배치들이 동시에 추가하는 자동완성 후보 수집기. 배치 번호 순으로 합쳐, 배치가 끝나는 순서와 무관하게 다시 만들 때마다 같은 입력 순서(같은 점수
+   * 후보의 순서)가 되게 한다.
+   */
+  public static final class SuggestionCollector {
+    private final String version;
+    private final ConcurrentSkipListMap<Integer, List<String>> namesByBatch =
+        new ConcurrentSkipListMap<>();
+
+    private SuggestionCollector(String version) {
+      this.version = version;
+    }
+
+    public void addAll(int batchNumber, List<AutocompleteDocument> documents) {
+      List<String> names = new ArrayList<>(documents.size());
+      for (AutocompleteDocument document : documents) {
+        names.add(document.getName());
+      }
+      namesByBatch.put(batchNumber, names);
+    }
+
+    private List<String> names() {
+      List<String> names = new ArrayList<>();
+      for (List<String> batch : namesByBatch.values()) {
+        names.addAll(batch);
+      }
+      return names;
+    }
+  }
+}
@@ -0,0 +1,343 @@
+package com.yjlee.search.search.service.autocomplete;
+
+import com.yjlee.search.common.util.KoreanTextUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 자동완성 후보의 불변 접두어 인덱스. 자모 분해, 공백 제거 자모, 초성 키를 각각 정렬된 char 배열로 압축해 두고 이진 탐색으로 접두어 구간을 찾는다.
+ * 후보가 많은 접두어 노드는 상위 결과를 미리 계산해 두고, 작은 구간은 바로 훑는다.
+ *
+ * <p>후보 ID는 ES 자동완성 점수 순서로 부여하므로 ID가 작을수록 상위 결과다. edge_ngram 토큰은 같은 위치에 쌓여 길이 정규화에서 빠지므로
+ * 접두어가 일치한 문서 간 점수는 단어 수로만 갈리고(적을수록 높음), 점수가 같으면 ES는 문서 순서대로 돌려준다. 그래서 단어 수 오름차순으로 정렬하되 같은
+ * 단어 수는 입력(문서) 순서를 유지한다.
+ */
+public final class AutocompletePrefixIndex {
+
+  private final String[] suggestions;
+  private final KeyTable jamoTable;
+  private final KeyTable jamoNoSpaceTable;
+  private final KeyTable chosungTable;
+
+  private AutocompletePrefixIndex(
+      String[] suggestions, KeyTable jamoTable, KeyTable jamoNoSpaceTable, KeyTable chosungTable) {
+    this.suggestions = suggestions;
+    this.jamoTable = jamoTable;
+    this.jamoNoSpaceTable = jamoNoSpaceTable;
+    this.chosungTable = chosungTable;
+  }
+
+  /**
+   * 후보 이름 목록으로 인덱스 생성
+   *
+   * @param names 자동완성 색인 문서 순서의 후보 이름 (중복, 공백 이름은 제외)
+   * @param topK 노드별로 미리 계산할 상위 결과 수
+   */
+  public static AutocompletePrefixIndex build(Collection<String> names, int topK) {
+    Set<String> distinct = new LinkedHashSet<>();
+    for (String name : names) {
+      if (name != null && !name.isBlank()) {
+        distinct.add(name);
+      }
+    }
+
+    // 객체 정렬은 안정 정렬이므로 단어 수가 같으면 입력 순서가 유지된다
+    String[] suggestions = distinct.toArray(new String[0]);
+    Arrays.sort(suggestions, Comparator.comparingInt(AutocompletePrefixIndex::wordCount));
+
+    int size = suggestions.length;
+    String[] jamoKeys = new String[size];
+    String[] jamoNoSpaceKeys = new String[size];
+    String[] chosungKeys = new String[size];
+    for (int id = 0; id < size; id++) {
+      // AutocompleteDocumentFactory와 같은 방식으로 변환
+      String nameLower = normalizeSpaces(suggestions[id]).toLowerCase();
+      jamoKeys[id] = KoreanTextUtils.decomposeHangul(nameLower);
+      jamoNoSpaceKeys[id] = KoreanTextUtils.decomposeHangul(nameLower.replace(" ", ""));
+      chosungKeys[id] = KoreanTextUtils.extractChosung(nameLower);
+    }
+
+    return new AutocompletePrefixIndex(
+        suggestions,
+        KeyTable.build(jamoKeys, topK),
+        KeyTable.build(jamoNoSpaceKeys, topK),
+        KeyTable.build(chosungKeys, topK));
+  }
+
+  /**
+   * 이름이 키워드로 시작하는 후보 조회. 자모 일치를 먼저, 초성 일치를 그 다음에 노출한다.
+   *
+   * @return 최대 limit개의 후보 이름
+   */
+  public List<String> suggest(String keyword, int limit) {
+    if (keyword == null || keyword.isBlank() || limit <= 0) {
+      return List.of();
+    }
+
+    // SearchRequestBuilder.buildAutocompleteSearchRequest와 같은 방식으로 변환
+    String keywordLower = normalizeSpaces(keyword).toLowerCase();
+    String keywordJamo = KoreanTextUtils.decomposeHangul(keywordLower);
+    String keywordJamoNoSpace = KoreanTextUtils.decomposeHangul(keywordLower.replace(" ", ""));
+
+    int[] jamoMatches =
+        merge(
+            jamoTable.topIds(keywordJamo, limit),
+            jamoNoSpaceTable.topIds(keywordJamoNoSpace, limit),
+            limit);
+    int[] chosungMatches = chosungTable.topIds(keywordLower, limit);
+
+    Set<String> result = new LinkedHashSet<>();
+    for (int id : jamoMatches) {
+      result.add(suggestions[id]);
+    }
+    for (int i = 0; i < chosungMatches.length && result.size() < limit; i++) {
+      result.add(suggestions[chosungMatches[i]]);
+    }
+    return new ArrayList<>(result);
+  }
+
+  public int size() {
+    return suggestions.length;
+  }
+
+  // 후보 문자열과 키 테이블 기준 대략적인 메모리 사용량
+  public long estimatedBytes() {
+    long bytes = 0;
+    for (String suggestion : suggestions) {
+      bytes += 40L + suggestion.length() * 2L;
+    }
+    return bytes
+        + jamoTable.estimatedBytes()
+        + jamoNoSpaceTable.estimatedBytes()
+        + chosungTable.estimatedBytes();
+  }
+
+  private static int wordCount(String name) {
+    return normalizeSpaces(name).split(" ").length;
+  }
+
+  private static String normalizeSpaces(String text) {
+    return text.trim().replaceAll("\\s+", " ");
+  }
+
+  // 오름차순 ID 배열 두 개를 중복 없이 병합해 상위 limit개 반환
+  private static int[] merge(int[] left, int[] right, int limit) {
+    int[] merged = new int[Math.min(limit, left.length + right.length)];
+    int i = 0;
+    int j = 0;
+    int count = 0;
+    while (count < merged.length && (i < left.length || j < right.length)) {
+      int next;
+      if (j >= right.length || (i < left.length && left[i] <= right[j])) {
+        next = left[i++];
+      } else {
+        next = right[j++];
+      }
+      if (count == 0 || merged[count - 1] != next) {
+        merged[count++] = next;
+      }
+    }
+    return count == merged.length ? merged : Arrays.copyOf(merged, count);
+  }
+
+  /**
+   * 정렬된 키를 하나의 char 배열에 이어 붙인 테이블. 구간 크기가 topK를 넘는 접두어 노드는 (시작, 끝) 구간을 키로 상위 ID를 미리 계산한다.
+   * 같은 구간을 공유하는 접두어(분기 없는 체인)는 결과도 같으므로 한 번만 저장한다.
+   */
+  private static final class KeyTable {
+    private final char[] chars;
+    private final int[] offsets;
+    private final int[] ids;
+    private final int topK;
+    private final long[] nodeRanges;
+    private final int[] nodeTopIds;
+
+    private KeyTable(
+        char[] chars, int[] offsets, int[] ids, int topK, long[] nodeRanges, int[] nodeTopIds) {
+      this.chars = chars;
+      this.offsets = offsets;
+      this.ids = ids;
+      this.topK = topK;
+      this.nodeRanges = nodeRanges;
+      this.nodeTopIds = nodeTopIds;
+    }
+
+    private static KeyTable build(String[] keysById, int topK) {
+      int size = keysById.length;
+      Integer[] order = new Integer[size];
+      for (int i = 0; i < size; i++) {
+        order[i] = i;
+      }
+      Arrays.sort(order, (a, b) -> keysById[a].compareTo(keysById[b]));
+
+      int totalChars = 0;
+      int maxLength = 0;
+      for (String key : keysById) {
+        totalChars += key.length();
+        maxLength = Math.max(maxLength, key.length());
+      }
+
+      char[] chars = new char[totalChars];
+      int[] offsets = new int[size + 1];
+      int[] ids = new int[size];
+      int position = 0;
+      for (int i = 0; i < size; i++) {
+        String key = keysById[order[i]];
+        key.getChars(0, key.length(), chars, position);
+        offsets[i] = position;
+        ids[i] = order[i];
+        position += key.length();
+      }
+      offsets[size] = position;
+
+      long[] ranges = collectHeavyRanges(chars, offsets, size, maxLength, topK);
+      int[] nodeTopIds = new int[ranges.length * topK];
+      for (int n = 0; n < ranges.length; n++) {
+        int lo = (int) (ranges[n] >>> 32);
+        int hi = (int) ranges[n];
+        int[] top = smallestIds(ids, lo, hi, topK);
+        System.arraycopy(top, 0, nodeTopIds, n * topK, topK);
+      }
+      return new KeyTable(chars, offsets, ids, topK, ranges, nodeTopIds);
+    }
+
+    // 정렬된 키의 인접 공통 접두어 길이로 접두어 노드 구간을 열고 닫으며, 구간 크기가 topK를 넘는 노드만 모은다
+    private static long[] collectHeavyRanges(
+        char[] chars, int[] offsets, int size, int maxLength, int topK) {
+      int[] starts = new int[maxLength + 1];
+      long[] ranges = new long[16];
+      int count = 0;
+      int previousLength = 0;
+
+      for (int i = 0; i <= size; i++) {
+        int common = 0;
+        int length = 0;
+        if (i < size) {
+          length = offsets[i + 1] - offsets[i];
+          if (i > 0) {
+            common = commonPrefix(chars, offsets, i - 1, i);
+          }
+        }
+
+        long lastEmitted = -1;
+        for (int depth = previousLength; depth > common; depth--) {
+          int lo = starts[depth];
+          if (i - lo > topK) {
+            long range = ((long) lo << 32) | i;
+            if (range != lastEmitted) {
+              if (count == ranges.length) {
+                ranges = Arrays.copyOf(ranges, count * 2);
+              }
+              ranges[count++] = range;
+              lastEmitted = range;
+            }
+          }
+        }
+        for (int depth = common + 1; depth <= length; depth++) {
+          starts[depth] = i;
+        }
+        previousLength = length;
+      }
+
+      long[] result = Arrays.copyOf(ranges, count);
+      Arrays.sort(result);
+      return result;
+    }
+
+    private static int commonPrefix(char[] chars, int[] offsets, int a, int b) {
+      int aStart = offsets[a];
+      int bStart = offsets[b];
+      int length = Math.min(offsets[a + 1] - aStart, offsets[b + 1] - bStart);
+      int i = 0;
+      while (i < length && chars[aStart + i] == chars[bStart + i]) {
+        i++;
+      }
+      return i;
+    }
+
+    private static int[] smallestIds(int[] ids, int lo, int hi, int limit) {
+      int[] top = new int[Math.min(limit, hi - lo)];
+      int count = 0;
+      for (int i = lo; i < hi; i++) {
+        int id = ids[i];
+        if (count < top.length) {
+          top[count++] = id;
+        } else if (id < top[count - 1]) {
+          top[count - 1] = id;
+        } else {
+          continue;
+        }
+        // 삽입 정렬로 오름차순 유지
+        for (int j = count - 1; j > 0 && top[j] < top[j - 1]; j--) {
+          int tmp = top[j];
+          top[j] = top[j - 1];
+          top[j - 1] = tmp;
+        }
+      }
+      return top;
+    }
+
+    private int[] topIds(String prefix, int limit) {
+      if (prefix.isEmpty()) {
+        return new int[0];
+      }
+      int lo = bound(prefix, false);
+      int hi = bound(prefix, true);
+      if (lo >= hi) {
+        return new int[0];
+      }
+
+      if (hi - lo > topK && limit <= topK) {
+        int node = Arrays.binarySearch(nodeRanges, ((long) lo << 32) | hi);
+        if (node >= 0) {
+          return Arrays.copyOfRange(nodeTopIds, node * topK, node * topK + limit);
+        }
+      }
+      return smallestIds(ids, lo, hi, limit);
+    }
+
+    // upper가 false면 접두어 이상인 첫 위치, true면 접두어로 시작하지 않는 첫 위치
+    private int bound(String prefix, boolean upper) {
+      int lo = 0;
+      int hi = ids.length;
+      while (lo < hi) {
+        int mid = (lo + hi) >>> 1;
+        int cmp = comparePrefix(mid, prefix);
+        if (cmp < 0 || (upper && cmp == 0)) {
+          lo = mid + 1;
+        } else {
+          hi = mid;
+        }
+      }
+      return lo;
+    }
+
+    // 키가 접두어로 시작하면 0, 앞서면 음수, 뒤면 양수
+    private int comparePrefix(int index, String prefix) {
+      int start = offsets[index];
+      int length = offsets[index + 1] - start;
+      int common = Math.min(length, prefix.length());
+      for (int i = 0; i < common; i++) {
+        char c = chars[start + i];
+        char p = prefix.charAt(i);
+        if (c != p) {
+          return c < p ? -1 : 1;
+        }
+      }
+      return length < prefix.length() ? -1 : 0;
+    }
+
+    private long estimatedBytes() {
+      return chars.length * 2L
+          + offsets.length * 4L
+          + ids.length * 4L
+          + nodeRanges.length * 8L
+          + nodeTopIds.length * 4L;
+    }
+  }
+}
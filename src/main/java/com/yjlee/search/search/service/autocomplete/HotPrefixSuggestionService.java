@@ -0,0 +1,153 @@
+package com.yjlee.search.search.service.autocomplete;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.StringTermsBucket;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 검색 로그와 클릭 로그로 짧은 접두어별 인기 검색어 테이블을 주기적으로 다시 만든다. 점수는 검색 수 + 클릭 가중치 × 클릭 수이며, 결과가 없었던 검색과
+ * 에러 검색은 제외한다.
+ *
+ * <p>테이블 내용이 바뀌면 세대 값({@link #getGeneration()})도 바뀌어 자동완성 응답 캐시 키와 ETag가 함께 갱신된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HotPrefixSuggestionService {
+
+  private static final String SEARCH_LOG_INDEX = "search-logs-*";
+  private static final String CLICK_LOG_INDEX = "click-logs-*";
+  private static final String KEYWORD_FIELD = "search_keyword.keyword";
+  private static final String KEYWORDS_AGG = "keywords";
+
+  private final ElasticsearchClient elasticsearchClient;
+
+  @Value("${app.search.autocomplete.hot-prefix.enabled:true}")
+  private boolean enabled;
+
+  @Value("${app.search.autocomplete.hot-prefix.lookback-days:7}")
+  private int lookbackDays;
+
+  @Value("${app.search.autocomplete.hot-prefix.max-keywords:5000}")
+  private int maxKeywords;
+
+  @Value("${app.search.autocomplete.hot-prefix.max-prefix-length:3}")
+  private int maxPrefixLength;
+
+  @Value("${app.search.autocomplete.hot-prefix.click-weight:3}")
+  private long clickWeight;
+
+  @Value("${app.search.autocomplete.in-memory.top-k:10}")
+  private int topK;
+
+  private volatile HotPrefixTable table = HotPrefixTable.empty();
+
+  /**
+   * 짧은 접두어의 인기 검색어 조회
+   *
+   * @return 인기 검색어 목록, 테이블 대상이 아니면 null
+   */
+  public List<String> lookup(String keyword) {
+    if (!enabled) {
+      return null;
+    }
+    return table.lookup(keyword);
+  }
+
+  /** 현재 테이블의 세대 값. 자동완성 응답 캐시 키와 ETag에 포함된다 */
+  public String getGeneration() {
+    return table.fingerprint();
+  }
+
+  @Scheduled(
+      initialDelayString = "${app.search.autocomplete.hot-prefix.initial-delay-ms:30000}",
+      fixedDelayString = "${app.search.autocomplete.hot-prefix.refresh-interval-ms:600000}")
+  public void rebuild() {
+    if (!enabled) {
+      return;
+    }
+
+    long startTime = System.currentTimeMillis();
+    LocalDateTime to = LocalDateTime.now();
+    LocalDateTime from = to.minusDays(lookbackDays);
+
+    try {
+      Map<String, Long> searchCounts = aggregateKeywords(SEARCH_LOG_INDEX, from, to, true);
+      Map<String, Long> clickCounts = aggregateKeywords(CLICK_LOG_INDEX, from, to, false);
+
+      Map<String, Long> scores = new LinkedHashMap<>(searchCounts);
+      clickCounts.forEach(
+          (keyword, clicks) -> scores.merge(keyword, clicks * clickWeight, Long::sum));
+
+      HotPrefixTable rebuilt = HotPrefixTable.build(scores, maxPrefixLength, topK);
+      String previousGeneration = table.fingerprint();
+      table = rebuilt;
+      log.info(
+          "인기 접두어 테이블 갱신 - 검색어: {}개, 접두어: {}개, 세대: {} -> {}, 소요시간: {}ms",
+          scores.size(),
+          rebuilt.size(),
+          previousGeneration,
+          rebuilt.fingerprint(),
+          System.currentTimeMillis() - startTime);
+    } catch (Exception e) {
+      // 로그 인덱스가 없거나 조회 실패 시 기존 테이블 유지
+      log.warn("인기 접두어 테이블 갱신 실패 - 기존 테이블 유지: {}", e.getMessage());
+    }
+  }
+
+  // 검색어별 건수 (건수 내림차순)
+  private Map<String, Long> aggregateKeywords(
+      String index, LocalDateTime from, LocalDateTime to, boolean searchLog) throws Exception {
+    BoolQuery.Builder boolQuery = new BoolQuery.Builder();
+    boolQuery.filter(
+        Query.of(
+            q ->
+                q.range(
+                    r ->
+                        r.date(
+                            d ->
+                                d.field("timestamp").gte(from.toString()).lte(to.toString())))));
+    if (searchLog) {
+      boolQuery.filter(Query.of(q -> q.term(t -> t.field("is_error").value(false))));
+      boolQuery.filter(
+          Query.of(q -> q.range(r -> r.number(n -> n.field("result_count").gt(0.0)))));
+    }
+    BoolQuery query = boolQuery.build();
+
+    SearchRequest searchRequest =
+        SearchRequest.of(
+            s ->
+                s.index(index)
+                    .size(0)
+                    .ignoreUnavailable(true)
+                    .allowNoIndices(true)
+                    .query(Query.of(q -> q.bool(query)))
+                    .aggregations(
+                        KEYWORDS_AGG,
+                        a -> a.terms(t -> t.field(KEYWORD_FIELD).size(maxKeywords))));
+
+    SearchResponse<Void> response = elasticsearchClient.search(searchRequest, Void.class);
+
+    Map<String, Long> counts = new LinkedHashMap<>();
+    Aggregate keywordsAgg = response.aggregations().get(KEYWORDS_AGG);
+    if (keywordsAgg != null && keywordsAgg.isSterms()) {
+      for (StringTermsBucket bucket : keywordsAgg.sterms().buckets().array()) {
+        counts.put(bucket.key().stringValue(), bucket.docCount());
+      }
+    }
+    return counts;
+  }
+}
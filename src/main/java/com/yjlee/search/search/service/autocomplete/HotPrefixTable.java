@@ -0,0 +1,140 @@
+package com.yjlee.search.search.service.autocomplete;
+
+import com.yjlee.search.common.util.KoreanTextUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 짧은 접두어(자모 기준 1~maxPrefixLength자)별 인기 검색어 테이블. 검색 빈도와 클릭 수로 매긴 점수 순 상위 결과를 접두어마다 미리 담아 두어 조회는
+ * 해시 한 번으로 끝난다. 자모 분해 키와 초성 키를 같은 테이블에 넣는다.
+ *
+ * <p>내용 지문은 응답 캐시 키와 ETag의 세대 값으로 쓰인다. 내용으로만 계산하므로 같은 로그로 만든 테이블은 인스턴스가 달라도 같은 지문을 갖는다.
+ */
+public final class HotPrefixTable {
+
+  private static final HotPrefixTable EMPTY = new HotPrefixTable(Map.of(), 0);
+
+  private final Map<String, String[]> table;
+  private final int maxPrefixLength;
+  private final String fingerprint;
+
+  private HotPrefixTable(Map<String, String[]> table, int maxPrefixLength) {
+    this.table = table;
+    this.maxPrefixLength = maxPrefixLength;
+    this.fingerprint = fingerprint(table);
+  }
+
+  public static HotPrefixTable empty() {
+    return EMPTY;
+  }
+
+  /**
+   * 검색어별 점수로 테이블 생성. 대소문자와 공백만 다른 검색어는 합산하고, 먼저 나온 표기를 노출한다.
+   *
+   * @param keywordScores 검색어별 점수 (점수 내림차순으로 넘기면 가장 많이 쓰인 표기가 노출됨)
+   * @param maxPrefixLength 테이블에 담을 최대 접두어 길이 (자모 기준)
+   * @param topK 접두어별 보관할 결과 수
+   */
+  public static HotPrefixTable build(
+      Map<String, Long> keywordScores, int maxPrefixLength, int topK) {
+    Map<String, String> displayNames = new HashMap<>();
+    Map<String, Long> scores = new LinkedHashMap<>();
+    for (Map.Entry<String, Long> entry : keywordScores.entrySet()) {
+      String normalized = normalize(entry.getKey());
+      if (normalized.isEmpty() || entry.getValue() == null || entry.getValue() <= 0) {
+        continue;
+      }
+      displayNames.putIfAbsent(normalized, entry.getKey().trim().replaceAll("\\s+", " "));
+      scores.merge(normalized, entry.getValue(), Long::sum);
+    }
+
+    List<String> ranked = new ArrayList<>(scores.keySet());
+    ranked.sort(
+        Comparator.comparing((String keyword) -> scores.get(keyword))
+            .reversed()
+            .thenComparing(Comparator.naturalOrder()));
+
+    // 점수 순으로 넣으므로 접두어별 목록도 점수 순이 된다
+    Map<String, List<String>> buckets = new HashMap<>();
+    for (String normalized : ranked) {
+      String display = displayNames.get(normalized);
+      Set<String> prefixes = new LinkedHashSet<>();
+      addPrefixes(prefixes, KoreanTextUtils.decomposeHangul(normalized), maxPrefixLength);
+      addPrefixes(prefixes, KoreanTextUtils.extractChosung(normalized), maxPrefixLength);
+      for (String prefix : prefixes) {
+        List<String> bucket = buckets.computeIfAbsent(prefix, key -> new ArrayList<>(topK));
+        if (bucket.size() < topK) {
+          bucket.add(display);
+        }
+      }
+    }
+
+    Map<String, String[]> table = new HashMap<>(buckets.size() * 2);
+    buckets.forEach((prefix, bucket) -> table.put(prefix, bucket.toArray(new String[0])));
+    return new HotPrefixTable(table, maxPrefixLength);
+  }
+
+  /**
+   * 키워드에 해당하는 인기 검색어 조회
+   *
+   * @return 인기 검색어 목록, 테이블 대상 길이가 아니면 null
+   */
+  public List<String> lookup(String keyword) {
+    if (keyword == null || table.isEmpty()) {
+      return null;
+    }
+    String key = KoreanTextUtils.decomposeHangul(normalize(keyword));
+    if (key.isEmpty() || key.length() > maxPrefixLength) {
+      return null;
+    }
+    String[] suggestions = table.get(key);
+    return suggestions != null ? Arrays.asList(suggestions) : List.of();
+  }
+
+  public int size() {
+    return table.size();
+  }
+
+  /** 테이블 내용 지문 (내용이 같으면 같은 값) */
+  public String fingerprint() {
+    return fingerprint;
+  }
+
+  // 접두어 순으로 접두어와 결과 목록을 64비트 해시로 누적
+  private static String fingerprint(Map<String, String[]> table) {
+    if (table.isEmpty()) {
+      return "0";
+    }
+    List<String> prefixes = new ArrayList<>(table.keySet());
+    prefixes.sort(Comparator.naturalOrder());
+    long hash = 1125899906842597L;
+    for (String prefix : prefixes) {
+      hash = 31 * hash + prefix.hashCode();
+      for (String suggestion : table.get(prefix)) {
+        hash = 31 * hash + suggestion.hashCode();
+      }
+    }
+    return Long.toHexString(hash);
+  }
+
+  private static void addPrefixes(Set<String> prefixes, String key, int maxPrefixLength) {
+    int length = Math.min(key.length(), maxPrefixLength);
+    for (int i = 1; i <= length; i++) {
+      prefixes.add(key.substring(0, i));
+    }
+  }
+
+  private static String normalize(String keyword) {
+    if (keyword == null) {
+      return "";
+    }
+    return keyword.trim().replaceAll("\\s+", " ").toLowerCase();
+  }
+}
@@ -9,6 +9,8 @@ import com.yjlee.search.search.service.builder.query.BoostQueryBuilder;
 import com.yjlee.search.search.service.builder.query.FilterQueryBuilder;
 import com.yjlee.search.search.service.builder.query.MainQueryBuilder;
 import com.yjlee.search.search.service.builder.query.QueryProcessor;
+import com.yjlee.search.search.service.timing.SearchStage;
+import com.yjlee.search.search.service.timing.SearchStageTimings;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -44,8 +46,10 @@ public class QueryBuilder {
     // 쿼리 구성 요소 빌드
     Query mainQuery = mainQueryBuilder.buildMainQuery(context);
     List<Query> filterQueries = filterQueryBuilder.buildFilterQueries(request.getFilters());
+    long categoryStartNanos = System.nanoTime();
     List<Query> categoryBoostQueries =
         boostQueryBuilder.buildCategoryBoostQueries(originalQuery, environment);
+    SearchStageTimings.recordSince(SearchStage.CATEGORY_BOOST, categoryStartNanos);
 
     // 최종 BoolQuery 조합
     return BoolQuery.of(
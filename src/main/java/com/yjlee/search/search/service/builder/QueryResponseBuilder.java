@@ -4,12 +4,16 @@ import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.explain.Explanation;
 import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.TotalHits;
+import co.elastic.clients.elasticsearch.core.search.TotalHitsRelation;
 import co.elastic.clients.json.JsonpMapper;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yjlee.search.common.constants.ESFields;
 import com.yjlee.search.index.dto.ProductDocument;
 import com.yjlee.search.search.dto.*;
+import com.yjlee.search.search.service.timing.SearchStage;
+import com.yjlee.search.search.service.timing.SearchStageTimings;
 import jakarta.json.stream.JsonGenerator;
 import java.io.StringWriter;
 import java.util.*;
@@ -31,14 +35,36 @@ public class QueryResponseBuilder {
       long took,
       boolean withExplain,
       SearchRequest searchRequest) {
+    return buildSearchResponse(
+        request, response, took, withExplain, searchRequest, null, false, null);
+  }
+
+  public SearchExecuteResponse buildSearchResponse(
+      SearchExecuteRequest request,
+      SearchResponse<JsonNode> response,
+      long took,
+      boolean withExplain,
+      SearchRequest searchRequest,
+      Long knownTotal,
+      boolean knownTotalCapped,
+      String cursor) {
 
+    long startNanos = System.nanoTime();
     List<ProductDto> products = extractProducts(response, withExplain);
     Map<String, List<AggregationBucketDto>> aggregationResults = extractAggregations(response);
 
-    long totalHits = response.hits().total().value();
+    // search_after 페이지는 총 건수를 추적하지 않으므로 첫 페이지에서 계산한 값을 사용
+    TotalHits totalInfo = response.hits().total();
+    long totalHits =
+        totalInfo != null
+            ? totalInfo.value()
+            : Optional.ofNullable(knownTotal).orElse((long) products.size());
+    boolean totalCapped =
+        totalInfo != null ? totalInfo.relation() == TotalHitsRelation.Gte : knownTotalCapped;
     int totalPages = (int) Math.ceil((double) totalHits / request.getSize());
 
-    SearchHitsDto hits = SearchHitsDto.builder().total(totalHits).data(products).build();
+    SearchHitsDto hits =
+        SearchHitsDto.builder().total(totalHits).totalCapped(totalCapped).data(products).build();
 
     SearchMetaDto meta =
         SearchMetaDto.builder()
@@ -47,11 +73,13 @@ public class QueryResponseBuilder {
             .totalPages(totalPages)
             .processingTime(took)
             .searchSessionId(request.getSearchSessionId())
+            .cursor(cursor)
             .build();
 
     String queryDsl = convertSearchRequestToJson(searchRequest);
 
     log.info("상품 검색 완료 - 검색어: {}, 소요시간: {}ms, 결과수: {}", request.getQuery(), took, products.size());
+    SearchStageTimings.recordSince(SearchStage.RESPONSE, startNanos);
 
     return SearchExecuteResponse.builder()
         .hits(hits)
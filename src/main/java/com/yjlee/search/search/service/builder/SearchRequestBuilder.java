@@ -11,6 +11,7 @@ import com.yjlee.search.common.util.KoreanTextUtils;
 import com.yjlee.search.search.constants.SearchBoostConstants;
 import com.yjlee.search.search.constants.VectorSearchConstants;
 import com.yjlee.search.search.dto.*;
+import com.yjlee.search.search.service.SearchAfterPaginationService;
 import java.util.Map;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
@@ -24,6 +25,26 @@ public class SearchRequestBuilder {
       BoolQuery boolQuery,
       Map<String, Aggregation> aggregations,
       boolean withExplain) {
+    return buildProductSearchRequest(
+        indexName, request, boolQuery, aggregations, withExplain, null, -1, null);
+  }
+
+  /**
+   * 상품 검색 요청 생성
+   *
+   * @param cursor search_after 커서 (null이면 from/size)
+   * @param trackTotalHitsUpTo 총 건수 추적 상한 (-1이면 정확한 건수)
+   * @param pitKeepAlive PIT 유지 시간
+   */
+  public SearchRequest buildProductSearchRequest(
+      String indexName,
+      SearchExecuteRequest request,
+      BoolQuery boolQuery,
+      Map<String, Aggregation> aggregations,
+      boolean withExplain,
+      SearchAfterPaginationService.PageCursor cursor,
+      int trackTotalHitsUpTo,
+      String pitKeepAlive) {
 
     ProductSortType sortType =
         Optional.ofNullable(request.getSort())
@@ -36,21 +57,36 @@ public class SearchRequestBuilder {
             .map(ProductSortOrder::getSortOrder)
             .orElse(SortOrder.Desc);
 
-    int from = request.getPage() * request.getSize();
-
     SearchRequest.Builder searchBuilder =
         new SearchRequest.Builder()
-            .index(indexName)
             .query(Query.of(q -> q.bool(boolQuery)))
             .source(
                 s -> s.filter(f -> f.excludes(VectorSearchConstants.getVectorFieldsToExclude())))
-            .aggregations(aggregations)
-            .from(from)
             .size(request.getSize())
-            .trackTotalHits(t -> t.enabled(true))
+            .aggregations(aggregations)
             .explain(withExplain);
 
+    if (cursor == null) {
+      // 첫 페이지 또는 임의 페이지 접근: from/size
+      searchBuilder
+          .index(indexName)
+          .from(request.getPage() * request.getSize())
+          .trackTotalHits(
+              t ->
+                  trackTotalHitsUpTo < 0 ? t.enabled(true) : t.count(trackTotalHitsUpTo));
+    } else {
+      // 다음 페이지: search_after (총 건수는 첫 페이지 값을 재사용, 집계는 첫 페이지와 같은 응답이 되도록 매번 계산)
+      if (cursor.getPitId() != null) {
+        searchBuilder.pit(p -> p.id(cursor.getPitId()).keepAlive(k -> k.time(pitKeepAlive)));
+      } else {
+        searchBuilder.index(indexName);
+      }
+      searchBuilder.searchAfter(cursor.getSortValues()).trackTotalHits(t -> t.enabled(false));
+    }
+
     sortType.applySorting(searchBuilder, sortOrder);
+    // 동점 문서의 순서를 고정해 search_after 페이지 경계가 흔들리지 않도록 상품 ID로 최종 정렬
+    searchBuilder.sort(sort -> sort.field(f -> f.field(ESFields.ID).order(SortOrder.Asc)));
     return searchBuilder.build();
   }
 
@@ -2,15 +2,12 @@ package com.yjlee.search.search.service.builder.query;
 
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
-import com.yjlee.search.analysis.domain.TokenInfo;
-import com.yjlee.search.analysis.enums.AnalysisType;
-import com.yjlee.search.analysis.service.AnalysisService;
 import com.yjlee.search.common.constants.ESFields;
 import com.yjlee.search.common.enums.EnvironmentType;
+import com.yjlee.search.common.util.TextPreprocessor;
 import com.yjlee.search.search.constants.SearchBoostConstants;
 import com.yjlee.search.search.service.category.CategoryRankingCacheService;
 import java.util.List;
-import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -21,7 +18,6 @@ import org.springframework.stereotype.Component;
 public class BoostQueryBuilder {
 
   private final CategoryRankingCacheService categoryRankingCacheService;
-  private final AnalysisService analysisService;
 
   public List<Query> buildPhraseBoostQueries(String query) {
     if (query == null || query.trim().isEmpty()) {
@@ -55,34 +51,8 @@ public class BoostQueryBuilder {
       return List.of();
     }
 
-    // 형태소 분석 수행
-    List<String> analyzedTokens = null;
-    try {
-      List<TokenInfo> tokens = analysisService.analyze(query, environment, AnalysisType.SEARCH);
-      analyzedTokens =
-          tokens.stream().filter(token -> !token.isSynonym()).map(TokenInfo::getToken).toList();
-    } catch (Exception e) {
-      log.warn("형태소 분석 실패, 공백 단위 매칭만 사용: {}", e.getMessage());
-    }
-
-    Map<String, Integer> categoryWeights =
-        categoryRankingCacheService.getCategoryWeights(query, analyzedTokens, environment);
-
-    if (categoryWeights.isEmpty()) {
-      return List.of();
-    }
-
-    return categoryWeights.entrySet().stream()
-        .map(entry -> buildCategoryBoostQuery(entry.getKey(), entry.getValue()))
-        .toList();
-  }
-
-  private Query buildCategoryBoostQuery(String category, Integer weight) {
-    return Query.of(
-        q ->
-            q.constantScore(
-                cs ->
-                    cs.filter(f -> f.term(t -> t.field(ESFields.CATEGORY_NAME).value(category)))
-                        .boost(weight.floatValue())));
+    // 사전 키워드 오토마톤으로 전처리된 쿼리를 한 번 훑어 미리 만든 부스팅 쿼리를 가져온다
+    return categoryRankingCacheService.getCategoryBoostQueries(
+        TextPreprocessor.preprocess(query), environment);
   }
 }
@@ -6,6 +6,8 @@ import com.yjlee.search.search.dto.SearchExecuteRequest;
 import com.yjlee.search.search.service.builder.model.ExtractedTerms;
 import com.yjlee.search.search.service.builder.model.ProcessedQuery;
 import com.yjlee.search.search.service.builder.model.QueryContext;
+import com.yjlee.search.search.service.timing.SearchStage;
+import com.yjlee.search.search.service.timing.SearchStageTimings;
 import com.yjlee.search.search.service.typo.TypoCorrectionCacheService;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -24,11 +26,15 @@ public class QueryProcessor {
       return ProcessedQuery.of("");
     }
 
+    long startNanos = System.nanoTime();
     String preprocessedQuery = TextPreprocessor.preprocess(req.getQuery());
+    SearchStageTimings.recordSince(SearchStage.PREPROCESS, startNanos);
 
     String correctedQuery = preprocessedQuery;
     if (shouldApplyTypoCorrection(req.getApplyTypoCorrection())) {
+      long typoStartNanos = System.nanoTime();
       correctedQuery = typoCorrectionCacheService.applyTypoCorrection(preprocessedQuery, env);
+      SearchStageTimings.recordSince(SearchStage.TYPO_CORRECTION, typoStartNanos);
       if (!correctedQuery.equals(preprocessedQuery)) {
         log.info("오타교정 적용 - 원본: '{}', 교정: '{}'", preprocessedQuery, correctedQuery);
       }
@@ -0,0 +1,317 @@
+package com.yjlee.search.search.service.category;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * 카테고리 랭킹 키워드의 Aho-Corasick 오토마톤. 버전별로 한 번 컴파일한 뒤 변경하지 않으며, 전이는 상태별로 정렬된 char 배열(CSR)에 담아 쿼리를
+ * 한 번 훑는 동안 매칭된 키워드의 미리 만든 값을 모은다.
+ *
+ * <p>공백이 포함된 여러 단어 키워드도 매칭한다. 한 글자 키워드는 단어 전체가 일치할 때만 인정한다. 두 글자 이상은 토큰 경계에서만 인정해, 키워드
+ * 양 끝 글자와 같은 종류(영문/숫자, 한글 음절)의 글자가 바로 이어지면 매칭하지 않는다. 그래서 "pc"는 "pcie"에 걸리지 않고, "lg노트북"처럼 문자
+ * 종류가 바뀌는 곳은 경계로 본다.
+ *
+ * <p>띄어 쓰지 않은 한글 복합어는 형태소 분석처럼 나눈다. 복합어 끝에 오는 키워드("게이밍마우스"의 "마우스")는 인정하고, 뒤에 한글이 이어지는
+ * 키워드는 바로 뒤에서 인정된 키워드가 시작할 때만 인정한다. 그래서 "노트북가방"은 "노트북"과 "가방" 모두, "마우스패드"는 "패드"가 키워드가
+ * 아니면 "마우스"에 걸리지 않는다.
+ *
+ * @param <T> 키워드별로 미리 만들어 둔 값
+ */
+public final class CategoryKeywordMatcher<T> {
+
+  private static final int NO_OUTPUT = -1;
+
+  private final int[] edgeStart;
+  private final char[] edgeChars;
+  private final int[] edgeTargets;
+  private final int[] fail;
+  private final int[] output;
+  private final int[] outputLink;
+  private final int[] keywordLengths;
+  private final List<T> payloads;
+
+  private CategoryKeywordMatcher(
+      int[] edgeStart,
+      char[] edgeChars,
+      int[] edgeTargets,
+      int[] fail,
+      int[] output,
+      int[] outputLink,
+      int[] keywordLengths,
+      List<T> payloads) {
+    this.edgeStart = edgeStart;
+    this.edgeChars = edgeChars;
+    this.edgeTargets = edgeTargets;
+    this.fail = fail;
+    this.output = output;
+    this.outputLink = outputLink;
+    this.keywordLengths = keywordLengths;
+    this.payloads = payloads;
+  }
+
+  /** 키워드별 값으로 오토마톤 생성. 키워드는 소문자, 공백 하나로 정규화하며 정규화 결과가 같으면 먼저 나온 값을 쓴다. */
+  public static <T> CategoryKeywordMatcher<T> build(Map<String, T> keywordPayloads) {
+    List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+    List<Integer> terminal = new ArrayList<>();
+    trie.add(new TreeMap<>());
+    terminal.add(NO_OUTPUT);
+
+    List<T> payloads = new ArrayList<>();
+    List<Integer> lengths = new ArrayList<>();
+    for (Map.Entry<String, T> entry : keywordPayloads.entrySet()) {
+      char[] keyword = normalize(entry.getKey());
+      if (keyword.length == 0) {
+        continue;
+      }
+      int state = 0;
+      for (char ch : keyword) {
+        Integer next = trie.get(state).get(ch);
+        if (next == null) {
+          next = trie.size();
+          trie.add(new TreeMap<>());
+          terminal.add(NO_OUTPUT);
+          trie.get(state).put(ch, next);
+        }
+        state = next;
+      }
+      if (terminal.get(state) == NO_OUTPUT) {
+        terminal.set(state, payloads.size());
+        payloads.add(entry.getValue());
+        lengths.add(keyword.length);
+      }
+    }
+
+    int stateCount = trie.size();
+    int[] edgeStart = new int[stateCount + 1];
+    for (int state = 0; state < stateCount; state++) {
+      edgeStart[state + 1] = edgeStart[state] + trie.get(state).size();
+    }
+    char[] edgeChars = new char[edgeStart[stateCount]];
+    int[] edgeTargets = new int[edgeStart[stateCount]];
+    for (int state = 0; state < stateCount; state++) {
+      int position = edgeStart[state];
+      for (Map.Entry<Character, Integer> edge : trie.get(state).entrySet()) {
+        edgeChars[position] = edge.getKey();
+        edgeTargets[position] = edge.getValue();
+        position++;
+      }
+    }
+
+    int[] output = new int[stateCount];
+    for (int state = 0; state < stateCount; state++) {
+      output[state] = terminal.get(state);
+    }
+    int[] fail = new int[stateCount];
+    int[] outputLink = new int[stateCount];
+    Arrays.fill(outputLink, NO_OUTPUT);
+
+    CategoryKeywordMatcher<T> matcher =
+        new CategoryKeywordMatcher<>(
+            edgeStart,
+            edgeChars,
+            edgeTargets,
+            fail,
+            output,
+            outputLink,
+            lengths.stream().mapToInt(Integer::intValue).toArray(),
+            Collections.unmodifiableList(payloads));
+
+    // BFS 순서로 실패 링크와, 실패 체인에서 가장 가까운 출력 상태 링크 계산
+    Queue<Integer> queue = new ArrayDeque<>();
+    for (int e = edgeStart[0]; e < edgeStart[1]; e++) {
+      queue.add(edgeTargets[e]);
+    }
+    while (!queue.isEmpty()) {
+      int state = queue.poll();
+      for (int e = edgeStart[state]; e < edgeStart[state + 1]; e++) {
+        char ch = edgeChars[e];
+        int child = edgeTargets[e];
+        int f = fail[state];
+        while (f != 0 && matcher.transition(f, ch) < 0) {
+          f = fail[f];
+        }
+        int next = matcher.transition(f, ch);
+        fail[child] = next >= 0 && next != child ? next : 0;
+        outputLink[child] =
+            output[fail[child]] != NO_OUTPUT ? fail[child] : outputLink[fail[child]];
+        queue.add(child);
+      }
+    }
+    return matcher;
+  }
+
+  /**
+   * 쿼리에 포함된 키워드의 값 조회. 같은 키워드는 한 번만 반환한다.
+   *
+   * @param text 전처리된 쿼리
+   */
+  public List<T> match(String text) {
+    if (text == null || payloads.isEmpty()) {
+      return List.of();
+    }
+    char[] chars = normalize(text);
+
+    // 후보 매칭을 (끝 위치, 키워드) 쌍으로 끝 위치 순서대로 모은다
+    int[] candidates = null;
+    int candidateCount = 0;
+    int state = 0;
+    for (int i = 0; i < chars.length; i++) {
+      char ch = chars[i];
+      int next = transition(state, ch);
+      while (next < 0 && state != 0) {
+        state = fail[state];
+        next = transition(state, ch);
+      }
+      state = Math.max(next, 0);
+
+      for (int s = output[state] != NO_OUTPUT ? state : outputLink[state];
+          s != NO_OUTPUT;
+          s = outputLink[s]) {
+        if (candidates == null) {
+          candidates = new int[8];
+        } else if (candidateCount * 2 == candidates.length) {
+          candidates = Arrays.copyOf(candidates, candidates.length * 2);
+        }
+        candidates[candidateCount * 2] = i;
+        candidates[candidateCount * 2 + 1] = output[s];
+        candidateCount++;
+      }
+    }
+    if (candidateCount == 0) {
+      return List.of();
+    }
+
+    // 복합어 앞부분은 바로 뒤 키워드가 인정돼야 하므로 뒤 후보부터 판정한다
+    boolean[] allowed = new boolean[candidateCount];
+    for (int c = candidateCount - 1; c >= 0; c--) {
+      allowed[c] = isAllowedMatch(chars, candidates, allowed, c, candidateCount);
+    }
+
+    List<T> result = null;
+    int[] matched = null;
+    int matchedCount = 0;
+    for (int c = 0; c < candidateCount; c++) {
+      int keyword = candidates[c * 2 + 1];
+      if (!allowed[c] || contains(matched, matchedCount, keyword)) {
+        continue;
+      }
+      if (result == null) {
+        result = new ArrayList<>(4);
+        matched = new int[4];
+      } else if (matchedCount == matched.length) {
+        matched = Arrays.copyOf(matched, matchedCount * 2);
+      }
+      matched[matchedCount++] = keyword;
+      result.add(payloads.get(keyword));
+    }
+    return result != null ? result : List.of();
+  }
+
+  public int size() {
+    return payloads.size();
+  }
+
+  private int transition(int state, char ch) {
+    int lo = edgeStart[state];
+    int hi = edgeStart[state + 1] - 1;
+    while (lo <= hi) {
+      int mid = (lo + hi) >>> 1;
+      char c = edgeChars[mid];
+      if (c < ch) {
+        lo = mid + 1;
+      } else if (c > ch) {
+        hi = mid - 1;
+      } else {
+        return edgeTargets[mid];
+      }
+    }
+    return -1;
+  }
+
+  // 한 글자 키워드는 앞뒤가 공백이거나 문자열 경계일 때만, 그 외는 양 끝이 토큰 경계이거나 한글 복합어로 나뉠 때만 인정
+  private boolean isAllowedMatch(
+      char[] chars, int[] candidates, boolean[] allowed, int candidate, int candidateCount) {
+    int end = candidates[candidate * 2];
+    int start = end - keywordLengths[candidates[candidate * 2 + 1]] + 1;
+    char before = start == 0 ? ' ' : chars[start - 1];
+    char after = end == chars.length - 1 ? ' ' : chars[end + 1];
+    if (end == start) {
+      return before == ' ' && after == ' ';
+    }
+
+    // 앞에 한글이 이어지면 복합어의 뒷부분
+    boolean leftOk = !continuesToken(chars[start], before) || isHangulSyllable(chars[start]);
+    if (!leftOk) {
+      return false;
+    }
+    if (!continuesToken(chars[end], after)) {
+      return true;
+    }
+    // 뒤에 한글이 이어지면 바로 뒤에서 시작하는 키워드가 인정될 때만 복합어의 앞부분
+    if (!isHangulSyllable(chars[end])) {
+      return false;
+    }
+    for (int c = candidate + 1; c < candidateCount; c++) {
+      int nextEnd = candidates[c * 2];
+      int nextStart = nextEnd - keywordLengths[candidates[c * 2 + 1]] + 1;
+      if (allowed[c] && nextStart == end + 1) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // 키워드 끝 글자와 이웃 글자가 같은 토큰으로 이어지는지 (영문/숫자끼리, 한글 음절끼리)
+  private static boolean continuesToken(char edge, char neighbor) {
+    if (isLatinOrDigit(edge)) {
+      return isLatinOrDigit(neighbor);
+    }
+    if (isHangulSyllable(edge)) {
+      return isHangulSyllable(neighbor);
+    }
+    return false;
+  }
+
+  private static boolean isLatinOrDigit(char ch) {
+    return (ch >= 'a' && ch <= 'z') || (ch >= '0' && ch <= '9');
+  }
+
+  private static boolean isHangulSyllable(char ch) {
+    return ch >= 0xAC00 && ch <= 0xD7A3;
+  }
+
+  private static boolean contains(int[] values, int count, int value) {
+    for (int i = 0; i < count; i++) {
+      if (values[i] == value) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // 소문자 변환, 앞뒤 공백 제거, 연속 공백 축약
+  private static char[] normalize(String text) {
+    char[] result = new char[text.length()];
+    int length = 0;
+    boolean pendingSpace = false;
+    for (int i = 0; i < text.length(); i++) {
+      char ch = text.charAt(i);
+      if (Character.isWhitespace(ch)) {
+        pendingSpace = length > 0;
+        continue;
+      }
+      if (pendingSpace) {
+        result[length++] = ' ';
+        pendingSpace = false;
+      }
+      result[length++] = Character.toLowerCase(ch);
+    }
+    return length == result.length ? result : Arrays.copyOf(result, length);
+  }
+}
@@ -1,13 +1,16 @@
 package com.yjlee.search.search.service.category;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import com.yjlee.search.common.constants.ESFields;
 import com.yjlee.search.common.enums.EnvironmentType;
 import com.yjlee.search.deployment.model.IndexEnvironment;
 import com.yjlee.search.deployment.service.IndexEnvironmentService;
+import com.yjlee.search.deployment.service.IndexVersionTracker;
 import com.yjlee.search.dictionary.category.model.CategoryMapping;
 import com.yjlee.search.dictionary.category.model.CategoryRankingDictionary;
 import com.yjlee.search.dictionary.category.repository.CategoryRankingDictionaryRepository;
+import com.yjlee.search.search.service.snapshot.CategoryDictionarySnapshot;
+import com.yjlee.search.search.service.snapshot.VersionedSnapshots;
 import jakarta.annotation.PostConstruct;
 import java.util.*;
 import lombok.RequiredArgsConstructor;
@@ -20,10 +23,12 @@ import org.springframework.stereotype.Service;
 public class CategoryRankingCacheService {
 
   private final IndexEnvironmentService indexEnvironmentService;
+  private final IndexVersionTracker indexVersionTracker;
   private final CategoryRankingDictionaryRepository categoryRankingDictionaryRepository;
 
-  private final Cache<String, Map<String, List<CategoryWeight>>> versionedCache =
-      Caffeine.newBuilder().maximumSize(5).build();
+  // 검색 스레드는 잠금 없이 읽고, 갱신은 새 오토마톤을 만들어 참조만 교체한다
+  private final VersionedSnapshots<CategoryKeywordMatcher<List<Query>>> versionedCache =
+      new VersionedSnapshots<>(5);
 
   @PostConstruct
   public void initializeCache() {
@@ -32,117 +37,83 @@ public class CategoryRankingCacheService {
       IndexEnvironment env = indexEnvironmentService.getEnvironmentOrNull(envType);
       if (env != null && env.getVersion() != null) {
         String version = env.getVersion();
-        Map<String, List<CategoryWeight>> cache = loadFromDB(envType);
-        versionedCache.put(version, cache);
+        CategoryKeywordMatcher<List<Query>> cache = compile(loadFromDB(envType));
+        versionedCache.publish(version, cache);
         log.info(
             "카테고리 랭킹 캐시 로드 완료: env={}, version={}, keywords={}", envType, version, cache.size());
       }
     }
   }
 
-  public Map<String, Integer> getCategoryWeights(
-      String query, List<String> analyzedTokens, EnvironmentType environmentType) {
+  /**
+   * 전처리된 쿼리에 포함된 카테고리 키워드의 부스팅 쿼리 조회. 키워드별 constant_score 쿼리를 미리 만들어 두므로 형태소 분석이나 토큰별 맵 조회 없이
+   * 쿼리를 한 번 훑어 결과를 모은다. 같은 카테고리가 여러 키워드에 걸리면 should 절 점수가 합산된다.
+   */
+  public List<Query> getCategoryBoostQueries(String query, EnvironmentType environmentType) {
     if (query == null || query.trim().isEmpty()) {
-      return Collections.emptyMap();
+      return List.of();
     }
 
     IndexEnvironment env = indexEnvironmentService.getEnvironment(environmentType);
-    Map<String, List<CategoryWeight>> cache = versionedCache.getIfPresent(env.getVersion());
+    CategoryKeywordMatcher<List<Query>> cache = versionedCache.get(env.getVersion());
     if (cache == null) {
       log.warn("캐시 없음: version={}", env.getVersion());
-      return Collections.emptyMap();
+      return List.of();
     }
-    Map<String, Integer> categoryWeights = new HashMap<>();
-    Set<String> appliedKeywords = new HashSet<>();
 
-    // 1. 먼저 공백 단위로 매칭
-    String[] words = query.toLowerCase().split("\\s+");
-    for (String word : words) {
-      if (appliedKeywords.contains(word)) {
-        continue;
-      }
-
-      List<CategoryWeight> weights = cache.get(word);
-      if (weights != null && !weights.isEmpty()) {
-        for (CategoryWeight cw : weights) {
-          categoryWeights.merge(cw.getCategory(), cw.getWeight(), Integer::sum);
-        }
-        appliedKeywords.add(word);
-        log.debug("키워드 '{}' 매칭 (공백 단위) - 카테고리 가중치: {}", word, weights);
-      }
+    List<List<Query>> matched = cache.match(query);
+    if (matched.isEmpty()) {
+      return List.of();
     }
-
-    // 2. 분석된 토큰으로 매칭
-    if (analyzedTokens != null) {
-      for (String token : analyzedTokens) {
-        String lowerToken = token.toLowerCase();
-
-        if (appliedKeywords.contains(lowerToken)) {
-          continue;
-        }
-
-        List<CategoryWeight> weights = cache.get(lowerToken);
-        if (weights != null && !weights.isEmpty()) {
-          for (CategoryWeight cw : weights) {
-            categoryWeights.merge(cw.getCategory(), cw.getWeight(), Integer::sum);
-          }
-          appliedKeywords.add(lowerToken);
-          log.debug("키워드 '{}' 매칭 (형태소 분석) - 카테고리 가중치: {}", lowerToken, weights);
-        }
-      }
+    if (matched.size() == 1) {
+      return matched.get(0);
     }
 
-    if (!categoryWeights.isEmpty()) {
-      log.info(
-          "쿼리 '{}' - 환경: {} - 적용된 카테고리 가중치: {}, 적용된 키워드: {}",
-          query,
-          environmentType,
-          categoryWeights,
-          appliedKeywords);
+    List<Query> boostQueries = new ArrayList<>();
+    for (List<Query> queries : matched) {
+      boostQueries.addAll(queries);
     }
-
-    return categoryWeights;
+    log.debug("쿼리 '{}' - 환경: {} - 카테고리 부스팅 {}개", query, environmentType, boostQueries.size());
+    return boostQueries;
   }
 
   public void addVersionCache(String version, Map<String, List<CategoryWeight>> data) {
-    versionedCache.put(version, data);
+    CategoryDictionarySnapshot.Builder builder = CategoryDictionarySnapshot.builder();
+    data.forEach(
+        (keyword, weights) ->
+            builder.add(
+                keyword,
+                weights.stream().map(CategoryWeight::getCategory).toList(),
+                weights.stream().map(CategoryWeight::getWeight).toList()));
+    versionedCache.publish(version, compile(builder.build()));
     log.info("카테고리 랭킹 캐시 추가: version={}, keywords={}", version, data.size());
   }
 
   public void refreshCache(EnvironmentType environmentType) {
     IndexEnvironment env = indexEnvironmentService.getEnvironment(environmentType);
     if (env != null && env.getVersion() != null) {
-      Map<String, List<CategoryWeight>> cache = loadFromDB(environmentType);
-      versionedCache.put(env.getVersion(), cache);
+      versionedCache.publish(env.getVersion(), compile(loadFromDB(environmentType)));
+      indexVersionTracker.bumpDictionaryRevision(environmentType);
       log.info("카테고리 랭킹 캐시 갱신: env={}, version={}", environmentType, env.getVersion());
     }
   }
 
-  private Map<String, List<CategoryWeight>> loadFromDB(EnvironmentType environmentType) {
-    List<CategoryRankingDictionary> dictionaries =
-        categoryRankingDictionaryRepository.findByEnvironmentTypeOrderByKeywordAsc(environmentType);
-
-    Map<String, List<CategoryWeight>> cache = new HashMap<>();
-    int totalMappings = 0;
-
-    for (CategoryRankingDictionary dict : dictionaries) {
-      String keyword = dict.getKeyword().toLowerCase();
-
-      if (dict.getCategoryMappings() != null && !dict.getCategoryMappings().isEmpty()) {
-        List<CategoryWeight> weights = new ArrayList<>();
-        for (CategoryMapping mapping : dict.getCategoryMappings()) {
-          weights.add(new CategoryWeight(mapping.getCategory(), mapping.getWeight()));
-        }
-        cache.put(keyword, weights);
-        totalMappings += weights.size();
-      }
+  private CategoryDictionarySnapshot loadFromDB(EnvironmentType environmentType) {
+    CategoryDictionarySnapshot.Builder builder = CategoryDictionarySnapshot.builder();
+    for (Object[] row :
+        categoryRankingDictionaryRepository.findKeywordAndMappingsByEnvironmentType(
+            environmentType)) {
+      @SuppressWarnings("unchecked")
+      List<CategoryMapping> mappings = (List<CategoryMapping>) row[1];
+      addMappings(builder, (String) row[0], mappings);
     }
+    CategoryDictionarySnapshot cache = builder.build();
 
     log.info(
         "카테고리 랭킹 DB 로드 완료 - 환경: {}, 키워드: {}개, 매핑: {}개",
         environmentType,
         cache.size(),
-        totalMappings);
+        cache.mappingCount());
 
     return cache;
   }
@@ -151,7 +122,7 @@ public class CategoryRankingCacheService {
     log.info("카테고리 랭킹 실시간 동기화 시작 - 환경: {}", environment);
     IndexEnvironment env = indexEnvironmentService.getEnvironment(environment);
     if (env != null && env.getVersion() != null) {
-      versionedCache.invalidate(env.getVersion());
+      // 새 오토마톤으로 교체하므로 기존 캐시를 먼저 지우지 않는다
       refreshCache(environment);
     }
     log.info("카테고리 랭킹 실시간 동기화 완료 - 환경: {}", environment);
@@ -161,28 +132,54 @@ public class CategoryRankingCacheService {
       List<CategoryRankingDictionary> categoryRankings, String version) {
     log.info("Preloaded 카테고리 랭킹 동기화 시작 - 버전: {}", version);
 
-    Map<String, List<CategoryWeight>> cache = new HashMap<>();
-    int totalMappings = 0;
-
+    CategoryDictionarySnapshot.Builder builder = CategoryDictionarySnapshot.builder();
     for (CategoryRankingDictionary dict : categoryRankings) {
-      String keyword = dict.getKeyword().toLowerCase();
-
-      if (dict.getCategoryMappings() != null && !dict.getCategoryMappings().isEmpty()) {
-        List<CategoryWeight> weights = new ArrayList<>();
-        for (CategoryMapping mapping : dict.getCategoryMappings()) {
-          weights.add(new CategoryWeight(mapping.getCategory(), mapping.getWeight()));
-        }
-        cache.put(keyword, weights);
-        totalMappings += weights.size();
-      }
+      addMappings(builder, dict.getKeyword(), dict.getCategoryMappings());
     }
+    CategoryDictionarySnapshot cache = builder.build();
 
-    versionedCache.put(version, cache);
+    versionedCache.publish(version, compile(cache));
     log.info(
         "Preloaded 카테고리 랭킹 동기화 완료 - 버전: {}, 키워드: {}개, 매핑: {}개",
         version,
         cache.size(),
-        totalMappings);
+        cache.mappingCount());
+  }
+
+  private static void addMappings(
+      CategoryDictionarySnapshot.Builder builder, String keyword, List<CategoryMapping> mappings) {
+    if (keyword == null || mappings == null || mappings.isEmpty()) {
+      return;
+    }
+    List<String> categories = new ArrayList<>(mappings.size());
+    List<Integer> weights = new ArrayList<>(mappings.size());
+    for (CategoryMapping mapping : mappings) {
+      categories.add(mapping.getCategory());
+      weights.add(mapping.getWeight());
+    }
+    builder.add(keyword.toLowerCase(), categories, weights);
+  }
+
+  // 키워드별 카테고리 부스팅 쿼리를 미리 만들어 오토마톤으로 컴파일
+  private CategoryKeywordMatcher<List<Query>> compile(CategoryDictionarySnapshot snapshot) {
+    Map<String, List<Query>> boostQueries = new LinkedHashMap<>(snapshot.size() * 2);
+    for (int i = 0; i < snapshot.size(); i++) {
+      List<Query> queries = new ArrayList<>(snapshot.mappingEnd(i) - snapshot.mappingStart(i));
+      for (int m = snapshot.mappingStart(i); m < snapshot.mappingEnd(i); m++) {
+        queries.add(buildCategoryBoostQuery(snapshot.categoryAt(m), snapshot.weightAt(m)));
+      }
+      boostQueries.put(snapshot.keywordAt(i), List.copyOf(queries));
+    }
+    return CategoryKeywordMatcher.build(boostQueries);
+  }
+
+  private static Query buildCategoryBoostQuery(String category, int weight) {
+    return Query.of(
+        q ->
+            q.constantScore(
+                cs ->
+                    cs.filter(f -> f.term(t -> t.field(ESFields.CATEGORY_NAME).value(category)))
+                        .boost((float) weight)));
   }
 
   public static class CategoryWeight {
@@ -0,0 +1,170 @@
+package com.yjlee.search.search.service.snapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리 랭킹 사전의 불변 스냅샷. 키워드는 정렬된 배열, 키워드별 매핑은 offsets로 나눈 카테고리 배열과 원시 int 가중치 배열에 담는다. 키워드마다
+ * List와 박싱된 가중치 객체를 두지 않는다.
+ */
+public final class CategoryDictionarySnapshot {
+
+  private static final int DEFAULT_WEIGHT = 1000;
+
+  private final String[] keywords;
+  private final int[] offsets;
+  private final String[] categories;
+  private final int[] weights;
+
+  private CategoryDictionarySnapshot(
+      String[] keywords, int[] offsets, String[] categories, int[] weights) {
+    this.keywords = keywords;
+    this.offsets = offsets;
+    this.categories = categories;
+    this.weights = weights;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public int size() {
+    return keywords.length;
+  }
+
+  public String keywordAt(int index) {
+    return keywords[index];
+  }
+
+  public int mappingStart(int index) {
+    return offsets[index];
+  }
+
+  public int mappingEnd(int index) {
+    return offsets[index + 1];
+  }
+
+  public String categoryAt(int mapping) {
+    return categories[mapping];
+  }
+
+  public int weightAt(int mapping) {
+    return weights[mapping];
+  }
+
+  /** 키워드 위치 (없으면 음수) */
+  public int indexOf(String keyword) {
+    return Arrays.binarySearch(keywords, keyword);
+  }
+
+  public int mappingCount() {
+    return categories.length;
+  }
+
+  // 문자열 객체와 배열 기준 대략적인 크기
+  public long estimatedBytes() {
+    long bytes = 64L + keywords.length * 8L + offsets.length * 4L;
+    bytes += categories.length * 8L + weights.length * 4L;
+    for (String keyword : keywords) {
+      bytes += TypoDictionarySnapshot.stringBytes(keyword);
+    }
+    // 카테고리 이름은 중복이 많아 Builder에서 인스턴스를 공유한다
+    String previous = null;
+    for (String category : categories) {
+      if (category != previous) {
+        bytes += TypoDictionarySnapshot.stringBytes(category);
+        previous = category;
+      }
+    }
+    return bytes;
+  }
+
+  /** 키워드 순으로 매핑을 추가하는 빌더. 키워드가 정렬되어 있지 않으면 build에서 정렬한다. */
+  public static final class Builder {
+    private final List<String> keywords = new ArrayList<>();
+    private final List<int[]> ranges = new ArrayList<>();
+    private final List<String> categories = new ArrayList<>();
+    private int[] weights = new int[64];
+    private final Map<String, String> categoryPool = new HashMap<>();
+
+    private Builder() {}
+
+    /**
+     * 키워드 하나의 매핑 추가
+     *
+     * @param keyword 소문자 키워드
+     * @param mappingCategories 카테고리 목록
+     * @param mappingWeights 카테고리별 가중치 (null이면 기본값)
+     */
+    public Builder add(
+        String keyword, List<String> mappingCategories, List<Integer> mappingWeights) {
+      if (keyword == null || mappingCategories.isEmpty()) {
+        return this;
+      }
+      int start = categories.size();
+      for (int i = 0; i < mappingCategories.size(); i++) {
+        String category = mappingCategories.get(i);
+        if (category == null) {
+          continue;
+        }
+        if (categories.size() == weights.length) {
+          weights = Arrays.copyOf(weights, weights.length * 2);
+        }
+        Integer weight = mappingWeights.get(i);
+        weights[categories.size()] = weight != null ? weight : DEFAULT_WEIGHT;
+        categories.add(categoryPool.computeIfAbsent(category, c -> c));
+      }
+      if (categories.size() > start) {
+        keywords.add(keyword);
+        ranges.add(new int[] {start, categories.size()});
+      }
+      return this;
+    }
+
+    public CategoryDictionarySnapshot build() {
+      int size = keywords.size();
+      Integer[] order = new Integer[size];
+      for (int i = 0; i < size; i++) {
+        order[i] = i;
+      }
+      Arrays.sort(order, (a, b) -> keywords.get(a).compareTo(keywords.get(b)));
+
+      List<String> sortedKeywords = new ArrayList<>(size);
+      List<Integer> sortedOffsets = new ArrayList<>(size + 1);
+      String[] sortedCategories = new String[categories.size()];
+      int[] sortedWeights = new int[categories.size()];
+      int position = 0;
+      for (int i = 0; i < size; i++) {
+        String keyword = keywords.get(order[i]);
+        int[] range = ranges.get(order[i]);
+        // 같은 키워드는 마지막 매핑을 쓴다
+        if (!sortedKeywords.isEmpty()
+            && sortedKeywords.get(sortedKeywords.size() - 1).equals(keyword)) {
+          position = sortedOffsets.remove(sortedOffsets.size() - 1);
+          sortedKeywords.remove(sortedKeywords.size() - 1);
+        }
+        sortedKeywords.add(keyword);
+        sortedOffsets.add(position);
+        for (int m = range[0]; m < range[1]; m++) {
+          sortedCategories[position] = categories.get(m);
+          sortedWeights[position] = weights[m];
+          position++;
+        }
+      }
+
+      int[] offsets = new int[sortedKeywords.size() + 1];
+      for (int i = 0; i < sortedOffsets.size(); i++) {
+        offsets[i] = sortedOffsets.get(i);
+      }
+      offsets[sortedKeywords.size()] = position;
+      return new CategoryDictionarySnapshot(
+          sortedKeywords.toArray(new String[0]),
+          offsets,
+          Arrays.copyOf(sortedCategories, position),
+          Arrays.copyOf(sortedWeights, position));
+    }
+  }
+}
@@ -0,0 +1,157 @@
+package com.yjlee.search.search.service.snapshot;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오타교정 사전의 불변 스냅샷. 오타 키워드를 정렬된 배열로, 교정어를 같은 순서의 배열로 보관하고, 조회는 키워드 위치를 담은 int 배열 해시 테이블(선형
+ * 탐사)로 한다. HashMap 대비 엔트리/노드 객체가 없어 메모리를 덜 쓰고, 생성 후 변경하지 않으므로 검색 스레드 간에 잠금 없이 공유한다.
+ */
+public final class TypoDictionarySnapshot {
+
+  private static final TypoDictionarySnapshot EMPTY =
+      new TypoDictionarySnapshot(new String[0], new String[0]);
+
+  private final String[] keywords;
+  private final String[] corrections;
+  // 키워드 위치 + 1 (0은 빈 슬롯), 크기는 키워드 수의 2배 이상인 2의 거듭제곱
+  private final int[] slots;
+
+  private TypoDictionarySnapshot(String[] keywords, String[] corrections) {
+    this.keywords = keywords;
+    this.corrections = corrections;
+    this.slots = new int[Math.max(2, Integer.highestOneBit(keywords.length * 2 - 1) << 1)];
+    int mask = slots.length - 1;
+    for (int i = 0; i < keywords.length; i++) {
+      int slot = spread(keywords[i].hashCode()) & mask;
+      while (slots[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = i + 1;
+    }
+  }
+
+  public static TypoDictionarySnapshot empty() {
+    return EMPTY;
+  }
+
+  /**
+   * (키워드, 교정어) 행으로 생성. 키워드 오름차순으로 정렬된 행이면 정렬을 건너뛴다. 같은 키워드는 마지막 행을 쓴다.
+   *
+   * @param rows 키워드와 교정어 쌍 (null이 섞인 행은 제외)
+   */
+  public static TypoDictionarySnapshot of(List<Object[]> rows) {
+    String[] keywords = new String[rows.size()];
+    String[] corrections = new String[rows.size()];
+    int size = 0;
+    for (Object[] row : rows) {
+      if (row[0] != null && row[1] != null) {
+        keywords[size] = (String) row[0];
+        corrections[size] = (String) row[1];
+        size++;
+      }
+    }
+    return sortAndCompact(keywords, corrections, size);
+  }
+
+  public static TypoDictionarySnapshot of(Map<String, String> corrections) {
+    String[] keywords = new String[corrections.size()];
+    String[] values = new String[corrections.size()];
+    int size = 0;
+    for (Map.Entry<String, String> entry : corrections.entrySet()) {
+      if (entry.getKey() != null && entry.getValue() != null) {
+        keywords[size] = entry.getKey();
+        values[size] = entry.getValue();
+        size++;
+      }
+    }
+    return sortAndCompact(keywords, values, size);
+  }
+
+  /** 교정어 조회 (없으면 null) */
+  public String get(String keyword) {
+    if (keyword == null) {
+      return null;
+    }
+    int mask = slots.length - 1;
+    int slot = spread(keyword.hashCode()) & mask;
+    int entry;
+    while ((entry = slots[slot]) != 0) {
+      if (keywords[entry - 1].equals(keyword)) {
+        return corrections[entry - 1];
+      }
+      slot = (slot + 1) & mask;
+    }
+    return null;
+  }
+
+  public int size() {
+    return keywords.length;
+  }
+
+  public String keywordAt(int index) {
+    return keywords[index];
+  }
+
+  public String correctionAt(int index) {
+    return corrections[index];
+  }
+
+  // 문자열 객체(헤더 + byte 배열)와 배열 기준 대략적인 크기
+  public long estimatedBytes() {
+    long bytes = 48L + keywords.length * 8L + slots.length * 4L;
+    for (int i = 0; i < keywords.length; i++) {
+      bytes += stringBytes(keywords[i]) + stringBytes(corrections[i]);
+    }
+    return bytes;
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  static long stringBytes(String value) {
+    return 40L + value.length() * 2L;
+  }
+
+  private static TypoDictionarySnapshot sortAndCompact(
+      String[] keywords, String[] corrections, int size) {
+    boolean sorted = true;
+    for (int i = 1; i < size && sorted; i++) {
+      sorted = keywords[i - 1].compareTo(keywords[i]) <= 0;
+    }
+    if (!sorted) {
+      Integer[] order = new Integer[size];
+      for (int i = 0; i < size; i++) {
+        order[i] = i;
+      }
+      // 안정 정렬이므로 같은 키워드는 입력 순서가 유지된다
+      Arrays.sort(order, (a, b) -> keywords[a].compareTo(keywords[b]));
+      String[] sortedKeywords = new String[size];
+      String[] sortedCorrections = new String[size];
+      for (int i = 0; i < size; i++) {
+        sortedKeywords[i] = keywords[order[i]];
+        sortedCorrections[i] = corrections[order[i]];
+      }
+      return compact(sortedKeywords, sortedCorrections, size);
+    }
+    return compact(keywords, corrections, size);
+  }
+
+  private static TypoDictionarySnapshot compact(
+      String[] keywords, String[] corrections, int size) {
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      if (count > 0 && keywords[count - 1].equals(keywords[i])) {
+        corrections[count - 1] = corrections[i];
+      } else {
+        keywords[count] = keywords[i];
+        corrections[count] = corrections[i];
+        count++;
+      }
+    }
+    return new TypoDictionarySnapshot(
+        Arrays.copyOf(keywords, count), Arrays.copyOf(corrections, count));
+  }
+}
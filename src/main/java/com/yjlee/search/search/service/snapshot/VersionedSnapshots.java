@@ -0,0 +1,40 @@
+package com.yjlee.search.search.service.snapshot;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 인덱스 버전별 불변 스냅샷 보관소. 읽기는 volatile 참조 하나만 따라가며, 게시할 때는 버전 맵을 복사해 새 맵으로 교체한다(copy-on-write). 게시 중에도
+ * 검색 스레드는 이전 스냅샷을 그대로 사용한다.
+ *
+ * @param <T> 불변 스냅샷 타입
+ */
+public final class VersionedSnapshots<T> {
+
+  private final int maxVersions;
+  private volatile Map<String, T> snapshots = Map.of();
+
+  public VersionedSnapshots(int maxVersions) {
+    this.maxVersions = maxVersions;
+  }
+
+  public T get(String version) {
+    return version != null ? snapshots.get(version) : null;
+  }
+
+  /** 버전 스냅샷 게시. 최대 버전 수를 넘으면 가장 오래 게시된 버전부터 제거한다. */
+  public synchronized void publish(String version, T snapshot) {
+    Map<String, T> next = new LinkedHashMap<>(snapshots);
+    next.remove(version);
+    next.put(version, snapshot);
+    while (next.size() > maxVersions) {
+      next.remove(next.keySet().iterator().next());
+    }
+    snapshots = Collections.unmodifiableMap(next);
+  }
+
+  public int size() {
+    return snapshots.size();
+  }
+}
@@ -0,0 +1,25 @@
+package com.yjlee.search.search.service.timing;
+
+/** 검색 파이프라인 단계. key는 메트릭 태그와 로그/응답의 단계 이름으로 쓴다. */
+public enum SearchStage {
+  PREPROCESS("preprocess"),
+  TYPO_CORRECTION("typo_correction"),
+  CATEGORY_BOOST("category_boost"),
+  EMBEDDING("embedding"),
+  ES_REQUEST("es_request"),
+  ES_TOOK("es_took"),
+  RRF_FUSION("rrf_fusion"),
+  RESPONSE("response"),
+  LOG_WRITE("log_write"),
+  TOTAL("total");
+
+  private final String key;
+
+  SearchStage(String key) {
+    this.key = key;
+  }
+
+  public String getKey() {
+    return key;
+  }
+}
@@ -0,0 +1,45 @@
+package com.yjlee.search.search.service.timing;
+
+import com.yjlee.search.common.enums.EnvironmentType;
+import com.yjlee.search.search.dto.SearchExecuteRequest;
+import com.yjlee.search.search.dto.SearchSimulationRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/** 검색 단계별 소요 시간을 Micrometer Timer(search.stage.latency)로 기록한다. 태그: stage, mode, env */
+@Component
+@RequiredArgsConstructor
+public class SearchStageMetrics {
+
+  private static final String METRIC_STAGE_LATENCY = "search.stage.latency";
+
+  private final MeterRegistry meterRegistry;
+
+  public void publish(SearchStageTimings timings, SearchExecuteRequest request) {
+    String mode = request.getSearchMode() != null ? request.getSearchMode().name() : "UNKNOWN";
+    EnvironmentType environment =
+        request instanceof SearchSimulationRequest simulationRequest
+                && simulationRequest.getEnvironmentType() != null
+            ? simulationRequest.getEnvironmentType()
+            : EnvironmentType.PROD;
+
+    for (SearchStage stage : SearchStage.values()) {
+      if (timings.isRecorded(stage)) {
+        timer(stage, mode, environment).record(timings.nanos(stage), TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+
+  private Timer timer(SearchStage stage, String mode, EnvironmentType environment) {
+    return Timer.builder(METRIC_STAGE_LATENCY)
+        .description("검색 파이프라인 단계별 소요 시간")
+        .tag("stage", stage.getKey())
+        .tag("mode", mode)
+        .tag("env", environment.name())
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,93 @@
+package com.yjlee.search.search.service.timing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 검색 요청 하나의 단계별 소요 시간. 검색은 요청 스레드에서 동기로 처리되므로 스레드 로컬에 담아 두고, 각 단계는 {@link #record}로 누적한다. 측정
+ * 중이 아닌 스레드(평가, 섀도 검색 등)에서의 기록은 무시한다.
+ *
+ * <p>측정 구간이 겹치면 바깥 구간의 인스턴스를 함께 쓰고, 가장 바깥 구간이 닫힐 때 스레드 로컬을 비운다.
+ */
+public final class SearchStageTimings implements AutoCloseable {
+
+  private static final SearchStage[] STAGES = SearchStage.values();
+  private static final ThreadLocal<SearchStageTimings> CURRENT = new ThreadLocal<>();
+
+  private final long[] nanos = new long[STAGES.length];
+  private final boolean[] recorded = new boolean[STAGES.length];
+  private final long startNanos = System.nanoTime();
+  private int depth = 1;
+
+  private SearchStageTimings() {}
+
+  /** 측정 시작. 이미 측정 중이면 같은 인스턴스를 반환한다. */
+  public static SearchStageTimings start() {
+    SearchStageTimings current = CURRENT.get();
+    if (current != null) {
+      current.depth++;
+      return current;
+    }
+    SearchStageTimings timings = new SearchStageTimings();
+    CURRENT.set(timings);
+    return timings;
+  }
+
+  /** 현재 스레드에서 측정 중인 요청, 없으면 null */
+  public static SearchStageTimings current() {
+    return CURRENT.get();
+  }
+
+  public static void record(SearchStage stage, long elapsedNanos) {
+    SearchStageTimings current = CURRENT.get();
+    if (current != null) {
+      current.add(stage, elapsedNanos);
+    }
+  }
+
+  /** 시작 시각부터 지금까지를 단계 시간으로 기록 */
+  public static void recordSince(SearchStage stage, long startNanos) {
+    record(stage, System.nanoTime() - startNanos);
+  }
+
+  /** ES 응답의 took(ms) 기록 */
+  public static void recordTook(long tookMillis) {
+    record(SearchStage.ES_TOOK, tookMillis * 1_000_000L);
+  }
+
+  public void add(SearchStage stage, long elapsedNanos) {
+    nanos[stage.ordinal()] += Math.max(0, elapsedNanos);
+    recorded[stage.ordinal()] = true;
+  }
+
+  public boolean isRecorded(SearchStage stage) {
+    return recorded[stage.ordinal()];
+  }
+
+  public long nanos(SearchStage stage) {
+    return nanos[stage.ordinal()];
+  }
+
+  /** 측정 시작부터 경과 시간 */
+  public long elapsedNanos() {
+    return System.nanoTime() - startNanos;
+  }
+
+  /** 기록된 단계의 소요 시간(ms, 소수점 3자리). 파이프라인 순서를 유지한다. */
+  public Map<String, Double> toMillis() {
+    Map<String, Double> result = new LinkedHashMap<>();
+    for (SearchStage stage : STAGES) {
+      if (recorded[stage.ordinal()]) {
+        result.put(stage.getKey(), Math.round(nanos[stage.ordinal()] / 1000.0) / 1000.0);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public void close() {
+    if (--depth == 0 && CURRENT.get() == this) {
+      CURRENT.remove();
+    }
+  }
+}
@@ -0,0 +1,301 @@
+package com.yjlee.search.search.service.typo;
+
+import com.yjlee.search.common.util.KoreanTextUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 대칭 삭제(SymSpell) 방식의 오타 후보 인덱스. 단어를 자모로 분해한 뒤 앞 prefixLength자에서 최대 편집거리만큼 글자를 지운 문자열의 해시를 (해시,
+ * 단어 ID) 정렬 배열로 보관하고, 조회 시 입력어의 삭제 문자열로 후보를 모아 자모 편집거리로 검증한다.
+ *
+ * <p>메모리 예산을 넘으면 빈도가 낮은 단어부터 제외한다.
+ */
+public final class SymSpellIndex {
+
+  private static final SymSpellIndex EMPTY =
+      new SymSpellIndex(new String[0], new String[0], new long[0], Map.of(), new long[0], 0, 0, 0);
+
+  private final String[] terms;
+  private final String[] jamoTerms;
+  private final long[] frequencies;
+  private final Map<String, Integer> termIds;
+  private final long[] deleteEntries;
+  private final int maxEditDistance;
+  private final int prefixLength;
+  private final long estimatedBytes;
+
+  private SymSpellIndex(
+      String[] terms,
+      String[] jamoTerms,
+      long[] frequencies,
+      Map<String, Integer> termIds,
+      long[] deleteEntries,
+      int maxEditDistance,
+      int prefixLength,
+      long estimatedBytes) {
+    this.terms = terms;
+    this.jamoTerms = jamoTerms;
+    this.frequencies = frequencies;
+    this.termIds = termIds;
+    this.deleteEntries = deleteEntries;
+    this.maxEditDistance = maxEditDistance;
+    this.prefixLength = prefixLength;
+    this.estimatedBytes = estimatedBytes;
+  }
+
+  public static SymSpellIndex empty() {
+    return EMPTY;
+  }
+
+  /**
+   * 단어 빈도로 인덱스 생성
+   *
+   * @param termFrequencies 교정 대상 단어와 빈도 (빈도가 높을수록 우선)
+   * @param maxEditDistance 최대 자모 편집거리
+   * @param prefixLength 삭제 문자열을 만들 앞부분 자모 길이
+   * @param memoryBudgetBytes 인덱스 메모리 예산
+   */
+  public static SymSpellIndex build(
+      Map<String, Long> termFrequencies,
+      int maxEditDistance,
+      int prefixLength,
+      long memoryBudgetBytes) {
+    List<Map.Entry<String, Long>> entries = new ArrayList<>(termFrequencies.entrySet());
+    entries.sort(
+        Map.Entry.<String, Long>comparingByValue()
+            .reversed()
+            .thenComparing(Map.Entry.comparingByKey()));
+
+    List<String> terms = new ArrayList<>();
+    List<String> jamoTerms = new ArrayList<>();
+    List<Long> frequencies = new ArrayList<>();
+    Map<String, Integer> termIds = new HashMap<>();
+    long[] deletes = new long[1024];
+    int deleteCount = 0;
+    long bytes = 0;
+
+    for (Map.Entry<String, Long> entry : entries) {
+      String term = entry.getKey();
+      String jamo = KoreanTextUtils.decomposeHangul(term);
+      if (jamo == null || jamo.isEmpty() || termIds.containsKey(jamo)) {
+        continue;
+      }
+
+      Set<String> termDeletes = new HashSet<>();
+      collectDeletes(prefix(jamo, prefixLength), maxEditDistance, termDeletes);
+      // 단어 2개(원형, 자모) + 맵 엔트리 + 삭제 엔트리
+      long cost = 96L + term.length() * 2L + jamo.length() * 2L + 48L + termDeletes.size() * 8L;
+      if (bytes + cost > memoryBudgetBytes) {
+        break;
+      }
+      bytes += cost;
+
+      int id = terms.size();
+      terms.add(term);
+      jamoTerms.add(jamo);
+      frequencies.add(entry.getValue());
+      termIds.put(jamo, id);
+
+      if (deleteCount + termDeletes.size() > deletes.length) {
+        deletes =
+            Arrays.copyOf(
+                deletes, Math.max(deletes.length * 2, deleteCount + termDeletes.size()));
+      }
+      for (String delete : termDeletes) {
+        deletes[deleteCount++] = ((long) delete.hashCode() << 32) | id;
+      }
+    }
+
+    long[] deleteEntries = Arrays.copyOf(deletes, deleteCount);
+    Arrays.sort(deleteEntries);
+
+    long[] frequencyArray = new long[frequencies.size()];
+    for (int i = 0; i < frequencyArray.length; i++) {
+      frequencyArray[i] = frequencies.get(i);
+    }
+
+    return new SymSpellIndex(
+        terms.toArray(new String[0]),
+        jamoTerms.toArray(new String[0]),
+        frequencyArray,
+        termIds,
+        deleteEntries,
+        maxEditDistance,
+        prefixLength,
+        bytes);
+  }
+
+  public boolean contains(String word) {
+    return termIds.containsKey(KoreanTextUtils.decomposeHangul(word));
+  }
+
+  /**
+   * 편집거리 이내의 가장 가까운 단어 조회. 거리가 같으면 빈도가 높은 단어를 고른다.
+   *
+   * @param word 입력 단어
+   * @param maxDistance 허용 자모 편집거리 (인덱스 최대 편집거리로 제한)
+   * @return 교정 단어, 사전에 있는 단어이거나 후보가 없으면 null
+   */
+  public String lookup(String word, int maxDistance) {
+    return lookup(word, maxDistance, 0);
+  }
+
+  /**
+   * 빈도가 minFrequency 이상인 단어 중 편집거리 이내의 가장 가까운 단어 조회
+   *
+   * @param minFrequency 교정 후보로 인정할 최소 빈도
+   * @return 교정 단어, 사전에 있는 단어이거나 후보가 없으면 null
+   */
+  public String lookup(String word, int maxDistance, long minFrequency) {
+    if (word == null || word.isEmpty() || terms.length == 0) {
+      return null;
+    }
+    String jamo = KoreanTextUtils.decomposeHangul(word);
+    if (termIds.containsKey(jamo)) {
+      return null;
+    }
+
+    // 삭제 문자열마다 바로 후보를 모으고, 중복 ID는 정렬로 걸러 조회마다 해시 집합을 만들지 않는다
+    int allowed = Math.min(maxDistance, maxEditDistance);
+    IdBuffer candidates = new IdBuffer();
+    collectCandidates(prefix(jamo, prefixLength), allowed, candidates);
+    int[] ids = candidates.ids;
+    Arrays.sort(ids, 0, candidates.size);
+
+    int bestId = -1;
+    int bestDistance = Integer.MAX_VALUE;
+    for (int i = 0; i < candidates.size; i++) {
+      int id = ids[i];
+      if ((i > 0 && ids[i - 1] == id) || frequencies[id] < minFrequency) {
+        continue;
+      }
+      String candidate = jamoTerms[id];
+      if (Math.abs(candidate.length() - jamo.length()) > allowed) {
+        continue;
+      }
+      int distance = editDistance(jamo, candidate, allowed);
+      if (distance < 0) {
+        continue;
+      }
+      if (distance < bestDistance
+          || (distance == bestDistance && frequencies[id] > frequencies[bestId])) {
+        bestId = id;
+        bestDistance = distance;
+      }
+    }
+    return bestId >= 0 ? terms[bestId] : null;
+  }
+
+  public int size() {
+    return terms.length;
+  }
+
+  public long estimatedBytes() {
+    return estimatedBytes;
+  }
+
+  private int lowerBound(long hash) {
+    int lo = 0;
+    int hi = deleteEntries.length;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (deleteEntries[mid] < hash) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo;
+  }
+
+  // 입력어의 삭제 문자열을 만들면서 같은 해시의 단어 ID를 모은다 (중복 삭제 문자열은 ID 중복으로만 남는다)
+  private void collectCandidates(String word, int distance, IdBuffer candidates) {
+    long hash = (long) word.hashCode() << 32;
+    int position = lowerBound(hash);
+    while (position < deleteEntries.length
+        && (deleteEntries[position] & 0xFFFFFFFF00000000L) == hash) {
+      candidates.add((int) deleteEntries[position++]);
+    }
+    if (distance == 0 || word.length() <= 1) {
+      return;
+    }
+    for (int i = 0; i < word.length(); i++) {
+      collectCandidates(word.substring(0, i) + word.substring(i + 1), distance - 1, candidates);
+    }
+  }
+
+  private static String prefix(String jamo, int prefixLength) {
+    return jamo.length() > prefixLength ? jamo.substring(0, prefixLength) : jamo;
+  }
+
+  private static void collectDeletes(String word, int distance, Set<String> deletes) {
+    if (!deletes.add(word) || distance == 0 || word.length() <= 1) {
+      return;
+    }
+    for (int i = 0; i < word.length(); i++) {
+      collectDeletes(word.substring(0, i) + word.substring(i + 1), distance - 1, deletes);
+    }
+  }
+
+  /**
+   * 인접 전치를 포함한 편집거리 (Optimal String Alignment)
+   *
+   * @return 거리, max를 넘으면 -1
+   */
+  static int editDistance(String source, String target, int max) {
+    int n = source.length();
+    int m = target.length();
+    if (Math.abs(n - m) > max) {
+      return -1;
+    }
+
+    int[] previous2 = new int[m + 1];
+    int[] previous = new int[m + 1];
+    int[] current = new int[m + 1];
+    for (int j = 0; j <= m; j++) {
+      previous[j] = j;
+    }
+
+    for (int i = 1; i <= n; i++) {
+      current[0] = i;
+      int rowMin = current[0];
+      char s = source.charAt(i - 1);
+      for (int j = 1; j <= m; j++) {
+        char t = target.charAt(j - 1);
+        int cost = s == t ? 0 : 1;
+        int value =
+            Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+        if (i > 1 && j > 1 && s == target.charAt(j - 2) && source.charAt(i - 2) == t) {
+          value = Math.min(value, previous2[j - 2] + 1);
+        }
+        current[j] = value;
+        rowMin = Math.min(rowMin, value);
+      }
+      if (rowMin > max) {
+        return -1;
+      }
+      int[] recycled = previous2;
+      previous2 = previous;
+      previous = current;
+      current = recycled;
+    }
+    return previous[m] <= max ? previous[m] : -1;
+  }
+
+  private static final class IdBuffer {
+    private int[] ids = new int[32];
+    private int size;
+
+    private void add(int id) {
+      if (size == ids.length) {
+        ids = Arrays.copyOf(ids, size * 2);
+      }
+      ids[size++] = id;
+    }
+  }
+}
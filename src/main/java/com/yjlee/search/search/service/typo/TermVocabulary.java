@@ -0,0 +1,120 @@
+package com.yjlee.search.search.service.typo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인덱스 버전의 교정 기준 어휘. 상품명 토큰 빈도와 분석기 사전(사용자 사전) 단어를 정렬된 배열과 int 빈도 배열로 보관하고 이진 탐색으로 조회한다.
+ * 버전마다 하나씩 유지되므로 박싱된 Map 대신 배열로 두고 크기를 메모리 예산에 포함한다.
+ *
+ * <p>메모리 예산을 넘으면 빈도가 낮은 상품 토큰부터 제외한다. 분석기 사전 단어는 항상 남긴다.
+ */
+public final class TermVocabulary {
+
+  private static final TermVocabulary EMPTY = new TermVocabulary(new String[0], new int[0], 0);
+
+  // 분석기 사전 단어 표시 (상품 빈도는 이보다 작게 자른다)
+  private static final int ANALYZER_WORD = Integer.MAX_VALUE;
+
+  private final String[] terms;
+  private final int[] frequencies;
+  private final long estimatedBytes;
+
+  private TermVocabulary(String[] terms, int[] frequencies, long estimatedBytes) {
+    this.terms = terms;
+    this.frequencies = frequencies;
+    this.estimatedBytes = estimatedBytes;
+  }
+
+  public static TermVocabulary empty() {
+    return EMPTY;
+  }
+
+  /**
+   * 어휘 생성
+   *
+   * @param productFrequencies 상품명 토큰별 출현 빈도
+   * @param analyzerWords 분석기 사전 단어 (교정하지 않을 단어)
+   * @param memoryBudgetBytes 어휘 메모리 예산
+   */
+  public static TermVocabulary build(
+      Map<String, Long> productFrequencies,
+      Collection<String> analyzerWords,
+      long memoryBudgetBytes) {
+    Map<String, Integer> merged = new HashMap<>();
+    long bytes = 0;
+    for (String word : analyzerWords) {
+      if (word != null && !word.isEmpty() && merged.put(word, ANALYZER_WORD) == null) {
+        bytes += entryBytes(word);
+      }
+    }
+
+    List<Map.Entry<String, Long>> entries = new ArrayList<>(productFrequencies.entrySet());
+    entries.sort(
+        Map.Entry.<String, Long>comparingByValue()
+            .reversed()
+            .thenComparing(Map.Entry.comparingByKey()));
+    for (Map.Entry<String, Long> entry : entries) {
+      if (merged.containsKey(entry.getKey())) {
+        continue;
+      }
+      long cost = entryBytes(entry.getKey());
+      if (bytes + cost > memoryBudgetBytes) {
+        break;
+      }
+      bytes += cost;
+      merged.put(entry.getKey(), (int) Math.min(entry.getValue(), ANALYZER_WORD - 1L));
+    }
+
+    String[] terms = merged.keySet().toArray(new String[0]);
+    Arrays.sort(terms);
+    int[] frequencies = new int[terms.length];
+    for (int i = 0; i < terms.length; i++) {
+      frequencies[i] = merged.get(terms[i]);
+    }
+    return new TermVocabulary(terms, frequencies, bytes);
+  }
+
+  /**
+   * 상품명 토큰 빈도
+   *
+   * @return 빈도, 어휘에 없거나 분석기 사전 단어면 0
+   */
+  public long frequency(String term) {
+    int index = Arrays.binarySearch(terms, term);
+    return index >= 0 && frequencies[index] != ANALYZER_WORD ? frequencies[index] : 0;
+  }
+
+  public boolean isAnalyzerWord(String term) {
+    int index = Arrays.binarySearch(terms, term);
+    return index >= 0 && frequencies[index] == ANALYZER_WORD;
+  }
+
+  /** 빈도가 minFrequency 이상인 상품 토큰 (분석기 사전 단어 제외) */
+  public Map<String, Long> productTerms(long minFrequency) {
+    Map<String, Long> result = new HashMap<>();
+    for (int i = 0; i < terms.length; i++) {
+      if (frequencies[i] != ANALYZER_WORD && frequencies[i] >= minFrequency) {
+        result.put(terms[i], (long) frequencies[i]);
+      }
+    }
+    return result;
+  }
+
+  public int size() {
+    return terms.length;
+  }
+
+  public long estimatedBytes() {
+    return estimatedBytes;
+  }
+
+  // 문자열 객체 + 배열 참조 + int 빈도
+  private static long entryBytes(String term) {
+    return 40L + term.length() * 2L + 8L + 4L;
+  }
+}
@@ -1,18 +1,26 @@
 package com.yjlee.search.search.service.typo;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import com.yjlee.search.common.enums.EnvironmentType;
+import com.yjlee.search.common.util.TextPreprocessor;
 import com.yjlee.search.deployment.model.IndexEnvironment;
 import com.yjlee.search.deployment.service.IndexEnvironmentService;
+import com.yjlee.search.deployment.service.IndexVersionTracker;
 import com.yjlee.search.dictionary.typo.model.TypoCorrectionDictionary;
 import com.yjlee.search.dictionary.typo.repository.TypoCorrectionDictionaryRepository;
+import com.yjlee.search.dictionary.user.model.UserDictionary;
+import com.yjlee.search.dictionary.user.repository.UserDictionaryRepository;
+import com.yjlee.search.index.repository.ProductRepository;
+import com.yjlee.search.search.service.snapshot.TypoDictionarySnapshot;
+import com.yjlee.search.search.service.snapshot.VersionedSnapshots;
 import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -21,20 +29,59 @@ import org.springframework.stereotype.Service;
 public class TypoCorrectionCacheService {
 
   private final IndexEnvironmentService indexEnvironmentService;
+  private final IndexVersionTracker indexVersionTracker;
   private final TypoCorrectionDictionaryRepository typoCorrectionDictionaryRepository;
+  private final UserDictionaryRepository userDictionaryRepository;
+  private final ProductRepository productRepository;
 
-  private final Cache<String, Map<String, String>> versionedCache =
-      Caffeine.newBuilder().maximumSize(5).build();
+  @Value("${app.search.typo.symspell.enabled:true}")
+  private boolean symSpellEnabled;
+
+  @Value("${app.search.typo.symspell.max-edit-distance:2}")
+  private int maxEditDistance;
+
+  @Value("${app.search.typo.symspell.prefix-length:7}")
+  private int prefixLength;
+
+  @Value("${app.search.typo.symspell.min-jamo-length:6}")
+  private int minJamoLength;
+
+  @Value("${app.search.typo.symspell.long-word-jamo-length:10}")
+  private int longWordJamoLength;
+
+  @Value("${app.search.typo.symspell.min-term-frequency:2}")
+  private long minTermFrequency;
+
+  @Value("${app.search.typo.symspell.min-candidate-frequency:5}")
+  private long minCandidateFrequency;
+
+  @Value("${app.search.typo.symspell.frequency-ratio:50}")
+  private long frequencyRatio;
+
+  @Value("${app.search.typo.symspell.memory-budget-bytes:33554432}")
+  private long memoryBudgetBytes;
+
+  // 검색 스레드는 잠금 없이 읽고, 갱신은 새 인덱스를 만들어 참조만 교체한다
+  private final VersionedSnapshots<TypoCorrectionIndex> versionedCache =
+      new VersionedSnapshots<>(5);
 
   @PostConstruct
   public void initializeCache() {
     log.info("오타교정 캐시 초기화 시작");
+    Map<String, Long> productFrequencies = null;
     for (EnvironmentType envType : EnvironmentType.values()) {
       IndexEnvironment env = indexEnvironmentService.getEnvironmentOrNull(envType);
       if (env != null && env.getVersion() != null) {
         String version = env.getVersion();
-        Map<String, String> cache = loadFromDB(envType);
-        versionedCache.put(version, cache);
+        if (productFrequencies == null) {
+          productFrequencies = loadProductFrequencies();
+        }
+        TermVocabulary vocabulary =
+            buildVocabulary(
+                productFrequencies,
+                analyzerWords(userDictionaryRepository.findKeywordsByEnvironmentType(envType)));
+        TypoCorrectionIndex cache = buildIndex(loadFromDB(envType), vocabulary);
+        versionedCache.publish(version, cache);
         log.info("오타교정 캐시 로드 완료: env={}, version={}, keywords={}", envType, version, cache.size());
       }
     }
@@ -52,7 +99,7 @@ public class TypoCorrectionCacheService {
       return query;
     }
 
-    Map<String, String> cache = versionedCache.getIfPresent(env.getVersion());
+    TypoCorrectionIndex cache = versionedCache.get(env.getVersion());
     if (cache == null) {
       log.warn("캐시 없음: version={}", env.getVersion());
       return query;
@@ -64,64 +111,182 @@ public class TypoCorrectionCacheService {
       if (result.length() > 0) {
         result.append(" ");
       }
-      String corrected = cache.get(word);
-      result.append(corrected != null ? corrected : word);
+      result.append(cache.correct(word));
     }
 
     return result.toString();
   }
 
   public void addVersionCache(String version, Map<String, String> data) {
-    versionedCache.put(version, data);
+    versionedCache.publish(
+        version, buildIndex(TypoDictionarySnapshot.of(data), vocabularyOf(version)));
     log.info("오타교정 캐시 추가: version={}, keywords={}", version, data.size());
   }
 
   public void refreshCache(EnvironmentType environmentType) {
     IndexEnvironment env = indexEnvironmentService.getEnvironment(environmentType);
     if (env != null && env.getVersion() != null) {
-      Map<String, String> cache = loadFromDB(environmentType);
-      versionedCache.put(env.getVersion(), cache);
+      // 상품 어휘는 색인 시점에 정해지므로 같은 버전이면 재사용하고 사전만 다시 읽는다
+      TypoCorrectionIndex cache =
+          buildIndex(loadFromDB(environmentType), vocabularyOf(env.getVersion()));
+      versionedCache.publish(env.getVersion(), cache);
+      indexVersionTracker.bumpDictionaryRevision(environmentType);
       log.info("오타교정 캐시 갱신: env={}, version={}", environmentType, env.getVersion());
     }
   }
 
-  private Map<String, String> loadFromDB(EnvironmentType environmentType) {
-    List<TypoCorrectionDictionary> dictionaries =
-        typoCorrectionDictionaryRepository.findByEnvironmentTypeOrderByKeywordAsc(environmentType);
+  private TypoDictionarySnapshot loadFromDB(EnvironmentType environmentType) {
+    // 키워드 순으로 정렬해 받으므로 스냅샷 생성 시 정렬을 건너뛴다
+    TypoDictionarySnapshot cache =
+        TypoDictionarySnapshot.of(
+            typoCorrectionDictionaryRepository.findKeywordAndCorrectedWordByEnvironmentType(
+                environmentType));
+
+    log.info("오타교정 DB 로드 완료 - 환경: {}, 항목: {}개", environmentType, cache.size());
+    return cache;
+  }
+
+  // 상품 어휘와 분석기 사전은 색인 시점에 정해지므로 같은 버전이면 재사용한다
+  private TermVocabulary vocabularyOf(String version) {
+    TypoCorrectionIndex existing = versionedCache.get(version);
+    return existing != null
+        ? existing.getVocabulary()
+        : buildVocabulary(loadProductFrequencies(), List.of());
+  }
+
+  // 어휘에는 메모리 예산의 절반까지만 쓰고 나머지는 SymSpell 인덱스에 남긴다
+  private TermVocabulary buildVocabulary(
+      Map<String, Long> productFrequencies, Collection<String> analyzerWords) {
+    if (!symSpellEnabled) {
+      return TermVocabulary.empty();
+    }
+    TermVocabulary vocabulary =
+        TermVocabulary.build(productFrequencies, analyzerWords, memoryBudgetBytes / 2);
+    if (vocabulary.size() < productFrequencies.size()) {
+      log.warn("오타교정 어휘 메모리 예산 초과 - 빈도 낮은 토큰 제외: {}개 사용", vocabulary.size());
+    }
+    return vocabulary;
+  }
+
+  private TypoCorrectionIndex buildIndex(
+      TypoDictionarySnapshot exactCorrections, TermVocabulary vocabulary) {
+    if (!symSpellEnabled) {
+      return newIndex(exactCorrections, TermVocabulary.empty(), SymSpellIndex.empty());
+    }
 
-    Map<String, String> cache = new HashMap<>();
-    for (TypoCorrectionDictionary dict : dictionaries) {
-      if (dict.getKeyword() != null && dict.getCorrectedWord() != null) {
-        cache.put(dict.getKeyword(), dict.getCorrectedWord());
+    long startTime = System.currentTimeMillis();
+    Map<String, Long> terms = vocabulary.productTerms(minTermFrequency);
+    // 사전의 교정어는 상품 어휘보다 우선한다
+    for (int i = 0; i < exactCorrections.size(); i++) {
+      for (String term : exactCorrections.correctionAt(i).toLowerCase().split("\\s+")) {
+        if (!term.isEmpty()) {
+          terms.put(term, Long.MAX_VALUE);
+        }
       }
     }
 
-    log.info("오타교정 DB 로드 완료 - 환경: {}, 항목: {}개", environmentType, cache.size());
-    return cache;
+    SymSpellIndex symSpellIndex =
+        SymSpellIndex.build(
+            terms,
+            maxEditDistance,
+            prefixLength,
+            Math.max(0, memoryBudgetBytes - vocabulary.estimatedBytes()));
+    if (symSpellIndex.size() < terms.size()) {
+      log.warn(
+          "SymSpell 메모리 예산 초과 - 빈도 낮은 어휘 제외: {}개 중 {}개 사용",
+          terms.size(),
+          symSpellIndex.size());
+    }
+    log.info(
+        "SymSpell 인덱스 생성 - 어휘: {}개, 예상 크기: {} bytes (기준 어휘 {} bytes 별도), 소요시간: {}ms",
+        symSpellIndex.size(),
+        symSpellIndex.estimatedBytes(),
+        vocabulary.estimatedBytes(),
+        System.currentTimeMillis() - startTime);
+
+    return newIndex(exactCorrections, vocabulary, symSpellIndex);
+  }
+
+  private TypoCorrectionIndex newIndex(
+      TypoDictionarySnapshot exactCorrections,
+      TermVocabulary vocabulary,
+      SymSpellIndex symSpellIndex) {
+    return new TypoCorrectionIndex(
+        exactCorrections,
+        vocabulary,
+        symSpellIndex,
+        minJamoLength,
+        longWordJamoLength,
+        minCandidateFrequency,
+        frequencyRatio);
+  }
+
+  // 사용자 사전 항목("복합어 분해어...")의 모든 단어를 소문자로
+  private static List<String> analyzerWords(Collection<String> keywords) {
+    List<String> words = new ArrayList<>();
+    for (String keyword : keywords) {
+      if (keyword == null) {
+        continue;
+      }
+      for (String word : keyword.trim().toLowerCase().split("\\s+")) {
+        if (!word.isEmpty()) {
+          words.add(word);
+        }
+      }
+    }
+    return words;
+  }
+
+  // 상품명 전처리 결과의 토큰별 출현 빈도 (숫자가 섞인 토큰, 한 글자 토큰 제외)
+  private Map<String, Long> loadProductFrequencies() {
+    if (!symSpellEnabled) {
+      return Map.of();
+    }
+    try {
+      Map<String, Long> vocabulary = new HashMap<>();
+      for (String name : productRepository.findAllNames()) {
+        for (String token : TextPreprocessor.preprocess(name).split(" ")) {
+          if (token.length() >= 2 && token.chars().noneMatch(Character::isDigit)) {
+            vocabulary.merge(token, 1L, Long::sum);
+          }
+        }
+      }
+      log.info("상품 어휘 로드 완료 - {}개", vocabulary.size());
+      return vocabulary;
+    } catch (Exception e) {
+      log.warn("상품 어휘 로드 실패 - 사전 교정어만 사용: {}", e.getMessage());
+      return Map.of();
+    }
   }
 
   public void realtimeSync(EnvironmentType environment) {
     log.info("오타교정 실시간 동기화 시작 - 환경: {}", environment);
     IndexEnvironment env = indexEnvironmentService.getEnvironment(environment);
     if (env != null && env.getVersion() != null) {
-      versionedCache.invalidate(env.getVersion());
+      // 기존 캐시를 지우지 않고 새 인덱스로 교체해 교체 중에도 교정이 끊기지 않게 한다
       refreshCache(environment);
     }
     log.info("오타교정 실시간 동기화 완료 - 환경: {}", environment);
   }
 
   public void syncWithPreloadedData(
-      List<TypoCorrectionDictionary> typoCorrections, String version) {
+      List<TypoCorrectionDictionary> typoCorrections,
+      List<UserDictionary> userWords,
+      String version) {
     log.info("Preloaded 오타교정 동기화 시작 - 버전: {}", version);
 
-    Map<String, String> cache = new HashMap<>();
+    List<Object[]> rows = new ArrayList<>(typoCorrections.size());
     for (TypoCorrectionDictionary dict : typoCorrections) {
-      if (dict.getKeyword() != null && dict.getCorrectedWord() != null) {
-        cache.put(dict.getKeyword(), dict.getCorrectedWord());
-      }
+      rows.add(new Object[] {dict.getKeyword(), dict.getCorrectedWord()});
     }
+    TypoDictionarySnapshot cache = TypoDictionarySnapshot.of(rows);
 
-    versionedCache.put(version, cache);
+    // 색인 직후 호출되므로 새로 색인된 상품명과 이번 색인의 사용자 사전으로 어휘를 만든다
+    TermVocabulary vocabulary =
+        buildVocabulary(
+            loadProductFrequencies(),
+            analyzerWords(userWords.stream().map(UserDictionary::getKeyword).toList()));
+    versionedCache.publish(version, buildIndex(cache, vocabulary));
     log.info("Preloaded 오타교정 동기화 완료 - 버전: {}, 항목: {}개", version, cache.size());
   }
 }
@@ -0,0 +1,109 @@
+package com.yjlee.search.search.service.typo;
+
+import com.yjlee.search.search.service.snapshot.TypoDictionarySnapshot;
+
+/**
+ * 인덱스 버전 하나의 오타교정 데이터. 사전의 정확 일치 교정을 먼저 적용하고, 없으면 사전 교정어와 상품명 어휘로 만든 SymSpell 인덱스에서 가장 가까운
+ * 단어를 찾는다. 생성 후 변경하지 않으므로 버전 단위로 통째로 교체한다.
+ *
+ * <p>과교정을 막기 위해 분석기 사전 단어는 교정하지 않고, 교정 후보는 최소 빈도를 넘어야 한다. 어휘에 있는 드문 단어는 후보 빈도가 입력 빈도의
+ * frequencyRatio배 이상일 때만 바꾼다.
+ */
+public final class TypoCorrectionIndex {
+
+  private final TypoDictionarySnapshot exactCorrections;
+  private final TermVocabulary vocabulary;
+  private final SymSpellIndex symSpellIndex;
+  private final int minJamoLength;
+  private final int longWordJamoLength;
+  private final long minCandidateFrequency;
+  private final long frequencyRatio;
+
+  public TypoCorrectionIndex(
+      TypoDictionarySnapshot exactCorrections,
+      TermVocabulary vocabulary,
+      SymSpellIndex symSpellIndex,
+      int minJamoLength,
+      int longWordJamoLength,
+      long minCandidateFrequency,
+      long frequencyRatio) {
+    this.exactCorrections = exactCorrections;
+    this.vocabulary = vocabulary;
+    this.symSpellIndex = symSpellIndex;
+    this.minJamoLength = minJamoLength;
+    this.longWordJamoLength = longWordJamoLength;
+    this.minCandidateFrequency = minCandidateFrequency;
+    this.frequencyRatio = frequencyRatio;
+  }
+
+  /**
+   * 단어 교정
+   *
+   * @return 교정된 단어, 교정 대상이 아니면 입력 그대로
+   */
+  public String correct(String word) {
+    String exact = exactCorrections.get(word);
+    if (exact != null) {
+      return exact;
+    }
+    if (!isCorrectable(word)) {
+      return word;
+    }
+
+    String lower = word.toLowerCase();
+    // 짧은 단어는 편집거리 1만 허용해 과교정을 줄인다
+    int jamoLength = jamoLength(lower);
+    if (jamoLength < minJamoLength || vocabulary.isAnalyzerWord(lower)) {
+      return word;
+    }
+
+    long inputFrequency = vocabulary.frequency(lower);
+    long minFrequency =
+        inputFrequency > 0
+            ? Math.max(minCandidateFrequency, inputFrequency * frequencyRatio)
+            : minCandidateFrequency;
+    String corrected =
+        symSpellIndex.lookup(lower, jamoLength >= longWordJamoLength ? 2 : 1, minFrequency);
+    return corrected != null ? corrected : word;
+  }
+
+  public int size() {
+    return exactCorrections.size();
+  }
+
+  public TypoDictionarySnapshot getExactCorrections() {
+    return exactCorrections;
+  }
+
+  public TermVocabulary getVocabulary() {
+    return vocabulary;
+  }
+
+  public SymSpellIndex getSymSpellIndex() {
+    return symSpellIndex;
+  }
+
+  // 숫자가 섞인 모델명 등은 교정하지 않는다
+  private static boolean isCorrectable(String word) {
+    for (int i = 0; i < word.length(); i++) {
+      if (Character.isDigit(word.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // 한글 음절은 종성 여부에 따라 자모 2~3자로 센다
+  private static int jamoLength(String word) {
+    int length = 0;
+    for (int i = 0; i < word.length(); i++) {
+      char ch = word.charAt(i);
+      if (ch >= 0xAC00 && ch <= 0xD7A3) {
+        length += (ch - 0xAC00) % 28 == 0 ? 2 : 3;
+      } else {
+        length++;
+      }
+    }
+    return length;
+  }
+}
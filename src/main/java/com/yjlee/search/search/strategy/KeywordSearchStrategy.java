@@ -4,17 +4,21 @@ import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.TotalHits;
+import co.elastic.clients.elasticsearch.core.search.TotalHitsRelation;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.yjlee.search.common.enums.EnvironmentType;
 import com.yjlee.search.search.dto.SearchExecuteRequest;
 import com.yjlee.search.search.dto.SearchExecuteResponse;
 import com.yjlee.search.search.dto.SearchMode;
 import com.yjlee.search.search.dto.SearchSimulationRequest;
+import com.yjlee.search.search.service.SearchAfterPaginationService;
 import com.yjlee.search.search.service.SearchQueryExecutor;
 import com.yjlee.search.search.service.builder.QueryBuilder;
 import com.yjlee.search.search.service.builder.QueryResponseBuilder;
 import com.yjlee.search.search.service.builder.SearchRequestBuilder;
 import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -28,6 +32,7 @@ public class KeywordSearchStrategy implements SearchStrategy {
   private final SearchRequestBuilder searchRequestBuilder;
   private final QueryResponseBuilder responseBuilder;
   private final SearchQueryExecutor queryExecutor;
+  private final SearchAfterPaginationService paginationService;
 
   @Override
   public SearchExecuteResponse search(
@@ -45,14 +50,77 @@ public class KeywordSearchStrategy implements SearchStrategy {
 
     BoolQuery boolQuery = queryBuilder.buildBoolQuery(request, environment);
     Map<String, Aggregation> aggregations = searchRequestBuilder.buildAggregations();
+
+    // 다음 페이지 커서가 유효하면 search_after, 아니면 from/size
+    SearchAfterPaginationService.PageCursor cursor =
+        paginationService.resolve(indexName, request);
     SearchRequest searchRequest =
-        searchRequestBuilder.buildProductSearchRequest(
-            indexName, request, boolQuery, aggregations, withExplain);
+        buildRequest(indexName, request, boolQuery, aggregations, withExplain, cursor);
 
-    SearchResponse<JsonNode> response = queryExecutor.execute(searchRequest);
+    SearchResponse<JsonNode> response;
+    try {
+      response = queryExecutor.execute(searchRequest);
+    } catch (RuntimeException e) {
+      if (cursor == null) {
+        throw e;
+      }
+      // PIT 만료 등으로 실패하면 PIT 없이 search_after, 그래도 실패하면 from/size로 재시도
+      log.warn("search_after 조회 실패 - 재시도: {}", e.getMessage());
+      paginationService.closePit(cursor.getPitId());
+      cursor = cursor.getPitId() != null ? cursor.withoutPit() : null;
+      searchRequest =
+          buildRequest(indexName, request, boolQuery, aggregations, withExplain, cursor);
+      try {
+        response = queryExecutor.execute(searchRequest);
+      } catch (RuntimeException retryError) {
+        if (cursor == null) {
+          throw retryError;
+        }
+        cursor = null;
+        searchRequest =
+            buildRequest(indexName, request, boolQuery, aggregations, withExplain, null);
+        response = queryExecutor.execute(searchRequest);
+      }
+    }
     long took = System.currentTimeMillis() - startTime;
 
-    return responseBuilder.buildSearchResponse(request, response, took, withExplain, searchRequest);
+    Long knownTotal = cursor != null ? cursor.getTotal() : null;
+    boolean knownTotalCapped = cursor != null && cursor.isTotalCapped();
+    TotalHits totalInfo = response.hits().total();
+    long total =
+        totalInfo != null ? totalInfo.value() : Optional.ofNullable(knownTotal).orElse(0L);
+    boolean totalCapped =
+        totalInfo != null ? totalInfo.relation() == TotalHitsRelation.Gte : knownTotalCapped;
+    String nextCursor =
+        paginationService.nextCursor(indexName, request, response, cursor, total, totalCapped);
+
+    return responseBuilder.buildSearchResponse(
+        request,
+        response,
+        took,
+        withExplain,
+        searchRequest,
+        knownTotal,
+        knownTotalCapped,
+        nextCursor);
+  }
+
+  private SearchRequest buildRequest(
+      String indexName,
+      SearchExecuteRequest request,
+      BoolQuery boolQuery,
+      Map<String, Aggregation> aggregations,
+      boolean withExplain,
+      SearchAfterPaginationService.PageCursor cursor) {
+    return searchRequestBuilder.buildProductSearchRequest(
+        indexName,
+        request,
+        boolQuery,
+        aggregations,
+        withExplain,
+        cursor,
+        paginationService.getTrackTotalHitsUpTo(),
+        paginationService.getPitKeepAlive());
   }
 
   @Override
@@ -11,7 +11,10 @@ import com.yjlee.search.search.constants.SearchConstants;
 import com.yjlee.search.search.converter.ProductDtoConverter;
 import com.yjlee.search.search.dto.*;
 import com.yjlee.search.search.dto.VectorSearchResult;
+import com.yjlee.search.search.service.ResultSetCursorService;
 import com.yjlee.search.search.service.VectorSearchService;
+import com.yjlee.search.search.service.timing.SearchStage;
+import com.yjlee.search.search.service.timing.SearchStageTimings;
 import com.yjlee.search.search.utils.AggregationUtils;
 import jakarta.json.stream.JsonGenerator;
 import java.io.StringWriter;
@@ -33,12 +36,22 @@ public class VectorSearchStrategy implements SearchStrategy {
   private final VectorSearchService vectorSearchService;
   private final ProductDtoConverter productDtoConverter;
   private final ElasticsearchClient elasticsearchClient;
+  private final ResultSetCursorService resultSetCursorService;
 
   @Override
   public SearchExecuteResponse search(
       String indexName, SearchExecuteRequest request, boolean withExplain) {
     log.info("Executing multi-field vector search for query: {}", request.getQuery());
 
+    // 커서가 유효하면 저장된 순위에서 페이지만 조회
+    if (!withExplain) {
+      Optional<SearchExecuteResponse> cursorPage =
+          resultSetCursorService.fetchPage(indexName, request);
+      if (cursorPage.isPresent()) {
+        return cursorPage.get();
+      }
+    }
+
     long startTime = System.currentTimeMillis();
 
     // 벡터 검색 설정 (필터 없이)
@@ -60,6 +73,7 @@ public class VectorSearchStrategy implements SearchStrategy {
             indexName, request.getQuery(), config);
 
     SearchResponse<JsonNode> response = searchResult.getResponse();
+    long responseStartNanos = System.nanoTime();
     List<Hit<JsonNode>> allHits = response.hits().hits();
 
     // Post-filtering 적용
@@ -92,6 +106,22 @@ public class VectorSearchStrategy implements SearchStrategy {
     List<ProductDto> products =
         pagedHits.stream().map(productDtoConverter::convert).collect(Collectors.toList());
 
+    // 벡터 검색 결과에서 aggregation 계산
+    Map<String, List<AggregationBucketDto>> aggregations =
+        AggregationUtils.calculateFromHits(sortedHits);
+
+    // 커서 저장 (다음 페이지는 벡터 검색 재실행 없이 조회)
+    String cursor = null;
+    if (!withExplain) {
+      cursor =
+          resultSetCursorService.save(
+              indexName,
+              request,
+              sortedHits.stream().map(Hit::id).toList(),
+              sortedHits.stream().map(Hit::score).toList(),
+              aggregations);
+    }
+
     // Response 생성
     SearchHitsDto hits =
         SearchHitsDto.builder().total((long) sortedHits.size()).data(products).build();
@@ -104,17 +134,15 @@ public class VectorSearchStrategy implements SearchStrategy {
             .totalPages(totalPages)
             .processingTime(System.currentTimeMillis() - startTime)
             .searchSessionId(request.getSearchSessionId())
+            .cursor(cursor)
             .build();
 
-    // 벡터 검색 결과에서 aggregation 계산
-    Map<String, List<AggregationBucketDto>> aggregations =
-        AggregationUtils.calculateFromHits(sortedHits);
-
     // SearchRequest를 JSON으로 변환
     String queryDsl = null;
     if (withExplain) {
       queryDsl = convertSearchRequestToJson(searchResult.getRequest());
     }
+    SearchStageTimings.recordSince(SearchStage.RESPONSE, responseStartNanos);
 
     return SearchExecuteResponse.builder()
         .hits(hits)
@@ -0,0 +1,89 @@
+package com.yjlee.search.search.utils;
+
+import com.yjlee.search.common.util.TextPreprocessor;
+import com.yjlee.search.search.dto.PriceRangeDto;
+import com.yjlee.search.search.dto.ProductFiltersDto;
+import com.yjlee.search.search.dto.SearchExecuteRequest;
+import com.yjlee.search.search.dto.SearchMode;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.experimental.UtilityClass;
+
+/** 검색 결과에 영향을 주는 요청 필드를 고정된 순서로 직렬화한 지문을 만드는 유틸리티 클래스 */
+@UtilityClass
+public class SearchFingerprintUtils {
+
+  /**
+   * 검색 요청 지문 생성 (세션 ID, 커서 제외)
+   *
+   * @param request 검색 요청
+   * @param includePaging page/size 포함 여부
+   * @return 정규화된 요청 지문
+   */
+  public static String fingerprint(SearchExecuteRequest request, boolean includePaging) {
+    SearchMode mode =
+        request.getSearchMode() != null ? request.getSearchMode() : SearchMode.KEYWORD_ONLY;
+    StringBuilder sb = new StringBuilder(128);
+    sb.append(mode.name()).append('|');
+
+    // 벡터 임베딩은 원문에 민감하므로 키워드 모드에서만 전처리 결과로 정규화한다
+    sb.append(
+            mode == SearchMode.KEYWORD_ONLY
+                ? TextPreprocessor.preprocess(request.getQuery())
+                : normalizeWhitespace(request.getQuery()))
+        .append('|');
+
+    if (includePaging) {
+      sb.append(request.getPage()).append('|').append(request.getSize());
+    }
+    sb.append('|');
+
+    if (request.getSort() != null) {
+      sb.append(request.getSort().getField()).append(':').append(request.getSort().getOrder());
+    }
+    sb.append('|');
+
+    ProductFiltersDto filters = request.getFilters();
+    if (filters != null) {
+      sb.append(sortedJoin(filters.getBrand())).append('|');
+      sb.append(sortedJoin(filters.getCategory())).append('|');
+      PriceRangeDto priceRange = filters.getPriceRange();
+      if (priceRange != null) {
+        sb.append(priceRange.getFrom()).append('~').append(priceRange.getTo());
+      }
+    }
+    sb.append('|').append(request.getApplyTypoCorrection());
+
+    if (mode != SearchMode.KEYWORD_ONLY) {
+      sb.append('|')
+          .append(request.getRrfK())
+          .append('|')
+          .append(request.getHybridTopK())
+          .append('|')
+          .append(request.getBm25Weight())
+          .append('|')
+          .append(request.getVectorMinScore())
+          .append('|')
+          .append(request.getNameVectorBoost())
+          .append('|')
+          .append(request.getSpecsVectorBoost());
+    }
+    return sb.toString();
+  }
+
+  /** 앞뒤 공백 제거 및 연속 공백을 하나로 축약 */
+  public static String normalizeWhitespace(String text) {
+    if (text == null) {
+      return "";
+    }
+    return text.trim().replaceAll("\\s+", " ");
+  }
+
+  private static String sortedJoin(List<String> values) {
+    if (values == null || values.isEmpty()) {
+      return "";
+    }
+    return values.stream().filter(Objects::nonNull).sorted().collect(Collectors.joining(","));
+  }
+}
@@ -1,12 +1,17 @@
 package com.yjlee.search.searchlog.controller;
 
+import com.yjlee.search.async.dto.AsyncTaskStartResponse;
 import com.yjlee.search.searchlog.dto.SearchLogListRequest;
 import com.yjlee.search.searchlog.dto.SearchLogListResponse;
+import com.yjlee.search.searchlog.dto.SearchLogReplayComparison;
+import com.yjlee.search.searchlog.dto.SearchLogReplayRequest;
 import com.yjlee.search.searchlog.dto.SearchLogResponse;
+import com.yjlee.search.searchlog.service.SearchLogReplayService;
 import com.yjlee.search.searchlog.service.SearchLogService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +24,7 @@ import org.springframework.web.bind.annotation.*;
 public class SearchLogController {
 
   private final SearchLogService searchLogService;
+  private final SearchLogReplayService searchLogReplayService;
 
   @Operation(summary = "검색 로그 조회", description = "다양한 조건으로 검색 로그를 조회합니다.")
   @GetMapping
@@ -33,4 +39,22 @@ public class SearchLogController {
       @Parameter(description = "검색 로그 ID", required = true) @PathVariable String logId) {
     return ResponseEntity.ok(searchLogService.getSearchLogDetail(logId));
   }
+
+  @Operation(
+      summary = "검색 로그 리플레이",
+      description = "기간 내 검색 로그를 지정 환경에 원래 간격(또는 배속)으로 다시 검색해 모드/단계별 지연시간과 에러율을 측정합니다.")
+  @PostMapping("/replay")
+  public ResponseEntity<AsyncTaskStartResponse> startReplay(
+      @Valid @RequestBody SearchLogReplayRequest request) {
+    return ResponseEntity.ok(searchLogReplayService.startReplay(request));
+  }
+
+  @Operation(summary = "리플레이 결과 비교", description = "완료된 두 리플레이 작업의 결과를 항목별로 비교합니다.")
+  @GetMapping("/replay/compare")
+  public ResponseEntity<SearchLogReplayComparison> compareReplays(
+      @Parameter(description = "기준 리플레이 작업 ID", required = true) @RequestParam Long baseTaskId,
+      @Parameter(description = "비교 리플레이 작업 ID", required = true) @RequestParam
+          Long targetTaskId) {
+    return ResponseEntity.ok(searchLogReplayService.compare(baseTaskId, targetTaskId));
+  }
 }
@@ -0,0 +1,39 @@
+package com.yjlee.search.searchlog.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "두 리플레이 결과 비교")
+public class SearchLogReplayComparison {
+
+  @Schema(description = "기준 인덱스 버전")
+  private String baseVersion;
+
+  @Schema(description = "비교 인덱스 버전")
+  private String targetVersion;
+
+  @Schema(description = "항목별 차이 (delta = target - base)")
+  private List<Row> rows;
+
+  @Data
+  @Builder
+  @Schema(description = "비교 항목")
+  public static class Row {
+
+    @Schema(description = "검색 모드 또는 검색 모드.단계", example = "KEYWORD_ONLY.total")
+    private String key;
+
+    @Schema(description = "지표", example = "p99")
+    private String metric;
+
+    private Double base;
+
+    private Double target;
+
+    private Double delta;
+  }
+}
@@ -0,0 +1,52 @@
+package com.yjlee.search.searchlog.dto;
+
+import com.yjlee.search.common.enums.EnvironmentType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "검색 로그 리플레이 요청")
+public class SearchLogReplayRequest {
+
+  @NotNull(message = "환경 타입은 필수입니다")
+  @Schema(description = "리플레이 대상 환경 (CURRENT, DEV, PROD)", example = "DEV")
+  private EnvironmentType environmentType;
+
+  @NotNull(message = "시작 시각은 필수입니다")
+  @Schema(description = "로그 시작 시각 (UTC)", example = "2025-01-01T00:00:00")
+  private LocalDateTime from;
+
+  @NotNull(message = "종료 시각은 필수입니다")
+  @Schema(description = "로그 종료 시각 (UTC)", example = "2025-01-01T01:00:00")
+  private LocalDateTime to;
+
+  @Schema(description = "재생 배속 (1: 원래 간격, 0: 간격 없이 최대 속도)", example = "1.0", defaultValue = "1.0")
+  @DecimalMin("0.0")
+  @Builder.Default
+  private Double speed = 1.0;
+
+  @Schema(description = "동시 요청 수", example = "8", defaultValue = "8")
+  @Min(1)
+  @Max(64)
+  @Builder.Default
+  private Integer concurrency = 8;
+
+  @Schema(description = "최대 리플레이 건수", example = "10000", defaultValue = "10000")
+  @Min(1)
+  @Max(1_000_000)
+  @Builder.Default
+  private Integer maxRequests = 10000;
+}
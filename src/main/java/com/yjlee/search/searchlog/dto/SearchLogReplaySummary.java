@@ -0,0 +1,84 @@
+package com.yjlee.search.searchlog.dto;
+
+import com.yjlee.search.common.enums.EnvironmentType;
+import com.yjlee.search.loggen.dto.EndpointLatencyResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "검색 로그 리플레이 결과 요약. 두 인덱스 버전의 결과를 비교할 수 있도록 항목을 이름순으로 정렬한다.")
+public class SearchLogReplaySummary {
+
+  @Schema(description = "리플레이 대상 환경")
+  private EnvironmentType environmentType;
+
+  @Schema(description = "대상 인덱스명")
+  private String indexName;
+
+  @Schema(description = "대상 인덱스 버전")
+  private String indexVersion;
+
+  @Schema(description = "로그 시작 시각")
+  private LocalDateTime from;
+
+  @Schema(description = "로그 종료 시각")
+  private LocalDateTime to;
+
+  @Schema(description = "재생 배속")
+  private double speed;
+
+  @Schema(description = "리플레이한 요청 수")
+  private long replayed;
+
+  @Schema(description = "건너뛴 로그 수 (검색어 없음)")
+  private long skipped;
+
+  @Schema(description = "실패한 요청 수")
+  private long errors;
+
+  @Schema(description = "에러율")
+  private double errorRate;
+
+  @Schema(description = "소요 시간 (초)")
+  private double elapsedSeconds;
+
+  @Schema(description = "검색 모드별 결과 통계")
+  private List<ModeResult> modes;
+
+  @Schema(description = "검색 모드.단계별 지연시간 (queue, service, engine, total)")
+  private List<EndpointLatencyResponse> latencies;
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Schema(description = "검색 모드별 결과 통계")
+  public static class ModeResult {
+
+    @Schema(description = "검색 모드", example = "KEYWORD_ONLY")
+    private String mode;
+
+    @Schema(description = "요청 수")
+    private long count;
+
+    @Schema(description = "실패한 요청 수")
+    private long errors;
+
+    @Schema(description = "에러율")
+    private double errorRate;
+
+    @Schema(description = "결과 0건 비율")
+    private double zeroResultRate;
+
+    @Schema(description = "평균 결과 수")
+    private double meanResultCount;
+  }
+}
@@ -2,7 +2,10 @@ package com.yjlee.search.searchlog.model;
 
 import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.yjlee.search.search.dto.ProductFiltersDto;
+import com.yjlee.search.search.dto.ProductSortDto;
 import java.time.LocalDateTime;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -67,4 +70,25 @@ public class SearchLogDocument {
   @JsonProperty("session_id")
   @JsonAlias("sessionId")
   private String sessionId;
+
+  /** 검색 모드 (리플레이용) */
+  @JsonProperty("search_mode")
+  @JsonAlias("searchMode")
+  private String searchMode;
+
+  /** 요청 필터 (리플레이용) */
+  private ProductFiltersDto filters;
+
+  /** 요청 정렬 (리플레이용) */
+  private ProductSortDto sort;
+
+  /** 요청 페이지 크기 (리플레이용) */
+  @JsonProperty("page_size")
+  @JsonAlias("pageSize")
+  private Integer pageSize;
+
+  /** 검색 단계별 소요 시간(ms) */
+  @JsonProperty("stage_timings")
+  @JsonAlias("stageTimings")
+  private Map<String, Double> stageTimings;
 }
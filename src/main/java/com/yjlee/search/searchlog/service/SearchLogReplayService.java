@@ -0,0 +1,471 @@
+package com.yjlee.search.searchlog.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yjlee.search.async.dto.AsyncTaskResponse;
+import com.yjlee.search.async.dto.AsyncTaskStartResponse;
+import com.yjlee.search.async.model.AsyncTask;
+import com.yjlee.search.async.model.AsyncTaskStatus;
+import com.yjlee.search.async.model.AsyncTaskType;
+import com.yjlee.search.async.service.AsyncTaskService;
+import com.yjlee.search.common.constants.IndexNameConstants;
+import com.yjlee.search.common.enums.EnvironmentType;
+import com.yjlee.search.deployment.model.IndexEnvironment;
+import com.yjlee.search.deployment.service.IndexEnvironmentService;
+import com.yjlee.search.loggen.dto.EndpointLatencyResponse;
+import com.yjlee.search.loggen.service.EndpointLatencyRecorder;
+import com.yjlee.search.search.constants.SearchConstants;
+import com.yjlee.search.search.dto.SearchExecuteResponse;
+import com.yjlee.search.search.dto.SearchMode;
+import com.yjlee.search.search.dto.SearchSimulationRequest;
+import com.yjlee.search.search.service.SearchService;
+import com.yjlee.search.searchlog.dto.SearchLogReplayComparison;
+import com.yjlee.search.searchlog.dto.SearchLogReplayRequest;
+import com.yjlee.search.searchlog.dto.SearchLogReplaySummary;
+import com.yjlee.search.searchlog.dto.SearchLogReplaySummary.ModeResult;
+import com.yjlee.search.searchlog.model.SearchLogDocument;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 검색 로그 리플레이. search-logs-*의 기간 내 로그를 PIT + search_after로 시간순 스트리밍하며 SearchService로 지정 환경에 다시
+ * 검색하고, 검색 모드/단계별 지연시간과 에러율을 요약한다.
+ *
+ * <p>요청은 원래 로그 간격을 배속으로 나눈 예정 시각에 보내고, total 지연시간은 예정 시각부터 잰다. 동시 요청 수가 모자라 전송이 늦어진 시간도 total과
+ * queue 단계에 포함된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchLogReplayService {
+
+  private static final int PAGE_SIZE = 1000;
+  private static final String UNKNOWN_KEYWORD = "unknown";
+
+  private final ElasticsearchClient elasticsearchClient;
+  private final SearchService searchService;
+  private final IndexEnvironmentService environmentService;
+  private final AsyncTaskService asyncTaskService;
+  private final ObjectMapper objectMapper;
+
+  @Value("${app.search-log.replay.pit-keep-alive:2m}")
+  private String pitKeepAlive;
+
+  public AsyncTaskStartResponse startReplay(SearchLogReplayRequest request) {
+    if (!request.getFrom().isBefore(request.getTo())) {
+      throw new IllegalArgumentException("시작 시각은 종료 시각보다 앞서야 합니다");
+    }
+    AsyncTask task =
+        asyncTaskService.createTaskIfNotRunning(
+            AsyncTaskType.SEARCH_LOG_REPLAY, "검색 로그 리플레이 준비 중...", request);
+    return AsyncTaskStartResponse.builder()
+        .taskId(task.getId())
+        .message("검색 로그 리플레이 작업이 시작되었습니다. 작업 ID: " + task.getId())
+        .build();
+  }
+
+  public void executeReplay(Long taskId, SearchLogReplayRequest request) {
+    IndexEnvironment environment = environmentService.getEnvironment(request.getEnvironmentType());
+    log.info(
+        "검색 로그 리플레이 시작 - taskId: {}, 환경: {}, 인덱스: {}, 기간: {} ~ {}, 배속: {}",
+        taskId,
+        request.getEnvironmentType(),
+        environment.getIndexName(),
+        request.getFrom(),
+        request.getTo(),
+        request.getSpeed());
+
+    int concurrency = request.getConcurrency();
+    AtomicInteger threadCount = new AtomicInteger();
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            concurrency,
+            task -> {
+              Thread thread =
+                  new Thread(task, "search-log-replay-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    Semaphore permits = new Semaphore(concurrency);
+    ReplayRun run = new ReplayRun();
+    String pitId = null;
+
+    try {
+      pitId =
+          elasticsearchClient
+              .openPointInTime(
+                  p ->
+                      p.index(IndexNameConstants.SEARCH_LOG_PATTERN)
+                          .keepAlive(k -> k.time(pitKeepAlive))
+                          .ignoreUnavailable(true))
+              .id();
+
+      long total = -1;
+      long dispatched = 0;
+      long firstLogMillis = -1;
+      long startNanos = System.nanoTime();
+      List<FieldValue> searchAfter = null;
+
+      while (dispatched < request.getMaxRequests()) {
+        SearchResponse<SearchLogDocument> response =
+            elasticsearchClient.search(
+                pageRequest(pitId, request, searchAfter, total < 0), SearchLogDocument.class);
+        if (response.pitId() != null) {
+          pitId = response.pitId();
+        }
+        if (total < 0) {
+          total = response.hits().total() != null ? response.hits().total().value() : 0;
+        }
+        List<Hit<SearchLogDocument>> hits = response.hits().hits();
+        if (hits.isEmpty()) {
+          break;
+        }
+
+        for (Hit<SearchLogDocument> hit : hits) {
+          if (dispatched >= request.getMaxRequests()) {
+            break;
+          }
+          SearchLogDocument searchLog = hit.source();
+          SearchSimulationRequest searchRequest =
+              toSearchRequest(searchLog, request.getEnvironmentType());
+          if (searchRequest == null) {
+            run.skipped.increment();
+            continue;
+          }
+
+          long logMillis = searchLog.getTimestamp().toInstant(ZoneOffset.UTC).toEpochMilli();
+          if (firstLogMillis < 0) {
+            firstLogMillis = logMillis;
+            startNanos = System.nanoTime();
+          }
+          long scheduledNanos;
+          if (request.getSpeed() > 0) {
+            // 원래 간격 / 배속만큼 떨어진 예정 시각까지 대기
+            scheduledNanos =
+                startNanos
+                    + (long) ((logMillis - firstLogMillis) * 1_000_000L / request.getSpeed());
+            long waitNanos = scheduledNanos - System.nanoTime();
+            if (waitNanos > 0) {
+              TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+          } else {
+            scheduledNanos = System.nanoTime();
+          }
+
+          permits.acquire();
+          executor.execute(
+              () -> {
+                try {
+                  run.replay(searchRequest, scheduledNanos);
+                } finally {
+                  permits.release();
+                }
+              });
+          dispatched++;
+        }
+
+        searchAfter = hits.get(hits.size() - 1).sort();
+        long planned = Math.max(1, Math.min(total, request.getMaxRequests()));
+        asyncTaskService.updateProgress(
+            taskId,
+            (int) Math.min(95, dispatched * 95 / planned),
+            String.format("리플레이 중... (%d/%d)", dispatched, planned));
+      }
+
+      // 실행 중인 요청이 모두 끝날 때까지 대기
+      permits.acquire(concurrency);
+      double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+      SearchLogReplaySummary summary = run.summarize(request, environment, elapsedSeconds);
+      asyncTaskService.completeTask(taskId, summary);
+      log.info(
+          "검색 로그 리플레이 완료 - taskId: {}, 요청: {}건, 에러: {}건, 소요: {}초",
+          taskId,
+          summary.getReplayed(),
+          summary.getErrors(),
+          summary.getElapsedSeconds());
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      asyncTaskService.failTask(taskId, "검색 로그 리플레이 중단");
+    } catch (Exception e) {
+      log.error("검색 로그 리플레이 실패 - taskId: {}", taskId, e);
+      asyncTaskService.failTask(taskId, "검색 로그 리플레이 실패: " + e.getMessage());
+    } finally {
+      executor.shutdownNow();
+      closePointInTime(pitId);
+    }
+  }
+
+  /** 완료된 두 리플레이 결과 비교 */
+  public SearchLogReplayComparison compare(Long baseTaskId, Long targetTaskId) {
+    return compare(readSummary(baseTaskId), readSummary(targetTaskId));
+  }
+
+  static SearchLogReplayComparison compare(
+      SearchLogReplaySummary base, SearchLogReplaySummary target) {
+    List<SearchLogReplayComparison.Row> rows = new ArrayList<>();
+
+    Map<String, ModeResult> baseModes = index(base.getModes(), ModeResult::getMode);
+    Map<String, ModeResult> targetModes = index(target.getModes(), ModeResult::getMode);
+    for (String mode : union(baseModes, targetModes)) {
+      ModeResult b = baseModes.get(mode);
+      ModeResult t = targetModes.get(mode);
+      rows.add(row(mode, "errorRate", b, t, ModeResult::getErrorRate));
+      rows.add(row(mode, "zeroResultRate", b, t, ModeResult::getZeroResultRate));
+      rows.add(row(mode, "meanResultCount", b, t, ModeResult::getMeanResultCount));
+    }
+
+    Map<String, EndpointLatencyResponse> baseLatencies =
+        index(base.getLatencies(), EndpointLatencyResponse::getEndpoint);
+    Map<String, EndpointLatencyResponse> targetLatencies =
+        index(target.getLatencies(), EndpointLatencyResponse::getEndpoint);
+    for (String key : union(baseLatencies, targetLatencies)) {
+      EndpointLatencyResponse b = baseLatencies.get(key);
+      EndpointLatencyResponse t = targetLatencies.get(key);
+      rows.add(row(key, "p50", b, t, EndpointLatencyResponse::getP50));
+      rows.add(row(key, "p90", b, t, EndpointLatencyResponse::getP90));
+      rows.add(row(key, "p99", b, t, EndpointLatencyResponse::getP99));
+      rows.add(row(key, "p999", b, t, EndpointLatencyResponse::getP999));
+    }
+
+    return SearchLogReplayComparison.builder()
+        .baseVersion(base.getIndexVersion())
+        .targetVersion(target.getIndexVersion())
+        .rows(rows)
+        .build();
+  }
+
+  private SearchLogReplaySummary readSummary(Long taskId) {
+    AsyncTaskResponse task = asyncTaskService.getTaskOrThrow(taskId);
+    if (task.getTaskType() != AsyncTaskType.SEARCH_LOG_REPLAY
+        || task.getStatus() != AsyncTaskStatus.COMPLETED
+        || task.getResult() == null) {
+      throw new IllegalArgumentException("완료된 검색 로그 리플레이 작업이 아닙니다: " + taskId);
+    }
+    try {
+      return objectMapper.readValue(task.getResult(), SearchLogReplaySummary.class);
+    } catch (Exception e) {
+      throw new IllegalStateException("리플레이 결과 해석 실패: " + taskId, e);
+    }
+  }
+
+  private SearchRequest pageRequest(
+      String pitId,
+      SearchLogReplayRequest request,
+      List<FieldValue> searchAfter,
+      boolean trackTotalHits) {
+    return SearchRequest.of(
+        s -> {
+          s.pit(p -> p.id(pitId).keepAlive(k -> k.time(pitKeepAlive)))
+              .query(
+                  q ->
+                      q.range(
+                          r ->
+                              r.date(
+                                  d ->
+                                      d.field("timestamp")
+                                          .gte(request.getFrom().toString())
+                                          .lt(request.getTo().toString()))))
+              .sort(so -> so.field(f -> f.field("timestamp").order(SortOrder.Asc)))
+              .sort(so -> so.field(f -> f.field("_shard_doc").order(SortOrder.Asc)))
+              .size(PAGE_SIZE)
+              .trackTotalHits(t -> t.enabled(trackTotalHits));
+          if (searchAfter != null) {
+            s.searchAfter(searchAfter);
+          }
+          return s;
+        });
+  }
+
+  // 검색어가 없는 로그는 건너뛴다. 검색 모드/필터가 없던 예전 로그는 키워드 검색 기본값으로 재현
+  static SearchSimulationRequest toSearchRequest(
+      SearchLogDocument searchLog, EnvironmentType environmentType) {
+    if (searchLog == null
+        || searchLog.getTimestamp() == null
+        || searchLog.getSearchKeyword() == null
+        || searchLog.getSearchKeyword().isBlank()
+        || UNKNOWN_KEYWORD.equals(searchLog.getSearchKeyword())) {
+      return null;
+    }
+
+    SearchSimulationRequest request = new SearchSimulationRequest();
+    request.setQuery(searchLog.getSearchKeyword());
+    request.setPage(SearchConstants.DEFAULT_PAGE);
+    request.setSize(searchLog.getPageSize() != null ? searchLog.getPageSize() : 20);
+    request.setFilters(searchLog.getFilters());
+    request.setSort(searchLog.getSort());
+    request.setSearchMode(parseSearchMode(searchLog.getSearchMode()));
+    request.setEnvironmentType(environmentType);
+    return request;
+  }
+
+  private static SearchMode parseSearchMode(String searchMode) {
+    if (searchMode == null) {
+      return SearchMode.KEYWORD_ONLY;
+    }
+    try {
+      return SearchMode.valueOf(searchMode);
+    } catch (IllegalArgumentException e) {
+      return SearchMode.KEYWORD_ONLY;
+    }
+  }
+
+  private void closePointInTime(String pitId) {
+    if (pitId == null) {
+      return;
+    }
+    try {
+      elasticsearchClient.closePointInTime(c -> c.id(pitId));
+    } catch (Exception e) {
+      log.debug("PIT 종료 실패: {}", e.getMessage());
+    }
+  }
+
+  private static <T> Map<String, T> index(List<T> items, Function<T, String> key) {
+    Map<String, T> result = new LinkedHashMap<>();
+    if (items != null) {
+      for (T item : items) {
+        result.put(key.apply(item), item);
+      }
+    }
+    return result;
+  }
+
+  private static TreeSet<String> union(Map<String, ?> base, Map<String, ?> target) {
+    TreeSet<String> keys = new TreeSet<>(base.keySet());
+    keys.addAll(target.keySet());
+    return keys;
+  }
+
+  private static <T> SearchLogReplayComparison.Row row(
+      String key, String metric, T base, T target, Function<T, Double> value) {
+    Double baseValue = base != null ? value.apply(base) : null;
+    Double targetValue = target != null ? value.apply(target) : null;
+    return SearchLogReplayComparison.Row.builder()
+        .key(key)
+        .metric(metric)
+        .base(baseValue)
+        .target(targetValue)
+        .delta(
+            baseValue != null && targetValue != null
+                ? Math.round((targetValue - baseValue) * 1000) / 1000.0
+                : null)
+        .build();
+  }
+
+  private class ReplayRun {
+
+    private final EndpointLatencyRecorder recorder = new EndpointLatencyRecorder();
+    private final Map<String, ModeCounter> modes = new ConcurrentHashMap<>();
+    private final LongAdder skipped = new LongAdder();
+
+    // 단계: queue(예정 시각~전송), service(SearchService 호출), engine(검색 처리 시간), total(예정 시각~응답)
+    void replay(SearchSimulationRequest request, long scheduledNanos) {
+      String mode = request.getSearchMode().name();
+      ModeCounter counter = modes.computeIfAbsent(mode, key -> new ModeCounter());
+      long startNanos = System.nanoTime();
+      recorder.record(mode + ".queue", startNanos - scheduledNanos, false);
+      try {
+        SearchExecuteResponse response = searchService.searchProductsSimulation(request);
+        long endNanos = System.nanoTime();
+        recorder.record(mode + ".service", endNanos - startNanos, false);
+        recorder.record(mode + ".total", endNanos - scheduledNanos, false);
+        if (response.getMeta() != null && response.getMeta().getProcessingTime() != null) {
+          recorder.record(
+              mode + ".engine",
+              TimeUnit.MILLISECONDS.toNanos(response.getMeta().getProcessingTime()),
+              false);
+        }
+        long resultCount =
+            response.getHits() != null && response.getHits().getTotal() != null
+                ? response.getHits().getTotal()
+                : 0;
+        counter.count.increment();
+        counter.resultSum.add(resultCount);
+        if (resultCount == 0) {
+          counter.zeroResults.increment();
+        }
+      } catch (Exception e) {
+        long endNanos = System.nanoTime();
+        recorder.record(mode + ".service", endNanos - startNanos, true);
+        recorder.record(mode + ".total", endNanos - scheduledNanos, true);
+        counter.count.increment();
+        counter.errors.increment();
+        log.debug("리플레이 검색 실패 - 검색어: {}, 오류: {}", request.getQuery(), e.getMessage());
+      }
+    }
+
+    SearchLogReplaySummary summarize(
+        SearchLogReplayRequest request, IndexEnvironment environment, double elapsedSeconds) {
+      List<ModeResult> modeResults = new ArrayList<>();
+      long replayed = 0;
+      long errors = 0;
+      for (Map.Entry<String, ModeCounter> entry : new TreeMap<>(modes).entrySet()) {
+        ModeCounter counter = entry.getValue();
+        long count = counter.count.sum();
+        long modeErrors = counter.errors.sum();
+        long succeeded = count - modeErrors;
+        replayed += count;
+        errors += modeErrors;
+        modeResults.add(
+            ModeResult.builder()
+                .mode(entry.getKey())
+                .count(count)
+                .errors(modeErrors)
+                .errorRate(ratio(modeErrors, count))
+                .zeroResultRate(ratio(counter.zeroResults.sum(), succeeded))
+                .meanResultCount(ratio(counter.resultSum.sum(), succeeded))
+                .build());
+      }
+
+      return SearchLogReplaySummary.builder()
+          .environmentType(request.getEnvironmentType())
+          .indexName(environment.getIndexName())
+          .indexVersion(environment.getVersion())
+          .from(request.getFrom())
+          .to(request.getTo())
+          .speed(request.getSpeed())
+          .replayed(replayed)
+          .skipped(skipped.sum())
+          .errors(errors)
+          .errorRate(ratio(errors, replayed))
+          .elapsedSeconds(Math.round(elapsedSeconds * 10) / 10.0)
+          .modes(modeResults)
+          .latencies(recorder.summarize(elapsedSeconds))
+          .build();
+    }
+
+    private double ratio(long numerator, long denominator) {
+      return denominator > 0 ? Math.round(numerator * 10000.0 / denominator) / 10000.0 : 0;
+    }
+  }
+
+  private static final class ModeCounter {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder zeroResults = new LongAdder();
+    private final LongAdder resultSum = new LongAdder();
+  }
+}
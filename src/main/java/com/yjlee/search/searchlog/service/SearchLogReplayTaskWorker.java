@@ -0,0 +1,39 @@
+package com.yjlee.search.searchlog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yjlee.search.async.model.AsyncTask;
+import com.yjlee.search.async.model.AsyncTaskType;
+import com.yjlee.search.async.service.TaskWorker;
+import com.yjlee.search.searchlog.dto.SearchLogReplayRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchLogReplayTaskWorker implements TaskWorker {
+
+  private final SearchLogReplayService searchLogReplayService;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public AsyncTaskType getSupportedTaskType() {
+    return AsyncTaskType.SEARCH_LOG_REPLAY;
+  }
+
+  @Override
+  public void execute(AsyncTask task) {
+    try {
+      log.info("검색 로그 리플레이 작업 시작: taskId={}", task.getId());
+
+      SearchLogReplayRequest request =
+          objectMapper.readValue(task.getParams(), SearchLogReplayRequest.class);
+      searchLogReplayService.executeReplay(task.getId(), request);
+
+    } catch (Exception e) {
+      log.error("검색 로그 리플레이 작업 실행 중 오류: taskId={}", task.getId(), e);
+      throw new RuntimeException("검색 로그 리플레이 작업 실패", e);
+    }
+  }
+}
@@ -82,7 +82,8 @@ public class SearchLogService {
       SearchExecuteResponse response,
       boolean isError,
       String errorMessage,
-      String sessionId) {
+      String sessionId,
+      Map<String, Double> stageTimings) {
 
     String keyword =
         request.getQuery() != null && !request.getQuery().trim().isEmpty()
@@ -108,6 +109,11 @@ public class SearchLogService {
             .isError(isError)
             .errorMessage(errorMessage)
             .sessionId(sessionId)
+            .searchMode(request.getSearchMode() != null ? request.getSearchMode().name() : null)
+            .filters(request.getFilters())
+            .sort(request.getSort())
+            .pageSize(request.getSize())
+            .stageTimings(stageTimings)
             .build();
 
     saveSearchLog(searchLog);
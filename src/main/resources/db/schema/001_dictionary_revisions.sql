@@ -0,0 +1,5 @@
+-- 환경별 사전 리비전 (응답 캐시 세대, ETag를 인스턴스 간에 맞춘다)
+CREATE TABLE IF NOT EXISTS dictionary_revisions (
+    environment_type VARCHAR(20) NOT NULL PRIMARY KEY,
+    revision BIGINT NOT NULL DEFAULT 0
+);
@@ -0,0 +1,2 @@
+-- 리포트 상세 문서 조회(report_id, query)용 인덱스. 처음 기동해 테이블이 아직 없으면 건너뛰고 JPA가 만든다
+DO 'BEGIN IF to_regclass(''evaluation_report_documents'') IS NOT NULL THEN CREATE INDEX IF NOT EXISTS idx_report_doc_report_query ON evaluation_report_documents (report_id, query); END IF; END';
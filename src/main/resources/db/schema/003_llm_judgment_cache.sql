@@ -0,0 +1,10 @@
+-- 프롬프트 지문별 LLM 관련도 판정 캐시 (LLMJudgment)
+CREATE TABLE IF NOT EXISTS llm_judgment_cache (
+    fingerprint VARCHAR(64) NOT NULL PRIMARY KEY,
+    model VARCHAR(100) NOT NULL,
+    template_version VARCHAR(64) NOT NULL,
+    relevance_score INTEGER NOT NULL,
+    reason TEXT,
+    confidence DOUBLE PRECISION NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
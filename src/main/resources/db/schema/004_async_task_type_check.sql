@@ -0,0 +1,2 @@
+-- Hibernate가 테이블 생성 시 만든 작업 유형 CHECK 제약은 enum 값 추가(SEARCH_LOG_REPLAY, FUSION_SWEEP)를 막는다. 유형은 애플리케이션 enum이 검증한다
+ALTER TABLE IF EXISTS async_tasks DROP CONSTRAINT IF EXISTS async_tasks_task_type_check;
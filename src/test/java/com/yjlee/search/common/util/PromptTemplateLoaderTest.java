@@ -0,0 +1,39 @@
+package com.yjlee.search.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PromptTemplateLoaderTest {
+
+  @Test
+  @DisplayName("변수 자리만 채우고 JSON 중괄호와 넘기지 않은 변수는 그대로 둔다")
+  void rendersPlaceholdersOnly() {
+    PromptTemplateLoader.CompiledTemplate template =
+        PromptTemplateLoader.CompiledTemplate.compile(
+            "{\"query\": \"x\"}\n{SEARCH_INFO}/{PRODUCT_LIST}/{OTHER}");
+
+    String rendered =
+        template.render(Map.of("SEARCH_INFO", "{PRODUCT_LIST}", "PRODUCT_LIST", "[]"));
+
+    assertThat(rendered).isEqualTo("{\"query\": \"x\"}\n{PRODUCT_LIST}/[]/{OTHER}");
+  }
+
+  @Test
+  @DisplayName("클래스패스 템플릿을 읽어 변수를 채운다")
+  void loadsFromClasspath() {
+    PromptTemplateLoader loader = new PromptTemplateLoader();
+    loader.preload();
+
+    String rendered =
+        loader.loadTemplate(
+            "bulk-product-relevance-evaluation.txt",
+            Map.of("SEARCH_INFO", "SEARCH-MARKER", "PRODUCT_LIST", "PRODUCT-MARKER"));
+
+    assertThat(rendered).contains("SEARCH-MARKER", "PRODUCT-MARKER");
+    assertThat(rendered).doesNotContain("{SEARCH_INFO}", "{PRODUCT_LIST}");
+    assertThat(loader.loadTemplate("missing.txt")).isEmpty();
+  }
+}
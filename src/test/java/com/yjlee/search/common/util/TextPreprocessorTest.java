@@ -2,11 +2,107 @@ package com.yjlee.search.common.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Random;
+import java.util.regex.Pattern;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 class TextPreprocessorTest {
 
+  // 천단위 구분자, 특수문자, 공백, 대소문자, 정규화 규칙을 건드리는 문자 조합
+  private static final String[] FRAGMENTS = {
+    "0", "1", "9", ",", ",", "000", ",000", "12,345", " ", "  ", "\t", "\n", "\r\n", "\u000B",
+    "\u00A0", "\u3000", "\u2028", "\u0001", ".", "-", "/", "+", "&", "@", "#", "(", ")", "*",
+    "!", "~", "_", "'", "\"", "a", "Z", "I", "i", "ABC", "Hello", "\u00C9", "\u00E9", "\u00DF",
+    "\u00AA", "\u00B2", "\u00BD", "\u01C5", "\u02B0", "\u0130", "\u0131", "\u03A3", "\u03C3",
+    "\u039F\u03A3", "\u0399", "\u0301", "e\u0301", "\u0344", "\u1100\u1161", "\u11A8",
+    "\uAC00\u11A8", "\uAC00", "\uD7A3", "\u3131", "\u314F", "\u1E9E", "\u2160", "\u2460",
+    "\uFF11", "\uFF21", "\u0661", "\u0966", "\uD83D\uDE00", "\uD835\uDC00", "\uD801\uDC00",
+    "\uD800", "\uDC00", "\u212B", "\uF900", "\u2126", "\u0340", "\uFB01", "\u00FF", "\u0178",
+    "삼성", "갤럭시", "노트북", "원", "개", "ml", "TV", "[정품]", "(총 600g)", "1,000원", "999,999"
+  };
+
+  private static final Pattern SPECIAL_CHARS_PATTERN =
+      Pattern.compile("[^\\p{L}\\p{N}\\s\\.\\-/+&]");
+
+  private static final Pattern THOUSAND_SEPARATOR_PATTERN =
+      Pattern.compile("(\\d),(?=\\d{3}(?:,|\\D|$))");
+
+  // 정규식 기반 이전 구현 (동등성 비교 기준)
+  private static String regexPreprocess(String text) {
+    if (text == null || text.isBlank()) {
+      return "";
+    }
+    String result = text;
+    String prev;
+    do {
+      prev = result;
+      result = THOUSAND_SEPARATOR_PATTERN.matcher(result).replaceAll("$1");
+    } while (!result.equals(prev));
+    result =
+        SPECIAL_CHARS_PATTERN
+            .matcher(result.trim())
+            .replaceAll(" ")
+            .replaceAll("\\s+", " ")
+            .trim();
+    return Normalizer.normalize(result.toLowerCase(), Normalizer.Form.NFC);
+  }
+
+  private static String randomText(Random random) {
+    StringBuilder text = new StringBuilder();
+    int fragments = random.nextInt(12);
+    for (int i = 0; i < fragments; i++) {
+      if (random.nextInt(8) == 0) {
+        // 임의의 BMP 문자 (홀로 쓰인 서로게이트 포함)
+        text.append((char) random.nextInt(0x10000));
+      } else {
+        text.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+      }
+    }
+    return text.toString();
+  }
+
+  private static void assertEquivalent(long seed, int iterations) {
+    Random random = new Random(seed);
+    for (int i = 0; i < iterations; i++) {
+      String text = randomText(random);
+      assertThat(TextPreprocessor.preprocess(text))
+          .as("입력: %s", text)
+          .isEqualTo(regexPreprocess(text));
+    }
+  }
+
+  @Test
+  @DisplayName("임의 입력에서 정규식 구현과 동일한 결과")
+  void matchesRegexImplementation() {
+    assertEquivalent(20240101L, 200_000);
+  }
+
+  @Test
+  @DisplayName("로케일 의존 소문자 변환도 정규식 구현과 동일한 결과")
+  void matchesRegexImplementationInLocaleSensitiveLocales() {
+    Locale original = Locale.getDefault();
+    try {
+      for (String language : new String[] {"tr", "lt", "en"}) {
+        Locale.setDefault(new Locale(language));
+        assertEquivalent(language.hashCode(), 20_000);
+      }
+    } finally {
+      Locale.setDefault(original);
+    }
+  }
+
+  @Test
+  @DisplayName("문맥 의존 소문자 변환과 NFC 정규화")
+  void contextualLowerCaseAndNfc() {
+    assertThat(TextPreprocessor.preprocess("ΟΔΟΣ")).isEqualTo(regexPreprocess("ΟΔΟΣ"));
+    assertThat(TextPreprocessor.preprocess("\u0130STANBUL")).isEqualTo("i\u0307stanbul");
+    assertThat(TextPreprocessor.preprocess("\u1100\u1161\u11A8")).isEqualTo("각");
+    assertThat(TextPreprocessor.preprocess("\u212B")).isEqualTo("\u00E5");
+  }
+
   @Test
   @DisplayName("null 입력시 빈 문자열 반환")
   void returnEmptyStringForNullInput() {
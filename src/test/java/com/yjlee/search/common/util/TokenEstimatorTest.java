@@ -0,0 +1,26 @@
+package com.yjlee.search.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenEstimatorTest {
+
+  @Test
+  @DisplayName("영문/숫자는 4글자당 1토큰, 한글과 기호는 글자당 1토큰")
+  void estimatesMixedText() {
+    assertThat(TokenEstimator.estimate("abcd")).isEqualTo(1);
+    assertThat(TokenEstimator.estimate("abcde")).isEqualTo(2);
+    assertThat(TokenEstimator.estimate("삼성 SSD")).isEqualTo(3);
+    assertThat(TokenEstimator.estimate("{\"a\": 1}")).isEqualTo(7);
+  }
+
+  @Test
+  @DisplayName("줄바꿈만 세고 다른 공백은 세지 않는다")
+  void whitespace() {
+    assertThat(TokenEstimator.estimate("a b\n c")).isEqualTo(4);
+    assertThat(TokenEstimator.estimate("   ")).isZero();
+    assertThat(TokenEstimator.estimate(null)).isZero();
+  }
+}
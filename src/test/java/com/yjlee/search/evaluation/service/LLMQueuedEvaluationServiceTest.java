@@ -0,0 +1,354 @@
+package com.yjlee.search.evaluation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.sun.net.httpserver.HttpServer;
+import com.yjlee.search.common.util.PromptTemplateLoader;
+import com.yjlee.search.evaluation.model.EvaluationQuery;
+import com.yjlee.search.evaluation.model.LLMJudgment;
+import com.yjlee.search.evaluation.model.LLMTaskPriority;
+import com.yjlee.search.evaluation.model.QueryProductMapping;
+import com.yjlee.search.evaluation.repository.EvaluationQueryRepository;
+import com.yjlee.search.evaluation.repository.LLMJudgmentRepository;
+import com.yjlee.search.evaluation.repository.QueryProductMappingRepository;
+import com.yjlee.search.index.dto.ProductDocument;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 판정 캐시를 거친 후보군 평가. openai.api.url을 로컬 OpenAI 호환 서버로 돌려 실제 LLM 호출 경로(큐, HTTP 클라이언트, 응답 파싱)를 그대로
+ * 타고, 서버가 받은 요청 수로 캐시 적중을 확인한다. 판정 캐시 테이블과 매핑 테이블은 메모리 맵으로 대신한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class LLMQueuedEvaluationServiceTest {
+
+  private static final String MODEL = "gpt-5-nano";
+  private static final Pattern PRODUCT_ID = Pattern.compile("\"productId\": \"(p\\d+)\"");
+
+  @Mock private LLMJudgmentRepository judgmentRepository;
+  @Mock private JdbcTemplate jdbcTemplate;
+  @Mock private EvaluationQueryRepository evaluationQueryRepository;
+  @Mock private QueryProductMappingRepository queryProductMappingRepository;
+  @Mock private ProductBulkFetchService productBulkFetchService;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final AtomicInteger llmRequests = new AtomicInteger();
+  private final Map<String, LLMJudgment> judgmentTable = new ConcurrentHashMap<>();
+  private final Map<Long, QueryProductMapping> mappingTable = new ConcurrentHashMap<>();
+  private final Map<String, ProductDocument> products = new LinkedHashMap<>();
+  private final EvaluationQuery query = EvaluationQuery.builder().id(1L).query("무선 마우스").build();
+
+  private HttpServer server;
+  private LLMHttpClient llmHttpClient;
+  private LLMQueueManager llmQueueManager;
+  private PromptTemplateLoader promptTemplateLoader;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 16);
+    server.createContext(
+        "/v1/chat/completions",
+        exchange -> {
+          llmRequests.incrementAndGet();
+          byte[] body = completion(exchange.getRequestBody().readAllBytes());
+          exchange.getResponseHeaders().add("Content-Type", "application/json");
+          exchange.sendResponseHeaders(200, body.length);
+          exchange.getResponseBody().write(body);
+          exchange.close();
+        });
+    server.start();
+
+    llmHttpClient = new LLMHttpClient(objectMapper, 2000, 5000, 10000, 4);
+    LLMRateLimitManager rateLimitManager = new LLMRateLimitManager(4, 4, 1, 2.0, 100, 0);
+    LLMService llmService = new LLMService(llmHttpClient, rateLimitManager);
+    ReflectionTestUtils.setField(
+        llmService,
+        "openaiApiUrl",
+        "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions");
+    ReflectionTestUtils.setField(llmService, "openaiApiKey", "test-key");
+    ReflectionTestUtils.setField(llmService, "openaiModel", MODEL);
+    ReflectionTestUtils.setField(llmService, "maxRetries", 1);
+    ReflectionTestUtils.setField(llmService, "initialBackoffMs", 10);
+    llmQueueManager = new LLMQueueManager(llmService, rateLimitManager);
+    ReflectionTestUtils.setField(llmQueueManager, "workerThreads", 2);
+    ReflectionTestUtils.setField(llmQueueManager, "maxRateLimitRequeues", 3);
+    llmQueueManager.init();
+    promptTemplateLoader = new PromptTemplateLoader();
+
+    products.put("p1", product("p1", "로지텍 무선 마우스 M185", "무선, USB 수신기"));
+    products.put("p2", product("p2", "로지텍 유선 마우스 M90", "유선, USB"));
+    products.put("p3", product("p3", "삼성 노트북 가방", "15.6인치"));
+    resetMappings();
+
+    when(evaluationQueryRepository.findAllById(anyIterable())).thenReturn(List.of(query));
+    when(queryProductMappingRepository.findByEvaluationQueryAndRelevanceScoreIsNull(query))
+        .thenAnswer(
+            invocation ->
+                mappingTable.values().stream()
+                    .filter(mapping -> mapping.getRelevanceScore() == null)
+                    .sorted(Comparator.comparing(QueryProductMapping::getId))
+                    .toList());
+    when(queryProductMappingRepository.saveAll(anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<QueryProductMapping> saved = invocation.getArgument(0);
+              saved.forEach(mapping -> mappingTable.put(mapping.getId(), mapping));
+              return saved;
+            });
+    when(productBulkFetchService.fetchBulk(anyList()))
+        .thenAnswer(
+            invocation -> {
+              Map<String, ProductDocument> found = new LinkedHashMap<>();
+              for (String id : invocation.<List<String>>getArgument(0)) {
+                found.put(id, products.get(id));
+              }
+              return found;
+            });
+    when(judgmentRepository.findAllById(anyIterable()))
+        .thenAnswer(
+            invocation -> {
+              List<LLMJudgment> found = new ArrayList<>();
+              for (String fingerprint : invocation.<Iterable<String>>getArgument(0)) {
+                LLMJudgment judgment = judgmentTable.get(fingerprint);
+                if (judgment != null) {
+                  found.add(judgment);
+                }
+              }
+              return found;
+            });
+    when(jdbcTemplate.batchUpdate(anyString(), anyList(), any(int[].class)))
+        .thenAnswer(
+            invocation -> {
+              List<Object[]> rows = invocation.getArgument(1);
+              for (Object[] row : rows) {
+                judgmentTable.putIfAbsent(
+                    (String) row[0],
+                    LLMJudgment.builder()
+                        .fingerprint((String) row[0])
+                        .model((String) row[1])
+                        .templateVersion((String) row[2])
+                        .relevanceScore((Integer) row[3])
+                        .reason((String) row[4])
+                        .confidence((Double) row[5])
+                        .build());
+              }
+              return new int[rows.size()];
+            });
+  }
+
+  @AfterEach
+  void tearDown() {
+    llmQueueManager.shutdown();
+    llmHttpClient.shutdown();
+    server.stop(0);
+  }
+
+  @Test
+  @DisplayName("같은 쿼리-상품 쌍을 다시 평가하면 LLM 요청 없이 캐시된 판정을 매핑에 저장")
+  void reuseJudgmentsWithoutLLMRequests() {
+    LLMQueuedEvaluationService service = evaluationService(cacheService(promptTemplateLoader));
+
+    LLMJudgmentCacheService.Stats first = evaluate(service);
+    int requestsAfterFirst = llmRequests.get();
+
+    assertThat(first.getHits()).isZero();
+    assertThat(first.getMisses()).isEqualTo(3);
+    assertThat(first.hitRate()).isZero();
+    assertThat(requestsAfterFirst).isPositive();
+    assertThat(judgmentTable).hasSize(3);
+    assertEvaluated("p1", 2);
+    assertEvaluated("p2", 1);
+
+    resetMappings();
+    LLMJudgmentCacheService.Stats second = evaluate(service);
+
+    assertThat(llmRequests.get()).isEqualTo(requestsAfterFirst);
+    assertThat(second.getHits()).isEqualTo(3);
+    assertThat(second.getMisses()).isZero();
+    assertThat(second.hitRate()).isEqualTo(1.0);
+    assertEvaluated("p1", 2);
+    assertEvaluated("p2", 1);
+    assertEvaluated("p3", 0);
+  }
+
+  @Test
+  @DisplayName("메모리 캐시가 비어도 DB에 저장된 판정으로 적중")
+  void hitPersistedJudgmentsAfterRestart() {
+    evaluate(evaluationService(cacheService(promptTemplateLoader)));
+    int requestsAfterFirst = llmRequests.get();
+
+    resetMappings();
+    LLMJudgmentCacheService.Stats restarted =
+        evaluate(evaluationService(cacheService(promptTemplateLoader)));
+
+    assertThat(llmRequests.get()).isEqualTo(requestsAfterFirst);
+    assertThat(restarted.getHits()).isEqualTo(3);
+    assertEvaluated("p3", 0);
+  }
+
+  @Test
+  @DisplayName("상품 텍스트가 바뀐 상품만 캐시를 놓치고 LLM에 다시 묻는다")
+  void missOnChangedProductText() {
+    LLMQueuedEvaluationService service = evaluationService(cacheService(promptTemplateLoader));
+    evaluate(service);
+    int requestsAfterFirst = llmRequests.get();
+
+    products.put("p2", product("p2", "로지텍 무선 마우스 M90", "무선, USB"));
+    resetMappings();
+    LLMJudgmentCacheService.Stats changed = evaluate(service);
+
+    assertThat(llmRequests.get()).isEqualTo(requestsAfterFirst + 1);
+    assertThat(changed.getHits()).isEqualTo(2);
+    assertThat(changed.getMisses()).isEqualTo(1);
+    assertThat(changed.hitRate()).isEqualTo(2.0 / 3);
+    assertThat(judgmentTable).hasSize(4);
+    assertEvaluated("p2", 2);
+  }
+
+  @Test
+  @DisplayName("프롬프트 템플릿이 바뀌면 이전 판정을 쓰지 않고 모두 다시 묻는다")
+  void missOnChangedTemplate() {
+    evaluate(evaluationService(cacheService(promptTemplateLoader)));
+    int requestsAfterFirst = llmRequests.get();
+
+    PromptTemplateLoader editedTemplate =
+        new PromptTemplateLoader() {
+          @Override
+          public String loadTemplate(String templatePath) {
+            return super.loadTemplate(templatePath) + "\n- 판정 이유는 한 문장으로 작성";
+          }
+        };
+    resetMappings();
+    LLMJudgmentCacheService.Stats changed =
+        evaluate(evaluationService(cacheService(editedTemplate)));
+
+    assertThat(llmRequests.get()).isGreaterThan(requestsAfterFirst);
+    assertThat(changed.getHits()).isZero();
+    assertThat(changed.getMisses()).isEqualTo(3);
+    assertThat(judgmentTable).hasSize(6);
+  }
+
+  private LLMJudgmentCacheService cacheService(PromptTemplateLoader loader) {
+    return new LLMJudgmentCacheService(judgmentRepository, jdbcTemplate, loader, MODEL, true, 1000);
+  }
+
+  private LLMQueuedEvaluationService evaluationService(LLMJudgmentCacheService cacheService) {
+    LLMQueryEvaluationWorker worker =
+        new LLMQueryEvaluationWorker(
+            llmQueueManager,
+            productBulkFetchService,
+            evaluationQueryRepository,
+            queryProductMappingRepository,
+            objectMapper,
+            promptTemplateLoader,
+            cacheService);
+    ReflectionTestUtils.setField(worker, "promptTokenBudget", 6000);
+    ReflectionTestUtils.setField(worker, "maxProductsPerPrompt", 10);
+    ReflectionTestUtils.setField(worker, "maxSplitDepth", 1);
+    LLMQueuedEvaluationService service =
+        new LLMQueuedEvaluationService(
+            worker,
+            evaluationQueryRepository,
+            queryProductMappingRepository,
+            new LLMBatchProcessor(worker),
+            cacheService);
+    ReflectionTestUtils.setField(service, "workerThreads", 2);
+    return service;
+  }
+
+  // 스프링 스케줄러 대신 큐 처리를 주기적으로 돌린다 (@Async 없이 스케줄러 스레드에서 배치 처리)
+  private LLMJudgmentCacheService.Stats evaluate(LLMQueuedEvaluationService service) {
+    ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    scheduler.scheduleWithFixedDelay(service::processQueueScheduler, 0, 20, TimeUnit.MILLISECONDS);
+    try {
+      return service.evaluateCandidatesForQueries(List.of(query.getId()), LLMTaskPriority.BULK);
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+
+  private void resetMappings() {
+    long id = 1;
+    for (ProductDocument product : products.values()) {
+      mappingTable.put(
+          id,
+          QueryProductMapping.builder()
+              .id(id)
+              .evaluationQuery(query)
+              .productId(product.getId())
+              .productName(product.getNameRaw())
+              .build());
+      id++;
+    }
+  }
+
+  private void assertEvaluated(String productId, int score) {
+    QueryProductMapping mapping =
+        mappingTable.values().stream()
+            .filter(m -> m.getProductId().equals(productId))
+            .findFirst()
+            .orElseThrow();
+    assertThat(mapping.getRelevanceScore()).isEqualTo(score);
+    assertThat(mapping.getEvaluationReason()).startsWith("모의 판정");
+  }
+
+  // 요청 프롬프트의 상품마다 이름 기준 점수(무선 마우스 2, 마우스 1, 그 외 0)를 돌려주는 OpenAI 호환 응답
+  private byte[] completion(byte[] requestBody) throws IOException {
+    JsonNode request = objectMapper.readTree(requestBody);
+    String prompt = request.path("messages").get(0).path("content").asText();
+    ArrayNode judgments = objectMapper.createArrayNode();
+    Matcher matcher = PRODUCT_ID.matcher(prompt);
+    while (matcher.find()) {
+      String name = products.get(matcher.group(1)).getNameRaw();
+      int score = name.contains("무선 마우스") ? 2 : name.contains("마우스") ? 1 : 0;
+      judgments
+          .addObject()
+          .put("productId", matcher.group(1))
+          .put("score", score)
+          .put("reason", "모의 판정")
+          .put("confidence", 0.9);
+    }
+    String content = objectMapper.writeValueAsString(judgments);
+    return objectMapper.writeValueAsBytes(
+        Map.of("choices", List.of(Map.of("message", Map.of("content", content)))));
+  }
+
+  private static ProductDocument product(String id, String name, String specs) {
+    return ProductDocument.builder()
+        .id(id)
+        .nameRaw(name)
+        .categoryName("컴퓨터 주변기기")
+        .specsRaw(specs)
+        .build();
+  }
+}
@@ -0,0 +1,54 @@
+package com.yjlee.search.evaluation.service.qrels;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QrelsTest {
+
+  @Test
+  @DisplayName("검색 결과 순위별 관련도와 누락 정답")
+  void gainsAndMissing() {
+    Qrels qrels =
+        Qrels.builder()
+            .add(1L, "p1", 1)
+            .add(1L, "p2", 2)
+            .add(1L, "p3", 1)
+            .add(2L, "p9", 1)
+            .build();
+    Qrels.Judgments judgments = qrels.judgments(1L);
+
+    int[] ranked = qrels.toOrdinals(List.of("p2", "x", "p9", "p1"));
+
+    assertThat(judgments.size()).isEqualTo(3);
+    assertThat(judgments.gains(ranked)).containsExactly(2, 0, 0, 1);
+    int[] missing = judgments.missing(ranked);
+    assertThat(missing).hasSize(1);
+    assertThat(qrels.productId(missing[0])).isEqualTo("p3");
+    assertThat(judgments.idealGains()).containsExactly(2, 1, 1);
+  }
+
+  @Test
+  @DisplayName("관련도 0 이하는 정답이 아니고 중복은 높은 관련도를 쓴다")
+  void ignoresNonRelevantAndKeepsMaxGrade() {
+    Qrels qrels =
+        Qrels.builder().add(1L, "p1", 0).add(1L, "p2", 1).add(1L, "p2", 3).add(1L, "p2", 2).build();
+
+    Qrels.Judgments judgments = qrels.judgments(1L);
+
+    assertThat(judgments.size()).isEqualTo(1);
+    assertThat(judgments.gains(qrels.toOrdinals(List.of("p1", "p2")))).containsExactly(0, 3);
+  }
+
+  @Test
+  @DisplayName("정답이 없는 쿼리는 빈 정답")
+  void unknownQueryHasNoJudgments() {
+    Qrels qrels = Qrels.builder().add(1L, "p1", 1).build();
+
+    assertThat(qrels.judgments(99L).size()).isZero();
+    assertThat(qrels.judgments(null).size()).isZero();
+    assertThat(qrels.judgments(99L).missing(new int[] {Qrels.UNKNOWN})).isEmpty();
+  }
+}
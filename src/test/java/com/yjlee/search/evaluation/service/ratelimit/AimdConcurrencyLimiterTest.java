@@ -0,0 +1,113 @@
+package com.yjlee.search.evaluation.service.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AimdConcurrencyLimiterTest {
+
+  private final long[] now = {0};
+
+  @Test
+  @DisplayName("한도까지만 자리를 내준다")
+  void limitsInFlight() {
+    AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 1, 10, 2.0, () -> now[0]);
+
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isFalse();
+
+    limiter.release();
+    assertThat(limiter.tryAcquire()).isTrue();
+  }
+
+  @Test
+  @DisplayName("한도가 찬 상태로 성공이 이어지면 한 창에 1씩 늘어난다")
+  void additiveIncreaseWhenSaturated() {
+    AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 1, 10, 2.0, () -> now[0]);
+    limiter.tryAcquire();
+    limiter.tryAcquire();
+
+    // 2 -> 2.5 -> 2.9 -> 3.24
+    limiter.onSuccess(100);
+    limiter.onSuccess(100);
+    assertThat(limiter.getLimit()).isEqualTo(2);
+
+    limiter.onSuccess(100);
+    assertThat(limiter.getLimit()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("여유가 있을 때의 성공은 한도를 늘리지 않는다")
+  void noIncreaseWhenIdle() {
+    AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(4, 1, 10, 2.0, () -> now[0]);
+    limiter.tryAcquire();
+
+    for (int i = 0; i < 20; i++) {
+      limiter.onSuccess(100);
+    }
+
+    assertThat(limiter.getLimit()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("429는 한도를 절반으로, 동시에 받은 429는 한 번만 반영")
+  void multiplicativeDecreaseOncePerWindow() {
+    AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(8, 1, 10, 2.0, () -> now[0]);
+
+    limiter.onRateLimited();
+    limiter.onRateLimited();
+    assertThat(limiter.getLimit()).isEqualTo(4);
+
+    now[0] += TimeUnit.SECONDS.toNanos(1);
+    limiter.onRateLimited();
+    limiter.onRateLimited();
+    assertThat(limiter.getLimit()).isEqualTo(2);
+
+    now[0] += TimeUnit.SECONDS.toNanos(5);
+    limiter.onRateLimited();
+    now[0] += TimeUnit.SECONDS.toNanos(5);
+    limiter.onRateLimited();
+    assertThat(limiter.getLimit()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("지연 시간이 기준의 허용 배수를 넘으면 한도를 줄인다")
+  void latencyIncreaseShrinksLimit() {
+    AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(10, 1, 10, 2.0, () -> now[0]);
+    limiter.onSuccess(100);
+
+    limiter.onSuccess(150);
+    assertThat(limiter.getLimit()).isEqualTo(10);
+
+    limiter.onSuccess(500);
+    assertThat(limiter.getLimit()).isEqualTo(9);
+  }
+
+  @Test
+  @DisplayName("기준 지연은 프롬프트 길이 구간마다 따로 둔다")
+  void baselinePerPromptSize() {
+    AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(10, 1, 10, 2.0, () -> now[0]);
+    limiter.onSuccess(100, 500);
+
+    // 긴 프롬프트의 느린 응답은 짧은 프롬프트 기준과 비교하지 않는다
+    limiter.onSuccess(800, 20_000);
+    limiter.onSuccess(900, 20_000);
+    assertThat(limiter.getLimit()).isEqualTo(10);
+
+    limiter.onSuccess(500, 700);
+    assertThat(limiter.getLimit()).isEqualTo(9);
+  }
+
+  @Test
+  @DisplayName("프롬프트 길이 구간은 1K자 미만부터 2배씩")
+  void sizeClasses() {
+    assertThat(AimdConcurrencyLimiter.sizeClass(0)).isEqualTo(0);
+    assertThat(AimdConcurrencyLimiter.sizeClass(1023)).isEqualTo(0);
+    assertThat(AimdConcurrencyLimiter.sizeClass(1024)).isEqualTo(1);
+    assertThat(AimdConcurrencyLimiter.sizeClass(4096)).isEqualTo(3);
+    assertThat(AimdConcurrencyLimiter.sizeClass(Integer.MAX_VALUE)).isEqualTo(7);
+  }
+}
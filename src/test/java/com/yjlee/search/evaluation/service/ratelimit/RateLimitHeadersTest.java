@@ -0,0 +1,56 @@
+package com.yjlee.search.evaluation.service.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RateLimitHeadersTest {
+
+  @Test
+  @DisplayName("Go duration 형식 reset 값을 ms로 변환")
+  void parsesDurations() {
+    assertThat(RateLimitHeaders.parseDurationMs("1s")).isEqualTo(1000);
+    assertThat(RateLimitHeaders.parseDurationMs("6m0s")).isEqualTo(360_000);
+    assertThat(RateLimitHeaders.parseDurationMs("120ms")).isEqualTo(120);
+    assertThat(RateLimitHeaders.parseDurationMs("1.5s")).isEqualTo(1500);
+    assertThat(RateLimitHeaders.parseDurationMs("1h2m")).isEqualTo(3_720_000);
+    assertThat(RateLimitHeaders.parseDurationMs("abc")).isEqualTo(-1);
+    assertThat(RateLimitHeaders.parseDurationMs("")).isEqualTo(-1);
+  }
+
+  @Test
+  @DisplayName("요청 수 헤더 조회, 없거나 잘못된 값은 -1")
+  void readsRequestHeaders() {
+    Function<String, Optional<String>> header =
+        headers(
+            Map.of(
+                "x-ratelimit-limit-requests", "500",
+                "x-ratelimit-remaining-requests", "x",
+                "x-ratelimit-reset-requests", "120ms"));
+
+    assertThat(RateLimitHeaders.limitRequests(header)).isEqualTo(500);
+    assertThat(RateLimitHeaders.remainingRequests(header)).isEqualTo(-1);
+    assertThat(RateLimitHeaders.resetRequestsMs(header)).isEqualTo(120);
+  }
+
+  @Test
+  @DisplayName("재시도 대기는 retry-after-ms, retry-after, reset 순으로 본다")
+  void retryAfterPrecedence() {
+    assertThat(
+            RateLimitHeaders.retryAfterMs(
+                headers(Map.of("retry-after-ms", "250", "retry-after", "3"))))
+        .isEqualTo(250);
+    assertThat(RateLimitHeaders.retryAfterMs(headers(Map.of("retry-after", "3")))).isEqualTo(3000);
+    assertThat(RateLimitHeaders.retryAfterMs(headers(Map.of("x-ratelimit-reset-requests", "2s"))))
+        .isEqualTo(2000);
+    assertThat(RateLimitHeaders.retryAfterMs(headers(Map.of()))).isZero();
+  }
+
+  private static Function<String, Optional<String>> headers(Map<String, String> values) {
+    return name -> Optional.ofNullable(values.get(name));
+  }
+}
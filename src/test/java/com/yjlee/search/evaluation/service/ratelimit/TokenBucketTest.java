@@ -0,0 +1,67 @@
+package com.yjlee.search.evaluation.service.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+  private final long[] now = {0};
+
+  @Test
+  @DisplayName("분당 한도 60이면 1초에 한 개씩 채워진다")
+  void refillsAtConfiguredRate() {
+    TokenBucket bucket = new TokenBucket(60, () -> now[0]);
+
+    assertThat(bucket.tryAcquire()).isZero();
+    assertThat(bucket.tryAcquire()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+
+    now[0] += TimeUnit.MILLISECONDS.toNanos(500);
+    assertThat(bucket.tryAcquire()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+
+    now[0] += TimeUnit.MILLISECONDS.toNanos(500);
+    assertThat(bucket.tryAcquire()).isZero();
+  }
+
+  @Test
+  @DisplayName("한도를 모르면 제한하지 않고, 응답 헤더를 받으면 그 한도를 쓴다")
+  void unlimitedUntilHeaders() {
+    TokenBucket bucket = new TokenBucket(0, () -> now[0]);
+    for (int i = 0; i < 100; i++) {
+      assertThat(bucket.tryAcquire()).isZero();
+    }
+
+    bucket.update(120, 0, TimeUnit.SECONDS.toNanos(3));
+
+    assertThat(bucket.getRequestsPerMinute()).isEqualTo(120);
+    assertThat(bucket.isPaused()).isTrue();
+    assertThat(bucket.tryAcquire()).isEqualTo(TimeUnit.SECONDS.toNanos(3));
+  }
+
+  @Test
+  @DisplayName("남은 요청 수가 로컬 토큰보다 적으면 남은 요청 수로 줄인다")
+  void clampsToRemaining() {
+    TokenBucket bucket = new TokenBucket(600, () -> now[0]);
+
+    bucket.update(600, 1, 0);
+
+    assertThat(bucket.tryAcquire()).isZero();
+    assertThat(bucket.tryAcquire()).isPositive();
+  }
+
+  @Test
+  @DisplayName("429 대기 중에는 토큰을 내주지 않고 대기 중 토큰도 쌓이지 않는다")
+  void pauseBlocksAndDoesNotAccumulate() {
+    TokenBucket bucket = new TokenBucket(600, () -> now[0]);
+
+    bucket.pause(TimeUnit.SECONDS.toNanos(2));
+    now[0] += TimeUnit.SECONDS.toNanos(1);
+    assertThat(bucket.tryAcquire()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+
+    now[0] += TimeUnit.SECONDS.toNanos(1);
+    assertThat(bucket.isPaused()).isFalse();
+    assertThat(bucket.tryAcquire()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+  }
+}
@@ -0,0 +1,43 @@
+package com.yjlee.search.evaluation.service.sweep;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FusionSweepServiceTest {
+
+  @Test
+  @DisplayName("필드별 kNN 점수를 가중합해 내림차순 정렬")
+  void combineVectorHitsWeightsFieldScores() {
+    List<Hit<JsonNode>> nameHits = List.of(hit("a", 0.9), hit("b", 0.8));
+    List<Hit<JsonNode>> specsHits = List.of(hit("b", 0.9), hit("c", 0.7));
+
+    List<Hit<JsonNode>> combined =
+        FusionSweepService.combineVectorHits(nameHits, specsHits, 10, 0.7f, 0.3f, 0.0);
+
+    assertThat(combined).extracting(Hit::id).containsExactly("b", "a", "c");
+    assertThat(combined.get(0).score()).isCloseTo(0.7f * 0.8 + 0.3f * 0.9, within(1e-6));
+  }
+
+  @Test
+  @DisplayName("최소 점수 미만은 제외하고 topK개로 자른다")
+  void combineVectorHitsAppliesMinScoreAndTopK() {
+    List<Hit<JsonNode>> nameHits = List.of(hit("a", 0.9), hit("b", 0.8), hit("c", 0.7));
+    List<Hit<JsonNode>> specsHits = List.of(hit("d", 0.9));
+
+    List<Hit<JsonNode>> combined =
+        FusionSweepService.combineVectorHits(nameHits, specsHits, 2, 1.0f, 0.5f, 0.5);
+
+    // 필드별로 상위 2개만 합산하므로 c는 후보가 아니고, d는 0.45로 최소 점수 미만
+    assertThat(combined).extracting(Hit::id).containsExactly("a", "b");
+  }
+
+  private static Hit<JsonNode> hit(String id, double score) {
+    return Hit.of(h -> h.index("products").id(id).score(score));
+  }
+}
@@ -0,0 +1,49 @@
+package com.yjlee.search.evaluation.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CandidatePoolTest {
+
+  @Test
+  @DisplayName("쿼리별 후보는 처음 나온 순서를 지키고 여러 검색기에서 나오면 MULTIPLE")
+  void mergesSourcesPerQuery() {
+    CandidatePool pool = new CandidatePool(1);
+
+    pool.add(0, "BM25", List.of("p1", "p2"));
+    pool.add(0, "BIGRAM", List.of("p3", "p1"));
+    pool.add(0, "VECTOR", List.of("p2", "p4"));
+
+    assertThat(pool.candidates(0).keySet()).containsExactly("p1", "p2", "p3", "p4");
+    assertThat(pool.candidates(0).values())
+        .containsExactly("MULTIPLE", "MULTIPLE", "BIGRAM", "VECTOR");
+  }
+
+  @Test
+  @DisplayName("묶음 전체 상품 ID는 쿼리가 달라도 한 번만 모은다")
+  void dedupesProductIdsAcrossQueries() {
+    CandidatePool pool = new CandidatePool(2);
+
+    pool.add(0, "BM25", List.of("p1", "p2"));
+    pool.add(1, "BM25", List.of("p2", "p3"));
+    pool.add(1, "VECTOR", List.of("p1"));
+
+    assertThat(pool.productIds()).containsExactly("p1", "p2", "p3");
+    assertThat(pool.candidateCount()).isEqualTo(5);
+    assertThat(pool.candidates(1)).containsEntry("p1", "VECTOR");
+  }
+
+  @Test
+  @DisplayName("결과가 없는 쿼리는 빈 후보")
+  void emptyQuery() {
+    CandidatePool pool = new CandidatePool(2);
+
+    pool.add(0, "BM25", List.of("p1"));
+
+    assertThat(pool.candidates(1)).isEmpty();
+    assertThat(pool.productIds()).containsExactly("p1");
+  }
+}
@@ -0,0 +1,34 @@
+package com.yjlee.search.evaluation.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JudgmentFingerprintTest {
+
+  @Test
+  @DisplayName("같은 입력은 같은 지문, 어느 필드든 다르면 다른 지문")
+  void sameInputSameFingerprint() {
+    String base = JudgmentFingerprint.of("gpt-5-nano", "v1", "노트북", "맥북", "노트북", "M3");
+
+    assertThat(JudgmentFingerprint.of("gpt-5-nano", "v1", "노트북", "맥북", "노트북", "M3"))
+        .isEqualTo(base)
+        .hasSize(64);
+    assertThat(JudgmentFingerprint.of("gpt-5-mini", "v1", "노트북", "맥북", "노트북", "M3"))
+        .isNotEqualTo(base);
+    assertThat(JudgmentFingerprint.of("gpt-5-nano", "v2", "노트북", "맥북", "노트북", "M3"))
+        .isNotEqualTo(base);
+    assertThat(JudgmentFingerprint.of("gpt-5-nano", "v1", "노트북", "맥북", "노트북", "M4"))
+        .isNotEqualTo(base);
+  }
+
+  @Test
+  @DisplayName("필드 경계가 달라지면 이어 붙인 문자열이 같아도 다른 지문")
+  void fieldBoundariesMatter() {
+    assertThat(JudgmentFingerprint.of("m", "v", "ab", "c", "x", "y"))
+        .isNotEqualTo(JudgmentFingerprint.of("m", "v", "a", "bc", "x", "y"));
+    assertThat(JudgmentFingerprint.of("m", "v", "q", null, "x", "y"))
+        .isEqualTo(JudgmentFingerprint.of("m", "v", "q", "", "x", "y"));
+  }
+}
@@ -0,0 +1,35 @@
+package com.yjlee.search.evaluation.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PromptPackerTest {
+
+  @Test
+  @DisplayName("토큰 예산을 넘기 전까지 순서대로 묶는다")
+  void packsUpToBudget() {
+    List<int[]> ranges = PromptPacker.pack(new int[] {30, 30, 30, 50, 10}, 100, 10);
+
+    assertThat(ranges).containsExactly(new int[] {0, 3}, new int[] {3, 5});
+  }
+
+  @Test
+  @DisplayName("최대 항목 수를 넘지 않는다")
+  void respectsMaxItems() {
+    List<int[]> ranges = PromptPacker.pack(new int[] {1, 1, 1, 1, 1}, 100, 2);
+
+    assertThat(ranges).containsExactly(new int[] {0, 2}, new int[] {2, 4}, new int[] {4, 5});
+  }
+
+  @Test
+  @DisplayName("예산보다 큰 항목은 혼자 한 묶음")
+  void oversizedItemAlone() {
+    List<int[]> ranges = PromptPacker.pack(new int[] {10, 500, 10}, 100, 10);
+
+    assertThat(ranges).containsExactly(new int[] {0, 1}, new int[] {1, 2}, new int[] {2, 3});
+    assertThat(PromptPacker.pack(new int[0], 100, 10)).isEmpty();
+  }
+}
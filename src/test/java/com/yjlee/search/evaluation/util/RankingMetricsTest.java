@@ -0,0 +1,87 @@
+package com.yjlee.search.evaluation.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RankingMetricsTest {
+
+  private static final List<String> RANKED = List.of("a", "x", "b", "y", "c");
+  private static final Set<String> RELEVANT = Set.of("a", "b", "c", "d");
+
+  @Test
+  @DisplayName("Recall@K는 상위 K개 안의 정답 수 / 전체 정답 수")
+  void recallAtK() {
+    assertThat(RankingMetrics.recallAtK(RANKED, RELEVANT, 3)).isEqualTo(0.5);
+    assertThat(RankingMetrics.recallAtK(RANKED, RELEVANT, 300)).isEqualTo(0.75);
+    assertThat(RankingMetrics.recallAtK(RANKED, Set.of(), 300)).isZero();
+  }
+
+  @Test
+  @DisplayName("Precision@K는 결과가 K개보다 적어도 K로 나눈다")
+  void precisionAtK() {
+    assertThat(RankingMetrics.precisionAtK(RANKED, RELEVANT, 2)).isEqualTo(0.5);
+    assertThat(RankingMetrics.precisionAtK(RANKED, RELEVANT, 20)).isEqualTo(3 / 20.0);
+    assertThat(RankingMetrics.precisionAtK(List.of(), RELEVANT, 20)).isZero();
+  }
+
+  @Test
+  @DisplayName("MRR@K는 K 안의 첫 정답 순위의 역수")
+  void mrrAtK() {
+    assertThat(RankingMetrics.mrrAtK(List.of("x", "y", "b"), RELEVANT, 10)).isEqualTo(1.0 / 3);
+    assertThat(RankingMetrics.mrrAtK(List.of("x", "y", "b"), RELEVANT, 2)).isZero();
+  }
+
+  @Test
+  @DisplayName("정답이 모두 상위에 있으면 NDCG는 1")
+  void ndcgIdealRanking() {
+    assertThat(RankingMetrics.ndcg(List.of("a", "b", "x"), Set.of("a", "b"))).isEqualTo(1.0);
+    assertThat(RankingMetrics.ndcgAtK(List.of("x", "a"), Set.of("a"), 1)).isZero();
+  }
+
+  @Test
+  @DisplayName("NDCG와 AP는 정답 순위가 낮을수록 작아진다")
+  void ndcgAndAveragePrecision() {
+    double expectedDcg = 1.0 + 1 / log2(4) + 1 / log2(6);
+    double expectedIdcg = 1.0 + 1 / log2(3) + 1 / log2(4) + 1 / log2(5);
+
+    assertThat(RankingMetrics.ndcg(RANKED, RELEVANT))
+        .isCloseTo(expectedDcg / expectedIdcg, within(1e-9));
+    assertThat(RankingMetrics.averagePrecision(RANKED, RELEVANT))
+        .isCloseTo((1.0 + 2 / 3.0 + 3 / 5.0) / 4, within(1e-9));
+  }
+
+  @Test
+  @DisplayName("관련도 배열 지표는 문자열 버전과 같은 값")
+  void gainsMatchStringMetrics() {
+    int[] gains = {1, 0, 1, 0, 1};
+
+    assertThat(RankingMetrics.recallAtK(gains, 4, 300))
+        .isEqualTo(RankingMetrics.recallAtK(RANKED, RELEVANT, 300));
+    assertThat(RankingMetrics.precisionAtK(gains, 20))
+        .isEqualTo(RankingMetrics.precisionAtK(RANKED, RELEVANT, 20));
+    assertThat(RankingMetrics.mrrAtK(new int[] {0, 0, 1}, 10)).isEqualTo(1.0 / 3);
+    assertThat(RankingMetrics.averagePrecision(gains, 4))
+        .isCloseTo(RankingMetrics.averagePrecision(RANKED, RELEVANT), within(1e-9));
+    assertThat(RankingMetrics.ndcgAtK(gains, new int[] {1, 1, 1, 1}, 300))
+        .isCloseTo(RankingMetrics.ndcg(RANKED, RELEVANT), within(1e-9));
+  }
+
+  @Test
+  @DisplayName("등급 NDCG는 높은 관련도가 위에 있을 때 1")
+  void gradedNdcg() {
+    int[] ideal = {2, 1};
+
+    assertThat(RankingMetrics.ndcgAtK(new int[] {2, 1, 0}, ideal, 10)).isEqualTo(1.0);
+    assertThat(RankingMetrics.ndcgAtK(new int[] {1, 2, 0}, ideal, 10)).isLessThan(1.0);
+    assertThat(RankingMetrics.ndcgAtK(new int[0], ideal, 10)).isZero();
+  }
+
+  private static double log2(double value) {
+    return Math.log(value) / Math.log(2);
+  }
+}
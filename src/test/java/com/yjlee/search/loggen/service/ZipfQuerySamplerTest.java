@@ -0,0 +1,86 @@
+package com.yjlee.search.loggen.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ZipfQuerySamplerTest {
+
+  @Test
+  @DisplayName("같은 시드는 같은 순위")
+  void sameSeedSameRanking() {
+    List<String> queries = queries(50);
+
+    ZipfQuerySampler first = new ZipfQuerySampler(queries, 1.0, 7L);
+    ZipfQuerySampler second = new ZipfQuerySampler(queries, 1.0, 7L);
+
+    assertThat(first.size()).isEqualTo(50);
+    for (int rank = 0; rank < first.size(); rank++) {
+      assertThat(first.queryAt(rank)).isEqualTo(second.queryAt(rank));
+    }
+  }
+
+  @Test
+  @DisplayName("순위 k의 선택 비율은 1/k에 비례")
+  void frequencyFollowsZipf() {
+    ZipfQuerySampler sampler = new ZipfQuerySampler(queries(100), 1.0, 42L);
+    Random random = new Random(1);
+    Map<String, Integer> counts = new HashMap<>();
+    for (int i = 0; i < 200_000; i++) {
+      counts.merge(sampler.next(random), 1, Integer::sum);
+    }
+
+    double top = counts.get(sampler.queryAt(0));
+    double second = counts.get(sampler.queryAt(1));
+    double tenth = counts.get(sampler.queryAt(9));
+    assertThat(top / second).isBetween(1.8, 2.2);
+    assertThat(top / tenth).isBetween(8.5, 11.5);
+  }
+
+  @Test
+  @DisplayName("지수 0은 균등 분포")
+  void zeroExponentIsUniform() {
+    ZipfQuerySampler sampler = new ZipfQuerySampler(queries(4), 0, 42L);
+
+    assertThat(sampler.rankOf(0.0)).isEqualTo(0);
+    assertThat(sampler.rankOf(0.24)).isEqualTo(0);
+    assertThat(sampler.rankOf(0.26)).isEqualTo(1);
+    assertThat(sampler.rankOf(0.74)).isEqualTo(2);
+    assertThat(sampler.rankOf(0.99)).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("빈 검색어 풀은 예외")
+  void emptyPoolThrows() {
+    assertThatThrownBy(() -> new ZipfQuerySampler(List.of(), 1.0, 42L))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("빈 검색어는 풀에서 빼고, 빈 검색어만 있으면 예외")
+  void blankQueriesAreSkipped() {
+    ZipfQuerySampler sampler =
+        new ZipfQuerySampler(Arrays.asList("노트북", "", "  ", null), 1.0, 42L);
+
+    assertThat(sampler.size()).isEqualTo(1);
+    assertThat(sampler.next(new Random(7))).isEqualTo("노트북");
+    assertThatThrownBy(() -> new ZipfQuerySampler(Arrays.asList("", " "), 1.0, 42L))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static List<String> queries(int count) {
+    List<String> queries = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      queries.add("검색어" + i);
+    }
+    return queries;
+  }
+}
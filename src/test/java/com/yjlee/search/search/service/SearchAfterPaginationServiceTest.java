@@ -0,0 +1,99 @@
+package com.yjlee.search.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.OpenPointInTimeResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.yjlee.search.search.dto.SearchExecuteRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class SearchAfterPaginationServiceTest {
+
+  private static final String INDEX = "products-v1";
+
+  @Mock private ElasticsearchClient elasticsearchClient;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private SearchAfterPaginationService service;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() throws Exception {
+    service = new SearchAfterPaginationService(elasticsearchClient, objectMapper);
+    ReflectionTestUtils.setField(service, "enabled", true);
+    ReflectionTestUtils.setField(service, "pitKeepAlive", "1m");
+    ReflectionTestUtils.setField(service, "maxOpenPits", 2);
+    service.init();
+
+    OpenPointInTimeResponse first = pit("pit-1");
+    OpenPointInTimeResponse second = pit("pit-2");
+    OpenPointInTimeResponse third = pit("pit-3");
+    when(elasticsearchClient.openPointInTime(any(Function.class))).thenReturn(first, second, third);
+  }
+
+  @Test
+  @DisplayName("열린 PIT가 상한에 닿으면 PIT 없이 search_after만 쓰고, PIT를 닫으면 다시 연다")
+  @SuppressWarnings("unchecked")
+  void capOpenPits() throws Exception {
+    SearchExecuteRequest request = request();
+
+    assertThat(service.resolve(INDEX, request).getPitId()).isEqualTo("pit-1");
+    assertThat(service.resolve(INDEX, request).getPitId()).isEqualTo("pit-2");
+    SearchAfterPaginationService.PageCursor overCap = service.resolve(INDEX, request);
+
+    assertThat(overCap).isNotNull();
+    assertThat(overCap.getPitId()).isNull();
+    assertThat(overCap.getNextPage()).isEqualTo(2);
+    assertThat(service.getOpenPitCount()).isEqualTo(2);
+
+    service.closePit("pit-1");
+    assertThat(service.getOpenPitCount()).isEqualTo(1);
+    assertThat(service.resolve(INDEX, request).getPitId()).isEqualTo("pit-3");
+    verify(elasticsearchClient, times(3)).openPointInTime(any(Function.class));
+  }
+
+  private OpenPointInTimeResponse pit(String id) {
+    OpenPointInTimeResponse response = mock(OpenPointInTimeResponse.class);
+    when(response.id()).thenReturn(id);
+    return response;
+  }
+
+  private SearchExecuteRequest request() {
+    SearchExecuteRequest request = new SearchExecuteRequest();
+    request.setQuery("노트북");
+    request.setPage(2);
+    request.setSize(10);
+    int fingerprintHash = ReflectionTestUtils.invokeMethod(service, "fingerprintHash", request);
+
+    ObjectNode cursor = objectMapper.createObjectNode();
+    cursor.put("i", INDEX);
+    cursor.putNull("p");
+    cursor.put("n", 2);
+    cursor.put("t", 100L);
+    cursor.put("c", false);
+    cursor.put("f", fingerprintHash);
+    cursor.putArray("s").add(12.5).add("P100");
+    request.setCursor(
+        Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(cursor.toString().getBytes(StandardCharsets.UTF_8)));
+    return request;
+  }
+}
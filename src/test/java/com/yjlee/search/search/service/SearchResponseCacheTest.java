@@ -0,0 +1,158 @@
+package com.yjlee.search.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yjlee.search.common.enums.EnvironmentType;
+import com.yjlee.search.deployment.service.IndexVersionTracker;
+import com.yjlee.search.search.dto.AutocompleteResponse;
+import com.yjlee.search.search.dto.SearchExecuteRequest;
+import com.yjlee.search.search.dto.SearchExecuteResponse;
+import com.yjlee.search.search.dto.SearchMetaDto;
+import com.yjlee.search.search.service.autocomplete.HotPrefixSuggestionService;
+import com.yjlee.search.search.service.autocomplete.HotPrefixTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class SearchResponseCacheTest {
+
+  @Mock private IndexVersionTracker indexVersionTracker;
+  @Mock private HotPrefixSuggestionService hotPrefixSuggestionService;
+
+  private SearchResponseCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache =
+        new SearchResponseCache(
+            indexVersionTracker,
+            hotPrefixSuggestionService,
+            new ObjectMapper(),
+            new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(cache, "enabled", true);
+    ReflectionTestUtils.setField(cache, "maxWeightBytes", 1_000_000L);
+    cache.init();
+    when(indexVersionTracker.getGeneration(EnvironmentType.PROD)).thenReturn("v1.0");
+  }
+
+  @Test
+  @DisplayName("인기 접두어 테이블이 다시 만들어지면 캐시된 이전 결과 대신 새 테이블 결과 반환")
+  void serveRebuiltHotPrefixTable() {
+    HotPrefixTable before = table("삼성 노트북", 10L);
+    HotPrefixTable rebuilt = table("삼각김밥", 20L);
+    AtomicInteger loads = new AtomicInteger();
+
+    when(hotPrefixSuggestionService.getGeneration()).thenReturn(before.fingerprint());
+    AutocompleteResponse first = cache.getOrAutocomplete("ㅅ", () -> load(before, loads));
+    AutocompleteResponse cached = cache.getOrAutocomplete("ㅅ", () -> load(rebuilt, loads));
+
+    when(hotPrefixSuggestionService.getGeneration()).thenReturn(rebuilt.fingerprint());
+    AutocompleteResponse afterRebuild = cache.getOrAutocomplete("ㅅ", () -> load(rebuilt, loads));
+
+    assertThat(first.getSuggestions()).containsExactly("삼성 노트북");
+    assertThat(cached.getSuggestions()).containsExactly("삼성 노트북");
+    assertThat(afterRebuild.getSuggestions()).containsExactly("삼각김밥");
+    assertThat(loads.get()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("커서 요청은 캐시하지 않고 같은 페이지의 일반 요청과 응답을 공유하지 않는다")
+  void bypassCursorRequests() {
+    AtomicInteger loads = new AtomicInteger();
+
+    SearchExecuteResponse cursorPage =
+        cache.getOrSearch(request(1, "cursor-a"), () -> searchResponse("pit-a", loads));
+    SearchExecuteResponse plainPage =
+        cache.getOrSearch(request(1, null), () -> searchResponse(null, loads));
+    SearchExecuteResponse otherCursorPage =
+        cache.getOrSearch(request(1, "cursor-b"), () -> searchResponse("pit-b", loads));
+
+    assertThat(cursorPage.getMeta().getCursor()).isEqualTo("pit-a");
+    assertThat(plainPage.getMeta().getCursor()).isNull();
+    assertThat(otherCursorPage.getMeta().getCursor()).isEqualTo("pit-b");
+    assertThat(loads.get()).isEqualTo(3);
+
+    cache.getOrSearch(request(1, null), () -> searchResponse(null, loads));
+    assertThat(loads.get()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("적중 시 캐시된 응답 객체를 그대로 공유하고 세션 ID를 채운 메타만 새로 만든다")
+  void shareCachedResponseWithFreshMeta() {
+    AtomicInteger loads = new AtomicInteger();
+    SearchExecuteRequest firstRequest = request(1, null);
+    firstRequest.setSearchSessionId("session-a");
+    SearchExecuteRequest secondRequest = request(1, null);
+    secondRequest.setSearchSessionId("session-b");
+
+    SearchExecuteResponse first =
+        cache.getOrSearch(firstRequest, () -> searchResponse(null, loads));
+    SearchExecuteResponse second =
+        cache.getOrSearch(secondRequest, () -> searchResponse(null, loads));
+
+    assertThat(loads.get()).isEqualTo(1);
+    assertThat(second.getAggregations()).isSameAs(first.getAggregations());
+    assertThat(second.getMeta().getSearchSessionId()).isEqualTo("session-b");
+    assertThat(first.getMeta().getSearchSessionId()).isNull();
+  }
+
+  @Test
+  @DisplayName("peek은 캐시된 응답만 돌려주고 커서 요청이나 없는 항목은 null")
+  void peekCachedResponseOnly() {
+    AtomicInteger loads = new AtomicInteger();
+
+    assertThat(cache.peek(request(1, null))).isNull();
+    cache.getOrSearch(request(1, null), () -> searchResponse(null, loads));
+
+    SearchExecuteRequest sameRequest = request(1, null);
+    sameRequest.setSearchSessionId("session-c");
+    SearchExecuteResponse peeked = cache.peek(sameRequest);
+    assertThat(peeked).isNotNull();
+    assertThat(peeked.getMeta().getSearchSessionId()).isEqualTo("session-c");
+    assertThat(cache.peek(request(1, "cursor-a"))).isNull();
+    assertThat(loads.get()).isEqualTo(1);
+  }
+
+  private SearchExecuteRequest request(int page, String cursor) {
+    SearchExecuteRequest request = new SearchExecuteRequest();
+    request.setQuery("노트북");
+    request.setPage(page);
+    request.setCursor(cursor);
+    return request;
+  }
+
+  private SearchExecuteResponse searchResponse(String cursor, AtomicInteger loads) {
+    loads.incrementAndGet();
+    return SearchExecuteResponse.builder()
+        .aggregations(new LinkedHashMap<>())
+        .meta(SearchMetaDto.builder().page(1).size(10).cursor(cursor).build())
+        .build();
+  }
+
+  private HotPrefixTable table(String keyword, long score) {
+    Map<String, Long> scores = new LinkedHashMap<>();
+    scores.put(keyword, score);
+    return HotPrefixTable.build(scores, 3, 10);
+  }
+
+  private AutocompleteResponse load(HotPrefixTable table, AtomicInteger loads) {
+    loads.incrementAndGet();
+    List<String> suggestions = table.lookup("ㅅ");
+    return AutocompleteResponse.builder()
+        .suggestions(suggestions)
+        .count(suggestions.size())
+        .build();
+  }
+}
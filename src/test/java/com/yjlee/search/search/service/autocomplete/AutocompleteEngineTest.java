@@ -0,0 +1,43 @@
+package com.yjlee.search.search.service.autocomplete;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yjlee.search.index.dto.AutocompleteDocument;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class AutocompleteEngineTest {
+
+  private AutocompleteEngine engine;
+
+  @BeforeEach
+  void setUp() {
+    engine = new AutocompleteEngine(null, null);
+    ReflectionTestUtils.setField(engine, "enabled", true);
+    ReflectionTestUtils.setField(engine, "topK", 10);
+    ReflectionTestUtils.setField(engine, "maxVersions", 3);
+  }
+
+  @Test
+  @DisplayName("색인 배치가 끝난 순서와 무관하게 배치 번호 순으로 같은 점수 후보 순서를 정한다")
+  void keepBatchOrderRegardlessOfCompletionOrder() {
+    AutocompleteEngine.SuggestionCollector collector = engine.newCollector("v1");
+    collector.addAll(2, documents("삼성 모니터"));
+    collector.addAll(0, documents("삼성 노트북", "삼성 냉장고"));
+    collector.addAll(1, documents("삼성 청소기"));
+    engine.publish(collector);
+
+    assertThat(engine.suggest("v1", "삼성", 10))
+        .containsExactly("삼성 노트북", "삼성 냉장고", "삼성 청소기", "삼성 모니터");
+  }
+
+  private static List<AutocompleteDocument> documents(String... names) {
+    return Arrays.stream(names)
+        .map(name -> AutocompleteDocument.builder().name(name).build())
+        .toList();
+  }
+}
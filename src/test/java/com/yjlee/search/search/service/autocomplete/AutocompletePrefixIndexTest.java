@@ -0,0 +1,67 @@
+package com.yjlee.search.search.service.autocomplete;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AutocompletePrefixIndexTest {
+
+  private final AutocompletePrefixIndex index =
+      AutocompletePrefixIndex.build(
+          List.of("삼성 갤럭시 S24", "삼성 갤럭시 버즈", "삼성전자 냉장고", "애플 아이폰 15", "LG 그램 노트북", "삼성 노트북"), 2);
+
+  @Test
+  @DisplayName("자모 단위 접두어 일치")
+  void matchJamoPrefix() {
+    assertThat(index.suggest("삼성 갤", 10)).containsExactly("삼성 갤럭시 S24", "삼성 갤럭시 버즈");
+    assertThat(index.suggest("삼성 가", 10)).isEmpty();
+    assertThat(index.suggest("삼성 ㄱ", 10)).containsExactly("삼성 갤럭시 S24", "삼성 갤럭시 버즈");
+  }
+
+  @Test
+  @DisplayName("공백 없는 검색어와 대소문자 무시")
+  void matchWithoutSpacesAndCase() {
+    assertThat(index.suggest("삼성갤럭시", 10)).containsExactly("삼성 갤럭시 S24", "삼성 갤럭시 버즈");
+    assertThat(index.suggest("lg 그", 10)).containsExactly("LG 그램 노트북");
+  }
+
+  @Test
+  @DisplayName("초성 검색")
+  void matchChosung() {
+    assertThat(index.suggest("ㅇㅍ", 10)).containsExactly("애플 아이폰 15");
+  }
+
+  @Test
+  @DisplayName("ES 점수 순서 - 단어 수가 적은 후보 우선, 같으면 문서 순서, 개수 제한")
+  void orderByWordCountThenDocumentOrder() {
+    assertThat(index.suggest("삼", 10))
+        .containsExactly("삼성전자 냉장고", "삼성 노트북", "삼성 갤럭시 S24", "삼성 갤럭시 버즈");
+    assertThat(index.suggest("삼", 2)).containsExactly("삼성전자 냉장고", "삼성 노트북");
+  }
+
+  @Test
+  @DisplayName("미리 계산한 노드 상위 결과와 전체 탐색 결과 일치")
+  void precomputedTopMatchesScan() {
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      names.add("충전기 " + i);
+      names.add("충전 케이블 " + i);
+    }
+    AutocompletePrefixIndex precomputed = AutocompletePrefixIndex.build(names, 10);
+    AutocompletePrefixIndex scanned = AutocompletePrefixIndex.build(names, 1000);
+
+    for (String keyword : List.of("ㅊ", "충", "충전", "충전기", "충전 ㅋ", "충전기 1", "충전기 49")) {
+      assertThat(precomputed.suggest(keyword, 10)).isEqualTo(scanned.suggest(keyword, 10));
+    }
+  }
+
+  @Test
+  @DisplayName("빈 검색어는 빈 결과")
+  void emptyKeyword() {
+    assertThat(index.suggest("", 10)).isEmpty();
+    assertThat(index.suggest(null, 10)).isEmpty();
+  }
+}
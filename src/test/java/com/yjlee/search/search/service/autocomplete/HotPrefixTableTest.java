@@ -0,0 +1,61 @@
+package com.yjlee.search.search.service.autocomplete;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HotPrefixTableTest {
+
+  private HotPrefixTable build() {
+    Map<String, Long> scores = new LinkedHashMap<>();
+    scores.put("삼성 노트북", 30L);
+    scores.put("삼각김밥", 50L);
+    scores.put("사과", 10L);
+    scores.put("삼성  노트북", 25L);
+    scores.put("LG 그램", 5L);
+    return HotPrefixTable.build(scores, 3, 2);
+  }
+
+  @Test
+  @DisplayName("접두어별 점수 순 상위 결과")
+  void rankByScore() {
+    HotPrefixTable table = build();
+
+    assertThat(table.lookup("ㅅ")).containsExactly("삼성 노트북", "삼각김밥");
+    assertThat(table.lookup("사")).containsExactly("삼성 노트북", "삼각김밥");
+    assertThat(table.lookup("삼")).containsExactly("삼성 노트북", "삼각김밥");
+    assertThat(table.lookup("l")).containsExactly("LG 그램");
+  }
+
+  @Test
+  @DisplayName("초성 접두어 조회")
+  void lookupChosung() {
+    assertThat(build().lookup("ㅅㄱ")).containsExactly("삼각김밥", "사과");
+  }
+
+  @Test
+  @DisplayName("대상 길이를 넘거나 빈 키워드는 null")
+  void outOfRange() {
+    HotPrefixTable table = build();
+
+    assertThat(table.lookup("삼성")).isNull();
+    assertThat(table.lookup(" ")).isNull();
+    assertThat(table.lookup("ㅋ")).isEmpty();
+    assertThat(HotPrefixTable.empty().lookup("ㅅ")).isNull();
+  }
+
+  @Test
+  @DisplayName("내용이 같으면 같은 지문, 내용이 바뀌면 다른 지문")
+  void fingerprintFollowsContent() {
+    Map<String, Long> changed = new LinkedHashMap<>();
+    changed.put("삼각김밥", 50L);
+
+    assertThat(build().fingerprint()).isEqualTo(build().fingerprint());
+    assertThat(HotPrefixTable.build(changed, 3, 2).fingerprint())
+        .isNotEqualTo(build().fingerprint());
+    assertThat(HotPrefixTable.empty().fingerprint()).isEqualTo("0");
+  }
+}
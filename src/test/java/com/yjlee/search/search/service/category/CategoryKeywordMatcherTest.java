@@ -0,0 +1,137 @@
+package com.yjlee.search.search.service.category;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CategoryKeywordMatcherTest {
+
+  private CategoryKeywordMatcher<String> build() {
+    Map<String, String> keywords = new LinkedHashMap<>();
+    keywords.put("노트북", "notebook");
+    keywords.put("게이밍 노트북", "gaming-notebook");
+    keywords.put("가방", "bag");
+    keywords.put("폰", "phone");
+    keywords.put("SSD", "ssd");
+    return CategoryKeywordMatcher.build(keywords);
+  }
+
+  @Test
+  @DisplayName("여러 단어 키워드와 겹치는 키워드 모두 매칭")
+  void matchOverlappingAndMultiWordKeywords() {
+    assertThat(build().match("게이밍  노트북 추천"))
+        .containsExactlyInAnyOrder("notebook", "gaming-notebook");
+  }
+
+  @Test
+  @DisplayName("두 글자 이상 키워드는 토큰 경계에서만 매칭")
+  void matchOnTokenBoundary() {
+    assertThat(build().match("ssd1tb")).isEmpty();
+    assertThat(build().match("노트북 가방")).containsExactly("notebook", "bag");
+  }
+
+  @Test
+  @DisplayName("띄어 쓰지 않은 한글 복합어는 키워드로 나뉠 때 매칭")
+  void matchHangulCompoundWithoutSpaces() {
+    Map<String, String> keywords = new LinkedHashMap<>();
+    keywords.put("노트북", "notebook");
+    keywords.put("가방", "bag");
+    keywords.put("게이밍", "gaming");
+    keywords.put("마우스", "mouse");
+    keywords.put("pc", "pc");
+    CategoryKeywordMatcher<String> matcher = CategoryKeywordMatcher.build(keywords);
+
+    assertThat(matcher.match("노트북가방")).containsExactly("notebook", "bag");
+    assertThat(matcher.match("게이밍마우스")).containsExactly("gaming", "mouse");
+    assertThat(matcher.match("무선마우스")).containsExactly("mouse");
+    assertThat(matcher.match("게이밍노트북가방")).containsExactly("gaming", "notebook", "bag");
+  }
+
+  @Test
+  @DisplayName("복합어 앞부분만 키워드이면 매칭하지 않음")
+  void skipCompoundPrefixAndLatinInsideWord() {
+    Map<String, String> keywords = new LinkedHashMap<>();
+    keywords.put("마우스", "mouse");
+    keywords.put("노트북", "notebook");
+    keywords.put("pc", "pc");
+    CategoryKeywordMatcher<String> matcher = CategoryKeywordMatcher.build(keywords);
+
+    assertThat(matcher.match("마우스패드")).isEmpty();
+    assertThat(matcher.match("노트북거치대")).isEmpty();
+    assertThat(matcher.match("pcie 케이블")).isEmpty();
+    assertThat(matcher.match("마우스패드 게이밍마우스")).containsExactly("mouse");
+  }
+
+  @Test
+  @DisplayName("문자 종류가 바뀌는 곳은 경계로 인정")
+  void scriptChangeIsBoundary() {
+    assertThat(build().match("ssd노트북")).containsExactly("ssd", "notebook");
+  }
+
+  @Test
+  @DisplayName("실제 카테고리 키워드에서 단어 단위 매칭(기존 동작)과 같은 결과")
+  void sameAsWholeWordMatchingOnRealKeywords() {
+    Map<String, String> keywords = new LinkedHashMap<>();
+    for (String keyword :
+        List.of(
+            "노트북", "마우스", "키보드", "모니터", "pc", "ssd", "냉장고", "세탁기", "에어컨", "이어폰", "헤드셋",
+            "usb", "게이밍", "무선", "케이스")) {
+      keywords.put(keyword, keyword);
+    }
+    CategoryKeywordMatcher<String> matcher = CategoryKeywordMatcher.build(keywords);
+
+    for (String query :
+        List.of(
+            "게이밍 노트북",
+            "로지텍 무선 마우스",
+            "마우스패드 대형",
+            "pcie ssd 1tb",
+            "조립 pc 본체",
+            "lg 냉장고 양문형",
+            "usb 허브",
+            "usbc 케이블",
+            "블루투스 이어폰 케이스",
+            "기계식 키보드")) {
+      assertThat(matcher.match(query)).isEqualTo(matchWholeWords(keywords, query));
+    }
+  }
+
+  // 분석기 없이 공백 단위로만 조회하던 기존 매칭
+  private static List<String> matchWholeWords(Map<String, String> keywords, String query) {
+    Set<String> result = new LinkedHashSet<>();
+    for (String word : query.toLowerCase().split("\\s+")) {
+      if (keywords.containsKey(word)) {
+        result.add(keywords.get(word));
+      }
+    }
+    return new ArrayList<>(result);
+  }
+
+  @Test
+  @DisplayName("한 글자 키워드는 단어 전체가 일치할 때만 매칭")
+  void singleCharKeywordNeedsWholeWord() {
+    assertThat(build().match("아이폰 케이스")).isEmpty();
+    assertThat(build().match("폰 케이스")).containsExactly("phone");
+  }
+
+  @Test
+  @DisplayName("대소문자 무시, 중복 키워드는 한 번만")
+  void ignoreCaseAndDeduplicate() {
+    assertThat(build().match("ssd 1tb SSD")).containsExactly("ssd");
+  }
+
+  @Test
+  @DisplayName("매칭 없으면 빈 결과")
+  void noMatch() {
+    assertThat(build().match("키보드")).isEmpty();
+    assertThat(build().match(null)).isEmpty();
+    assertThat(CategoryKeywordMatcher.<String>build(Map.of()).match("노트북")).isEmpty();
+  }
+}
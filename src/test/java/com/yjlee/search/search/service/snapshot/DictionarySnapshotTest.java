@@ -0,0 +1,100 @@
+package com.yjlee.search.search.service.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DictionarySnapshotTest {
+
+  @Test
+  @DisplayName("정렬되지 않은 행도 정렬해 이진 탐색으로 조회")
+  void typoSnapshotLookup() {
+    List<Object[]> rows = new ArrayList<>();
+    rows.add(new Object[] {"삼성젼자", "삼성전자"});
+    rows.add(new Object[] {"갤력시", "갤럭시"});
+    rows.add(new Object[] {"아이펀", "아이폰"});
+    rows.add(new Object[] {null, "무시"});
+
+    TypoDictionarySnapshot snapshot = TypoDictionarySnapshot.of(rows);
+
+    assertThat(snapshot.size()).isEqualTo(3);
+    assertThat(snapshot.get("갤력시")).isEqualTo("갤럭시");
+    assertThat(snapshot.get("삼성젼자")).isEqualTo("삼성전자");
+    assertThat(snapshot.get("아이폰")).isNull();
+    assertThat(snapshot.keywordAt(0)).isEqualTo("갤력시");
+  }
+
+  @Test
+  @DisplayName("같은 키워드는 마지막 교정어 사용")
+  void typoSnapshotDuplicateKeepsLast() {
+    List<Object[]> rows = new ArrayList<>();
+    rows.add(new Object[] {"놋북", "노트북"});
+    rows.add(new Object[] {"놋북", "노트 북"});
+
+    TypoDictionarySnapshot snapshot = TypoDictionarySnapshot.of(rows);
+
+    assertThat(snapshot.size()).isEqualTo(1);
+    assertThat(snapshot.get("놋북")).isEqualTo("노트 북");
+    assertThat(TypoDictionarySnapshot.of(Map.of("a", "b")).get("a")).isEqualTo("b");
+  }
+
+  @Test
+  @DisplayName("키워드별 카테고리와 가중치를 정렬된 배열로 보관")
+  void categorySnapshotLayout() {
+    CategoryDictionarySnapshot snapshot =
+        CategoryDictionarySnapshot.builder()
+            .add("노트북", List.of("노트북", "가방"), Arrays.asList(2000, null))
+            .add("가방", List.of("가방"), List.of(500))
+            .add("빈키워드", List.of(), List.of())
+            .build();
+
+    assertThat(snapshot.size()).isEqualTo(2);
+    assertThat(snapshot.mappingCount()).isEqualTo(3);
+    assertThat(snapshot.keywordAt(0)).isEqualTo("가방");
+    assertThat(snapshot.weightAt(snapshot.mappingStart(0))).isEqualTo(500);
+
+    int notebook = snapshot.indexOf("노트북");
+    assertThat(snapshot.mappingEnd(notebook) - snapshot.mappingStart(notebook)).isEqualTo(2);
+    assertThat(snapshot.categoryAt(snapshot.mappingStart(notebook))).isEqualTo("노트북");
+    assertThat(snapshot.weightAt(snapshot.mappingStart(notebook) + 1)).isEqualTo(1000);
+    assertThat(snapshot.indexOf("폰")).isNegative();
+  }
+
+  @Test
+  @DisplayName("같은 카테고리 키워드는 마지막 매핑 사용")
+  void categorySnapshotDuplicateKeepsLast() {
+    CategoryDictionarySnapshot snapshot =
+        CategoryDictionarySnapshot.builder()
+            .add("폰", List.of("휴대폰"), List.of(100))
+            .add("가방", List.of("가방"), List.of(500))
+            .add("폰", List.of("스마트폰", "케이스"), List.of(300, 200))
+            .build();
+
+    assertThat(snapshot.size()).isEqualTo(2);
+    int phone = snapshot.indexOf("폰");
+    assertThat(snapshot.mappingEnd(phone) - snapshot.mappingStart(phone)).isEqualTo(2);
+    assertThat(snapshot.categoryAt(snapshot.mappingStart(phone))).isEqualTo("스마트폰");
+    assertThat(snapshot.mappingCount()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("최대 버전 수를 넘으면 가장 오래된 버전 제거")
+  void versionedSnapshotsEvictOldest() {
+    VersionedSnapshots<String> snapshots = new VersionedSnapshots<>(2);
+    snapshots.publish("v1", "a");
+    snapshots.publish("v2", "b");
+    snapshots.publish("v1", "c");
+    snapshots.publish("v3", "d");
+
+    assertThat(snapshots.size()).isEqualTo(2);
+    assertThat(snapshots.get("v2")).isNull();
+    assertThat(snapshots.get("v1")).isEqualTo("c");
+    assertThat(snapshots.get("v3")).isEqualTo("d");
+    assertThat(snapshots.get(null)).isNull();
+  }
+}
@@ -0,0 +1,63 @@
+package com.yjlee.search.search.service.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SearchStageTimingsTest {
+
+  @Test
+  @DisplayName("측정 중이 아니면 기록을 무시")
+  void recordWithoutScopeIsIgnored() {
+    SearchStageTimings.record(SearchStage.ES_REQUEST, 1_000_000L);
+
+    assertThat(SearchStageTimings.current()).isNull();
+  }
+
+  @Test
+  @DisplayName("같은 단계는 누적")
+  void accumulatesSameStage() {
+    try (SearchStageTimings timings = SearchStageTimings.start()) {
+      SearchStageTimings.record(SearchStage.ES_REQUEST, 2_000_000L);
+      SearchStageTimings.record(SearchStage.ES_REQUEST, 3_000_000L);
+      SearchStageTimings.recordTook(4);
+
+      assertThat(timings.nanos(SearchStage.ES_REQUEST)).isEqualTo(5_000_000L);
+      assertThat(timings.nanos(SearchStage.ES_TOOK)).isEqualTo(4_000_000L);
+      assertThat(timings.isRecorded(SearchStage.EMBEDDING)).isFalse();
+    }
+  }
+
+  @Test
+  @DisplayName("겹친 구간은 같은 인스턴스를 쓰고 가장 바깥 구간이 닫힐 때 해제")
+  void nestedScopesShareInstance() {
+    try (SearchStageTimings outer = SearchStageTimings.start()) {
+      try (SearchStageTimings inner = SearchStageTimings.start()) {
+        assertThat(inner).isSameAs(outer);
+        SearchStageTimings.record(SearchStage.PREPROCESS, 1_000L);
+      }
+      assertThat(SearchStageTimings.current()).isSameAs(outer);
+      assertThat(outer.isRecorded(SearchStage.PREPROCESS)).isTrue();
+    }
+    assertThat(SearchStageTimings.current()).isNull();
+  }
+
+  @Test
+  @DisplayName("ms 변환은 파이프라인 순서를 유지")
+  void toMillisKeepsPipelineOrder() {
+    try (SearchStageTimings timings = SearchStageTimings.start()) {
+      timings.add(SearchStage.TOTAL, 12_345_678L);
+      timings.add(SearchStage.ES_REQUEST, 8_000_000L);
+      timings.add(SearchStage.PREPROCESS, 1_500L);
+
+      Map<String, Double> millis = timings.toMillis();
+
+      assertThat(millis).containsOnlyKeys("preprocess", "es_request", "total");
+      assertThat(millis.keySet()).containsExactly("preprocess", "es_request", "total");
+      assertThat(millis.get("total")).isEqualTo(12.346);
+      assertThat(millis.get("preprocess")).isEqualTo(0.002);
+    }
+  }
+}
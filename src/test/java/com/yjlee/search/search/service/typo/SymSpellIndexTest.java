@@ -0,0 +1,65 @@
+package com.yjlee.search.search.service.typo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SymSpellIndexTest {
+
+  private final SymSpellIndex index =
+      SymSpellIndex.build(
+          Map.of("노트북", 10L, "냉장고", 5L, "가방", 10L, "가발", 1L, "keyboard", 3L),
+          2,
+          7,
+          Long.MAX_VALUE);
+
+  @Test
+  @DisplayName("자모 단위 편집거리로 교정")
+  void correctByJamoDistance() {
+    assertThat(index.lookup("노트븍", 1)).isEqualTo("노트북");
+    assertThat(index.lookup("냉장거", 1)).isEqualTo("냉장고");
+    assertThat(index.lookup("keybaord", 1)).isEqualTo("keyboard");
+  }
+
+  @Test
+  @DisplayName("거리가 같으면 빈도 높은 단어 우선")
+  void preferHigherFrequency() {
+    assertThat(index.lookup("가밤", 1)).isEqualTo("가방");
+  }
+
+  @Test
+  @DisplayName("사전 단어와 허용 거리 밖의 단어는 교정하지 않음")
+  void noCorrection() {
+    assertThat(index.lookup("노트북", 2)).isNull();
+    assertThat(index.lookup("냉동고", 1)).isNull();
+    assertThat(index.lookup("냉동고", 2)).isEqualTo("냉장고");
+  }
+
+  @Test
+  @DisplayName("최소 빈도 미만 후보는 제외")
+  void skipInfrequentCandidates() {
+    assertThat(index.lookup("가밤", 1, 20)).isNull();
+    assertThat(index.lookup("노트븍", 1, 10)).isEqualTo("노트북");
+  }
+
+  @Test
+  @DisplayName("메모리 예산을 넘으면 빈도 낮은 단어부터 제외")
+  void respectMemoryBudget() {
+    SymSpellIndex limited =
+        SymSpellIndex.build(Map.of("노트북", 10L, "가발", 1L), 2, 7, 500);
+
+    assertThat(limited.size()).isEqualTo(1);
+    assertThat(limited.contains("노트북")).isTrue();
+    assertThat(limited.estimatedBytes()).isLessThanOrEqualTo(500);
+  }
+
+  @Test
+  @DisplayName("전치를 포함한 편집거리")
+  void editDistance() {
+    assertThat(SymSpellIndex.editDistance("abcd", "abdc", 2)).isEqualTo(1);
+    assertThat(SymSpellIndex.editDistance("abcd", "abcd", 2)).isZero();
+    assertThat(SymSpellIndex.editDistance("abcd", "wxyz", 2)).isEqualTo(-1);
+  }
+}
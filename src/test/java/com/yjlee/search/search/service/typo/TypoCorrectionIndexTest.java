@@ -0,0 +1,62 @@
+package com.yjlee.search.search.service.typo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yjlee.search.search.service.snapshot.TypoDictionarySnapshot;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TypoCorrectionIndexTest {
+
+  private final TermVocabulary vocabulary =
+      TermVocabulary.build(
+          Map.of("노트북", 100L, "노트븍", 1L, "냉장고", 30L, "냉장거", 1L, "가습기", 3L),
+          List.of("노트뷱"),
+          Long.MAX_VALUE);
+
+  private final TypoCorrectionIndex index =
+      new TypoCorrectionIndex(
+          TypoDictionarySnapshot.empty(),
+          vocabulary,
+          SymSpellIndex.build(vocabulary.productTerms(2), 2, 7, Long.MAX_VALUE),
+          6,
+          10,
+          5,
+          50);
+
+  @Test
+  @DisplayName("어휘에 없는 단어는 빈도가 충분한 후보로만 교정")
+  void correctUnknownWordWithFrequentCandidate() {
+    assertThat(index.correct("노투북")).isEqualTo("노트북");
+    assertThat(index.correct("가습끼")).isEqualTo("가습끼");
+  }
+
+  @Test
+  @DisplayName("어휘에 있는 드문 단어는 후보 빈도가 입력 빈도의 배수 이상일 때만 교정")
+  void correctRareKnownWordByFrequencyRatio() {
+    assertThat(index.correct("노트븍")).isEqualTo("노트북");
+    assertThat(index.correct("냉장거")).isEqualTo("냉장거");
+  }
+
+  @Test
+  @DisplayName("분석기 사전 단어는 교정하지 않음")
+  void skipAnalyzerWords() {
+    assertThat(index.correct("노트뷱")).isEqualTo("노트뷱");
+    assertThat(vocabulary.isAnalyzerWord("노트뷱")).isTrue();
+    assertThat(vocabulary.frequency("노트뷱")).isZero();
+  }
+
+  @Test
+  @DisplayName("어휘 메모리 예산을 넘으면 빈도 낮은 상품 토큰부터 제외")
+  void vocabularyRespectsMemoryBudget() {
+    TermVocabulary limited =
+        TermVocabulary.build(Map.of("노트북", 100L, "가습기", 3L), List.of("노트뷱"), 130);
+
+    assertThat(limited.size()).isEqualTo(2);
+    assertThat(limited.frequency("노트북")).isEqualTo(100);
+    assertThat(limited.frequency("가습기")).isZero();
+    assertThat(limited.estimatedBytes()).isLessThanOrEqualTo(130);
+  }
+}
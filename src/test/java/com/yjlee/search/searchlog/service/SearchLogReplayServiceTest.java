@@ -0,0 +1,124 @@
+package com.yjlee.search.searchlog.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yjlee.search.common.enums.EnvironmentType;
+import com.yjlee.search.loggen.dto.EndpointLatencyResponse;
+import com.yjlee.search.search.dto.SearchMode;
+import com.yjlee.search.search.dto.SearchSimulationRequest;
+import com.yjlee.search.searchlog.dto.SearchLogReplayComparison;
+import com.yjlee.search.searchlog.dto.SearchLogReplaySummary;
+import com.yjlee.search.searchlog.dto.SearchLogReplaySummary.ModeResult;
+import com.yjlee.search.searchlog.model.SearchLogDocument;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SearchLogReplayServiceTest {
+
+  @Test
+  @DisplayName("로그의 검색 모드와 페이지 크기로 리플레이 요청 생성")
+  void toSearchRequest() {
+    SearchLogDocument searchLog =
+        SearchLogDocument.builder()
+            .timestamp(LocalDateTime.of(2025, 1, 1, 0, 0))
+            .searchKeyword("노트북")
+            .searchMode("HYBRID_RRF")
+            .pageSize(40)
+            .build();
+
+    SearchSimulationRequest request =
+        SearchLogReplayService.toSearchRequest(searchLog, EnvironmentType.DEV);
+
+    assertThat(request.getQuery()).isEqualTo("노트북");
+    assertThat(request.getSearchMode()).isEqualTo(SearchMode.HYBRID_RRF);
+    assertThat(request.getSize()).isEqualTo(40);
+    assertThat(request.getPage()).isZero();
+    assertThat(request.getEnvironmentType()).isEqualTo(EnvironmentType.DEV);
+  }
+
+  @Test
+  @DisplayName("검색 모드가 없는 예전 로그는 키워드 검색으로 재현")
+  void legacyLogDefaultsToKeywordSearch() {
+    SearchLogDocument searchLog =
+        SearchLogDocument.builder()
+            .timestamp(LocalDateTime.of(2025, 1, 1, 0, 0))
+            .searchKeyword("아이폰")
+            .build();
+
+    SearchSimulationRequest request =
+        SearchLogReplayService.toSearchRequest(searchLog, EnvironmentType.PROD);
+
+    assertThat(request.getSearchMode()).isEqualTo(SearchMode.KEYWORD_ONLY);
+    assertThat(request.getSize()).isEqualTo(20);
+  }
+
+  @Test
+  @DisplayName("검색어가 없는 로그는 건너뜀")
+  void skipsLogsWithoutKeyword() {
+    LocalDateTime timestamp = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    assertThat(
+            SearchLogReplayService.toSearchRequest(
+                SearchLogDocument.builder().timestamp(timestamp).searchKeyword("unknown").build(),
+                EnvironmentType.DEV))
+        .isNull();
+    assertThat(
+            SearchLogReplayService.toSearchRequest(
+                SearchLogDocument.builder().timestamp(timestamp).searchKeyword(" ").build(),
+                EnvironmentType.DEV))
+        .isNull();
+  }
+
+  @Test
+  @DisplayName("두 리플레이 결과를 모드와 지연시간 항목별로 비교")
+  void compare() {
+    SearchLogReplaySummary base =
+        summary(
+            "v1",
+            ModeResult.builder().mode("KEYWORD_ONLY").zeroResultRate(0.1).build(),
+            latency("KEYWORD_ONLY.total", 10.0, 50.0));
+    SearchLogReplaySummary target =
+        summary(
+            "v2",
+            ModeResult.builder().mode("KEYWORD_ONLY").zeroResultRate(0.05).build(),
+            latency("KEYWORD_ONLY.total", 12.0, 40.0));
+    target.setLatencies(
+        List.of(latency("KEYWORD_ONLY.engine", 3.0, 8.0), latency("KEYWORD_ONLY.total", 12, 40)));
+
+    SearchLogReplayComparison comparison = SearchLogReplayService.compare(base, target);
+
+    assertThat(comparison.getBaseVersion()).isEqualTo("v1");
+    assertThat(comparison.getTargetVersion()).isEqualTo("v2");
+    assertThat(row(comparison, "KEYWORD_ONLY", "zeroResultRate").getDelta()).isEqualTo(-0.05);
+    assertThat(row(comparison, "KEYWORD_ONLY.total", "p50").getDelta()).isEqualTo(2.0);
+    assertThat(row(comparison, "KEYWORD_ONLY.total", "p99").getDelta()).isEqualTo(-10.0);
+
+    SearchLogReplayComparison.Row engine = row(comparison, "KEYWORD_ONLY.engine", "p50");
+    assertThat(engine.getBase()).isNull();
+    assertThat(engine.getTarget()).isEqualTo(3.0);
+    assertThat(engine.getDelta()).isNull();
+  }
+
+  private static SearchLogReplaySummary summary(
+      String version, ModeResult mode, EndpointLatencyResponse latency) {
+    return SearchLogReplaySummary.builder()
+        .indexVersion(version)
+        .modes(List.of(mode))
+        .latencies(List.of(latency))
+        .build();
+  }
+
+  private static EndpointLatencyResponse latency(String endpoint, double p50, double p99) {
+    return EndpointLatencyResponse.builder().endpoint(endpoint).p50(p50).p99(p99).build();
+  }
+
+  private static SearchLogReplayComparison.Row row(
+      SearchLogReplayComparison comparison, String key, String metric) {
+    return comparison.getRows().stream()
+        .filter(row -> row.getKey().equals(key) && row.getMetric().equals(metric))
+        .findFirst()
+        .orElseThrow();
+  }
+}